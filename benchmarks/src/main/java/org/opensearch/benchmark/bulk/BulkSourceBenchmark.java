@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.bulk;
+
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.mapper.SourceToParse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of turning a bulk body into the sources that the primary parses, from the bytes received from the network
+ * to the tokens of every document. The body is held either in a heap array or, like pooled network buffers, in direct buffers
+ * of 16kB, in which case every source is copied once into a heap array by {@link SourceToParse}. {@code materializations}
+ * is the number of times a source is wrapped in a {@link SourceToParse}, which used to be 2 when documents were parsed ahead of
+ * their execution. Run with {@code gradlew -p benchmarks run --args 'BulkSourceBenchmark -prof gc'} and compare the
+ * {@code gc.alloc.rate.norm} of the {@code direct} buffers, the bytes allocated per bulk body, between both numbers of
+ * materializations.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class BulkSourceBenchmark {
+
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    @Param({ "1000" })
+    public int numberOfDocuments;
+
+    @Param({ "heap", "direct" })
+    public String buffers;
+
+    @Param({ "1", "2" })
+    public int materializations;
+
+    private BytesReference body;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < numberOfDocuments; i++) {
+            builder.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n");
+            builder.append("{\"@timestamp\":\"2021-01-01T00:00:").append(i % 60).append("Z\",\"message\":\"GET /search?q=")
+                .append(i).append(" HTTP/1.1\",\"status\":").append(200 + i % 5).append(",\"bytes\":").append(i * 31).append("}\n");
+        }
+        final byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        if (buffers.equals("heap")) {
+            body = new BytesArray(bytes);
+        } else {
+            final List<ByteBuffer> pages = new ArrayList<>();
+            for (int offset = 0; offset < bytes.length; offset += PAGE_SIZE) {
+                final int length = Math.min(PAGE_SIZE, bytes.length - offset);
+                final ByteBuffer page = ByteBuffer.allocateDirect(length);
+                page.put(bytes, offset, length);
+                page.flip();
+                pages.add(page);
+            }
+            body = BytesReference.fromByteBuffers(pages.toArray(new ByteBuffer[0]));
+        }
+    }
+
+    @Benchmark
+    public void parseBulk(Blackhole bh) throws IOException {
+        final List<IndexRequest> requests = new ArrayList<>(numberOfDocuments);
+        new BulkRequestParser(false).parse(body, "index", null, null, null, null, true, XContentType.JSON, requests::add, r -> {}, r -> {});
+        for (IndexRequest request : requests) {
+            SourceToParse source = null;
+            for (int i = 0; i < materializations; i++) {
+                source = new SourceToParse(request.index(), request.type(), request.id(), request.source(), request.getContentType(),
+                    request.routing());
+            }
+            try (
+                XContentParser parser = XContentHelper.createParser(
+                    NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                    source.source(),
+                    XContentType.JSON
+                )
+            ) {
+                for (XContentParser.Token token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                    bh.consume(token);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of concurrent lookups in a {@link Cache} that promotes every hit under the LRU lock with one that
+ * buffers promotions. Run with e.g. {@code -t 8 -p bufferedPromotions=true,false}.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean bufferedPromotions;
+
+    @Param({ "10000" })
+    public int numberOfEntries;
+
+    // the fraction of lookups that miss and insert a new entry, evicting the least recently used one
+    @Param({ "0.0", "0.1" })
+    public double writeRatio;
+
+    private Cache<Integer, Integer> cache;
+
+    @Setup
+    public void setUp() {
+        cache = CacheBuilder.<Integer, Integer>builder()
+            .setMaximumWeight(numberOfEntries)
+            .setBufferedPromotions(bufferedPromotions)
+            .build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final Random random = new Random();
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            random.setSeed(Thread.currentThread().getId());
+        }
+    }
+
+    @Benchmark
+    public Integer lookup(ThreadState state) {
+        if (writeRatio > 0 && state.random.nextDouble() < writeRatio) {
+            // keys outside of the initial key space make sure writes always insert
+            final int key = numberOfEntries + state.random.nextInt(numberOfEntries);
+            cache.put(key, key);
+            return key;
+        }
+        // skew lookups towards a hot set of keys like request cache traffic usually is
+        final int key = (int) (Math.abs(state.random.nextGaussian()) * numberOfEntries / 8) % numberOfEntries;
+        return cache.get(key);
+    }
+}
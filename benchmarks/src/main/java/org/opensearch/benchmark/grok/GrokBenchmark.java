@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.grok;
+
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grok processors with several patterns on typical log lines, either with the patterns combined into a single expression
+ * or dispatched to the pattern that can match every line based on the literals that the patterns require. {@code line} picks
+ * the lines that match the first or the last pattern, or that match none of them.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokBenchmark {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+        "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid:int}\\]: Failed password for %{USERNAME:user} "
+            + "from %{IP:source} port %{POSINT:port:int}",
+        "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid:int}\\]: Accepted publickey for %{USERNAME:user} "
+            + "from %{IP:source} port %{POSINT:port:int}",
+        "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} kernel: \\[%{NUMBER:uptime}\\] %{GREEDYDATA:message}",
+        "%{IPORHOST:client} %{USER:ident} %{USER:auth} \\[%{HTTPDATE:timestamp}\\] \"%{WORD:verb} %{NOTSPACE:request} "
+            + "HTTP/%{NUMBER:http_version}\" %{NUMBER:response:int} (?:%{NUMBER:bytes:int}|-)"
+    );
+
+    private static final String[] FIRST_PATTERN_LINES = new String[] {
+        "Oct  3 12:00:01 server1 sshd[4242]: Failed password for root from 10.0.0.1 port 22022 ssh2",
+        "Oct  3 12:00:02 server2 sshd[4243]: Failed password for admin from 10.0.0.2 port 22023 ssh2" };
+
+    private static final String[] LAST_PATTERN_LINES = new String[] {
+        "10.0.0.1 - frank [10/Oct/2021:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+        "10.0.0.2 - - [10/Oct/2021:13:55:37 -0700] \"POST /api/v1/items HTTP/1.1\" 201 -" };
+
+    private static final String[] UNMATCHED_LINES = new String[] {
+        "2021-10-10T13:55:36.123Z INFO [main] o.o.n.Node - started",
+        "2021-10-10T13:55:37.456Z WARN [main] o.o.c.r.a.DiskThresholdMonitor - low disk watermark exceeded" };
+
+    @Param({ "first", "last", "unmatched" })
+    public String line;
+
+    private String[] lines;
+    private Grok combined;
+    private MultiPatternGrok dispatched;
+
+    @Setup
+    public void setup() {
+        switch (line) {
+            case "first":
+                lines = FIRST_PATTERN_LINES;
+                break;
+            case "last":
+                lines = LAST_PATTERN_LINES;
+                break;
+            case "unmatched":
+                lines = UNMATCHED_LINES;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown lines [" + line + "]");
+        }
+        combined = new Grok(Grok.BUILTIN_PATTERNS, MultiPatternGrok.combinePatterns(PATTERNS, null), MatcherWatchdog.noop(), s -> {});
+        dispatched = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, PATTERNS, null, MatcherWatchdog.noop(), s -> {});
+    }
+
+    @Benchmark
+    public void combined(Blackhole bh) {
+        for (String text : lines) {
+            bh.consume(combined.captures(text));
+        }
+    }
+
+    @Benchmark
+    public void dispatched(Blackhole bh) {
+        for (String text : lines) {
+            bh.consume(dispatched.captures(text));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongHash;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the data structures behind the terms and cardinality aggregations when {@link BigArrays} allocates
+ * its pages on heap and in direct memory, see {@link PageCacheRecycler#DIRECT_SETTING}.
+ */
+@Fork(value = 2, jvmArgsAppend = "-XX:MaxDirectMemorySize=2g")
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BigArraysPagesBenchmark {
+    private static final int VALUES = 1_000_000;
+
+    @Param({ "heap", "direct" })
+    public String pages;
+
+    /**
+     * The number of distinct values, which drives the size of the hash tables.
+     */
+    @Param({ "1000", "100000", "1000000" })
+    public int cardinality;
+
+    /**
+     * The number of buckets that the cardinality aggregation collects into.
+     */
+    @Param({ "1", "100" })
+    public int buckets;
+
+    private BigArrays bigArrays;
+    private long[] longs;
+    private BytesRef[] terms;
+
+    @Setup
+    public void setup() {
+        Settings settings = Settings.builder().put(PageCacheRecycler.DIRECT_SETTING.getKey(), "direct".equals(pages)).build();
+        bigArrays = new BigArrays(new PageCacheRecycler(settings), null, CircuitBreaker.REQUEST).withDirectPages();
+
+        Random random = new Random(0);
+        longs = new long[VALUES];
+        terms = new BytesRef[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            longs[i] = random.nextInt(cardinality);
+            terms[i] = new BytesRef(("term_" + longs[i]).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Emulates the bucket ordinals of a terms aggregation on a numeric field.
+     */
+    @Benchmark
+    public void longTerms(Blackhole bh) {
+        try (LongHash hash = new LongHash(1, bigArrays)) {
+            for (long value : longs) {
+                hash.add(value);
+            }
+            bh.consume(hash.size());
+        }
+    }
+
+    /**
+     * Emulates the bucket ordinals of a terms aggregation on a keyword field without global ordinals.
+     */
+    @Benchmark
+    public void stringTerms(Blackhole bh) {
+        try (BytesRefHash hash = new BytesRefHash(1, bigArrays)) {
+            for (BytesRef term : terms) {
+                hash.add(term);
+            }
+            bh.consume(hash.size());
+        }
+    }
+
+    /**
+     * Emulates a cardinality aggregation under a parent aggregation with {@link #buckets} buckets.
+     */
+    @Benchmark
+    public void cardinality(Blackhole bh) {
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(HyperLogLogPlusPlus.DEFAULT_PRECISION, bigArrays, 1)) {
+            for (int i = 0; i < longs.length; i++) {
+                counts.collect(i % buckets, BitMixer.mix64(longs[i]));
+            }
+            bh.consume(counts.cardinality(0));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.metrics;
+
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.DoubleValuesBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares accumulating the values of a stats aggregation one value at a time, like the collectors of sub-aggregations do, with
+ * accumulating blocks of values like top level aggregations do.
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(DoubleValuesBatch.BLOCK_SIZE)
+@State(Scope.Benchmark)
+public class DoubleValuesBatchBenchmark {
+
+    private final double[] values = new double[DoubleValuesBatch.BLOCK_SIZE];
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000;
+        }
+    }
+
+    @Benchmark
+    public double scalarSum() {
+        final CompensatedSum sum = new CompensatedSum(0, 0);
+        for (int i = 0; i < values.length; i++) {
+            sum.add(values[i]);
+        }
+        return sum.value();
+    }
+
+    @Benchmark
+    public double batchSum() {
+        final CompensatedSum sum = new CompensatedSum(0, 0);
+        DoubleValuesBatch.sum(values, values.length, sum);
+        return sum.value();
+    }
+
+    @Benchmark
+    public double scalarStats() {
+        final CompensatedSum sum = new CompensatedSum(0, 0);
+        final CompensatedSum sumOfSquares = new CompensatedSum(0, 0);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < values.length; i++) {
+            final double value = values[i];
+            sum.add(value);
+            sumOfSquares.add(value * value);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return sum.value() + sumOfSquares.value() + min + max;
+    }
+
+    @Benchmark
+    public double batchStats() {
+        final CompensatedSum sum = new CompensatedSum(0, 0);
+        final CompensatedSum sumOfSquares = new CompensatedSum(0, 0);
+        DoubleValuesBatch.sum(values, values.length, sum);
+        DoubleValuesBatch.sumOfSquares(values, values.length, sumOfSquares);
+        final double min = DoubleValuesBatch.min(values, values.length, Double.POSITIVE_INFINITY);
+        final double max = DoubleValuesBatch.max(values, values.length, Double.NEGATIVE_INFINITY);
+        return sum.value() + sumOfSquares.value() + min + max;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Matches text against a list of grok patterns, which are combined into a single expression so that a single scan of the text
+ * finds the first pattern that matches, like the alternation of the patterns would.
+ * <p>
+ * Every pattern is additionally compiled on its own, along with a literal that any text that it matches must contain. Before
+ * matching, the literals of the patterns are looked up in the text: text that contains none of them is rejected without running
+ * the regular expression, and text that contains the literal of a single pattern is matched against that pattern only. This
+ * gives the same result as the combined expression since the other patterns can't match it.
+ */
+public final class MultiPatternGrok {
+
+    private final Grok combined;
+    // the expression of every pattern on its own, or null if there is a single pattern
+    private final Grok[] patterns;
+    // the literal that the text that a pattern matches must contain, or null if there is no such literal
+    private final byte[][] requiredLiterals;
+
+    /**
+     * Creates a matcher for the given patterns.
+     *
+     * @param matchIndexGroup if not {@code null} and there are several patterns, the pattern that matched is captured in a group
+     *                        named after this prefix and the index of the pattern, separated with a dot
+     */
+    public MultiPatternGrok(Map<String, String> patternBank, List<String> patterns, String matchIndexGroup,
+                            MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("at least one pattern is required");
+        }
+        this.combined = new Grok(patternBank, combinePatterns(patterns, matchIndexGroup), matcherWatchdog, logCallBack);
+        this.requiredLiterals = new byte[patterns.size()][];
+        for (int i = 0; i < patterns.size(); i++) {
+            String literal = requiredLiteral(patterns.get(i));
+            this.requiredLiterals[i] = literal == null ? null : literal.getBytes(StandardCharsets.UTF_8);
+        }
+        if (patterns.size() > 1) {
+            this.patterns = new Grok[patterns.size()];
+            for (int i = 0; i < patterns.size(); i++) {
+                this.patterns[i] = new Grok(patternBank, wrapPattern(patterns.get(i), i, matchIndexGroup), matcherWatchdog,
+                    logCallBack);
+            }
+        } else {
+            this.patterns = null;
+        }
+    }
+
+    /**
+     * Combines the given patterns into a single expression that matches the text that any of them matches.
+     *
+     * @see #MultiPatternGrok
+     */
+    public static String combinePatterns(List<String> patterns, String matchIndexGroup) {
+        if (patterns.size() == 1) {
+            return patterns.get(0);
+        }
+        StringBuilder combinedPattern = new StringBuilder();
+        for (int i = 0; i < patterns.size(); i++) {
+            if (i > 0) {
+                combinedPattern.append('|');
+            }
+            combinedPattern.append(wrapPattern(patterns.get(i), i, matchIndexGroup));
+        }
+        return combinedPattern.toString();
+    }
+
+    private static String wrapPattern(String pattern, int index, String matchIndexGroup) {
+        if (matchIndexGroup != null) {
+            return "(?<" + matchIndexGroup + "." + index + ">" + pattern + ")";
+        }
+        return "(?:" + pattern + ")";
+    }
+
+    /**
+     * Checks whether a specific text matches any of the patterns.
+     *
+     * @return true if one of the patterns matches text or there is a timeout, false otherwise.
+     */
+    public boolean match(String text) {
+        Grok grok = select(text.getBytes(StandardCharsets.UTF_8));
+        return grok != null && grok.match(text);
+    }
+
+    /**
+     * Matches and returns the named captures of the first pattern that matches.
+     *
+     * @param text the text to match and extract values from.
+     * @return a map containing field names and their respective coerced values that matched or null if no pattern matched
+     */
+    public Map<String, Object> captures(String text) {
+        byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        Grok grok = select(utf8Bytes);
+        if (grok == null) {
+            return null;
+        }
+        GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(grok.captureConfig());
+        if (grok.match(utf8Bytes, 0, utf8Bytes.length, extracter)) {
+            return extracter.result();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the expression to match the given text against, or {@code null} if none of the patterns can match it.
+     */
+    private Grok select(byte[] utf8Bytes) {
+        int candidate = -1;
+        for (int i = 0; i < requiredLiterals.length; i++) {
+            if (requiredLiterals[i] == null || indexOf(utf8Bytes, requiredLiterals[i]) >= 0) {
+                if (candidate >= 0) {
+                    // several patterns may match, the combined expression finds which one does first
+                    return combined;
+                }
+                candidate = i;
+            }
+        }
+        if (candidate < 0) {
+            return null;
+        }
+        return patterns == null ? combined : patterns[candidate];
+    }
+
+    private static int indexOf(byte[] bytes, byte[] literal) {
+        final int last = bytes.length - literal.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            for (int j = 0; j < literal.length; j++) {
+                if (bytes[i + j] != literal[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the longest literal that any text that the given grok pattern matches must contain, or {@code null} if there is
+     * none. This only considers the text of the pattern outside of references to other patterns, groups and character classes,
+     * and gives up on constructs that it doesn't understand, so it may miss literals but never returns a literal that isn't
+     * required.
+     */
+    static String requiredLiteral(String pattern) {
+        if (hasTopLevelAlternation(pattern)) {
+            return null;
+        }
+        String longest = null;
+        StringBuilder run = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 == pattern.length() || Character.isLetterOrDigit(pattern.charAt(i + 1))) {
+                        // character types, anchors, back references or escaped code points
+                        return longest(longest, run);
+                    }
+                    run.append(pattern.charAt(++i));
+                    break;
+                case '%':
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '{') {
+                        int end = pattern.indexOf('}', i);
+                        if (end < 0) {
+                            return longest(longest, run);
+                        }
+                        longest = longest(longest, run);
+                        run.setLength(0);
+                        i = end;
+                    } else {
+                        run.append(c);
+                    }
+                    break;
+                case '?':
+                case '*':
+                    // the last character is optional
+                    if (run.length() > 0) {
+                        run.setLength(run.length() - 1);
+                    }
+                    longest = longest(longest, run);
+                    run.setLength(0);
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    longest = longest(longest, run);
+                    run.setLength(0);
+                    break;
+                case '(':
+                    if (i + 2 < pattern.length() && pattern.charAt(i + 1) == '?' && "<:=!>".indexOf(pattern.charAt(i + 2)) < 0) {
+                        // options change how the rest of the pattern matches
+                        return longest(longest, run);
+                    }
+                    // fall through
+                case '[':
+                    longest = longest(longest, run);
+                    run.setLength(0);
+                    i = closingIndex(pattern, i);
+                    if (i < 0) {
+                        return longest;
+                    }
+                    break;
+                case '{':
+                    // the last character is repeated a number of times that may be 0
+                    if (run.length() > 0) {
+                        run.setLength(run.length() - 1);
+                    }
+                    return longest(longest, run);
+                default:
+                    if (c == '}' || c == ')' || c == ']' || c == '|') {
+                        // unbalanced brackets
+                        return longest(longest, run);
+                    }
+                    run.append(c);
+                    break;
+            }
+        }
+        return longest(longest, run);
+    }
+
+    private static String longest(String longest, StringBuilder run) {
+        if (run.length() > 0 && (longest == null || run.length() > longest.length())) {
+            return run.toString();
+        }
+        return longest;
+    }
+
+    /**
+     * Returns whether the given pattern has an alternation outside of groups, in which case none of its literals is required.
+     */
+    private static boolean hasTopLevelAlternation(String pattern) {
+        int depth = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = closingIndex(pattern, i);
+                if (i < 0) {
+                    return true;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the bracket that closes the group or character class that starts at the given index, or -1 if it
+     * isn't closed.
+     */
+    private static int closingIndex(String pattern, int start) {
+        int i = start + 1;
+        int depth = 1;
+        if (pattern.charAt(start) == '[') {
+            // a closing bracket at the start of a character class is a literal
+            if (i < pattern.length() && pattern.charAt(i) == '^') {
+                i++;
+            }
+            if (i < pattern.length() && pattern.charAt(i) == ']') {
+                i++;
+            }
+            for (; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']' && --depth == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = closingIndex(pattern, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class MultiPatternGrokTests extends OpenSearchTestCase {
+
+    public void testRequiredLiteral() {
+        assertThat(MultiPatternGrok.requiredLiteral(""), nullValue());
+        assertThat(MultiPatternGrok.requiredLiteral("%{WORD:word}"), nullValue());
+        assertThat(MultiPatternGrok.requiredLiteral("foo"), equalTo("foo"));
+        assertThat(MultiPatternGrok.requiredLiteral("%{IP:ip} sshd: %{GREEDYDATA:message}"), equalTo(" sshd: "));
+        assertThat(MultiPatternGrok.requiredLiteral("%{WORD} \\[%{NUMBER}\\] done"), equalTo("] done"));
+        assertThat(MultiPatternGrok.requiredLiteral("\\[error\\]%{GREEDYDATA}"), equalTo("[error]"));
+        // quantifiers make the last character optional
+        assertThat(MultiPatternGrok.requiredLiteral("errors?"), equalTo("error"));
+        assertThat(MultiPatternGrok.requiredLiteral("errors*"), equalTo("error"));
+        assertThat(MultiPatternGrok.requiredLiteral("errors+"), equalTo("errors"));
+        assertThat(MultiPatternGrok.requiredLiteral("errors{0,2}"), equalTo("error"));
+        assertThat(MultiPatternGrok.requiredLiteral("ab.cdef"), equalTo("cdef"));
+        // groups and character classes are skipped
+        assertThat(MultiPatternGrok.requiredLiteral("warn(?:ing)? %{GREEDYDATA}"), equalTo("warn"));
+        assertThat(MultiPatternGrok.requiredLiteral("(?<level>ERROR|WARN): failed"), equalTo(": failed"));
+        assertThat(MultiPatternGrok.requiredLiteral("[|)]abc"), equalTo("abc"));
+        assertThat(MultiPatternGrok.requiredLiteral("[]x]abc"), equalTo("abc"));
+        // alternations make every literal optional
+        assertThat(MultiPatternGrok.requiredLiteral("foo|bar"), nullValue());
+        assertThat(MultiPatternGrok.requiredLiteral("(a)foo|bar"), nullValue());
+        // the rest of the pattern may not be matched literally
+        assertThat(MultiPatternGrok.requiredLiteral("foo(?i)barbaz"), equalTo("foo"));
+        assertThat(MultiPatternGrok.requiredLiteral("ab\\x41bcdef"), equalTo("ab"));
+        assertThat(MultiPatternGrok.requiredLiteral("ab\\dbcdef"), equalTo("ab"));
+    }
+
+    public void testSinglePattern() {
+        MultiPatternGrok grok = newGrok(Collections.singletonList("%{WORD:method} %{URIPATH:path} HTTP"));
+        assertThat(grok.captures("GET /index.html HTTP/1.1"),
+            equalTo(org.opensearch.common.collect.Map.of("method", "GET", "path", "/index.html")));
+        assertThat(grok.captures("GET /index.html"), nullValue());
+        assertThat(grok.match("GET /index.html HTTP/1.1"), equalTo(true));
+        assertThat(grok.match("GET /index.html"), equalTo(false));
+    }
+
+    public void testMultiplePatterns() {
+        List<String> patterns = Arrays.asList(
+            "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid:int}\\]: Failed password for %{USERNAME:user}",
+            "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid:int}\\]: Accepted password for %{USERNAME:user}",
+            "%{IPORHOST:client} %{WORD:method} %{URIPATH:path}"
+        );
+        MultiPatternGrok grok = newGrok(patterns);
+        assertThat(grok.captures("Oct  3 12:00:01 server1 sshd[42]: Failed password for root"),
+            equalTo(org.opensearch.common.collect.Map.of("timestamp", "Oct  3 12:00:01", "host", "server1", "pid", 42, "user", "root")));
+        assertThat(grok.captures("Oct  3 12:00:01 server1 sshd[42]: Accepted password for admin"),
+            equalTo(org.opensearch.common.collect.Map.of("timestamp", "Oct  3 12:00:01", "host", "server1", "pid", 42, "user", "admin")));
+        assertThat(grok.captures("10.0.0.1 GET /index.html"),
+            equalTo(org.opensearch.common.collect.Map.of("client", "10.0.0.1", "method", "GET", "path", "/index.html")));
+        assertThat(grok.captures("nothing to see"), nullValue());
+    }
+
+    public void testSameResultAsCombinedPattern() {
+        List<String> patterns = Arrays.asList("%{NUMBER:a:int} apples", "%{NUMBER:b:int} pears", "%{WORD:c}");
+        MultiPatternGrok grok = newGrok(patterns);
+        Grok combined = new Grok(Grok.BUILTIN_PATTERNS, MultiPatternGrok.combinePatterns(patterns, null), logger::warn);
+        for (String text : Arrays.asList("3 apples", "3 pears", "3 pears and 4 apples", "4 apples and 3 pears", "fruits", "!", "")) {
+            assertThat(text, grok.captures(text), equalTo(combined.captures(text)));
+        }
+    }
+
+    public void testMatchIndexGroup() {
+        List<String> patterns = Arrays.asList("%{NUMBER:a} apples", "%{NUMBER:b} pears");
+        assertThat(MultiPatternGrok.combinePatterns(patterns, "match"),
+            equalTo("(?<match.0>%{NUMBER:a} apples)|(?<match.1>%{NUMBER:b} pears)"));
+        MultiPatternGrok grok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, "match", MatcherWatchdog.noop(), logger::warn);
+        assertThat(grok.captures("3 pears"), equalTo(org.opensearch.common.collect.Map.of("b", "3", "match.1", "3 pears")));
+    }
+
+    private MultiPatternGrok newGrok(List<String> patterns) {
+        return new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, null, MatcherWatchdog.noop(), logger::warn);
+    }
+}
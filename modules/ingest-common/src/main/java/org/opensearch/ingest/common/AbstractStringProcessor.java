@@ -71,6 +71,11 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
         return targetField;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public final IngestDocument execute(IngestDocument document) {
         Object val = document.getFieldValue(field, Object.class, ignoreMissing);
@@ -210,6 +210,11 @@ public final class ConvertProcessor extends AbstractProcessor {
         return document;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -34,8 +34,10 @@ package org.opensearch.ingest.common;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.opensearch.grok.Grok;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
@@ -44,6 +46,8 @@ import org.opensearch.ingest.Processor;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -55,21 +59,34 @@ public final class GrokProcessor extends AbstractProcessor {
 
     private final String matchField;
     private final List<String> matchPatterns;
-    private final Grok grok;
+    private final MultiPatternGrok grok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
 
     GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
                   boolean traceMatch, boolean ignoreMissing, MatcherWatchdog matcherWatchdog) {
+        this(tag, description, compile(patternBank, matchPatterns, traceMatch, matcherWatchdog), matchPatterns, matchField,
+            traceMatch, ignoreMissing);
+    }
+
+    GrokProcessor(String tag, String description, MultiPatternGrok grok, List<String> matchPatterns, String matchField,
+                  boolean traceMatch, boolean ignoreMissing) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+        this.grok = grok;
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
+    }
+
+    private static MultiPatternGrok compile(Map<String, String> patternBank, List<String> matchPatterns, boolean traceMatch,
+                                            MatcherWatchdog matcherWatchdog) {
+        String matchIndexGroup = traceMatch ? PATTERN_MATCH_KEY : null;
+        MultiPatternGrok grok = new MultiPatternGrok(patternBank, matchPatterns, matchIndexGroup, matcherWatchdog, logger::debug);
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
         // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        new MultiPatternGrok(patternBank, matchPatterns, matchIndexGroup, matcherWatchdog, logger::warn).match("___nomatch___");
+        return grok;
     }
 
     @Override
@@ -108,7 +125,7 @@ public final class GrokProcessor extends AbstractProcessor {
         return TYPE;
     }
 
-    Grok getGrok() {
+    MultiPatternGrok getGrok() {
         return grok;
     }
 
@@ -125,38 +142,26 @@ public final class GrokProcessor extends AbstractProcessor {
     }
 
     static String combinePatterns(List<String> patterns, boolean traceMatch) {
-        String combinedPattern;
-        if (patterns.size() > 1) {
-            combinedPattern = "";
-            for (int i = 0; i < patterns.size(); i++) {
-                String pattern = patterns.get(i);
-                String valueWrap;
-                if (traceMatch) {
-                    valueWrap = "(?<" + PATTERN_MATCH_KEY + "." + i + ">" + pattern + ")";
-                } else {
-                    valueWrap = "(?:" + patterns.get(i) + ")";
-                }
-                if (combinedPattern.equals("")) {
-                    combinedPattern = valueWrap;
-                } else {
-                    combinedPattern = combinedPattern + "|" + valueWrap;
-                }
-            }
-        }  else {
-            combinedPattern = patterns.get(0);
-        }
-
-        return combinedPattern;
+        return MultiPatternGrok.combinePatterns(patterns, traceMatch ? PATTERN_MATCH_KEY : null);
     }
 
     public static final class Factory implements Processor.Factory {
 
+        static final int DEFAULT_CACHE_SIZE = 1000;
+
         private final Map<String, String> builtinPatterns;
         private final MatcherWatchdog matcherWatchdog;
+        // compiled patterns, shared by the processors of all pipelines that use the same patterns
+        private final Cache<CacheKey, MultiPatternGrok> cache;
 
         public Factory(Map<String, String> builtinPatterns, MatcherWatchdog matcherWatchdog) {
+            this(builtinPatterns, matcherWatchdog, DEFAULT_CACHE_SIZE);
+        }
+
+        public Factory(Map<String, String> builtinPatterns, MatcherWatchdog matcherWatchdog, int cacheSize) {
             this.builtinPatterns = builtinPatterns;
             this.matcherWatchdog = matcherWatchdog;
+            this.cache = CacheBuilder.<CacheKey, MultiPatternGrok>builder().setMaximumWeight(cacheSize).build();
         }
 
         @Override
@@ -171,19 +176,59 @@ public final class GrokProcessor extends AbstractProcessor {
                 throw newConfigurationException(TYPE, processorTag, "patterns", "List of patterns must not be empty");
             }
             Map<String, String> customPatternBank = ConfigurationUtils.readOptionalMap(TYPE, processorTag, config, "pattern_definitions");
-            Map<String, String> patternBank = new HashMap<>(builtinPatterns);
-            if (customPatternBank != null) {
-                patternBank.putAll(customPatternBank);
-            }
 
+            final MultiPatternGrok grok;
             try {
-                return new GrokProcessor(processorTag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing,
-                    matcherWatchdog);
-            } catch (Exception e) {
+                grok = cache.computeIfAbsent(new CacheKey(matchPatterns, customPatternBank, traceMatch), key -> {
+                    Map<String, String> patternBank = new HashMap<>(builtinPatterns);
+                    if (customPatternBank != null) {
+                        patternBank.putAll(customPatternBank);
+                    }
+                    return compile(patternBank, matchPatterns, traceMatch, matcherWatchdog);
+                });
+            } catch (ExecutionException e) {
                 throw newConfigurationException(TYPE, processorTag, "patterns",
-                    "Invalid regex pattern found in: " + matchPatterns + ". " + e.getMessage());
+                    "Invalid regex pattern found in: " + matchPatterns + ". " + e.getCause().getMessage());
             }
+            return new GrokProcessor(processorTag, description, grok, matchPatterns, matchField, traceMatch, ignoreMissing);
+        }
+
+        Cache<CacheKey, MultiPatternGrok> getCache() {
+            return cache;
+        }
+    }
+
+    /**
+     * Identifies the compiled patterns of a processor. The built-in patterns of a factory never change.
+     */
+    static final class CacheKey {
+        private final List<String> patterns;
+        private final Map<String, String> customPatternBank;
+        private final boolean traceMatch;
+
+        CacheKey(List<String> patterns, Map<String, String> customPatternBank, boolean traceMatch) {
+            this.patterns = patterns;
+            this.customPatternBank = customPatternBank;
+            this.traceMatch = traceMatch;
+        }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return traceMatch == cacheKey.traceMatch
+                && patterns.equals(cacheKey.patterns)
+                && Objects.equals(customPatternBank, cacheKey.customPatternBank);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patterns, customPatternBank, traceMatch);
         }
     }
 }
@@ -79,6 +79,11 @@ public final class RemoveProcessor extends AbstractProcessor {
         return document;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
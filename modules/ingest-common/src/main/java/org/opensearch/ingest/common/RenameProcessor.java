@@ -103,6 +103,11 @@ public final class RenameProcessor extends AbstractProcessor {
         return document;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -92,6 +92,11 @@ public final class SetProcessor extends AbstractProcessor {
         return document;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
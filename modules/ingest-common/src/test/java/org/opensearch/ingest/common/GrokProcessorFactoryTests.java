@@ -42,7 +42,9 @@ import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class GrokProcessorFactoryTests extends OpenSearchTestCase {
 
@@ -113,6 +115,34 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         assertThat(processor.getGrok().match("foo!"), equalTo(true));
     }
 
+    public void testCompiledPatternsAreShared() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+        GrokProcessor processor1 = factory.create(null, null, null, newConfig("(?<foo>\\w+)", false));
+        GrokProcessor processor2 = factory.create(null, null, null, newConfig("(?<foo>\\w+)", false));
+        assertThat(processor2.getGrok(), sameInstance(processor1.getGrok()));
+        GrokProcessor processor3 = factory.create(null, null, null, newConfig("(?<foo>\\w+)", true));
+        assertThat(processor3.getGrok(), not(sameInstance(processor1.getGrok())));
+        GrokProcessor processor4 = factory.create(null, null, null, newConfig("(?<bar>\\w+)", false));
+        assertThat(processor4.getGrok(), not(sameInstance(processor1.getGrok())));
+        assertThat(factory.getCache().count(), equalTo(3));
+    }
+
+    public void testCompiledPatternsCacheIsBounded() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop(), 2);
+        for (int i = 0; i < 5; i++) {
+            factory.create(null, null, null, newConfig("(?<foo" + i + ">\\w+)", false));
+        }
+        assertThat(factory.getCache().count(), equalTo(2));
+    }
+
+    private static Map<String, Object> newConfig(String pattern, boolean traceMatch) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Collections.singletonList(pattern));
+        config.put("trace_match", traceMatch);
+        return config;
+    }
+
     public void testCreateWithInvalidPattern() throws Exception {
         GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
         Map<String, Object> config = new HashMap<>();
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.http.HttpContentStream;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.transport.netty4.Netty4Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The content of a request that {@link Netty4HttpContentStreamer} streams to the handler of the request. The channel stops reading
+ * while the content that it received was not requested by the consumer yet, and the content that was received in the meantime is
+ * delivered at once. The content is delivered in the pooled buffers it was received in, which the consumer releases. The content
+ * is limited to {@code http.max_content_length} like aggregated content, the rest of the content being discarded and the consumer
+ * failed once it exceeds it.
+ */
+class Netty4HttpContentStream implements HttpContentStream {
+
+    private final Channel channel;
+    private final long maxContentLength;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    // the state below is only accessed on the event loop of the channel
+    private final List<ReleasableBytesReference> received = new ArrayList<>();
+    private long receivedBytes;
+    private boolean lastReceived;
+    private ContentConsumer consumer;
+    private boolean requested;
+    private boolean completed;
+
+    Netty4HttpContentStream(Channel channel, long maxContentLength) {
+        this.channel = channel;
+        this.maxContentLength = maxContentLength;
+    }
+
+    @Override
+    public void subscribe(ContentConsumer consumer) {
+        if (subscribed.compareAndSet(false, true) == false) {
+            throw new IllegalStateException("the content was already subscribed to");
+        }
+        onEventLoop(() -> {
+            if (completed == false) {
+                this.consumer = consumer;
+                requested = true;
+                deliver();
+            }
+        });
+    }
+
+    /**
+     * Adds the next part of the content that the channel received, which is released once the consumer released it.
+     */
+    void onContent(HttpContent content) {
+        assert channel.eventLoop().inEventLoop();
+        if (completed == false && content.content().isReadable()) {
+            receivedBytes += content.content().readableBytes();
+            received.add(new ReleasableBytesReference(Netty4Utils.toBytesReference(content.content()), content::release));
+        } else {
+            content.release();
+        }
+        if (content instanceof LastHttpContent) {
+            lastReceived = true;
+        }
+        if (completed == false) {
+            if (receivedBytes > maxContentLength) {
+                discard(new OpenSearchStatusException("the content of the request exceeded the maximum content length of [{}] bytes",
+                    RestStatus.REQUEST_ENTITY_TOO_LARGE, maxContentLength));
+            } else {
+                deliver();
+            }
+        }
+    }
+
+    /**
+     * Drops the content that the consumer did not receive yet, if any, and lets the channel read the next requests. The consumer is
+     * notified that the rest of the content won't be received.
+     */
+    void discard() {
+        discard(new IllegalStateException("the rest of the content of the request was discarded"));
+    }
+
+    private void discard(Exception cause) {
+        onEventLoop(() -> {
+            if (completed == false) {
+                completed = true;
+                Releasables.close(received);
+                received.clear();
+                channel.config().setAutoRead(true);
+                if (consumer != null) {
+                    consumer.onFailure(cause);
+                }
+            }
+        });
+    }
+
+    private void requestMore() {
+        // always forked, so that the consumer isn't called again while it asks for more content
+        channel.eventLoop().execute(() -> {
+            if (completed == false) {
+                assert requested == false : "more content was requested twice";
+                requested = true;
+                deliver();
+            }
+        });
+    }
+
+    private void deliver() {
+        assert completed == false;
+        if (received.isEmpty() && lastReceived == false) {
+            // wait for more content
+            channel.config().setAutoRead(true);
+            return;
+        }
+        if (requested == false) {
+            // the consumer hasn't asked for more content yet
+            channel.config().setAutoRead(false);
+            return;
+        }
+        final ReleasableBytesReference content;
+        if (received.size() == 1) {
+            content = received.get(0);
+        } else {
+            final ReleasableBytesReference[] parts = received.toArray(new ReleasableBytesReference[0]);
+            content = new ReleasableBytesReference(CompositeBytesReference.of(parts), () -> Releasables.close(parts));
+        }
+        received.clear();
+        requested = false;
+        if (lastReceived) {
+            completed = true;
+            channel.config().setAutoRead(true);
+            consumer.onContent(content, true, () -> {});
+        } else {
+            channel.config().setAutoRead(false);
+            consumer.onContent(content, false, this::requestMore);
+        }
+    }
+
+    private void onEventLoop(Runnable runnable) {
+        if (channel.eventLoop().inEventLoop()) {
+            runnable.run();
+        } else {
+            channel.eventLoop().execute(runnable);
+        }
+    }
+
+    /**
+     * A request without content that is passed down the pipeline in place of a request whose content is streamed, which lets it
+     * bypass the aggregation of the content.
+     */
+    static final class StreamedHttpRequest extends DefaultFullHttpRequest {
+
+        private final Netty4HttpContentStream contentStream;
+
+        StreamedHttpRequest(HttpRequest request, Netty4HttpContentStream contentStream) {
+            super(request.protocolVersion(), request.method(), request.uri(), Unpooled.EMPTY_BUFFER, request.headers(),
+                new DefaultHttpHeaders());
+            this.contentStream = contentStream;
+        }
+
+        Netty4HttpContentStream contentStream() {
+            return contentStream;
+        }
+    }
+}
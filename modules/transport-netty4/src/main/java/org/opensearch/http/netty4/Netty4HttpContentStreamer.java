@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.opensearch.rest.action.document.RestBulkAction;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Streams the content of the bulk requests that {@link RestBulkAction} executes in incremental batches to the handler of the request,
+ * rather than letting the aggregator of the pipeline aggregate it, so that the first batches are executed while the rest of the content
+ * is received and the content of a request isn't held in memory all at once. Other requests are passed through untouched, as are
+ * requests whose declared content length exceeds the maximum content length, which the aggregator rejects.
+ */
+class Netty4HttpContentStreamer extends ChannelInboundHandlerAdapter {
+
+    private final long incrementalBatchSize;
+    private final long maxContentLength;
+    // the stream of the request whose content is being received, if it is streamed
+    private Netty4HttpContentStream contentStream;
+
+    Netty4HttpContentStreamer(long incrementalBatchSize, long maxContentLength) {
+        this.incrementalBatchSize = incrementalBatchSize;
+        this.maxContentLength = maxContentLength;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (contentStream != null && msg instanceof HttpContent) {
+            final Netty4HttpContentStream stream = contentStream;
+            if (msg instanceof LastHttpContent) {
+                contentStream = null;
+            }
+            stream.onContent((HttpContent) msg);
+        } else if (msg instanceof HttpRequest && msg instanceof FullHttpRequest == false && isStreamed((HttpRequest) msg)) {
+            final HttpRequest request = (HttpRequest) msg;
+            if (HttpUtil.is100ContinueExpected(request)) {
+                // the aggregator answers this for the requests that it aggregates
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+                request.headers().remove(HttpHeaderNames.EXPECT);
+            }
+            contentStream = new Netty4HttpContentStream(ctx.channel(), maxContentLength);
+            ctx.fireChannelRead(new Netty4HttpContentStream.StreamedHttpRequest(request, contentStream));
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (contentStream != null) {
+            contentStream.discard();
+            contentStream = null;
+        }
+        super.channelInactive(ctx);
+    }
+
+    private boolean isStreamed(HttpRequest request) {
+        if (request.decoderResult().isSuccess() == false) {
+            return false;
+        }
+        if (request.method() != HttpMethod.POST && request.method() != HttpMethod.PUT) {
+            return false;
+        }
+        final long contentLength = HttpUtil.getContentLength(request, -1L);
+        if (contentLength >= 0 && (contentLength <= incrementalBatchSize || contentLength > maxContentLength)) {
+            // executed in a single batch, or rejected by the aggregator
+            return false;
+        }
+        final QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
+        if (decoder.path().endsWith("/_bulk") == false) {
+            return false;
+        }
+        // requests that refresh are executed in a single batch
+        final List<String> refresh = decoder.parameters().get("refresh");
+        return refresh == null || refresh.equals(Collections.singletonList("false"));
+    }
+}
@@ -44,6 +44,7 @@ import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpContentStream;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
@@ -66,6 +67,7 @@ public class Netty4HttpRequest implements HttpRequest {
     private final AtomicBoolean released;
     private final Exception inboundException;
     private final boolean pooled;
+    private final Netty4HttpContentStream contentStream;
 
     Netty4HttpRequest(FullHttpRequest request) {
         this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
@@ -74,22 +76,31 @@ public class Netty4HttpRequest implements HttpRequest {
 
     Netty4HttpRequest(FullHttpRequest request, Exception inboundException) {
         this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
-            Netty4Utils.toBytesReference(request.content()), inboundException);
+            Netty4Utils.toBytesReference(request.content()), inboundException, null);
+    }
+
+    /**
+     * A request whose content is streamed, the request itself has no content and holds no pooled resources.
+     */
+    Netty4HttpRequest(FullHttpRequest request, Netty4HttpContentStream contentStream) {
+        this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), false,
+            Netty4Utils.toBytesReference(request.content()), null, contentStream);
     }
 
     private Netty4HttpRequest(FullHttpRequest request, HttpHeadersMap headers, AtomicBoolean released, boolean pooled,
                               BytesReference content) {
-        this(request, headers, released, pooled, content, null);
+        this(request, headers, released, pooled, content, null, null);
     }
 
     private Netty4HttpRequest(FullHttpRequest request, HttpHeadersMap headers, AtomicBoolean released, boolean pooled,
-                              BytesReference content, Exception inboundException) {
+                              BytesReference content, Exception inboundException, Netty4HttpContentStream contentStream) {
         this.request = request;
         this.headers = headers;
         this.content = content;
         this.pooled = pooled;
         this.released = released;
         this.inboundException = inboundException;
+        this.contentStream = contentStream;
     }
 
     @Override
@@ -141,8 +152,17 @@ public class Netty4HttpRequest implements HttpRequest {
         return content;
     }
 
+    @Override
+    public HttpContentStream contentStream() {
+        return contentStream;
+    }
+
     @Override
     public void release() {
+        if (contentStream != null) {
+            // the content that the handler of the request didn't consume is dropped, so that the channel reads the next request
+            contentStream.discard();
+        }
         if (pooled && released.compareAndSet(false, true)) {
             request.release();
         }
@@ -204,7 +224,7 @@ public class Netty4HttpRequest implements HttpRequest {
         FullHttpRequest requestWithoutHeader = new DefaultFullHttpRequest(request.protocolVersion(), request.method(), request.uri(),
             request.content(), headersWithoutContentTypeHeader, trailingHeaders);
         return new Netty4HttpRequest(requestWithoutHeader, new HttpHeadersMap(requestWithoutHeader.headers()), released,
-            pooled, content);
+            pooled, content, null, contentStream);
     }
 
     @Override
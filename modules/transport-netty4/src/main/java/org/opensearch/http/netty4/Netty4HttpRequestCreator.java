@@ -55,6 +55,8 @@ class Netty4HttpRequestCreator extends MessageToMessageDecoder<FullHttpRequest>
                 nonError = (Exception) cause;
             }
             out.add(new Netty4HttpRequest(msg.retain(), nonError));
+        } else if (msg instanceof Netty4HttpContentStream.StreamedHttpRequest) {
+            out.add(new Netty4HttpRequest(msg, ((Netty4HttpContentStream.StreamedHttpRequest) msg).contentStream()));
         } else {
             out.add(new Netty4HttpRequest(msg.retain()));
         }
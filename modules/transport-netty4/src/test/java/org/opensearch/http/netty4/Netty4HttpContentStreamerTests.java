@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.http.HttpContentStream;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+public class Netty4HttpContentStreamerTests extends OpenSearchTestCase {
+
+    public void testStreamsBulkContent() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpContentStreamer(128, 1024), new Netty4HttpRequestCreator());
+        final HttpRequest request = bulkRequest("/index/_bulk");
+        HttpUtil.set100ContinueExpected(request, true);
+        channel.writeInbound(request);
+        final FullHttpResponse continueResponse = channel.readOutbound();
+        assertThat(continueResponse.status(), equalTo(HttpResponseStatus.CONTINUE));
+
+        final Netty4HttpRequest streamedRequest = channel.readInbound();
+        assertThat(streamedRequest.content().length(), equalTo(0));
+        final HttpContentStream contentStream = streamedRequest.contentStream();
+        assertNotNull(contentStream);
+
+        // the content that is received before the stream is subscribed to stops the channel from reading
+        final ByteBuf first = content("a");
+        channel.writeInbound(new DefaultHttpContent(first));
+        assertFalse(channel.config().isAutoRead());
+
+        final RecordingConsumer consumer = new RecordingConsumer();
+        contentStream.subscribe(consumer);
+        assertThat(consumer.parts(), equalTo(Arrays.asList("a")));
+        assertFalse(channel.config().isAutoRead());
+        expectThrows(IllegalStateException.class, () -> contentStream.subscribe(new RecordingConsumer()));
+        // the content is delivered in the buffer it was received in, until the consumer releases it
+        assertThat(first.refCnt(), equalTo(1));
+        consumer.contents.get(0).close();
+        assertThat(first.refCnt(), equalTo(0));
+
+        // the content that is received until more is requested is delivered at once
+        final ByteBuf second = content("b");
+        final ByteBuf third = content("c");
+        channel.writeInbound(new DefaultHttpContent(second));
+        channel.writeInbound(new DefaultHttpContent(third));
+        assertThat(consumer.contents.size(), equalTo(1));
+        consumer.requestMore.get(0).run();
+        channel.runPendingTasks();
+        assertThat(consumer.parts(), equalTo(Arrays.asList("a", "bc")));
+        consumer.contents.get(1).close();
+        assertThat(second.refCnt(), equalTo(0));
+        assertThat(third.refCnt(), equalTo(0));
+
+        // the channel reads while the consumer waits for more content
+        consumer.requestMore.get(1).run();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+        assertThat(consumer.contents.size(), equalTo(2));
+        channel.writeInbound(new DefaultLastHttpContent(content("d")));
+        assertThat(consumer.parts(), equalTo(Arrays.asList("a", "bc", "d")));
+        assertThat(consumer.lasts, equalTo(Arrays.asList(false, false, true)));
+        assertTrue(channel.config().isAutoRead());
+        consumer.contents.get(2).close();
+
+        // the next request isn't streamed
+        channel.writeInbound(new DefaultHttpRequest(HTTP_1_1, HttpMethod.GET, "/_search"));
+        assertThat(channel.readInbound(), not(instanceOf(Netty4HttpRequest.class)));
+        streamedRequest.release();
+        assertThat(consumer.failures, empty());
+    }
+
+    public void testPassesThroughOtherRequests() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpContentStreamer(128, 1024), new Netty4HttpRequestCreator());
+        final List<HttpRequest> requests = new ArrayList<>();
+        requests.add(new DefaultHttpRequest(HTTP_1_1, HttpMethod.POST, "/index/_search"));
+        requests.add(new DefaultHttpRequest(HTTP_1_1, HttpMethod.GET, "/index/_bulk"));
+        requests.add(bulkRequest("/index/_bulk?refresh=" + randomFrom("", "true", "wait_for")));
+        final HttpRequest smallRequest = bulkRequest("/_bulk");
+        HttpUtil.setTransferEncodingChunked(smallRequest, false);
+        HttpUtil.setContentLength(smallRequest, randomIntBetween(0, 128));
+        requests.add(smallRequest);
+        final HttpRequest tooLargeRequest = bulkRequest("/_bulk");
+        HttpUtil.setTransferEncodingChunked(tooLargeRequest, false);
+        HttpUtil.setContentLength(tooLargeRequest, randomIntBetween(1025, 2048));
+        requests.add(tooLargeRequest);
+        for (HttpRequest request : requests) {
+            channel.writeInbound(request);
+            assertThat(channel.readInbound(), equalTo(request));
+            final LastHttpContent content = new DefaultLastHttpContent(content("a"));
+            channel.writeInbound(content);
+            assertThat(channel.readInbound(), equalTo(content));
+            content.release();
+        }
+        assertTrue(channel.config().isAutoRead());
+        assertThat(channel.readOutbound(), nullValue());
+    }
+
+    public void testReleaseDiscardsContent() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpContentStreamer(128, 1024), new Netty4HttpRequestCreator());
+        channel.writeInbound(bulkRequest("/_bulk?refresh=false"));
+        final Netty4HttpRequest streamedRequest = channel.readInbound();
+        assertNotNull(streamedRequest.contentStream());
+        final ByteBuf first = content("a");
+        channel.writeInbound(new DefaultHttpContent(first));
+        assertFalse(channel.config().isAutoRead());
+
+        // the handler of the request responded without consuming the content
+        streamedRequest.release();
+        assertTrue(channel.config().isAutoRead());
+        final ByteBuf last = content("b");
+        channel.writeInbound(new DefaultLastHttpContent(last));
+        assertThat(last.refCnt(), equalTo(0));
+        assertThat(channel.readInbound(), nullValue());
+
+        final HttpContent nextContent = new DefaultLastHttpContent(content("c"));
+        channel.writeInbound(new DefaultHttpRequest(HTTP_1_1, HttpMethod.GET, "/_search"));
+        channel.writeInbound(nextContent);
+        assertThat(channel.readInbound(), instanceOf(HttpRequest.class));
+        assertThat(channel.readInbound(), equalTo(nextContent));
+        nextContent.release();
+    }
+
+    public void testClosedChannelFailsTheConsumer() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpContentStreamer(128, 1024), new Netty4HttpRequestCreator());
+        channel.writeInbound(bulkRequest("/_bulk"));
+        final Netty4HttpRequest streamedRequest = channel.readInbound();
+        final RecordingConsumer consumer = new RecordingConsumer();
+        streamedRequest.contentStream().subscribe(consumer);
+        channel.writeInbound(new DefaultHttpContent(content("a")));
+        final ByteBuf received = content("b");
+        channel.writeInbound(new DefaultHttpContent(received));
+        assertThat(consumer.parts(), equalTo(Arrays.asList("a")));
+
+        channel.close();
+        // the content that the consumer didn't receive is released, and the consumer learns that the rest of the content won't come
+        assertThat(received.refCnt(), equalTo(0));
+        assertThat(consumer.failures, hasSize(1));
+        consumer.contents.get(0).close();
+        streamedRequest.release();
+        assertThat(consumer.failures, hasSize(1));
+    }
+
+    public void testStreamedContentIsLimitedToMaxContentLength() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpContentStreamer(128, 1024), new Netty4HttpRequestCreator());
+        channel.writeInbound(bulkRequest("/_bulk"));
+        final Netty4HttpRequest streamedRequest = channel.readInbound();
+        final RecordingConsumer consumer = new RecordingConsumer();
+        streamedRequest.contentStream().subscribe(consumer);
+        channel.writeInbound(new DefaultHttpContent(content(randomAlphaOfLength(1024))));
+        assertThat(consumer.contents, hasSize(1));
+        assertThat(consumer.failures, empty());
+        consumer.requestMore.get(0).run();
+        channel.runPendingTasks();
+
+        final ByteBuf exceeding = content("a");
+        channel.writeInbound(new DefaultHttpContent(exceeding));
+        assertThat(exceeding.refCnt(), equalTo(0));
+        assertThat(consumer.contents, hasSize(1));
+        assertThat(consumer.failures, hasSize(1));
+        assertThat(consumer.failures.get(0), instanceOf(OpenSearchStatusException.class));
+        assertThat(((OpenSearchStatusException) consumer.failures.get(0)).status(), equalTo(RestStatus.REQUEST_ENTITY_TOO_LARGE));
+
+        // the rest of the content is dropped
+        assertTrue(channel.config().isAutoRead());
+        final ByteBuf last = content("b");
+        channel.writeInbound(new DefaultLastHttpContent(last));
+        assertThat(last.refCnt(), equalTo(0));
+        assertThat(channel.readInbound(), nullValue());
+        consumer.contents.get(0).close();
+        streamedRequest.release();
+    }
+
+    private static class RecordingConsumer implements HttpContentStream.ContentConsumer {
+
+        private final List<ReleasableBytesReference> contents = new ArrayList<>();
+        private final List<Boolean> lasts = new ArrayList<>();
+        private final List<Runnable> requestMore = new ArrayList<>();
+        private final List<Exception> failures = new ArrayList<>();
+
+        @Override
+        public void onContent(ReleasableBytesReference content, boolean last, Runnable requestMore) {
+            contents.add(content);
+            lasts.add(last);
+            this.requestMore.add(requestMore);
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            failures.add(e);
+        }
+
+        List<String> parts() {
+            return contents.stream().map(BytesReference::utf8ToString).collect(Collectors.toList());
+        }
+    }
+
+    private static HttpRequest bulkRequest(String uri) {
+        final HttpRequest request = new DefaultHttpRequest(HTTP_1_1, randomFrom(HttpMethod.POST, HttpMethod.PUT), uri);
+        request.headers().set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+        return request;
+    }
+
+    private static ByteBuf content(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+    }
+}
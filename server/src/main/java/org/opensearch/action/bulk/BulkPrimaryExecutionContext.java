@@ -35,11 +35,15 @@ package org.opensearch.action.bulk;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.PreParsedDocument;
 import org.opensearch.index.translog.Translog;
 
 import java.util.Arrays;
@@ -88,11 +92,14 @@ class BulkPrimaryExecutionContext {
     private DocWriteRequest requestToExecute;
     private BulkItemResponse executionResult;
     private int retryCounter;
+    private final SourceToParse[] sourcesToParse;
+    private PreParsedDocument[] preParsedDocuments;
 
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
         this.primary = primary;
+        this.sourcesToParse = new SourceToParse[request.items().length];
         advance();
     }
 
@@ -113,6 +120,13 @@ class BulkPrimaryExecutionContext {
     private void advance() {
         assert currentItemState == ItemProcessingState.COMPLETED || currentIndex == -1 :
             "moving to next but current item wasn't completed (state: " + currentItemState + ")";
+        if (currentIndex >= 0 && currentIndex < sourcesToParse.length) {
+            // release the materialized source and parsed document of the completed item
+            sourcesToParse[currentIndex] = null;
+            if (preParsedDocuments != null) {
+                preParsedDocuments[currentIndex] = null;
+            }
+        }
         currentItemState = ItemProcessingState.INITIAL;
         currentIndex =  findNextNonAborted(currentIndex + 1);
         retryCounter = 0;
@@ -197,11 +211,68 @@ class BulkPrimaryExecutionContext {
         return request.items()[currentIndex];
     }
 
+    /** returns the position of the current item in the {@link BulkShardRequest#items()} array */
+    int getCurrentIndex() {
+        return currentIndex;
+    }
+
     /** returns the primary shard */
     public IndexShard getPrimary() {
         return primary;
     }
 
+    /**
+     * sets the sources and documents of the items that were parsed ahead of their execution, starting with the item at position
+     * {@code from}. They are released as their items complete.
+     */
+    void setPreParsedDocuments(int from, SourceToParse[] sourcesToParse, PreParsedDocument[] preParsedDocuments) {
+        assert sourcesToParse.length == preParsedDocuments.length;
+        assert from >= currentIndex && from + sourcesToParse.length <= this.sourcesToParse.length;
+        if (this.preParsedDocuments == null) {
+            this.preParsedDocuments = new PreParsedDocument[this.sourcesToParse.length];
+        }
+        for (int i = 0; i < sourcesToParse.length; i++) {
+            if (sourcesToParse[i] != null) {
+                this.sourcesToParse[from + i] = sourcesToParse[i];
+                this.preParsedDocuments[from + i] = preParsedDocuments[i];
+            }
+        }
+    }
+
+    /**
+     * returns the source to parse of the index request to execute. {@link SourceToParse} copies sources that are not backed by
+     * a single array, like slices of network buffers, so the source of an item is only materialized once even if it is parsed
+     * ahead of its execution or parsed again after a mapping update.
+     */
+    public SourceToParse getSourceToParse() {
+        assert assertInvariants(ItemProcessingState.TRANSLATED);
+        if (requestToExecute != getCurrent()) {
+            return toSourceToParse((IndexRequest) requestToExecute);
+        }
+        if (sourcesToParse[currentIndex] == null) {
+            sourcesToParse[currentIndex] = toSourceToParse((IndexRequest) requestToExecute);
+        }
+        return sourcesToParse[currentIndex];
+    }
+
+    static SourceToParse toSourceToParse(IndexRequest request) {
+        return new SourceToParse(request.index(), request.type(), request.id(), request.source(), request.getContentType(),
+            request.routing());
+    }
+
+    /**
+     * returns the document of the current item if it was parsed ahead of its execution, or {@code null} if it must be parsed
+     * when executed, e.g. because the request to execute is the translation of an update request
+     */
+    @Nullable
+    public PreParsedDocument getPreParsedDocument() {
+        assert assertInvariants(ItemProcessingState.TRANSLATED);
+        if (preParsedDocuments == null || requestToExecute != getCurrent()) {
+            return null;
+        }
+        return preParsedDocuments[currentIndex];
+    }
+
     /**
      * sets the request that should actually be executed on the primary. This can be different then the request
      * received from the user (specifically, an update request is translated to an indexing or delete request).
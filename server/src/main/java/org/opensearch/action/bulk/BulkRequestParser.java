@@ -91,13 +91,13 @@ public final class BulkRequestParser {
         this.warnOnTypeUsage = warnOnTypeUsage;
     }
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean lastData) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (lastData && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -151,8 +151,40 @@ public final class BulkRequestParser {
             Consumer<IndexRequest> indexRequestConsumer,
             Consumer<UpdateRequest> updateRequestConsumer,
             Consumer<DeleteRequest> deleteRequestConsumer) throws IOException {
+        parse(data, 0, true, defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext, defaultPipeline,
+            defaultRequireAlias, allowExplicitIndex, xContentType, indexRequestConsumer, updateRequestConsumer, deleteRequestConsumer);
+    }
+
+    /**
+     * Parse the complete items at the start of the provided {@code data}, which is a part of a bulk body that follows
+     * {@code startLine} lines, like {@link #parse(BytesReference, String, String, FetchSourceContext, String, Boolean, boolean,
+     * XContentType, Consumer, Consumer, Consumer)} does. Unless {@code lastData} is set, the last item is left unparsed if not all
+     * its lines are terminated, so that it can be parsed along with the data that follows.
+     *
+     * @return the number of bytes at the start of {@code data} that were parsed
+     */
+    public int parseIncrementally(
+            BytesReference data, int startLine, boolean lastData, @Nullable String defaultIndex, @Nullable String defaultType,
+            @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+            XContentType xContentType,
+            Consumer<IndexRequest> indexRequestConsumer,
+            Consumer<UpdateRequest> updateRequestConsumer,
+            Consumer<DeleteRequest> deleteRequestConsumer) throws IOException {
+        return parse(data, startLine, lastData, defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext, defaultPipeline,
+            defaultRequireAlias, allowExplicitIndex, xContentType, indexRequestConsumer, updateRequestConsumer, deleteRequestConsumer);
+    }
+
+    private int parse(
+            BytesReference data, int startLine, boolean lastData, @Nullable String defaultIndex, @Nullable String defaultType,
+            @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+            XContentType xContentType,
+            Consumer<IndexRequest> indexRequestConsumer,
+            Consumer<UpdateRequest> updateRequestConsumer,
+            Consumer<DeleteRequest> deleteRequestConsumer) throws IOException {
         XContent xContent = xContentType.xContent();
-        int line = 0;
+        int line = startLine;
         int from = 0;
         byte marker = xContent.streamSeparator();
         boolean typesDeprecationLogged = false;
@@ -161,7 +193,7 @@ public final class BulkRequestParser {
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
         while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
+            int nextMarker = findNextMarker(marker, from, data, lastData);
             if (nextMarker == -1) {
                 break;
             }
@@ -169,6 +201,7 @@ public final class BulkRequestParser {
 
             // now parse the action
             try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
+                final int actionFrom = from;
                 // move pointers
                 from = nextMarker + 1;
 
@@ -270,8 +303,12 @@ public final class BulkRequestParser {
                     deleteRequestConsumer.accept(new DeleteRequest(index, type, id).routing(routing)
                             .version(version).versionType(versionType).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm));
                 } else {
-                    nextMarker = findNextMarker(marker, from, data);
+                    nextMarker = findNextMarker(marker, from, data, lastData);
                     if (nextMarker == -1) {
+                        if (lastData == false) {
+                            // the source isn't complete yet, parse the action again along with it
+                            from = actionFrom;
+                        }
                         break;
                     }
                     line++;
@@ -327,6 +364,7 @@ public final class BulkRequestParser {
                 }
             }
         }
+        return from;
     }
 
     private static XContentParser createParser(BytesReference data, XContent xContent) throws IOException {
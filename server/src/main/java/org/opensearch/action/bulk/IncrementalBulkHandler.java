@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Executes a bulk body that is received in parts, like the chunks of an HTTP request. The complete items of the data received so
+ * far are parsed in batches of about {@code batchSizeInBytes}, so that the first documents are indexed before the end of the body is
+ * parsed, or even received. The responses of all batches are merged into a single response, in the order of the items of the body.
+ * <p>
+ * The batches are executed one at a time, in the order of the body, so that the operations on the same document are applied in the
+ * order of the body like they are in a single bulk request, and so that a large body only holds the indexing pressure of a single
+ * batch. The next batch is parsed while a batch executes, and the source of data is notified when more data can be added, which lets
+ * it stop reading until the batches of the data that it already added are executed.
+ * <p>
+ * The items of the batches are slices of the data, which is not copied. Each part of the data is released once all the batches that
+ * were parsed from it were executed, so that parts of the body that are held in pooled network buffers can stay in them until their
+ * documents are indexed.
+ * <p>
+ * Unlike a single bulk request, the batches that were executed before a parsing error, or before the rest of the body failed to be
+ * received, are not rolled back. The body then fails with a {@link PartialExecutionException} that carries the responses of their
+ * items. An error that fails a whole batch fails each of its items.
+ */
+public final class IncrementalBulkHandler {
+
+    /**
+     * Parses the complete items at the start of some data into a batch, see {@link BulkRequestParser#parseIncrementally}.
+     */
+    @FunctionalInterface
+    public interface BatchParser {
+
+        /**
+         * @return the number of bytes at the start of {@code data} that were parsed
+         */
+        int parse(BytesReference data, int startLine, boolean lastData, BulkRequest batch) throws IOException;
+    }
+
+    /**
+     * The failure of a body whose first batches were executed before it failed. These batches are not rolled back, and the responses
+     * of their items are reported along with the failure, which is the cause of this exception.
+     */
+    public static final class PartialExecutionException extends RuntimeException {
+
+        private final BulkResponse executedItems;
+
+        PartialExecutionException(Exception cause, BulkResponse executedItems) {
+            super(cause.getMessage(), cause);
+            this.executedItems = executedItems;
+        }
+
+        /**
+         * The responses of the items of the batches that were executed before the failure.
+         */
+        public BulkResponse getExecutedItems() {
+            return executedItems;
+        }
+    }
+
+    private final BatchParser parser;
+    private final Supplier<BulkRequest> batchSupplier;
+    private final BiConsumer<BulkRequest, ActionListener<BulkResponse>> executor;
+    private final int batchSizeInBytes;
+    private final byte separator;
+    private final ActionListener<BulkResponse> listener;
+    private final long startTimeInNanos = System.nanoTime();
+    // the number of threads that requested to process the data, only one of them processes it
+    private final AtomicInteger processing = new AtomicInteger();
+
+    // the parts of the data that batches that were not executed yet, or the pending data, may slice
+    private final Deque<ReleasableBytesReference> retainedData = new ArrayDeque<>();
+    // the offset in the body of the first retained part
+    private long retainedFrom;
+    // the data that was received but not parsed yet, and its offset in the body
+    private BytesReference pending = BytesArray.EMPTY;
+    private long pendingFrom;
+    // the number of lines of the body before the pending data
+    private int pendingStartLine;
+    private boolean lastDataReceived;
+    // notified once more data can be added
+    private Runnable readyListener;
+    // a batch that waits for the batch in flight to complete
+    private BulkRequest parsedBatch;
+    private long parsedBatchFrom;
+    private int numberOfItems;
+    private boolean inFlight;
+    private long inFlightFrom;
+    private final List<BulkItemResponse[]> responses = new ArrayList<>();
+    private long ingestTookInMillis = BulkResponse.NO_INGEST_TOOK;
+    private Exception failure;
+    private boolean completed;
+
+    /**
+     * @param parser           parses the items of the body into batches
+     * @param batchSupplier    creates the batches, with the parameters of the body
+     * @param executor         executes a batch
+     * @param batchSizeInBytes the size of the data of a batch, a batch may be larger if its first item is larger than this
+     * @param separator        the byte that terminates the lines of the body
+     * @param listener         notified of the merged response once all the body was received and executed
+     */
+    public IncrementalBulkHandler(BatchParser parser, Supplier<BulkRequest> batchSupplier,
+                                  BiConsumer<BulkRequest, ActionListener<BulkResponse>> executor, int batchSizeInBytes,
+                                  byte separator, ActionListener<BulkResponse> listener) {
+        if (batchSizeInBytes <= 0) {
+            throw new IllegalArgumentException("batch size must be positive but was [" + batchSizeInBytes + "]");
+        }
+        this.parser = parser;
+        this.batchSupplier = batchSupplier;
+        this.executor = executor;
+        this.batchSizeInBytes = batchSizeInBytes;
+        this.separator = separator;
+        this.listener = listener;
+    }
+
+    /**
+     * Adds the next part of the body, {@code lastData} must be set on the last part. {@code onReady} is called once more data
+     * can be added, which may be before this method returns. No data must be added until then. The data is released once the batches
+     * that were parsed from it were executed.
+     */
+    public void addData(ReleasableBytesReference data, boolean lastData, Runnable onReady) {
+        synchronized (this) {
+            if (lastDataReceived) {
+                data.close();
+                throw new IllegalStateException("the last data was already added");
+            }
+            if (readyListener != null) {
+                data.close();
+                throw new IllegalStateException("data was added before the previous data was processed");
+            }
+            if (failure == null) {
+                retainedData.add(data);
+                pending = pending.length() == 0 ? data : CompositeBytesReference.of(pending, data);
+            } else {
+                data.close();
+            }
+            lastDataReceived = lastData;
+            readyListener = onReady;
+        }
+        process();
+    }
+
+    /**
+     * Fails the body because its remaining data can't be received. The batches that were already executed are not rolled back.
+     */
+    public void onDataFailure(Exception e) {
+        synchronized (this) {
+            if (lastDataReceived) {
+                // the body was completely received
+                return;
+            }
+            if (failure == null) {
+                failure = e;
+                pending = BytesArray.EMPTY;
+            }
+            lastDataReceived = true;
+            readyListener = null;
+        }
+        process();
+    }
+
+    private void process() {
+        if (processing.getAndIncrement() > 0) {
+            // the thread that processes the data will process it again
+            return;
+        }
+        do {
+            processOnce();
+        } while (processing.decrementAndGet() > 0);
+    }
+
+    private void processOnce() {
+        while (true) {
+            final BulkRequest batch;
+            final int batchIndex;
+            final int itemOffset;
+            Runnable ready = null;
+            BulkResponse response = null;
+            Exception responseFailure = null;
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                if (failure == null && parsedBatch == null) {
+                    try {
+                        parsedBatch = parseNextBatch();
+                    } catch (Exception e) {
+                        failure = e;
+                        pending = BytesArray.EMPTY;
+                    }
+                }
+                if (parsedBatch != null && failure == null && inFlight == false) {
+                    batch = parsedBatch;
+                    parsedBatch = null;
+                    batchIndex = responses.size();
+                    responses.add(null);
+                    itemOffset = numberOfItems;
+                    numberOfItems += batch.numberOfActions();
+                    inFlight = true;
+                    inFlightFrom = parsedBatchFrom;
+                } else {
+                    batch = null;
+                    batchIndex = -1;
+                    itemOffset = -1;
+                    if (parsedBatch == null && lastDataReceived == false) {
+                        // all the complete items were executed, more data is needed
+                        ready = readyListener;
+                        readyListener = null;
+                    } else if (lastDataReceived && inFlight == false && (failure != null || parsedBatch == null)) {
+                        completed = true;
+                        if (failure != null) {
+                            // the batches that were executed can't be rolled back, so their responses are reported with the failure
+                            responseFailure = numberOfItems == 0 ? failure : new PartialExecutionException(failure, buildResponse());
+                        } else if (numberOfItems == 0) {
+                            // fail like an empty bulk request would
+                            responseFailure = batchSupplier.get().validate();
+                        } else {
+                            response = buildResponse();
+                        }
+                    }
+                }
+                releaseExecutedData();
+            }
+            if (batch != null) {
+                executor.accept(batch, batchListener(batch, batchIndex, itemOffset));
+            } else {
+                if (ready != null) {
+                    ready.run();
+                } else if (response != null) {
+                    listener.onResponse(response);
+                } else if (responseFailure != null) {
+                    listener.onFailure(responseFailure);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Parses the next batch of the pending data, or returns {@code null} if it needs more data.
+     */
+    private BulkRequest parseNextBatch() throws IOException {
+        while (pending.length() >= batchSizeInBytes || (lastDataReceived && pending.length() > 0)) {
+            final BulkRequest batch = batchSupplier.get();
+            parsedBatchFrom = pendingFrom;
+            int consumed = 0;
+            // try larger windows if the first item is larger than a batch
+            for (long window = batchSizeInBytes; consumed == 0 && window < pending.length(); window *= 2) {
+                consumed = parser.parse(pending.slice(0, (int) window), pendingStartLine, false, batch);
+            }
+            if (consumed == 0) {
+                consumed = parser.parse(pending, pendingStartLine, lastDataReceived, batch);
+                if (consumed == 0) {
+                    // the first item isn't complete yet
+                    return null;
+                }
+            }
+            for (int i = pending.indexOf(separator, 0); i >= 0 && i < consumed; i = pending.indexOf(separator, i + 1)) {
+                pendingStartLine++;
+            }
+            pending = consumed == pending.length() ? BytesArray.EMPTY : pending.slice(consumed, pending.length() - consumed);
+            pendingFrom += consumed;
+            if (batch.numberOfActions() > 0) {
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    private ActionListener<BulkResponse> batchListener(BulkRequest batch, int batchIndex, int itemOffset) {
+        return new ActionListener<BulkResponse>() {
+            @Override
+            public void onResponse(BulkResponse response) {
+                final BulkItemResponse[] items = new BulkItemResponse[response.getItems().length];
+                for (int i = 0; i < items.length; i++) {
+                    final BulkItemResponse item = response.getItems()[i];
+                    if (item.isFailed()) {
+                        items[i] = new BulkItemResponse(itemOffset + item.getItemId(), item.getOpType(), item.getFailure());
+                    } else {
+                        items[i] = new BulkItemResponse(itemOffset + item.getItemId(), item.getOpType(), item.getResponse());
+                    }
+                }
+                onBatchCompleted(batchIndex, items, response.getIngestTookInMillis());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                final List<DocWriteRequest<?>> requests = batch.requests();
+                final BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+                for (int i = 0; i < items.length; i++) {
+                    final DocWriteRequest<?> request = requests.get(i);
+                    items[i] = new BulkItemResponse(itemOffset + i, request.opType(),
+                        new BulkItemResponse.Failure(request.index(), request.type(), request.id(), e));
+                }
+                onBatchCompleted(batchIndex, items, BulkResponse.NO_INGEST_TOOK);
+            }
+        };
+    }
+
+    /**
+     * Releases the parts of the data that neither the batch in flight, the parsed batch nor the pending data slice.
+     */
+    private void releaseExecutedData() {
+        assert Thread.holdsLock(this);
+        final long retainFrom;
+        if (inFlight) {
+            retainFrom = inFlightFrom;
+        } else if (completed || failure != null) {
+            retainFrom = Long.MAX_VALUE;
+        } else if (parsedBatch != null) {
+            retainFrom = parsedBatchFrom;
+        } else {
+            retainFrom = pendingFrom;
+        }
+        while (retainedData.isEmpty() == false && retainedFrom + retainedData.peekFirst().length() <= retainFrom) {
+            final ReleasableBytesReference data = retainedData.pollFirst();
+            retainedFrom += data.length();
+            data.close();
+        }
+    }
+
+    private void onBatchCompleted(int batchIndex, BulkItemResponse[] items, long batchIngestTookInMillis) {
+        synchronized (this) {
+            responses.set(batchIndex, items);
+            if (batchIngestTookInMillis != BulkResponse.NO_INGEST_TOOK) {
+                ingestTookInMillis = Math.max(ingestTookInMillis, 0) + batchIngestTookInMillis;
+            }
+            inFlight = false;
+        }
+        process();
+    }
+
+    private BulkResponse buildResponse() {
+        assert Thread.holdsLock(this);
+        final BulkItemResponse[] items = new BulkItemResponse[numberOfItems];
+        int offset = 0;
+        for (BulkItemResponse[] batchItems : responses) {
+            System.arraycopy(batchItems, 0, items, offset, batchItems.length);
+            offset += batchItems.length;
+        }
+        final long tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+        return new BulkResponse(items, tookInMillis, ingestTookInMillis);
+    }
+}
@@ -64,7 +64,11 @@ import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
@@ -77,6 +81,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.PreParsedDocument;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.IndicesService;
@@ -88,10 +93,16 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.LongSupplier;
 
 /** Performs shard-level bulk (index, delete or update) operations */
@@ -100,6 +111,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     public static final String ACTION_NAME = BulkAction.NAME + "[s]";
 
     private static final Logger logger = LogManager.getLogger(TransportShardBulkAction.class);
+
+    /**
+     * The minimum number of documents that are worth parsing on another thread, see {@link #preParseDocuments}.
+     */
+    static final int MIN_DOCUMENTS_PER_PARSING_TASK = 8;
+    /**
+     * The maximum number of documents, and of bytes of source, that are parsed ahead of their execution at once, which bounds the
+     * memory retained by parsed documents that wait for their indexing, see {@link #preParseDocuments}.
+     */
+    static final int MAX_DOCUMENTS_PER_PARSING_WINDOW = 512;
+    static final long MAX_BYTES_PER_PARSING_WINDOW = new ByteSizeValue(8, ByteSizeUnit.MB).getBytes();
     private static final Function<IndexShard, String> EXECUTOR_NAME_FUNCTION = shard -> {
         if (shard.indexSettings().getIndexMetadata().isSystem()) {
             return Names.SYSTEM_WRITE;
@@ -182,9 +204,14 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
             private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
 
+            private int parsedUpTo;
+
             @Override
             protected void doRun() throws Exception {
                 while (context.hasMoreOperationsToExecute()) {
+                    if (context.getCurrentIndex() >= parsedUpTo) {
+                        parsedUpTo = preParseDocuments(context, threadPool, executorName);
+                    }
                     if (executeBulkItemRequest(context, updateHelper, nowInMillisSupplier, mappingUpdater, waitForMappingUpdate,
                         ActionListener.wrap(v -> executor.execute(this), this::onRejection)) == false) {
                         // We are waiting for a mapping update on another thread, that will invoke this action again once its done
@@ -233,6 +260,102 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }.run();
     }
 
+    /**
+     * Parses the documents of the next index requests of a bulk shard request concurrently on the given executor, ahead of their
+     * execution which must happen in order. Documents are parsed in windows that start at the current item and are bounded by
+     * {@link #MAX_DOCUMENTS_PER_PARSING_WINDOW} and {@link #MAX_BYTES_PER_PARSING_WINDOW}, the next window being parsed once the
+     * execution reaches its end. The current thread takes part in parsing and only waits for the documents that were picked by
+     * other threads, so this doesn't deadlock when the executor is saturated. The response headers, like deprecation warnings, that
+     * parsing adds on other threads are copied to the context of the current thread. Documents that need a mapping update are parsed
+     * again when executed, while parsing failures are reported when the operation is applied.
+     *
+     * @return the position of the first item after the window
+     */
+    static int preParseDocuments(BulkPrimaryExecutionContext context, ThreadPool threadPool, String executorName) {
+        final BulkItemRequest[] items = context.getBulkShardRequest().items();
+        final int from = context.getCurrentIndex();
+        final List<Integer> itemsToParse = new ArrayList<>();
+        long windowSizeInBytes = 0;
+        int to = from;
+        while (to < items.length && itemsToParse.size() < MAX_DOCUMENTS_PER_PARSING_WINDOW
+            && windowSizeInBytes < MAX_BYTES_PER_PARSING_WINDOW) {
+            if (items[to].getPrimaryResponse() == null && items[to].request() instanceof IndexRequest) {
+                itemsToParse.add(to);
+                final IndexRequest request = (IndexRequest) items[to].request();
+                windowSizeInBytes += request.source() == null ? 0 : request.source().length();
+            }
+            to++;
+        }
+        final ThreadPool.Info info = threadPool.info(executorName);
+        final int parallelism = info == null ? 1 : Math.min(info.getMax(), itemsToParse.size() / MIN_DOCUMENTS_PER_PARSING_TASK);
+        if (parallelism <= 1) {
+            // parsing ahead would only add overhead
+            return to;
+        }
+        final IndexShard primary = context.getPrimary();
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        final SourceToParse[] sources = new SourceToParse[to - from];
+        final PreParsedDocument[] documents = new PreParsedDocument[to - from];
+        final AtomicInteger nextItem = new AtomicInteger();
+        final CountDownLatch parsedItems = new CountDownLatch(itemsToParse.size());
+        final List<Map<String, List<String>>> responseHeaders = Collections.synchronizedList(new ArrayList<>());
+        final IntSupplier parse = () -> {
+            int parsed = 0;
+            for (int next = nextItem.getAndIncrement(); next < itemsToParse.size(); next = nextItem.getAndIncrement()) {
+                final int i = itemsToParse.get(next);
+                try {
+                    sources[i - from] = BulkPrimaryExecutionContext.toSourceToParse((IndexRequest) items[i].request());
+                    documents[i - from] = primary.preParseDocument(sources[i - from]);
+                } catch (Exception e) {
+                    // the document is parsed again, and the failure reported, when the operation is applied
+                    sources[i - from] = null;
+                    documents[i - from] = null;
+                }
+                parsed++;
+            }
+            return parsed;
+        };
+        final Executor executor = threadPool.executor(executorName);
+        for (int task = 1; task < parallelism; task++) {
+            try {
+                executor.execute(() -> {
+                    final int parsed = parse.getAsInt();
+                    try {
+                        if (parsed > 0) {
+                            responseHeaders.add(threadContext.getResponseHeaders());
+                        }
+                    } finally {
+                        // only count the documents down once the response headers are collected
+                        for (int i = 0; i < parsed; i++) {
+                            parsedItems.countDown();
+                        }
+                    }
+                });
+            } catch (OpenSearchRejectedExecutionException e) {
+                // the current thread parses the remaining documents
+                break;
+            }
+        }
+        final int parsed = parse.getAsInt();
+        for (int i = 0; i < parsed; i++) {
+            parsedItems.countDown();
+        }
+        try {
+            parsedItems.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return to;
+        }
+        synchronized (responseHeaders) {
+            for (Map<String, List<String>> headers : responseHeaders) {
+                // the headers of the current context were copied to the other threads, adding them again is a no-op
+                headers.forEach((key, values) -> values.forEach(value -> threadContext.addResponseHeader(key, value)));
+            }
+        }
+        context.setPreParsedDocuments(from, sources, documents);
+        return to;
+    }
+
     /**
      * Executes bulk item requests and handles request execution exceptions.
      * @return {@code true} if request completed on this thread and the listener was invoked, {@code false} if the request triggered
@@ -295,9 +418,16 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.ifSeqNo(), request.ifPrimaryTerm());
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(version, request.versionType(), new SourceToParse(
-                    request.index(), request.type(), request.id(), request.source(), request.getContentType(), request.routing()),
-                request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            final SourceToParse sourceToParse = context.getSourceToParse();
+            final PreParsedDocument preParsedDocument = context.getPreParsedDocument();
+            if (preParsedDocument == null) {
+                result = primary.applyIndexOperationOnPrimary(version, request.versionType(), sourceToParse,
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            } else {
+                result = primary.applyIndexOperationOnPrimary(version, request.versionType(), sourceToParse,
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry(),
+                    preParsedDocument);
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
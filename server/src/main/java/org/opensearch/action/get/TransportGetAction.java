@@ -39,6 +39,7 @@ import org.opensearch.action.support.single.shard.TransportSingleShardAction;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.routing.ShardIterator;
+import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.Writeable;
@@ -47,6 +48,7 @@ import org.opensearch.index.get.GetResult;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -58,14 +60,17 @@ import java.io.IOException;
 public class TransportGetAction extends TransportSingleShardAction<GetRequest, GetResponse> {
 
     private final IndicesService indicesService;
+    private final ResponseCollectorService responseCollectorService;
 
     @Inject
     public TransportGetAction(ClusterService clusterService, TransportService transportService,
                               IndicesService indicesService, ThreadPool threadPool, ActionFilters actionFilters,
-                              IndexNameExpressionResolver indexNameExpressionResolver) {
+                              IndexNameExpressionResolver indexNameExpressionResolver,
+                              ResponseCollectorService responseCollectorService) {
         super(GetAction.NAME, threadPool, clusterService, transportService, actionFilters, indexNameExpressionResolver,
                 GetRequest::new, ThreadPool.Names.GET);
         this.indicesService = indicesService;
+        this.responseCollectorService = responseCollectorService;
     }
 
     @Override
@@ -77,7 +82,24 @@ public class TransportGetAction extends TransportSingleShardAction<GetRequest, G
     protected ShardIterator shards(ClusterState state, InternalRequest request) {
         return clusterService.operationRouting()
                 .getShards(clusterService.state(), request.concreteIndex(), request.request().id(), request.request().routing(),
-                    request.request().preference());
+                    request.request().preference(), responseCollectorService.gets(),
+                    responseCollectorService.gets().outstandingRequests());
+    }
+
+    @Override
+    protected void onShardRequest(ShardRouting shardRouting) {
+        responseCollectorService.gets().onRequestSent(shardRouting.currentNodeId());
+    }
+
+    @Override
+    protected void onShardResponse(ShardRouting shardRouting, long responseTimeNanos) {
+        responseCollectorService.gets().onRequestCompleted(shardRouting.currentNodeId());
+        responseCollectorService.gets().addResponseTime(shardRouting.currentNodeId(), responseTimeNanos);
+    }
+
+    @Override
+    protected void onShardFailure(ShardRouting shardRouting) {
+        responseCollectorService.gets().onRequestCompleted(shardRouting.currentNodeId());
     }
 
     @Override
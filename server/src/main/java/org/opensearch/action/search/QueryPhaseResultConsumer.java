@@ -44,6 +44,7 @@ import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContextBuilder;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -66,6 +67,10 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * When streaming reduce is enabled, the aggregations of the buffered shard results are deserialized and merged
+ * one at a time into the running reduction instead of being deserialized all at once, so that the heap needed
+ * by a reduce scales with the size of the reduced result rather than with the number of shard results in a batch.
  */
 public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhaseResult> implements Releasable {
     private static final Logger logger = LogManager.getLogger(QueryPhaseResultConsumer.class);
@@ -81,6 +86,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final boolean streamingReduce;
 
     private final PendingMerges pendingMerges;
     private final Consumer<Exception> onPartialMergeFailure;
@@ -97,6 +103,24 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                     NamedWriteableRegistry namedWriteableRegistry,
                                     int expectedResultSize,
                                     Consumer<Exception> onPartialMergeFailure) {
+        this(request, executor, circuitBreaker, controller, progressListener, namedWriteableRegistry,
+            expectedResultSize, false, onPartialMergeFailure);
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, merging the aggregations of shard results one at a time if
+     * <code>streamingReduce</code> is set.
+     */
+    public QueryPhaseResultConsumer(SearchRequest request,
+                                    Executor executor,
+                                    CircuitBreaker circuitBreaker,
+                                    SearchPhaseController controller,
+                                    SearchProgressListener progressListener,
+                                    NamedWriteableRegistry namedWriteableRegistry,
+                                    int expectedResultSize,
+                                    boolean streamingReduce,
+                                    Consumer<Exception> onPartialMergeFailure) {
         super(expectedResultSize);
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
@@ -106,6 +130,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.topNSize = SearchPhaseController.getTopDocsSize(request);
         this.performFinalReduce = request.isFinalReduce();
+        this.streamingReduce = streamingReduce;
         this.onPartialMergeFailure = onPartialMergeFailure;
 
         SearchSourceBuilder source = request.source();
@@ -140,12 +165,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         pendingMerges.sortBuffer();
         final SearchPhaseController.TopDocsStats topDocsStats = pendingMerges.consumeTopDocsStats();
         final List<TopDocs> topDocsList = pendingMerges.consumeTopDocs();
-        final List<InternalAggregations> aggsList = pendingMerges.consumeAggs();
         long breakerSize = pendingMerges.circuitBreakerBytes;
         if (hasAggs) {
             // Add an estimate of the final reduce size
-            breakerSize = pendingMerges.addEstimateAndMaybeBreak(pendingMerges.estimateRamBytesUsedForReduce(breakerSize));
+            breakerSize = pendingMerges.addEstimateAndMaybeBreak(pendingMerges.estimateRamBytesUsedForFinalReduce(breakerSize));
         }
+        final List<InternalAggregations> aggsList = pendingMerges.consumeAggs();
         SearchPhaseController.ReducedQueryPhase reducePhase = controller.reducedQueryPhase(results.asList(), aggsList,
             topDocsList, topDocsStats, pendingMerges.numReducePhases, false, aggReduceContextBuilder, performFinalReduce);
         if (hasAggs) {
@@ -192,14 +217,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
         final InternalAggregations newAggs;
         if (hasAggs) {
-            List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastMerge != null) {
-                aggsList.add(lastMerge.reducedAggs);
-            }
-            for (QuerySearchResult result : toConsume) {
-                aggsList.add(result.consumeAggs().expand());
+            if (streamingReduce) {
+                newAggs = reduceAggsIncrementally(lastMerge != null ? lastMerge.reducedAggs : null, Arrays.asList(toConsume));
+            } else {
+                List<InternalAggregations> aggsList = new ArrayList<>();
+                if (lastMerge != null) {
+                    aggsList.add(lastMerge.reducedAggs);
+                }
+                for (QuerySearchResult result : toConsume) {
+                    aggsList.add(result.consumeAggs().expand());
+                }
+                newAggs = InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
             }
-            newAggs = InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
         } else {
             newAggs = null;
         }
@@ -218,6 +247,24 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         return new MergeResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
     }
 
+    /**
+     * Partially reduces the aggregations of the provided shard results into <code>reduced</code>, one shard result
+     * at a time. Each result is deserialized only when it is merged and can be collected right after, so the heap
+     * holds the running reduction and a single deserialized shard result instead of all the results to reduce.
+     */
+    private InternalAggregations reduceAggsIncrementally(InternalAggregations reduced, List<QuerySearchResult> results) {
+        final InternalAggregation.ReduceContext reduceContext = aggReduceContextBuilder.forPartialReduction();
+        for (QuerySearchResult result : results) {
+            InternalAggregations shardAggs = result.consumeAggs().expand();
+            if (reduced == null) {
+                reduced = shardAggs;
+            } else {
+                reduced = InternalAggregations.topLevelReduce(Arrays.asList(reduced, shardAggs), reduceContext);
+            }
+        }
+        return reduced;
+    }
+
     public int getNumReducePhases() {
         return pendingMerges.numReducePhases;
     }
@@ -230,6 +277,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long circuitBreakerBytes;
         // the memory that is currently used in the buffer
         private volatile long aggsCurrentBufferSize;
+        // the size of the largest aggregation result that is currently in the buffer
+        private volatile long aggsMaxResultSize;
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<MergeTask> queue = new ArrayDeque<>();
@@ -315,6 +364,31 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return Math.round(1.5d * size - size);
         }
 
+        /**
+         * Returns an estimation of the size that a partial reduce of the given task would take on memory.
+         * A streaming reduce only deserializes one shard result at a time so the estimation is based on the
+         * size of the previous reduction and of the largest result to merge.
+         */
+        long estimateRamBytesUsedForPartialReduce(MergeResult lastMerge, MergeTask task) {
+            long lastMergeSize = lastMerge != null ? lastMerge.estimatedSize : 0;
+            if (streamingReduce) {
+                return estimateRamBytesUsedForReduce(lastMergeSize + task.aggsMaxResultSize);
+            }
+            return estimateRamBytesUsedForReduce(lastMergeSize + task.aggsBufferSize);
+        }
+
+        /**
+         * Returns an estimation of the size that the final reduce would take on memory given the
+         * memory that is currently accounted for this consumer.
+         */
+        synchronized long estimateRamBytesUsedForFinalReduce(long size) {
+            if (streamingReduce) {
+                long lastMergeSize = mergeResult != null ? mergeResult.estimatedSize : 0;
+                return estimateRamBytesUsedForReduce(lastMergeSize + aggsMaxResultSize);
+            }
+            return estimateRamBytesUsedForReduce(size);
+        }
+
         public void consume(QuerySearchResult result, Runnable next) {
             boolean executeNextImmediately = true;
             synchronized (this) {
@@ -331,8 +405,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         hasPartialReduce = true;
                         executeNextImmediately = false;
                         QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
-                        MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), next);
+                        MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, aggsMaxResultSize,
+                            new ArrayList<>(emptyResults), next);
                         aggsCurrentBufferSize = 0;
+                        aggsMaxResultSize = 0;
                         buffer.clear();
                         emptyResults.clear();
                         queue.add(task);
@@ -342,6 +418,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long aggsSize = ramBytesUsedQueryResult(result);
                         addWithoutBreaking(aggsSize);
                         aggsCurrentBufferSize += aggsSize;
+                        aggsMaxResultSize = Math.max(aggsMaxResultSize, aggsSize);
                     }
                     buffer.add(result);
                 }
@@ -420,7 +497,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         if (toConsume == null) {
                             return;
                         }
-                        long estimatedMergeSize = estimateRamBytesUsedForReduce(estimatedTotalSize);
+                        long estimatedMergeSize = estimateRamBytesUsedForPartialReduce(thisMergeResult, task);
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
                         ++ numReducePhases;
@@ -467,6 +544,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             if (hasAggs == false) {
                 return Collections.emptyList();
             }
+            if (streamingReduce) {
+                InternalAggregations reduced = reduceAggsIncrementally(mergeResult != null ? mergeResult.reducedAggs : null, buffer);
+                return reduced == null ? Collections.emptyList() : Collections.singletonList(reduced);
+            }
             List<InternalAggregations> aggsList = new ArrayList<>();
             if (mergeResult != null) {
                 aggsList.add(mergeResult.reducedAggs);
@@ -497,11 +578,14 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private final List<SearchShard> emptyResults;
         private QuerySearchResult[] buffer;
         private long aggsBufferSize;
+        private long aggsMaxResultSize;
         private Runnable next;
 
-        private MergeTask(QuerySearchResult[] buffer, long aggsBufferSize, List<SearchShard> emptyResults, Runnable next) {
+        private MergeTask(QuerySearchResult[] buffer, long aggsBufferSize, long aggsMaxResultSize,
+                          List<SearchShard> emptyResults, Runnable next) {
             this.buffer = buffer;
             this.aggsBufferSize = aggsBufferSize;
+            this.aggsMaxResultSize = aggsMaxResultSize;
             this.emptyResults = emptyResults;
             this.next = next;
         }
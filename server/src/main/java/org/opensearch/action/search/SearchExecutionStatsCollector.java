@@ -35,6 +35,7 @@ package org.opensearch.action.search;
 import org.opensearch.action.ActionListener;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.transport.Transport;
 
@@ -43,8 +44,8 @@ import java.util.function.BiFunction;
 
 /**
  * A wrapper of search action listeners (search results) that unwraps the query
- * result to get the piggybacked queue size and service time EWMA, adding those
- * values to the coordinating nodes' {@link ResponseCollectorService}.
+ * or fetch result to get the piggybacked queue size and service time EWMA, adding
+ * those values to the coordinating nodes' {@link ResponseCollectorService}.
  */
 public final class SearchExecutionStatsCollector implements ActionListener<SearchPhaseResult> {
 
@@ -69,9 +70,10 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
     @Override
     public void onResponse(SearchPhaseResult response) {
         QuerySearchResult queryResult = response.queryResult();
-        if (nodeId != null && queryResult != null) {
-            final long serviceTimeEWMA = queryResult.serviceTimeEWMA();
-            final int queueSize = queryResult.nodeQueueSize();
+        FetchSearchResult fetchResult = response.fetchResult();
+        if (nodeId != null && (queryResult != null || fetchResult != null)) {
+            final long serviceTimeEWMA = queryResult != null ? queryResult.serviceTimeEWMA() : fetchResult.serviceTimeEWMA();
+            final int queueSize = queryResult != null ? queryResult.nodeQueueSize() : fetchResult.nodeQueueSize();
             final long responseDuration = System.nanoTime() - startNanos;
             // EWMA/queue size may be -1 if the query node doesn't support capturing it
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
@@ -185,8 +185,9 @@ public class SearchTransportService {
 
     private void sendExecuteFetch(Transport.Connection connection, String action, final ShardFetchRequest request, SearchTask task,
                                   final SearchActionListener<FetchSearchResult> listener) {
+        final ActionListener handler = responseWrapper.apply(connection, listener);
         transportService.sendChildRequest(connection, action, request, task,
-                new ConnectionCountingHandler<>(listener, FetchSearchResult::new, clientConnections, connection.getNode().getId()));
+                new ConnectionCountingHandler<>(handler, FetchSearchResult::new, clientConnections, connection.getNode().getId()));
     }
 
     /**
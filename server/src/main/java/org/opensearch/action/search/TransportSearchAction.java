@@ -121,6 +121,13 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether the coordinating node merges the aggregations of shard results one at a time rather than per batch of
+     * {@link SearchRequest#getBatchedReduceSize()} results, trading reduce time for a lower memory footprint.
+     */
+    public static final Setting<Boolean> STREAMING_REDUCE_SETTING = Setting.boolSetting(
+            "action.search.streaming_reduce.enabled", false, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -815,7 +822,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             }, clusters);
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
-                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), exc -> cancelTask(task, exc));
+                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(),
+                clusterService.getClusterSettings().get(STREAMING_REDUCE_SETTING), exc -> cancelTask(task, exc));
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
@@ -146,6 +146,29 @@ public abstract class TransportSingleShardAction<Request extends SingleShardRequ
     @Nullable
     protected abstract ShardsIterator shards(ClusterState state, InternalRequest request);
 
+    /**
+     * Called on the coordinating node before the request is sent to the given shard copy. Every call is followed by a call to either
+     * {@link #onShardResponse} or {@link #onShardFailure} for the same shard copy, which lets actions that rank shard copies count the
+     * requests that are outstanding on each node.
+     */
+    protected void onShardRequest(ShardRouting shardRouting) {
+    }
+
+    /**
+     * Called on the coordinating node when the given shard copy successfully executed the operation, with the time in nanoseconds
+     * between sending the request and receiving the response. Actions that rank shard copies by their responsiveness use this to
+     * collect statistics about the nodes.
+     */
+    protected void onShardResponse(ShardRouting shardRouting, long responseTimeNanos) {
+    }
+
+    /**
+     * Called on the coordinating node when the request that was sent to the given shard copy failed, before it is retried on the next
+     * shard copy.
+     */
+    protected void onShardFailure(ShardRouting shardRouting) {
+    }
+
     class AsyncSingleAction {
 
         private final ActionListener<Response> listener;
@@ -256,6 +279,8 @@ public abstract class TransportSingleShardAction<Request extends SingleShardRequ
                     );
                 }
                 final Writeable.Reader<Response> reader = getResponseReader();
+                onShardRequest(shardRouting);
+                final long startNanos = System.nanoTime();
                 transportService.sendRequest(node, transportShardAction, internalRequest.request(),
                     new TransportResponseHandler<Response>() {
 
@@ -271,11 +296,13 @@ public abstract class TransportSingleShardAction<Request extends SingleShardRequ
 
                         @Override
                         public void handleResponse(final Response response) {
+                            onShardResponse(shardRouting, System.nanoTime() - startNanos);
                             listener.onResponse(response);
                         }
 
                         @Override
                         public void handleException(TransportException exp) {
+                            onShardFailure(shardRouting);
                             onFailure(shardRouting, exp);
                         }
                 });
@@ -42,6 +42,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -74,6 +77,12 @@ import java.util.function.ToLongBiFunction;
  * <li>Locks on the list could be taken per node being modified instead of globally.</li>
  * </ol>
  * <p>
+ * Caches that are read much more often than they are written to (see {@link CacheBuilder#setBufferedPromotions(boolean)}) record
+ * promotions of cache hits into small, lossy, per-segment recency buffers instead of taking the LRU lock on every hit. The buffers
+ * are drained into the LRU list by whichever thread next acquires the LRU lock, and a hit only tries to acquire the lock without
+ * waiting for it once enough promotions are buffered. Promotions are dropped when a buffer is full, so that the LRU order becomes
+ * approximate under contention.
+ * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
  *
@@ -110,6 +119,18 @@ public class Cache<K, V> {
     private RemovalListener<K, V> removalListener = notification -> {
     };
 
+    // the per-segment buffers of promotions that were not yet applied to the LRU list, null if promotions are not buffered
+    private RecencyBuffer<K, V>[] recencyBuffers;
+
+    // an upper bound of the number of promotions in the recency buffers, so that they are only scanned if they hold any
+    private final AtomicInteger bufferedPromotions = new AtomicInteger();
+
+    // the number of times a promotion found the LRU lock held by another thread
+    private final LongAdder lruLockContention = new LongAdder();
+
+    // the number of buffered promotions that were dropped because the recency buffer was full
+    private final LongAdder droppedPromotions = new LongAdder();
+
     // use CacheBuilder to construct
     Cache() {
     }
@@ -157,6 +178,24 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    @SuppressWarnings("unchecked")
+    void setBufferedPromotions(boolean bufferedPromotions) {
+        if (bufferedPromotions) {
+            RecencyBuffer<K, V>[] buffers = new RecencyBuffer[NUMBER_OF_SEGMENTS];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = new RecencyBuffer<>();
+            }
+            this.recencyBuffers = buffers;
+        } else {
+            this.recencyBuffers = null;
+        }
+    }
+
+    // pkg-private for testing
+    boolean hasBufferedPromotions() {
+        return recencyBuffers != null;
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -180,7 +219,8 @@ public class Cache<K, V> {
         volatile long accessTime;
         Entry<K, V> before;
         Entry<K, V> after;
-        State state = State.NEW;
+        // volatile since buffered promotions read it without holding the LRU lock
+        volatile State state = State.NEW;
 
         Entry(K key, V value, long writeTime) {
             this.key = key;
@@ -348,6 +388,67 @@ public class Cache<K, V> {
         }
     }
 
+    /**
+     * A bounded, lossy, multiple-producer single-consumer ring buffer of entries that were hit but not yet promoted in the LRU list.
+     * Producers claim a slot with a single CAS and give up if the buffer is full or if they lose the race for the slot. The buffer is
+     * only drained while holding the LRU lock.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    static final class RecencyBuffer<K, V> {
+        static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<Entry<K, V>> entries = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCount = new AtomicLong();
+        private volatile long readCount;
+
+        /**
+         * add an entry to the buffer
+         *
+         * @param entry the entry that was hit
+         * @return true if the entry was added, false if the buffer was full or contended
+         */
+        boolean offer(Entry<K, V> entry) {
+            final long head = readCount;
+            final long tail = writeCount.get();
+            if (tail - head >= SIZE) {
+                return false;
+            }
+            if (writeCount.compareAndSet(tail, tail + 1)) {
+                entries.lazySet((int) (tail & MASK), entry);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * apply the given consumer to the buffered entries in the order they were added, must be called while holding the LRU lock
+         *
+         * @param consumer the consumer of the buffered entries
+         * @return the number of drained entries
+         */
+        int drain(Consumer<Entry<K, V>> consumer) {
+            final long start = readCount;
+            long head = start;
+            final long tail = writeCount.get();
+            while (head < tail) {
+                final int index = (int) (head & MASK);
+                final Entry<K, V> entry = entries.get(index);
+                if (entry == null) {
+                    // the slot was claimed by a producer that did not publish its entry yet
+                    break;
+                }
+                entries.lazySet(index, null);
+                consumer.accept(entry);
+                head++;
+            }
+            readCount = head;
+            return (int) (head - start);
+        }
+    }
+
     public static final int NUMBER_OF_SEGMENTS = 256;
     @SuppressWarnings("unchecked") private final CacheSegment<K, V>[] segments = new CacheSegment[NUMBER_OF_SEGMENTS];
 
@@ -379,7 +480,11 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            promote(entry, now);
+            if (recencyBuffers != null && entry.state == State.EXISTING) {
+                promoteBuffered(entry, now);
+            } else {
+                promote(entry, now);
+            }
             return entry.value;
         }
     }
@@ -561,6 +666,8 @@ public class Cache<K, V> {
                     current.state = State.DELETED;
                     current = current.after;
                 }
+                // all buffered entries are deleted now, draining only releases them
+                drainRecencyBuffers();
                 head = tail = null;
                 count = 0;
                 weight = 0;
@@ -584,6 +691,7 @@ public class Cache<K, V> {
     public void refresh() {
         long now = now();
         try (ReleasableLock ignored = lruLock.acquire()) {
+            drainRecencyBuffers();
             evict(now);
         }
     }
@@ -698,8 +806,8 @@ public class Cache<K, V> {
     }
 
     /**
-     * The cache statistics tracking hits, misses and evictions. These are taken on a best-effort basis meaning that
-     * they could be out-of-date mid-flight.
+     * The cache statistics tracking hits, misses, evictions and contention on the LRU list. These are taken on a best-effort
+     * basis meaning that they could be out-of-date mid-flight.
      *
      * @return the current cache statistics
      */
@@ -712,18 +820,26 @@ public class Cache<K, V> {
             misses += segments[i].segmentStats.misses.longValue();
             evictions += segments[i].segmentStats.evictions.longValue();
         }
-        return new CacheStats(hits, misses, evictions);
+        return new CacheStats(hits, misses, evictions, lruLockContention.longValue(), droppedPromotions.longValue());
     }
 
     public static class CacheStats {
         private long hits;
         private long misses;
         private long evictions;
+        private long lruLockContention;
+        private long droppedPromotions;
 
         public CacheStats(long hits, long misses, long evictions) {
+            this(hits, misses, evictions, 0, 0);
+        }
+
+        public CacheStats(long hits, long misses, long evictions, long lruLockContention, long droppedPromotions) {
             this.hits = hits;
             this.misses = misses;
             this.evictions = evictions;
+            this.lruLockContention = lruLockContention;
+            this.droppedPromotions = droppedPromotions;
         }
 
         public long getHits() {
@@ -737,11 +853,40 @@ public class Cache<K, V> {
         public long getEvictions() {
             return evictions;
         }
+
+        /**
+         * The ratio of lookups that were hits, or {@code 0} if there were no lookups.
+         */
+        public double getHitRatio() {
+            final long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        /**
+         * The number of times a promotion of an entry found the LRU lock held by another thread.
+         */
+        public long getLruLockContention() {
+            return lruLockContention;
+        }
+
+        /**
+         * The number of promotions of cache hits that were dropped because the recency buffer of their segment was full.
+         */
+        public long getDroppedPromotions() {
+            return droppedPromotions;
+        }
     }
 
     private boolean promote(Entry<K, V> entry, long now) {
         boolean promoted = true;
-        try (ReleasableLock ignored = lruLock.acquire()) {
+        ReleasableLock lock = lruLock.tryAcquire();
+        if (lock == null) {
+            lruLockContention.increment();
+            lock = lruLock.acquire();
+        }
+        try (ReleasableLock ignored = lock) {
+            // promotions that were buffered before this one happened earlier
+            drainRecencyBuffers();
             switch (entry.state) {
                 case DELETED:
                     promoted = false;
@@ -760,6 +905,51 @@ public class Cache<K, V> {
         return promoted;
     }
 
+    private void promoteBuffered(Entry<K, V> entry, long now) {
+        // counted before the entry is offered so that the count is never lower than the number of buffered entries
+        final int buffered = bufferedPromotions.incrementAndGet();
+        if (recencyBuffers[segmentIndex(entry.key)].offer(entry) == false) {
+            bufferedPromotions.decrementAndGet();
+            droppedPromotions.increment();
+        }
+        // half a buffer can't overflow, so single threaded hits never drop promotions
+        if (buffered < RecencyBuffer.SIZE / 2) {
+            return;
+        }
+        // never wait for the LRU lock on a hit, the thread holding it or the next one that acquires it drains the buffer
+        final ReleasableLock lock = lruLock.tryAcquire();
+        if (lock == null) {
+            lruLockContention.increment();
+            return;
+        }
+        try (ReleasableLock ignored = lock) {
+            drainRecencyBuffers();
+            evict(now);
+        }
+    }
+
+    private void drainRecencyBuffers() {
+        assert lruLock.isHeldByCurrentThread();
+
+        if (recencyBuffers != null && bufferedPromotions.get() > 0) {
+            for (RecencyBuffer<K, V> buffer : recencyBuffers) {
+                final int drained = buffer.drain(this::applyBufferedPromotion);
+                if (drained > 0) {
+                    bufferedPromotions.addAndGet(-drained);
+                }
+            }
+        }
+    }
+
+    private void applyBufferedPromotion(Entry<K, V> entry) {
+        assert lruLock.isHeldByCurrentThread();
+
+        // entries can be deleted or replaced after they were buffered, only entries that are still linked are promoted
+        if (entry.state == State.EXISTING) {
+            relinkAtHead(entry);
+        }
+    }
+
     private void evict(long now) {
         assert lruLock.isHeldByCurrentThread();
 
@@ -869,6 +1059,10 @@ public class Cache<K, V> {
     }
 
     private CacheSegment<K, V> getCacheSegment(K key) {
-        return segments[key.hashCode() & 0xff];
+        return segments[segmentIndex(key)];
+    }
+
+    private static int segmentIndex(Object key) {
+        return key.hashCode() & 0xff;
     }
 }
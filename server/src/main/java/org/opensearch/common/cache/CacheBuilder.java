@@ -43,6 +43,7 @@ public class CacheBuilder<K, V> {
     private long expireAfterWriteNanos = -1;
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
+    private boolean bufferedPromotions = false;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -103,6 +104,18 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets whether promotions of cache hits are buffered and applied to the LRU list in batches instead of acquiring the LRU lock on
+     * every hit. This reduces contention for caches that are read concurrently by many threads at the cost of an approximate LRU
+     * order, since promotions are dropped when the buffers are full.
+     *
+     * @param bufferedPromotions whether promotions of cache hits are buffered
+     */
+    public CacheBuilder<K, V> setBufferedPromotions(boolean bufferedPromotions) {
+        this.bufferedPromotions = bufferedPromotions;
+        return this;
+    }
+
     public Cache<K, V> build() {
         Cache<K, V> cache = new Cache<>();
         if (maximumWeight != -1) {
@@ -120,6 +133,9 @@ public class CacheBuilder<K, V> {
         if (removalListener != null) {
             cache.setRemovalListener(removalListener);
         }
+        if (bufferedPromotions) {
+            cache.setBufferedPromotions(true);
+        }
         return cache;
     }
 }
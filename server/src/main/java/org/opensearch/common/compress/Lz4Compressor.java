@@ -0,0 +1,325 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 compression algorithm. It trades compression ratio for speed and is meant for
+ * transport messages rather than for data at rest.
+ * <p>
+ * The compressed format is a header followed by a sequence of blocks. Each block starts with its decompressed length and its
+ * compressed length as big-endian integers, followed by the LZ4 compressed bytes. A block with a decompressed length of {@code 0}
+ * marks the end of the stream.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams, see DeflateCompressor
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+    // The maximum number of decompressed bytes per block
+    public static final int BLOCK_SIZE = 64 * 1024;
+    // The length of the decompressed and compressed lengths that start each block
+    public static final int BLOCK_HEADER_LENGTH = 8;
+    // LZ4 may expand incompressible data a little
+    public static final int MAX_COMPRESSED_BLOCK_SIZE = BLOCK_SIZE + BLOCK_SIZE / 255 + 16;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    // Reusable buffers for streaming compression, compressing streams are not nested in practice
+    private static final ThreadLocal<Buffers> buffersRef = ThreadLocal.withInitial(Buffers::new);
+
+    private static final class Buffers {
+        final byte[] block = new byte[BLOCK_SIZE];
+        final byte[] compressed = new byte[MAX_COMPRESSED_BLOCK_SIZE];
+        final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        boolean inUse;
+    }
+
+    private static Buffers acquireBuffers() {
+        final Buffers current = buffersRef.get();
+        if (current.inUse) {
+            // Nested streams should not happen but we still handle them safely by using fresh buffers
+            return new Buffers();
+        }
+        current.inUse = true;
+        return current;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new BlockInputStream(in, acquireBuffers());
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new BlockOutputStream(out, acquireBuffers());
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput();
+        try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            final byte[] bytes = new byte[BLOCK_SIZE];
+            int read;
+            while ((read = in.read(bytes)) != -1) {
+                buffer.write(bytes, 0, read);
+            }
+        }
+        return buffer.bytes();
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput();
+        try (OutputStream out = threadLocalOutputStream(buffer)) {
+            bytesReference.writeTo(out);
+        }
+        return buffer.bytes();
+    }
+
+    /**
+     * Decompresses the given LZ4 block into the provided destination, which must be able to hold the decompressed bytes.
+     */
+    public static void decompressBlock(byte[] compressed, int offset, int compressedLength, byte[] dest, int decompressedLength)
+        throws IOException {
+        final int end = LZ4.decompress(new ByteArrayDataInput(compressed, offset, compressedLength), decompressedLength, dest, 0);
+        if (end != decompressedLength) {
+            throw new IOException("Expected [" + decompressedLength + "] decompressed bytes but got [" + end + "]");
+        }
+    }
+
+    /**
+     * Checks the lengths that were read from the header of a block and returns whether this block marks the end of the stream.
+     */
+    public static boolean validateBlockHeader(int decompressedLength, int compressedLength) throws IOException {
+        if (decompressedLength == 0 && compressedLength == 0) {
+            return true;
+        }
+        if (decompressedLength <= 0 || decompressedLength > BLOCK_SIZE
+            || compressedLength <= 0 || compressedLength > MAX_COMPRESSED_BLOCK_SIZE) {
+            throw new IOException("Corrupt LZ4 block header, decompressed length [" + decompressedLength + "], compressed length ["
+                + compressedLength + "]");
+        }
+        return false;
+    }
+
+    private static final class BlockOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final Buffers buffers;
+        private int position;
+        private boolean closed;
+
+        private BlockOutputStream(OutputStream out, Buffers buffers) {
+            this.out = out;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (position == BLOCK_SIZE) {
+                flushBlock();
+            }
+            buffers.block[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (position == BLOCK_SIZE) {
+                    flushBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - position);
+                System.arraycopy(b, off, buffers.block, position, toCopy);
+                position += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBlock();
+            out.flush();
+        }
+
+        private void flushBlock() throws IOException {
+            if (position == 0) {
+                return;
+            }
+            final ByteArrayDataOutput compressed = new ByteArrayDataOutput(buffers.compressed);
+            LZ4.compress(buffers.block, 0, position, compressed, buffers.hashTable);
+            writeBlockHeader(position, compressed.getPosition());
+            out.write(buffers.compressed, 0, compressed.getPosition());
+            position = 0;
+        }
+
+        private void writeBlockHeader(int decompressedLength, int compressedLength) throws IOException {
+            writeInt(decompressedLength);
+            writeInt(compressedLength);
+        }
+
+        private void writeInt(int i) throws IOException {
+            out.write(i >>> 24);
+            out.write(i >>> 16);
+            out.write(i >>> 8);
+            out.write(i);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flushBlock();
+                writeBlockHeader(0, 0);
+                out.close();
+            } finally {
+                buffers.inUse = false;
+            }
+        }
+    }
+
+    private static final class BlockInputStream extends InputStream {
+
+        private final InputStream in;
+        private final Buffers buffers;
+        private int position;
+        private int limit;
+        private boolean eos;
+        private boolean closed;
+
+        private BlockInputStream(InputStream in, Buffers buffers) {
+            this.in = in;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return buffers.block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, limit - position);
+            System.arraycopy(buffers.block, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position == limit) {
+                if (eos) {
+                    return false;
+                }
+                final int decompressedLength = readInt();
+                final int compressedLength = readInt();
+                if (validateBlockHeader(decompressedLength, compressedLength)) {
+                    eos = true;
+                    return false;
+                }
+                readFully(buffers.compressed, compressedLength);
+                decompressBlock(buffers.compressed, 0, compressedLength, buffers.block, decompressedLength);
+                position = 0;
+                limit = decompressedLength;
+            }
+            return true;
+        }
+
+        private int readInt() throws IOException {
+            final int b1 = in.read();
+            final int b2 = in.read();
+            final int b3 = in.read();
+            final int b4 = in.read();
+            if ((b1 | b2 | b3 | b4) < 0) {
+                throw new EOFException("Unexpected end of LZ4 stream");
+            }
+            return (b1 << 24) | (b2 << 16) | (b3 << 8) | b4;
+        }
+
+        private void readFully(byte[] b, int len) throws IOException {
+            int read = 0;
+            while (read < len) {
+                final int r = in.read(b, read, len - read);
+                if (r == -1) {
+                    throw new EOFException("Unexpected end of LZ4 stream");
+                }
+                read += r;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                in.close();
+            } finally {
+                buffers.inUse = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values with exponentially growing buckets. Bucket {@code 0} counts the value {@code 0} and bucket
+ * {@code i} counts the values in {@code [2^(i-1), 2^i)}, except for the last bucket which also counts all larger values.
+ */
+public class HistogramMetric implements Metric {
+
+    private final LongAdder[] buckets;
+    private final MeanMetric mean = new MeanMetric();
+
+    public HistogramMetric(int numBuckets) {
+        if (numBuckets < 1 || numBuckets > 64) {
+            throw new IllegalArgumentException("the number of buckets must be between 1 and 64 but was [" + numBuckets + "]");
+        }
+        buckets = new LongAdder[numBuckets];
+        for (int i = 0; i < numBuckets; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void inc(long value) {
+        buckets[bucket(value, buckets.length)].increment();
+        mean.inc(value);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long count() {
+        return mean.count();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     */
+    public long sum() {
+        return mean.sum();
+    }
+
+    /**
+     * Returns the number of recorded values per bucket.
+     */
+    public long[] counts() {
+        final long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the exclusive upper bound of the values that are counted in the given bucket, ignoring that the last bucket
+     * also counts larger values.
+     */
+    public static long upperBound(int bucket) {
+        return 1L << bucket;
+    }
+
+    static int bucket(long value, int numBuckets) {
+        if (value <= 0) {
+            return 0;
+        }
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(value), numBuckets - 1);
+    }
+
+    public void clear() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        mean.clear();
+    }
+}
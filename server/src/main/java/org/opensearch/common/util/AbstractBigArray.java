@@ -38,6 +38,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.recycler.Recycler;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /** Common implementation for array lists that slice data into fixed-size blocks. */
@@ -161,6 +162,16 @@ abstract class AbstractBigArray extends AbstractArray {
         }
     }
 
+    protected final ByteBuffer newDirectPage(int page) {
+        assert recycler != null && recycler.hasDirectPages();
+        final Recycler.V<ByteBuffer> v = recycler.directPage(clearOnResize);
+        cache = grow(cache, page + 1);
+        assert cache[page] == null;
+        cache[page] = v;
+        assert v.v().capacity() == PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+        return v.v();
+    }
+
     protected final void releasePage(int page) {
         if (recycler != null) {
             cache[page].close();
@@ -169,7 +180,7 @@ abstract class AbstractBigArray extends AbstractArray {
     }
 
     @Override
-    protected final void doClose() {
+    protected void doClose() {
         if (recycler != null) {
             Releasables.close(cache);
             cache = null;
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Common implementation for big arrays that slice data into fixed-size pages of direct memory, see
+ * {@link PageCacheRecycler#DIRECT_SETTING}. Pages are obtained from and released to the node's
+ * {@link PageCacheRecycler} and are accounted in the circuit breaker exactly like heap pages.
+ */
+abstract class AbstractBigDirectArray extends AbstractBigArray {
+
+    private final int elementShift;
+    protected ByteBuffer[] pages;
+
+    protected AbstractBigDirectArray(long size, int pageSize, BigArrays bigArrays, boolean clearOnResize) {
+        super(pageSize, bigArrays, clearOnResize);
+        assert pageSize * numBytesPerElement() == PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+        this.elementShift = Integer.numberOfTrailingZeros(numBytesPerElement());
+        this.size = size;
+        pages = new ByteBuffer[numPages(size)];
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = newDirectPage(i);
+        }
+    }
+
+    /** Returns the offset in bytes of the element at the given index within its page. */
+    final int offsetInPage(long index) {
+        return indexInPage(index) << elementShift;
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    @Override
+    public final void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            pages = Arrays.copyOf(pages, ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF));
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = newDirectPage(i);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            pages[i] = null;
+            releasePage(i);
+        }
+        this.size = newSize;
+    }
+
+    @Override
+    protected final void doClose() {
+        // the pages may have been freed, accessing them must fail rather than read freed memory
+        pages = null;
+        super.doClose();
+    }
+
+    static void checkFillRange(long fromIndex, long toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex [" + fromIndex + "] must be less than or equal to toIndex [" + toIndex + "]");
+        }
+    }
+}
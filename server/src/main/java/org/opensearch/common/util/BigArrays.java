@@ -379,6 +379,8 @@ public class BigArrays {
     private final boolean checkBreaker;
     private final BigArrays circuitBreakingInstance;
     private final String breakerName;
+    private final boolean directPages;
+    private final BigArrays directPagesInstance;
 
     public BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName) {
         // Checking the breaker is disabled if not specified
@@ -387,14 +389,25 @@ public class BigArrays {
 
     protected BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName,
                         boolean checkBreaker) {
+        this(recycler, breakerService, breakerName, checkBreaker, false);
+    }
+
+    protected BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName,
+                        boolean checkBreaker, boolean directPages) {
         this.checkBreaker = checkBreaker;
         this.recycler = recycler;
         this.breakerService = breakerService;
         this.breakerName = breakerName;
+        this.directPages = directPages && recycler != null && recycler.hasDirectPages();
         if (checkBreaker) {
             this.circuitBreakingInstance = this;
         } else {
-            this.circuitBreakingInstance = new BigArrays(recycler, breakerService, breakerName, true);
+            this.circuitBreakingInstance = new BigArrays(recycler, breakerService, breakerName, true, this.directPages);
+        }
+        if (this.directPages || recycler == null || recycler.hasDirectPages() == false) {
+            this.directPagesInstance = this;
+        } else {
+            this.directPagesInstance = new BigArrays(recycler, breakerService, breakerName, checkBreaker, true);
         }
     }
 
@@ -443,6 +456,16 @@ public class BigArrays {
         return this.circuitBreakingInstance;
     }
 
+    /**
+     * Return an instance of this BigArrays class that allocates the pages of big primitive arrays in
+     * direct memory if the recycler has direct pages enabled, see {@link PageCacheRecycler#DIRECT_SETTING}.
+     * Direct arrays are accounted in the circuit breaker like heap arrays but they do not put pressure
+     * on the garbage collector, which suits large short-lived structures such as aggregation hash tables.
+     */
+    public BigArrays withDirectPages() {
+        return this.directPagesInstance;
+    }
+
     public CircuitBreakerService breakerService() {
         return this.circuitBreakingInstance.breakerService;
     }
@@ -482,6 +505,9 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigByteArray.estimateRamBytes(size), false);
+            if (directPages) {
+                return new BigDirectByteArray(size, this, clearOnResize);
+            }
             return new BigByteArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.BYTE_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<byte[]> page = recycler.bytePage(clearOnResize);
@@ -503,6 +529,8 @@ public class BigArrays {
     public ByteArray resize(ByteArray array, long size) {
         if (array instanceof BigByteArray) {
             return resizeInPlace((BigByteArray) array, size);
+        } else if (array instanceof BigDirectByteArray) {
+            return resizeInPlace((BigDirectByteArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final ByteArray newArray = newByteArray(size, arr.clearOnResize);
@@ -566,6 +594,9 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigIntArray.estimateRamBytes(size), false);
+            if (directPages) {
+                return new BigDirectIntArray(size, this, clearOnResize);
+            }
             return new BigIntArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.INT_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<int[]> page = recycler.intPage(clearOnResize);
@@ -587,6 +618,8 @@ public class BigArrays {
     public IntArray resize(IntArray array, long size) {
         if (array instanceof BigIntArray) {
             return resizeInPlace((BigIntArray) array, size);
+        } else if (array instanceof BigDirectIntArray) {
+            return resizeInPlace((BigDirectIntArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final IntArray newArray = newIntArray(size, arr.clearOnResize);
@@ -618,6 +651,9 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigLongArray.estimateRamBytes(size), false);
+            if (directPages) {
+                return new BigDirectLongArray(size, this, clearOnResize);
+            }
             return new BigLongArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<long[]> page = recycler.longPage(clearOnResize);
@@ -639,6 +675,8 @@ public class BigArrays {
     public LongArray resize(LongArray array, long size) {
         if (array instanceof BigLongArray) {
             return resizeInPlace((BigLongArray) array, size);
+        } else if (array instanceof BigDirectLongArray) {
+            return resizeInPlace((BigDirectLongArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final LongArray newArray = newLongArray(size, arr.clearOnResize);
@@ -670,6 +708,9 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigDoubleArray.estimateRamBytes(size), false);
+            if (directPages) {
+                return new BigDirectDoubleArray(size, this, clearOnResize);
+            }
             return new BigDoubleArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<long[]> page = recycler.longPage(clearOnResize);
@@ -688,6 +729,8 @@ public class BigArrays {
     public DoubleArray resize(DoubleArray array, long size) {
         if (array instanceof BigDoubleArray) {
             return resizeInPlace((BigDoubleArray) array, size);
+        } else if (array instanceof BigDirectDoubleArray) {
+            return resizeInPlace((BigDirectDoubleArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final DoubleArray newArray = newDoubleArray(size, arr.clearOnResize);
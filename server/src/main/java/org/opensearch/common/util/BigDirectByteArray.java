@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.BytesRef;
+
+import java.nio.ByteBuffer;
+
+import static org.opensearch.common.util.PageCacheRecycler.BYTE_PAGE_SIZE;
+
+/**
+ * Byte array abstraction able to support more than 2B values. This implementation slices data into fixed-sized
+ * pages of direct memory, so slices are always copied to a new array on the heap when they are read.
+ */
+final class BigDirectByteArray extends AbstractBigDirectArray implements ByteArray {
+
+    /** Constructor. */
+    BigDirectByteArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, BYTE_PAGE_SIZE, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public byte get(long index) {
+        return pages[pageIndex(index)].get(indexInPage(index));
+    }
+
+    @Override
+    public byte set(long index, byte value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int indexInPage = indexInPage(index);
+        final byte ret = page.get(indexInPage);
+        page.put(indexInPage, value);
+        return ret;
+    }
+
+    @Override
+    public boolean get(long index, int len, BytesRef ref) {
+        assert index + len <= size();
+        // the bytes of the ref may still be used by the caller, so they are never written to
+        ref.bytes = new byte[len];
+        ref.offset = 0;
+        ref.length = len;
+        int pageIndex = pageIndex(index);
+        int indexInPage = indexInPage(index);
+        int copied = 0;
+        while (copied < len) {
+            final int copyLength = Math.min(pageSize() - indexInPage, len - copied);
+            // reads go through a duplicate so that they don't move the position of the page, which is shared with concurrent readers
+            final ByteBuffer page = pages[pageIndex].duplicate();
+            page.position(indexInPage);
+            page.get(ref.bytes, copied, copyLength);
+            copied += copyLength;
+            ++pageIndex;
+            indexInPage = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public void set(long index, byte[] buf, int offset, int len) {
+        assert index + len <= size();
+        int pageIndex = pageIndex(index);
+        int indexInPage = indexInPage(index);
+        while (len > 0) {
+            final int copyLength = Math.min(pageSize() - indexInPage, len);
+            final ByteBuffer page = pages[pageIndex];
+            for (int i = 0; i < copyLength; ++i) {
+                page.put(indexInPage + i, buf[offset + i]);
+            }
+            offset += copyLength;
+            len -= copyLength;
+            ++pageIndex;
+            indexInPage = 0;
+        }
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, byte value) {
+        checkFillRange(fromIndex, toIndex);
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].put(indexInPage(i), value);
+        }
+    }
+
+    @Override
+    public boolean hasArray() {
+        return false;
+    }
+
+    @Override
+    public byte[] array() {
+        assert false;
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected int numBytesPerElement() {
+        return 1;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+import static org.opensearch.common.util.PageCacheRecycler.LONG_PAGE_SIZE;
+
+/**
+ * Double array abstraction able to support more than 2B values. This implementation slices data into fixed-sized
+ * pages of direct memory.
+ */
+final class BigDirectDoubleArray extends AbstractBigDirectArray implements DoubleArray {
+
+    /** Constructor. */
+    BigDirectDoubleArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, LONG_PAGE_SIZE, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public double get(long index) {
+        return pages[pageIndex(index)].getDouble(offsetInPage(index));
+    }
+
+    @Override
+    public double set(long index, double value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double ret = page.getDouble(offset);
+        page.putDouble(offset, value);
+        return ret;
+    }
+
+    @Override
+    public double increment(long index, double inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double newValue = page.getDouble(offset) + inc;
+        page.putDouble(offset, newValue);
+        return newValue;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, double value) {
+        checkFillRange(fromIndex, toIndex);
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putDouble(offsetInPage(i), value);
+        }
+    }
+
+    @Override
+    protected int numBytesPerElement() {
+        return Double.BYTES;
+    }
+}
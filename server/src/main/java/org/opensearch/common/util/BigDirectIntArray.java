@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+import static org.opensearch.common.util.PageCacheRecycler.INT_PAGE_SIZE;
+
+/**
+ * Int array abstraction able to support more than 2B values. This implementation slices data into fixed-sized
+ * pages of direct memory.
+ */
+final class BigDirectIntArray extends AbstractBigDirectArray implements IntArray {
+
+    /** Constructor. */
+    BigDirectIntArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, INT_PAGE_SIZE, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public int get(long index) {
+        return pages[pageIndex(index)].getInt(offsetInPage(index));
+    }
+
+    @Override
+    public int set(long index, int value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final int ret = page.getInt(offset);
+        page.putInt(offset, value);
+        return ret;
+    }
+
+    @Override
+    public int increment(long index, int inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final int newValue = page.getInt(offset) + inc;
+        page.putInt(offset, newValue);
+        return newValue;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, int value) {
+        checkFillRange(fromIndex, toIndex);
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putInt(offsetInPage(i), value);
+        }
+    }
+
+    @Override
+    protected int numBytesPerElement() {
+        return Integer.BYTES;
+    }
+}
@@ -38,9 +38,12 @@ import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -65,6 +68,11 @@ public class PageCacheRecycler {
     // object pages are less useful to us so we give them a lower weight by default
     public static final Setting<Double> WEIGHT_OBJECTS_SETTING  =
         Setting.doubleSetting("cache.recycler.page.weight.objects", 0.1d, 0d, Property.NodeScope);
+    // whether big arrays that are used by searches allocate their primitive pages in direct memory rather than on heap
+    public static final Setting<Boolean> DIRECT_SETTING  =
+        Setting.boolSetting("cache.recycler.page.direct", false, Property.NodeScope);
+    public static final Setting<ByteSizeValue> LIMIT_DIRECT_SETTING  =
+        Setting.byteSizeSetting("cache.recycler.page.limit.direct", new ByteSizeValue(512, ByteSizeUnit.MB), Property.NodeScope);
 
     /** Page size in bytes: 16KB */
     public static final int PAGE_SIZE_IN_BYTES = 1 << 14;
@@ -77,6 +85,7 @@ public class PageCacheRecycler {
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final Recycler<ByteBuffer> directPage;
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
@@ -159,6 +168,26 @@ public class PageCacheRecycler {
         });
 
         assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
+
+        // Direct pages can be interpreted as any primitive type so they share a single recycler. Their memory
+        // is not part of the heap so it is limited separately. Pages that do not fit in the recycler are freed
+        // once the garbage collector reclaims their buffer.
+        if (DIRECT_SETTING.get(settings)) {
+            final int maxDirectPageCount = (int) Math.min(Integer.MAX_VALUE,
+                LIMIT_DIRECT_SETTING.get(settings).getBytes() / PAGE_SIZE_IN_BYTES);
+            directPage = build(type, maxDirectPageCount, allocatedProcessors, new AbstractRecyclerC<ByteBuffer>() {
+                @Override
+                public ByteBuffer newInstance() {
+                    return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+                }
+                @Override
+                public void recycle(ByteBuffer value) {
+                    value.clear();
+                }
+            });
+        } else {
+            directPage = null;
+        }
     }
 
     public Recycler.V<byte[]> bytePage(boolean clear) {
@@ -190,6 +219,30 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
+    /**
+     * Whether this recycler can provide direct pages, see {@link #DIRECT_SETTING}.
+     */
+    public boolean hasDirectPages() {
+        return directPage != null;
+    }
+
+    /**
+     * Obtain a page of {@link #PAGE_SIZE_IN_BYTES} bytes that is allocated outside of the heap and uses the native byte order.
+     */
+    public Recycler.V<ByteBuffer> directPage(boolean clear) {
+        if (directPage == null) {
+            throw new IllegalStateException("direct pages are disabled, see [" + DIRECT_SETTING.getKey() + "]");
+        }
+        final Recycler.V<ByteBuffer> v = directPage.obtain();
+        if (v.isRecycled() && clear) {
+            final ByteBuffer page = v.v();
+            for (int i = 0; i < PAGE_SIZE_IN_BYTES; i += Long.BYTES) {
+                page.putLong(i, 0L);
+            }
+        }
+        return v;
+    }
+
     private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
         final Recycler<T> recycler;
         if (limit == 0) {
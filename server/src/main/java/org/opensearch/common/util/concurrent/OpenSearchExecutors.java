@@ -137,6 +137,27 @@ public class OpenSearchExecutors {
             queue, threadFactory, new OpenSearchAbortPolicy(), contextHolder);
     }
 
+    /**
+     * Return a new executor that runs at most {@code concurrency} tasks at a time and rejects tasks once its queue is full,
+     * like {@link #newFixed}. Threads are only started when tasks need them and stop once they have been idle for
+     * {@code keepAlive}, so the number of live threads follows the load rather than the concurrency limit. The executor
+     * tracks the execution time of its tasks like {@link #newAutoQueueFixed} executors do but never resizes its queue.
+     */
+    public static OpenSearchThreadPoolExecutor newBounded(String name, int concurrency, int queueCapacity, TimeValue keepAlive,
+                                                          ThreadFactory threadFactory, ThreadContext contextHolder) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queue capacity for [" + name + "] executor must be positive, got: " + queueCapacity);
+        }
+        ResizableBlockingQueue<Runnable> queue =
+                new ResizableBlockingQueue<>(ConcurrentCollections.<Runnable>newBlockingQueue(), queueCapacity);
+        // the minimum and maximum queue sizes are the same so the queue keeps its capacity whatever the measured throughput
+        OpenSearchThreadPoolExecutor executor = new QueueResizingOpenSearchThreadPoolExecutor(name, concurrency, concurrency,
+                keepAlive.millis(), TimeUnit.MILLISECONDS, queue, queueCapacity, queueCapacity, TimedRunnable::new,
+                2000, TimeValue.timeValueSeconds(1), threadFactory, new OpenSearchAbortPolicy(), contextHolder);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Return a new executor that will automatically adjust the queue size based on queue throughput.
      *
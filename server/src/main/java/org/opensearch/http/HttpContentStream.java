@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+
+/**
+ * The content of an http request that is handed to the handler of the request as it is received, rather than once all of it was
+ * received. The content is delivered in parts, and the next part is only delivered once the consumer asked for it, so that the
+ * connection stops reading while the consumer is busy.
+ */
+public interface HttpContentStream {
+
+    /**
+     * Starts delivering the content to the given consumer. A stream can only be subscribed to once.
+     */
+    void subscribe(ContentConsumer consumer);
+
+    interface ContentConsumer {
+
+        /**
+         * Receives the next part of the content, {@code last} is set on the last part. The part may be backed by the pooled buffers of
+         * the connection, it is owned by the consumer which must release it once neither it nor its slices are used anymore.
+         * {@code requestMore} must be called to receive the next part.
+         */
+        void onContent(ReleasableBytesReference content, boolean last, Runnable requestMore);
+
+        /**
+         * Called instead of {@link #onContent} if the rest of the content can't be received, like when the connection is closed.
+         */
+        void onFailure(Exception e);
+    }
+}
@@ -67,6 +67,15 @@ public interface HttpRequest {
 
     BytesReference content();
 
+    /**
+     * The content of the request if it is streamed to the handler of the request as it is received, in which case {@link #content()}
+     * is empty, or {@code null} if the content was received before the request was dispatched.
+     */
+    @Nullable
+    default HttpContentStream contentStream() {
+        return null;
+    }
+
     /**
      * Get all of the headers and values associated with the headers. Modifications of this map are not supported.
      */
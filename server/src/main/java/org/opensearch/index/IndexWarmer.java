@@ -43,8 +43,10 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -52,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 public final class IndexWarmer {
@@ -139,11 +142,19 @@ public final class IndexWarmer {
                 }
                 warmUpGlobalOrdinals.put(indexName, fieldType);
             }
-            final CountDownLatch latch = new CountDownLatch(warmUpGlobalOrdinals.size());
+            // in the background the reader is exposed to searches right away, which wait for the global ordinals that are being built
+            final boolean background = indexShard.indexSettings().isGlobalOrdinalsBackgroundWarming();
+            final CountDownLatch latch = new CountDownLatch(background ? 0 : warmUpGlobalOrdinals.size());
             for (final MappedFieldType fieldType : warmUpGlobalOrdinals.values()) {
-                executor.execute(() -> {
+                if (background && reader.tryIncRef() == false) {
+                    // the reader has already been closed, there is nothing left to warm
+                    break;
+                }
+                final Runnable warmGlobalOrdinals = () -> {
+                    final ShardIndexWarmerService warmerService = indexShard.warmerService();
+                    warmerService.onPreGlobalOrdinalsWarm();
+                    final long start = System.nanoTime();
                     try {
-                        final long start = System.nanoTime();
                         IndexFieldData.Global<?> ifd = indexFieldDataService.getForField(fieldType,
                             indexFieldDataService.index().getName(),
                             () -> {
@@ -166,11 +177,32 @@ public final class IndexWarmer {
                             .logger()
                             .warn(() -> new ParameterizedMessage("failed to warm-up global ordinals for [{}]", fieldType.name()), e);
                     } finally {
-                        latch.countDown();
+                        warmerService.onPostGlobalOrdinalsWarm(System.nanoTime() - start);
+                        if (background) {
+                            decRef(indexShard, reader);
+                        } else {
+                            latch.countDown();
+                        }
                     }
-                });
+                };
+                try {
+                    executor.execute(warmGlobalOrdinals);
+                } catch (RejectedExecutionException e) {
+                    if (background) {
+                        decRef(indexShard, reader);
+                    }
+                    throw e;
+                }
+            }
+            return background ? TerminationHandle.NO_WAIT : () -> latch.await();
+        }
+
+        private static void decRef(IndexShard indexShard, OpenSearchDirectoryReader reader) {
+            try {
+                reader.decRef();
+            } catch (IOException e) {
+                indexShard.warmerService().logger().warn("failed to release reader after warming global ordinals", e);
             }
-            return () -> latch.await();
         }
     }
 
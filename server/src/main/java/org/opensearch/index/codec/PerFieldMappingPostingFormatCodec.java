@@ -39,9 +39,18 @@ import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.codec.skipindex.SkipIndexDocValuesFormat;
+import org.opensearch.index.codec.startree.StarTreeConfig;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
 import org.opensearch.index.mapper.CompletionFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * {@link PerFieldMappingPostingFormatCodec This postings format} is the default
@@ -50,11 +59,16 @@ import org.opensearch.index.mapper.MapperService;
  * allows users to change the low level postings format for individual fields
  * per index in real time via the mapping API. If no specific postings format is
  * configured for a specific field the default postings format is used.
+ * Doc values are written with a {@link StarTreeDocValuesFormat} if the index
+ * configures a star tree, and with a {@link SkipIndexDocValuesFormat} for the
+ * numeric fields that have a skip index and are not part of the star tree.
  */
 public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     private final Logger logger;
     private final MapperService mapperService;
-    private final DocValuesFormat dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    private final DocValuesFormat dvFormat;
+    private final DocValuesFormat skipIndexFormat = new SkipIndexDocValuesFormat();
+    private final Set<String> starTreeFields;
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class) :
@@ -65,6 +79,17 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
         super(compressionMode);
         this.mapperService = mapperService;
         this.logger = logger;
+        if (StarTreeConfig.isEnabled(mapperService.getIndexSettings().getSettings())) {
+            final Settings settings = mapperService.getIndexSettings().getSettings();
+            this.dvFormat = new StarTreeDocValuesFormat(() -> StarTreeConfig.resolve(mapperService));
+            this.starTreeFields = new HashSet<>();
+            starTreeFields.add(StarTreeConfig.INDEX_STAR_TREE_DATE_FIELD_SETTING.get(settings));
+            starTreeFields.addAll(StarTreeConfig.INDEX_STAR_TREE_DIMENSIONS_SETTING.get(settings));
+            starTreeFields.addAll(StarTreeConfig.INDEX_STAR_TREE_METRICS_SETTING.get(settings));
+        } else {
+            this.dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+            this.starTreeFields = Collections.emptySet();
+        }
     }
 
     @Override
@@ -80,6 +105,12 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
 
     @Override
     public DocValuesFormat getDocValuesFormatForField(String field) {
+        final MappedFieldType fieldType = mapperService.fieldType(field);
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType
+            && ((NumberFieldMapper.NumberFieldType) fieldType).hasSkipIndex()
+            && starTreeFields.contains(field) == false) {
+            return skipIndexFormat;
+        }
         return dvFormat;
     }
 }
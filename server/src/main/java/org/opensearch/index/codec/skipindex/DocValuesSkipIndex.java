@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.skipindex;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The minimum and maximum doc values of a numeric field per block of consecutive documents of a segment, and the number of
+ * documents of every block that have a value. Queries can skip the blocks whose values can't match without reading their doc
+ * values, and match the documents of the blocks whose values all match without checking them.
+ */
+public final class DocValuesSkipIndex implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(DocValuesSkipIndex.class);
+
+    /**
+     * The log2 of the number of documents per block.
+     */
+    static final int BLOCK_SHIFT = 12;
+
+    private final int blockShift;
+    private final int maxDoc;
+    private final long[] minValues;
+    private final long[] maxValues;
+    private final int[] docCounts;
+
+    DocValuesSkipIndex(int blockShift, int maxDoc, long[] minValues, long[] maxValues, int[] docCounts) {
+        this.blockShift = blockShift;
+        this.maxDoc = maxDoc;
+        this.minValues = minValues;
+        this.maxValues = maxValues;
+        this.docCounts = docCounts;
+    }
+
+    /**
+     * Returns the skip index of the given field of a segment, or {@code null} if the field has none in that segment.
+     */
+    @Nullable
+    public static DocValuesSkipIndex get(LeafReader reader, String field) throws IOException {
+        final SortedNumericDocValues values = reader.getSortedNumericDocValues(field);
+        return values == null ? null : get(values);
+    }
+
+    /**
+     * Returns the skip index of the field of the given doc values, or {@code null} if the field has none in their segment.
+     */
+    @Nullable
+    public static DocValuesSkipIndex get(SortedNumericDocValues values) {
+        final NumericDocValues singleton = DocValues.unwrapSingleton(values);
+        if (singleton instanceof SkipIndexDocValuesProducer.SkipIndexNumericDocValues) {
+            return ((SkipIndexDocValuesProducer.SkipIndexNumericDocValues) singleton).skipIndex();
+        }
+        if (values instanceof SkipIndexDocValuesProducer.SkipIndexSortedNumericDocValues) {
+            return ((SkipIndexDocValuesProducer.SkipIndexSortedNumericDocValues) values).skipIndex();
+        }
+        return null;
+    }
+
+    /**
+     * Builds the skip index of the given doc values of a segment with {@code maxDoc} documents.
+     */
+    static DocValuesSkipIndex build(SortedNumericDocValues values, int maxDoc, int blockShift) throws IOException {
+        final int numBlocks = (int) ((maxDoc + (1L << blockShift) - 1) >>> blockShift);
+        final long[] minValues = new long[numBlocks];
+        final long[] maxValues = new long[numBlocks];
+        final int[] docCounts = new int[numBlocks];
+        Arrays.fill(minValues, Long.MAX_VALUE);
+        Arrays.fill(maxValues, Long.MIN_VALUE);
+        for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+            final int block = doc >>> blockShift;
+            final int count = values.docValueCount();
+            // values are sorted within a document
+            final long min = values.nextValue();
+            long max = min;
+            for (int i = 1; i < count; i++) {
+                max = values.nextValue();
+            }
+            minValues[block] = Math.min(minValues[block], min);
+            maxValues[block] = Math.max(maxValues[block], max);
+            docCounts[block]++;
+        }
+        return new DocValuesSkipIndex(blockShift, maxDoc, minValues, maxValues, docCounts);
+    }
+
+    /**
+     * The log2 of the number of documents per block.
+     */
+    public int blockShift() {
+        return blockShift;
+    }
+
+    public int numBlocks() {
+        return docCounts.length;
+    }
+
+    /**
+     * The minimum value of the documents of the given block, only meaningful if the block has documents with a value.
+     */
+    public long minValue(int block) {
+        return minValues[block];
+    }
+
+    /**
+     * The maximum value of the documents of the given block, only meaningful if the block has documents with a value.
+     */
+    public long maxValue(int block) {
+        return maxValues[block];
+    }
+
+    /**
+     * The number of documents of the given block that have a value.
+     */
+    public int docCount(int block) {
+        return docCounts[block];
+    }
+
+    /**
+     * Returns whether all documents of the given block have a value.
+     */
+    public boolean isDense(int block) {
+        final int start = block << blockShift;
+        return docCounts[block] == Math.min(1 << blockShift, maxDoc - start);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(minValues) + RamUsageEstimator.sizeOf(maxValues)
+            + RamUsageEstimator.sizeOf(docCounts);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeVInt(blockShift);
+        out.writeVInt(maxDoc);
+        out.writeVInt(docCounts.length);
+        for (int block = 0; block < docCounts.length; block++) {
+            out.writeVInt(docCounts[block]);
+            if (docCounts[block] > 0) {
+                out.writeLong(minValues[block]);
+                out.writeLong(maxValues[block]);
+            }
+        }
+    }
+
+    static DocValuesSkipIndex readFrom(DataInput in) throws IOException {
+        final int blockShift = in.readVInt();
+        final int maxDoc = in.readVInt();
+        final int numBlocks = in.readVInt();
+        final long[] minValues = new long[numBlocks];
+        final long[] maxValues = new long[numBlocks];
+        final int[] docCounts = new int[numBlocks];
+        for (int block = 0; block < numBlocks; block++) {
+            docCounts[block] = in.readVInt();
+            if (docCounts[block] > 0) {
+                minValues[block] = in.readLong();
+                maxValues[block] = in.readLong();
+            } else {
+                minValues[block] = Long.MAX_VALUE;
+                maxValues[block] = Long.MIN_VALUE;
+            }
+        }
+        return new DocValuesSkipIndex(blockShift, maxDoc, minValues, maxValues, docCounts);
+    }
+}
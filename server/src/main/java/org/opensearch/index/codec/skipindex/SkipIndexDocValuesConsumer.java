@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.skipindex;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * Writes doc values with a delegate consumer and the skip index of every sorted numeric field, which is built from the same
+ * values so that flushes and merges build it the same way.
+ */
+final class SkipIndexDocValuesConsumer extends DocValuesConsumer {
+
+    private final DocValuesConsumer delegate;
+    private final int maxDoc;
+    private IndexOutput out;
+
+    SkipIndexDocValuesConsumer(DocValuesConsumer delegate, SegmentWriteState state) throws IOException {
+        boolean success = false;
+        try {
+            this.delegate = delegate;
+            this.maxDoc = state.segmentInfo.maxDoc();
+            final String fileName = IndexFileNames.segmentFileName(
+                state.segmentInfo.name,
+                state.segmentSuffix,
+                SkipIndexDocValuesFormat.EXTENSION
+            );
+            out = state.directory.createOutput(fileName, state.context);
+            CodecUtil.writeIndexHeader(
+                out,
+                SkipIndexDocValuesFormat.CODEC_NAME,
+                SkipIndexDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(out, delegate);
+            }
+        }
+    }
+
+    @Override
+    public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addNumericField(field, valuesProducer);
+    }
+
+    @Override
+    public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addBinaryField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedNumericField(field, valuesProducer);
+        final DocValuesSkipIndex skipIndex = DocValuesSkipIndex.build(
+            valuesProducer.getSortedNumeric(field),
+            maxDoc,
+            DocValuesSkipIndex.BLOCK_SHIFT
+        );
+        out.writeVInt(field.number);
+        skipIndex.writeTo(out);
+    }
+
+    @Override
+    public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedSetField(field, valuesProducer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        boolean success = false;
+        try {
+            if (out != null) {
+                out.writeVInt(-1);
+                CodecUtil.writeFooter(out);
+            }
+            success = true;
+        } finally {
+            if (success) {
+                IOUtils.close(out, delegate);
+            } else {
+                IOUtils.closeWhileHandlingException(out, delegate);
+            }
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.skipindex;
+
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+
+import java.io.IOException;
+
+/**
+ * A {@link DocValuesFormat} that writes doc values with {@link Lucene80DocValuesFormat} and additionally writes a
+ * {@link DocValuesSkipIndex skip index} for every sorted numeric field.
+ */
+public final class SkipIndexDocValuesFormat extends DocValuesFormat {
+
+    static final String NAME = "SkipIndex";
+    static final String EXTENSION = "dvs";
+    static final String CODEC_NAME = "DocValuesSkipIndex";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    private final DocValuesFormat delegate = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+
+    public SkipIndexDocValuesFormat() {
+        super(NAME);
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new SkipIndexDocValuesConsumer(delegate.fieldsConsumer(state), state);
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        return new SkipIndexDocValuesProducer(delegate.fieldsProducer(state), state);
+    }
+}
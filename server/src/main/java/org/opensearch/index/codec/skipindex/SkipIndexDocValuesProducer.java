@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.skipindex;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FilterNumericDocValues;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads doc values with a delegate producer and loads the skip indices of the segment in memory. The skip index of a field is
+ * exposed through its doc values, see {@link DocValuesSkipIndex#get}.
+ */
+final class SkipIndexDocValuesProducer extends DocValuesProducer {
+
+    private final DocValuesProducer delegate;
+    private final Map<String, DocValuesSkipIndex> skipIndices;
+
+    SkipIndexDocValuesProducer(DocValuesProducer delegate, SegmentReadState state) throws IOException {
+        boolean success = false;
+        try {
+            this.delegate = delegate;
+            this.skipIndices = readSkipIndices(state);
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(delegate);
+            }
+        }
+    }
+
+    private SkipIndexDocValuesProducer(DocValuesProducer delegate, Map<String, DocValuesSkipIndex> skipIndices) {
+        this.delegate = delegate;
+        this.skipIndices = skipIndices;
+    }
+
+    private static Map<String, DocValuesSkipIndex> readSkipIndices(SegmentReadState state) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            SkipIndexDocValuesFormat.EXTENSION
+        );
+        final Map<String, DocValuesSkipIndex> skipIndices = new HashMap<>();
+        try (ChecksumIndexInput in = state.directory.openChecksumInput(fileName, state.context)) {
+            Throwable priorE = null;
+            try {
+                CodecUtil.checkIndexHeader(
+                    in,
+                    SkipIndexDocValuesFormat.CODEC_NAME,
+                    SkipIndexDocValuesFormat.VERSION_START,
+                    SkipIndexDocValuesFormat.VERSION_CURRENT,
+                    state.segmentInfo.getId(),
+                    state.segmentSuffix
+                );
+                for (int fieldNumber = in.readVInt(); fieldNumber != -1; fieldNumber = in.readVInt()) {
+                    final FieldInfo field = state.fieldInfos.fieldInfo(fieldNumber);
+                    if (field == null) {
+                        throw new IllegalStateException("invalid field number [" + fieldNumber + "] in skip index");
+                    }
+                    skipIndices.put(field.name, DocValuesSkipIndex.readFrom(in));
+                }
+            } catch (Throwable exception) {
+                priorE = exception;
+            } finally {
+                CodecUtil.checkFooter(in, priorE);
+            }
+        }
+        return skipIndices;
+    }
+
+    @Override
+    public NumericDocValues getNumeric(FieldInfo field) throws IOException {
+        return delegate.getNumeric(field);
+    }
+
+    @Override
+    public BinaryDocValues getBinary(FieldInfo field) throws IOException {
+        return delegate.getBinary(field);
+    }
+
+    @Override
+    public SortedDocValues getSorted(FieldInfo field) throws IOException {
+        return delegate.getSorted(field);
+    }
+
+    @Override
+    public SortedNumericDocValues getSortedNumeric(FieldInfo field) throws IOException {
+        final SortedNumericDocValues values = delegate.getSortedNumeric(field);
+        final DocValuesSkipIndex skipIndex = skipIndices.get(field.name);
+        if (skipIndex == null) {
+            return values;
+        }
+        // keep single-valued fields unwrappable since many consumers have a faster path for them
+        final NumericDocValues singleton = DocValues.unwrapSingleton(values);
+        if (singleton != null) {
+            return DocValues.singleton(new SkipIndexNumericDocValues(singleton, skipIndex));
+        }
+        return new SkipIndexSortedNumericDocValues(values, skipIndex);
+    }
+
+    @Override
+    public SortedSetDocValues getSortedSet(FieldInfo field) throws IOException {
+        return delegate.getSortedSet(field);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+        delegate.checkIntegrity();
+    }
+
+    @Override
+    public DocValuesProducer getMergeInstance() throws IOException {
+        return new SkipIndexDocValuesProducer(delegate.getMergeInstance(), skipIndices);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = delegate.ramBytesUsed();
+        for (DocValuesSkipIndex skipIndex : skipIndices.values()) {
+            ramBytesUsed += skipIndex.ramBytesUsed();
+        }
+        return ramBytesUsed;
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+        final List<Accountable> resources = new ArrayList<>(delegate.getChildResources());
+        resources.addAll(Accountables.namedAccountables("skip index", skipIndices));
+        return resources;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(delegate=" + delegate + ")";
+    }
+
+    /**
+     * The doc values of a single-valued field, which give access to its skip index.
+     */
+    static final class SkipIndexNumericDocValues extends FilterNumericDocValues {
+        private final DocValuesSkipIndex skipIndex;
+
+        SkipIndexNumericDocValues(NumericDocValues in, DocValuesSkipIndex skipIndex) {
+            super(in);
+            this.skipIndex = skipIndex;
+        }
+
+        DocValuesSkipIndex skipIndex() {
+            return skipIndex;
+        }
+    }
+
+    /**
+     * The doc values of a multi-valued field, which give access to its skip index.
+     */
+    static final class SkipIndexSortedNumericDocValues extends SortedNumericDocValues {
+        private final SortedNumericDocValues in;
+        private final DocValuesSkipIndex skipIndex;
+
+        SkipIndexSortedNumericDocValues(SortedNumericDocValues in, DocValuesSkipIndex skipIndex) {
+            this.in = in;
+            this.skipIndex = skipIndex;
+        }
+
+        DocValuesSkipIndex skipIndex() {
+            return skipIndex;
+        }
+
+        @Override
+        public long nextValue() throws IOException {
+            return in.nextValue();
+        }
+
+        @Override
+        public int docValueCount() {
+            return in.docValueCount();
+        }
+
+        @Override
+        public boolean advanceExact(int target) throws IOException {
+            return in.advanceExact(target);
+        }
+
+        @Override
+        public int docID() {
+            return in.docID();
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            return in.nextDoc();
+        }
+
+        @Override
+        public int advance(int target) throws IOException {
+            return in.advance(target);
+        }
+
+        @Override
+        public long cost() {
+            return in.cost();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.skipindex;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Matches the documents that have a doc value of a numeric field within a range, like
+ * {@link org.apache.lucene.document.SortedNumericDocValuesField#newSlowRangeQuery}, but uses the {@link DocValuesSkipIndex skip
+ * index} of the field to skip the blocks of documents whose values are all out of the range and to match the documents of the
+ * blocks whose values are all within the range without reading their values. Segments without a skip index are scanned.
+ */
+public final class SkipIndexRangeQuery extends Query {
+
+    private final String field;
+    private final long lowerValue;
+    private final long upperValue;
+
+    /**
+     * Creates a query on the given field with inclusive bounds, in the encoding of the doc values of the field.
+     */
+    public SkipIndexRangeQuery(String field, long lowerValue, long upperValue) {
+        this.field = Objects.requireNonNull(field);
+        this.lowerValue = lowerValue;
+        this.upperValue = upperValue;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public long getLowerValue() {
+        return lowerValue;
+    }
+
+    public long getUpperValue() {
+        return upperValue;
+    }
+
+    @Override
+    public Query rewrite(IndexReader reader) throws IOException {
+        if (lowerValue == Long.MIN_VALUE && upperValue == Long.MAX_VALUE) {
+            return new DocValuesFieldExistsQuery(field);
+        }
+        if (lowerValue > upperValue) {
+            return new MatchNoDocsQuery();
+        }
+        return super.rewrite(reader);
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        return new ConstantScoreWeight(this, boost) {
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                final SortedNumericDocValues values = context.reader().getSortedNumericDocValues(field);
+                if (values == null) {
+                    return null;
+                }
+                final RangeApproximation approximation = new RangeApproximation(values, DocValuesSkipIndex.get(values),
+                    context.reader().maxDoc());
+                final TwoPhaseIterator iterator = new TwoPhaseIterator(approximation) {
+                    @Override
+                    public boolean matches() throws IOException {
+                        return approximation.blockMatches || approximation.valuesMatch();
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        return 2; // 2 comparisons
+                    }
+                };
+                return new ConstantScoreScorer(this, score(), scoreMode, iterator);
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                return DocValues.isCacheable(ctx, field);
+            }
+        };
+    }
+
+    /**
+     * Iterates over the documents of the blocks that may have matching values. The values of the documents of the blocks whose
+     * values are all within the range don't need to be checked.
+     */
+    private final class RangeApproximation extends DocIdSetIterator {
+
+        private final SortedNumericDocValues values;
+        @Nullable
+        private final DocValuesSkipIndex skipIndex;
+        private final int maxDoc;
+        private int doc = -1;
+        // the last block whose relation to the range was computed
+        private int block = -1;
+        private boolean blockMatches;
+        private boolean blockIsDense;
+
+        RangeApproximation(SortedNumericDocValues values, @Nullable DocValuesSkipIndex skipIndex, int maxDoc) {
+            this.values = values;
+            this.skipIndex = skipIndex;
+            this.maxDoc = maxDoc;
+        }
+
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            return advance(doc + 1);
+        }
+
+        @Override
+        public int advance(int target) throws IOException {
+            return doc = advanceToCandidate(target);
+        }
+
+        private int advanceToCandidate(int target) throws IOException {
+            if (skipIndex == null) {
+                return advanceValues(target);
+            }
+            final int blockShift = skipIndex.blockShift();
+            while (target < maxDoc && (target >>> blockShift) < skipIndex.numBlocks()) {
+                if (target >>> blockShift != block) {
+                    block = target >>> blockShift;
+                    final long min = skipIndex.minValue(block);
+                    final long max = skipIndex.maxValue(block);
+                    if (skipIndex.docCount(block) == 0 || max < lowerValue || min > upperValue) {
+                        target = (block + 1) << blockShift;
+                        continue;
+                    }
+                    blockMatches = min >= lowerValue && max <= upperValue;
+                    blockIsDense = skipIndex.isDense(block);
+                }
+                if (blockMatches && blockIsDense) {
+                    // every document of the block matches, no need to position the doc values
+                    return target;
+                }
+                final int next = advanceValues(target);
+                if (next == NO_MORE_DOCS || next >>> blockShift == block) {
+                    return next;
+                }
+                target = next;
+            }
+            return NO_MORE_DOCS;
+        }
+
+        private int advanceValues(int target) throws IOException {
+            return values.docID() < target ? values.advance(target) : values.docID();
+        }
+
+        boolean valuesMatch() throws IOException {
+            for (int i = 0, count = values.docValueCount(); i < count; i++) {
+                final long value = values.nextValue();
+                if (value < lowerValue) {
+                    continue;
+                }
+                // values are sorted, so the next ones are greater
+                return value <= upperValue;
+            }
+            return false;
+        }
+
+        @Override
+        public long cost() {
+            return values.cost();
+        }
+    }
+
+    @Override
+    public String toString(String field) {
+        StringBuilder b = new StringBuilder();
+        if (this.field.equals(field) == false) {
+            b.append(this.field).append(":");
+        }
+        return b.append("[").append(lowerValue).append(" TO ").append(upperValue).append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (sameClassAs(obj) == false) {
+            return false;
+        }
+        SkipIndexRangeQuery that = (SkipIndexRangeQuery) obj;
+        return field.equals(that.field) && lowerValue == that.lowerValue && upperValue == that.upperValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, lowerValue, upperValue);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.document.HalfFloatPoint;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Holds the configuration of the star tree of an index, which pre-aggregates the documents of every segment by a rounded date and
+ * a list of dimensions when the segment is flushed or merged. Aggregations that only group documents by these fields and only sum
+ * the configured metrics can then be computed from the pre-aggregated rows instead of the documents of the segment. It is
+ * configured with the following index settings:
+ * <ul>
+ *     <li>`index.star_tree.date_field`: the millisecond date field to round, which enables the star tree</li>
+ *     <li>`index.star_tree.date_interval`: the fixed interval the dates are rounded down to</li>
+ *     <li>`index.star_tree.dimensions`: the single valued keyword fields to group documents by</li>
+ *     <li>`index.star_tree.metrics`: the numeric fields to sum</li>
+ *     <li>`index.star_tree.max_rows`: the number of rows above which a segment is written without star tree, which bounds the
+ *     memory that building the star tree takes</li>
+ * </ul>
+ */
+public final class StarTreeConfig {
+
+    public static final Setting<String> INDEX_STAR_TREE_DATE_FIELD_SETTING =
+        Setting.simpleString("index.star_tree.date_field", Setting.Property.IndexScope, Setting.Property.Final);
+
+    public static final Setting<TimeValue> INDEX_STAR_TREE_DATE_INTERVAL_SETTING =
+        Setting.timeSetting("index.star_tree.date_interval", TimeValue.timeValueMinutes(1), TimeValue.timeValueMillis(1),
+            Setting.Property.IndexScope, Setting.Property.Final);
+
+    public static final Setting<List<String>> INDEX_STAR_TREE_DIMENSIONS_SETTING =
+        Setting.listSetting("index.star_tree.dimensions", Collections.emptyList(),
+            Function.identity(), Setting.Property.IndexScope, Setting.Property.Final);
+
+    public static final Setting<List<String>> INDEX_STAR_TREE_METRICS_SETTING =
+        Setting.listSetting("index.star_tree.metrics", Collections.emptyList(),
+            Function.identity(), Setting.Property.IndexScope, Setting.Property.Final);
+
+    public static final Setting<Integer> INDEX_STAR_TREE_MAX_ROWS_SETTING =
+        Setting.intSetting("index.star_tree.max_rows", 100_000, 1, Setting.Property.IndexScope, Setting.Property.Final);
+
+    final String dateField;
+    final long dateInterval;
+    final String[] dimensions;
+    final String[] metrics;
+    final IndexNumericFieldData.NumericType[] metricTypes;
+    final int maxRows;
+
+    /**
+     * Creates the configuration of a star tree on fields whose types were already checked, see {@link #resolve}.
+     */
+    public StarTreeConfig(String dateField, long dateInterval, String[] dimensions, String[] metrics,
+                          IndexNumericFieldData.NumericType[] metricTypes) {
+        this(dateField, dateInterval, dimensions, metrics, metricTypes, INDEX_STAR_TREE_MAX_ROWS_SETTING.getDefault(Settings.EMPTY));
+    }
+
+    /**
+     * Creates the configuration of a star tree on fields whose types were already checked, see {@link #resolve}.
+     *
+     * @param maxRows the number of rows above which a segment is written without star tree
+     */
+    public StarTreeConfig(String dateField, long dateInterval, String[] dimensions, String[] metrics,
+                          IndexNumericFieldData.NumericType[] metricTypes, int maxRows) {
+        this.dateField = dateField;
+        this.dateInterval = dateInterval;
+        this.dimensions = dimensions;
+        this.metrics = metrics;
+        this.metricTypes = metricTypes;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Returns whether the given index settings enable the star tree.
+     */
+    public static boolean isEnabled(Settings settings) {
+        return INDEX_STAR_TREE_DATE_FIELD_SETTING.get(settings).isEmpty() == false;
+    }
+
+    /**
+     * Resolves the star tree configuration of the index against its current mappings, or returns {@code null} if the configured
+     * fields are not mapped or not of a supported type, in which case segments are written without a star tree.
+     */
+    @Nullable
+    public static StarTreeConfig resolve(MapperService mapperService) {
+        final Settings settings = mapperService.getIndexSettings().getSettings();
+        final String dateField = INDEX_STAR_TREE_DATE_FIELD_SETTING.get(settings);
+        final MappedFieldType dateFieldType = mapperService.fieldType(dateField);
+        if (dateFieldType instanceof DateFieldMapper.DateFieldType == false
+            || ((DateFieldMapper.DateFieldType) dateFieldType).resolution() != DateFieldMapper.Resolution.MILLISECONDS
+            || dateFieldType.hasDocValues() == false) {
+            return null;
+        }
+        final List<String> dimensions = INDEX_STAR_TREE_DIMENSIONS_SETTING.get(settings);
+        for (String dimension : dimensions) {
+            final MappedFieldType fieldType = mapperService.fieldType(dimension);
+            if (fieldType instanceof KeywordFieldMapper.KeywordFieldType == false || fieldType.hasDocValues() == false) {
+                return null;
+            }
+        }
+        final List<String> metrics = INDEX_STAR_TREE_METRICS_SETTING.get(settings);
+        final IndexNumericFieldData.NumericType[] metricTypes = new IndexNumericFieldData.NumericType[metrics.size()];
+        for (int i = 0; i < metricTypes.length; i++) {
+            final MappedFieldType fieldType = mapperService.fieldType(metrics.get(i));
+            if (fieldType instanceof NumberFieldMapper.NumberFieldType == false || fieldType.hasDocValues() == false) {
+                return null;
+            }
+            metricTypes[i] = ((NumberFieldMapper.NumberFieldType) fieldType).numericType();
+        }
+        return new StarTreeConfig(
+            dateField,
+            INDEX_STAR_TREE_DATE_INTERVAL_SETTING.get(settings).millis(),
+            dimensions.toArray(new String[0]),
+            metrics.toArray(new String[0]),
+            metricTypes,
+            INDEX_STAR_TREE_MAX_ROWS_SETTING.get(settings)
+        );
+    }
+
+    /**
+     * Decodes a doc value of a metric into the value that aggregations sum.
+     */
+    double metricValue(int metric, long value) {
+        switch (metricTypes[metric]) {
+            case DOUBLE:
+                return NumericUtils.sortableLongToDouble(value);
+            case FLOAT:
+                return NumericUtils.sortableIntToFloat((int) value);
+            case HALF_FLOAT:
+                return HalfFloatPoint.sortableShortToHalfFloat((short) value);
+            default:
+                return value;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes doc values with a delegate consumer and then builds the star tree of the segment from the doc values of its fields, as
+ * they were given to the delegate, so that flushes and merges build it the same way without decoding the doc values that were
+ * just written. The rows are rolled up in memory, up to {@link StarTreeConfig#maxRows} rows, above which the segment is written
+ * without star tree.
+ */
+final class StarTreeDocValuesConsumer extends DocValuesConsumer {
+
+    private final DocValuesConsumer delegate;
+    private final SegmentWriteState state;
+    @Nullable
+    private final StarTreeConfig config;
+    // the doc values of the fields of the star tree, which stay readable until the segment is written
+    private final Map<String, DocValuesProducer> starTreeFields = new HashMap<>();
+
+    StarTreeDocValuesConsumer(DocValuesFormat format, SegmentWriteState state, @Nullable StarTreeConfig config) throws IOException {
+        this.delegate = format.fieldsConsumer(state);
+        this.state = state;
+        this.config = config;
+    }
+
+    @Override
+    public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addNumericField(field, valuesProducer);
+    }
+
+    @Override
+    public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addBinaryField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedNumericField(field, valuesProducer);
+        if (config != null
+            && (field.name.equals(config.dateField) || Arrays.asList(config.metrics).contains(field.name))) {
+            starTreeFields.put(field.name, valuesProducer);
+        }
+    }
+
+    @Override
+    public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedSetField(field, valuesProducer);
+        if (config != null && Arrays.asList(config.dimensions).contains(field.name)) {
+            starTreeFields.put(field.name, valuesProducer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+        final StarTreeValues starTree = config == null ? null : buildStarTree();
+        final String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            StarTreeDocValuesFormat.EXTENSION
+        );
+        try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+            CodecUtil.writeIndexHeader(
+                out,
+                StarTreeDocValuesFormat.CODEC_NAME,
+                StarTreeDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            if (starTree == null) {
+                out.writeByte((byte) 0);
+            } else {
+                out.writeByte((byte) 1);
+                starTree.writeTo(out);
+            }
+            CodecUtil.writeFooter(out);
+        }
+    }
+
+    /**
+     * Builds the star tree of the segment, or returns {@code null} if its documents can't be pre-aggregated: if a document has
+     * several dates or several values for a dimension, or if pre-aggregating wouldn't at least halve the number of documents or
+     * would take more than the maximum number of rows.
+     */
+    @Nullable
+    private StarTreeValues buildStarTree() throws IOException {
+        final FieldInfo dateField = fieldInfo(config.dateField, DocValuesType.SORTED_NUMERIC);
+        if (dateField == null) {
+            return null;
+        }
+        final FieldInfo[] dimensionFields = new FieldInfo[config.dimensions.length];
+        for (int i = 0; i < dimensionFields.length; i++) {
+            dimensionFields[i] = fieldInfo(config.dimensions[i], DocValuesType.SORTED_SET);
+            if (dimensionFields[i] == null && state.fieldInfos.fieldInfo(config.dimensions[i]) != null) {
+                return null;
+            }
+        }
+        final FieldInfo[] metricFields = new FieldInfo[config.metrics.length];
+        for (int i = 0; i < metricFields.length; i++) {
+            metricFields[i] = fieldInfo(config.metrics[i], DocValuesType.SORTED_NUMERIC);
+            if (metricFields[i] == null && state.fieldInfos.fieldInfo(config.metrics[i]) != null) {
+                return null;
+            }
+        }
+
+        final SortedNumericDocValues dates = starTreeFields.get(dateField.name).getSortedNumeric(dateField);
+        final SortedSetDocValues[] dimensions = new SortedSetDocValues[dimensionFields.length];
+        for (int i = 0; i < dimensions.length; i++) {
+            if (dimensionFields[i] != null) {
+                dimensions[i] = starTreeFields.get(dimensionFields[i].name).getSortedSet(dimensionFields[i]);
+            }
+        }
+        final SortedNumericDocValues[] metrics = new SortedNumericDocValues[metricFields.length];
+        for (int i = 0; i < metrics.length; i++) {
+            if (metricFields[i] != null) {
+                metrics[i] = starTreeFields.get(metricFields[i].name).getSortedNumeric(metricFields[i]);
+            }
+        }
+
+        final int maxRows = Math.min(state.segmentInfo.maxDoc() / 2, config.maxRows);
+        final Map<RowKey, Row> rows = new HashMap<>();
+        long minDate = Long.MAX_VALUE;
+        long maxDate = Long.MIN_VALUE;
+        int docsWithDate = 0;
+        RowKey key = new RowKey(new long[1 + dimensions.length]);
+        for (int doc = dates.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = dates.nextDoc()) {
+            if (dates.docValueCount() != 1) {
+                return null;
+            }
+            final long date = dates.nextValue();
+            minDate = Math.min(minDate, date);
+            maxDate = Math.max(maxDate, date);
+            docsWithDate++;
+            key.values[0] = Math.floorDiv(date, config.dateInterval) * config.dateInterval;
+            for (int i = 0; i < dimensions.length; i++) {
+                long ord = -1;
+                if (dimensions[i] != null && dimensions[i].advanceExact(doc)) {
+                    ord = dimensions[i].nextOrd();
+                    if (dimensions[i].nextOrd() != SortedSetDocValues.NO_MORE_ORDS) {
+                        return null;
+                    }
+                }
+                key.values[1 + i] = ord;
+            }
+            Row row = rows.get(key);
+            if (row == null) {
+                if (rows.size() >= maxRows) {
+                    return null;
+                }
+                row = new Row(metrics.length);
+                rows.put(key, row);
+                key = new RowKey(new long[key.values.length]);
+            }
+            row.docCount++;
+            for (int i = 0; i < metrics.length; i++) {
+                if (metrics[i] != null && metrics[i].advanceExact(doc)) {
+                    for (int v = metrics[i].docValueCount(); v > 0; v--) {
+                        row.add(i, config.metricValue(i, metrics[i].nextValue()));
+                    }
+                }
+            }
+        }
+        if (docsWithDate == 0 || rows.size() * 2L > docsWithDate) {
+            return null;
+        }
+
+        final List<Map.Entry<RowKey, Row>> sorted = new ArrayList<>(rows.entrySet());
+        sorted.sort((a, b) -> Arrays.compare(a.getKey().values, b.getKey().values));
+        final long[] rowDates = new long[sorted.size()];
+        final int[] docCounts = new int[sorted.size()];
+        final int[][] ords = new int[dimensions.length][sorted.size()];
+        final double[][] sums = new double[metrics.length][sorted.size()];
+        for (int r = 0; r < rowDates.length; r++) {
+            final long[] values = sorted.get(r).getKey().values;
+            final Row row = sorted.get(r).getValue();
+            rowDates[r] = values[0];
+            docCounts[r] = row.docCount;
+            for (int i = 0; i < dimensions.length; i++) {
+                ords[i][r] = Math.toIntExact(values[1 + i]);
+            }
+            for (int i = 0; i < metrics.length; i++) {
+                sums[i][r] = row.sums[i];
+            }
+        }
+        return new StarTreeValues(
+            config.dateField,
+            config.dateInterval,
+            minDate,
+            maxDate,
+            config.dimensions,
+            config.metrics,
+            rowDates,
+            ords,
+            sums,
+            docCounts
+        );
+    }
+
+    /**
+     * Returns the field info of the given field if it has doc values of the given type in this segment.
+     */
+    @Nullable
+    private FieldInfo fieldInfo(String field, DocValuesType type) {
+        final FieldInfo fieldInfo = state.fieldInfos.fieldInfo(field);
+        return fieldInfo == null || fieldInfo.getDocValuesType() != type || starTreeFields.containsKey(field) == false ? null : fieldInfo;
+    }
+
+    /**
+     * The rounded date and the dimension ordinals of a row.
+     */
+    private static final class RowKey {
+        final long[] values;
+
+        RowKey(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof RowKey && Arrays.equals(values, ((RowKey) obj).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+    }
+
+    /**
+     * The document count and the compensated sums of the metrics of a row.
+     */
+    private static final class Row {
+        int docCount;
+        final double[] sums;
+        final double[] compensations;
+
+        Row(int metrics) {
+            sums = new double[metrics];
+            compensations = new double[metrics];
+        }
+
+        void add(int metric, double value) {
+            final double sum = sums[metric];
+            if (Double.isFinite(value) == false || Double.isFinite(sum) == false) {
+                sums[metric] = value + sum;
+                return;
+            }
+            final double corrected = value - compensations[metric];
+            final double newSum = sum + corrected;
+            compensations[metric] = (newSum - sum) - corrected;
+            sums[metric] = newSum;
+        }
+    }
+}
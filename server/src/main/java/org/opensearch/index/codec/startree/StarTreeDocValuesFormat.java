@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * A {@link DocValuesFormat} that writes doc values with {@link Lucene80DocValuesFormat} and additionally pre-aggregates the
+ * documents of every segment into a {@link StarTreeValues star tree} as configured by {@link StarTreeConfig}.
+ */
+public final class StarTreeDocValuesFormat extends DocValuesFormat {
+
+    static final String NAME = "StarTree";
+    static final String EXTENSION = "stt";
+    static final String CODEC_NAME = "StarTreeValues";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    private final DocValuesFormat delegate = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    private final Supplier<StarTreeConfig> config;
+
+    /**
+     * Used by SPI to read segments, which doesn't need the configuration of the star tree.
+     */
+    public StarTreeDocValuesFormat() {
+        this(() -> null);
+    }
+
+    /**
+     * Creates a format that builds star trees with the configuration that the given supplier resolves when a segment is written, or
+     * that writes segments without a star tree when it resolves {@code null}.
+     */
+    public StarTreeDocValuesFormat(Supplier<StarTreeConfig> config) {
+        super(NAME);
+        this.config = config;
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new StarTreeDocValuesConsumer(delegate, state, config.get());
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        return new StarTreeDocValuesProducer(delegate.fieldsProducer(state), state);
+    }
+}
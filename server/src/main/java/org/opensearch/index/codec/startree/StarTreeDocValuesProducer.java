@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FilterNumericDocValues;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads doc values with a delegate producer and loads the star tree of the segment in memory. The star tree is exposed through the
+ * doc values of its date field, see {@link StarTreeValues#get}.
+ */
+final class StarTreeDocValuesProducer extends DocValuesProducer {
+
+    private final DocValuesProducer delegate;
+    @Nullable
+    private final StarTreeValues starTree;
+
+    StarTreeDocValuesProducer(DocValuesProducer delegate, SegmentReadState state) throws IOException {
+        boolean success = false;
+        try {
+            this.delegate = delegate;
+            this.starTree = readStarTree(state);
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(delegate);
+            }
+        }
+    }
+
+    private StarTreeDocValuesProducer(DocValuesProducer delegate, @Nullable StarTreeValues starTree) {
+        this.delegate = delegate;
+        this.starTree = starTree;
+    }
+
+    @Nullable
+    private static StarTreeValues readStarTree(SegmentReadState state) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            StarTreeDocValuesFormat.EXTENSION
+        );
+        try (ChecksumIndexInput in = state.directory.openChecksumInput(fileName, state.context)) {
+            Throwable priorE = null;
+            StarTreeValues starTree = null;
+            try {
+                CodecUtil.checkIndexHeader(
+                    in,
+                    StarTreeDocValuesFormat.CODEC_NAME,
+                    StarTreeDocValuesFormat.VERSION_START,
+                    StarTreeDocValuesFormat.VERSION_CURRENT,
+                    state.segmentInfo.getId(),
+                    state.segmentSuffix
+                );
+                if (in.readByte() == 1) {
+                    starTree = StarTreeValues.readFrom(in);
+                }
+            } catch (Throwable exception) {
+                priorE = exception;
+            } finally {
+                CodecUtil.checkFooter(in, priorE);
+            }
+            return starTree;
+        }
+    }
+
+    @Override
+    public NumericDocValues getNumeric(FieldInfo field) throws IOException {
+        return delegate.getNumeric(field);
+    }
+
+    @Override
+    public BinaryDocValues getBinary(FieldInfo field) throws IOException {
+        return delegate.getBinary(field);
+    }
+
+    @Override
+    public SortedDocValues getSorted(FieldInfo field) throws IOException {
+        return delegate.getSorted(field);
+    }
+
+    @Override
+    public SortedNumericDocValues getSortedNumeric(FieldInfo field) throws IOException {
+        final SortedNumericDocValues values = delegate.getSortedNumeric(field);
+        if (starTree == null || field.name.equals(starTree.dateField()) == false) {
+            return values;
+        }
+        // the star tree is only built if all documents have at most one date, so dates are always written as a singleton
+        final NumericDocValues singleton = DocValues.unwrapSingleton(values);
+        return singleton == null ? values : DocValues.singleton(new DateDocValues(singleton, starTree));
+    }
+
+    @Override
+    public SortedSetDocValues getSortedSet(FieldInfo field) throws IOException {
+        return delegate.getSortedSet(field);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+        delegate.checkIntegrity();
+    }
+
+    @Override
+    public DocValuesProducer getMergeInstance() throws IOException {
+        return new StarTreeDocValuesProducer(delegate.getMergeInstance(), starTree);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return delegate.ramBytesUsed() + (starTree == null ? 0 : starTree.ramBytesUsed());
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+        final List<Accountable> resources = new ArrayList<>(delegate.getChildResources());
+        if (starTree != null) {
+            resources.add(Accountables.namedAccountable("star tree", starTree));
+        }
+        return resources;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(delegate=" + delegate + ")";
+    }
+
+    /**
+     * The doc values of the date field of the star tree, which give access to the star tree of the segment.
+     */
+    static final class DateDocValues extends FilterNumericDocValues {
+        private final StarTreeValues starTree;
+
+        DateDocValues(NumericDocValues in, StarTreeValues starTree) {
+            super(in);
+            this.starTree = starTree;
+        }
+
+        StarTreeValues starTree() {
+            return starTree;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The pre-aggregated rows of the star tree of a segment. Every row holds the number of documents of the segment that share the same
+ * rounded date and the same values for all dimensions, and the sums of the values of the metrics of these documents. Dimension
+ * values are the ordinals of the terms in the doc values of the segment, or {@code -1} for documents without a value. Rows are sorted
+ * by date and then by dimension ordinals.
+ */
+public final class StarTreeValues implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(StarTreeValues.class);
+
+    private final String dateField;
+    private final long dateInterval;
+    private final long minDate;
+    private final long maxDate;
+    private final String[] dimensions;
+    private final String[] metrics;
+    private final long[] dates;
+    private final int[][] ords;
+    private final double[][] sums;
+    private final int[] docCounts;
+
+    StarTreeValues(
+        String dateField,
+        long dateInterval,
+        long minDate,
+        long maxDate,
+        String[] dimensions,
+        String[] metrics,
+        long[] dates,
+        int[][] ords,
+        double[][] sums,
+        int[] docCounts
+    ) {
+        assert ords.length == dimensions.length && sums.length == metrics.length;
+        this.dateField = dateField;
+        this.dateInterval = dateInterval;
+        this.minDate = minDate;
+        this.maxDate = maxDate;
+        this.dimensions = dimensions;
+        this.metrics = metrics;
+        this.dates = dates;
+        this.ords = ords;
+        this.sums = sums;
+        this.docCounts = docCounts;
+    }
+
+    /**
+     * Returns the star tree of the given segment if it was built on the given date field, or {@code null} otherwise. The star tree
+     * is read from the doc values producer of the segment, so it is found behind readers that wrap the segment as long as they
+     * expose the same fields.
+     */
+    @Nullable
+    public static StarTreeValues get(LeafReader reader, String dateField) throws IOException {
+        final LeafReader unwrapped = FilterLeafReader.unwrap(reader);
+        if (unwrapped instanceof CodecReader == false) {
+            return null;
+        }
+        final CodecReader codecReader = (CodecReader) unwrapped;
+        final FieldInfo fieldInfo = codecReader.getFieldInfos().fieldInfo(dateField);
+        final DocValuesProducer producer = codecReader.getDocValuesReader();
+        if (fieldInfo == null || fieldInfo.getDocValuesType() != DocValuesType.SORTED_NUMERIC || producer == null) {
+            return null;
+        }
+        // segments only have a star tree if all their documents have at most one date
+        final NumericDocValues singleton = DocValues.unwrapSingleton(producer.getSortedNumeric(fieldInfo));
+        if (singleton instanceof StarTreeDocValuesProducer.DateDocValues == false) {
+            return null;
+        }
+        final StarTreeValues starTree = ((StarTreeDocValuesProducer.DateDocValues) singleton).starTree();
+        if (reader != unwrapped && starTree.exposesSameFields(reader.getFieldInfos(), codecReader.getFieldInfos()) == false) {
+            // the wrapping reader hides some of the values of the star tree
+            return null;
+        }
+        return starTree;
+    }
+
+    private boolean exposesSameFields(FieldInfos wrapped, FieldInfos segment) {
+        if (sameField(wrapped, segment, dateField) == false) {
+            return false;
+        }
+        for (String dimension : dimensions) {
+            if (sameField(wrapped, segment, dimension) == false) {
+                return false;
+            }
+        }
+        for (String metric : metrics) {
+            if (sameField(wrapped, segment, metric) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameField(FieldInfos wrapped, FieldInfos segment, String field) {
+        final FieldInfo wrappedField = wrapped.fieldInfo(field);
+        final FieldInfo segmentField = segment.fieldInfo(field);
+        if (wrappedField == null || segmentField == null) {
+            return wrappedField == segmentField;
+        }
+        return wrappedField.getDocValuesType() == segmentField.getDocValuesType();
+    }
+
+    /**
+     * The date field that the rows are rounded on.
+     */
+    public String dateField() {
+        return dateField;
+    }
+
+    /**
+     * The fixed interval in milliseconds that the dates of the rows are rounded down to.
+     */
+    public long dateInterval() {
+        return dateInterval;
+    }
+
+    /**
+     * The minimum date of the documents of the segment, before rounding.
+     */
+    public long minDate() {
+        return minDate;
+    }
+
+    /**
+     * The maximum date of the documents of the segment, before rounding.
+     */
+    public long maxDate() {
+        return maxDate;
+    }
+
+    public int rowCount() {
+        return dates.length;
+    }
+
+    /**
+     * The rounded date of a row.
+     */
+    public long date(int row) {
+        return dates[row];
+    }
+
+    /**
+     * Returns the index of the dimension on the given field, or {@code -1} if the field isn't a dimension.
+     */
+    public int dimensionIndex(String field) {
+        return Arrays.asList(dimensions).indexOf(field);
+    }
+
+    /**
+     * The segment ordinal of the value of a dimension for a row, or {@code -1} if its documents don't have a value.
+     */
+    public int ord(int dimension, int row) {
+        return ords[dimension][row];
+    }
+
+    /**
+     * Returns the index of the metric on the given field, or {@code -1} if the field isn't a metric.
+     */
+    public int metricIndex(String field) {
+        return Arrays.asList(metrics).indexOf(field);
+    }
+
+    /**
+     * The sum of the values of a metric for the documents of a row.
+     */
+    public double metricSum(int metric, int row) {
+        return sums[metric][row];
+    }
+
+    /**
+     * The number of documents of a row.
+     */
+    public int docCount(int row) {
+        return docCounts[row];
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long size = BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(dates) + RamUsageEstimator.sizeOf(docCounts);
+        for (int[] dimension : ords) {
+            size += RamUsageEstimator.sizeOf(dimension);
+        }
+        for (double[] metric : sums) {
+            size += RamUsageEstimator.sizeOf(metric);
+        }
+        return size;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeString(dateField);
+        out.writeVLong(dateInterval);
+        out.writeZLong(minDate);
+        out.writeZLong(maxDate);
+        out.writeVInt(dimensions.length);
+        for (String dimension : dimensions) {
+            out.writeString(dimension);
+        }
+        out.writeVInt(metrics.length);
+        for (String metric : metrics) {
+            out.writeString(metric);
+        }
+        final int rowCount = rowCount();
+        out.writeVInt(rowCount);
+        long previousDate = rowCount == 0 ? 0 : dates[0];
+        out.writeZLong(previousDate);
+        for (int row = 0; row < rowCount; row++) {
+            // dates are sorted
+            out.writeVLong(dates[row] - previousDate);
+            previousDate = dates[row];
+            out.writeVInt(docCounts[row]);
+            for (int[] dimension : ords) {
+                out.writeVInt(dimension[row] + 1);
+            }
+            for (double[] metric : sums) {
+                out.writeLong(Double.doubleToRawLongBits(metric[row]));
+            }
+        }
+    }
+
+    static StarTreeValues readFrom(DataInput in) throws IOException {
+        final String dateField = in.readString();
+        final long dateInterval = in.readVLong();
+        final long minDate = in.readZLong();
+        final long maxDate = in.readZLong();
+        final String[] dimensions = new String[in.readVInt()];
+        for (int i = 0; i < dimensions.length; i++) {
+            dimensions[i] = in.readString();
+        }
+        final String[] metrics = new String[in.readVInt()];
+        for (int i = 0; i < metrics.length; i++) {
+            metrics[i] = in.readString();
+        }
+        final int rowCount = in.readVInt();
+        final long[] dates = new long[rowCount];
+        final int[] docCounts = new int[rowCount];
+        final int[][] ords = new int[dimensions.length][rowCount];
+        final double[][] sums = new double[metrics.length][rowCount];
+        long date = in.readZLong();
+        for (int row = 0; row < rowCount; row++) {
+            date += in.readVLong();
+            dates[row] = date;
+            docCounts[row] = in.readVInt();
+            for (int[] dimension : ords) {
+                dimension[row] = in.readVInt() - 1;
+            }
+            for (double[] metric : sums) {
+                metric[row] = Double.longBitsToDouble(in.readLong());
+            }
+        }
+        return new StarTreeValues(dateField, dateInterval, minDate, maxDate, dimensions, metrics, dates, ords, sums, docCounts);
+    }
+}
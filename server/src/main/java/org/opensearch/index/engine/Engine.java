@@ -799,6 +799,15 @@ public abstract class Engine implements Closeable {
      */
     public abstract long getPersistedLocalCheckpoint();
 
+    /**
+     * @return the local checkpoint of this Engine at the time of its last refresh, all the operations up to it are visible to
+     * internal searchers of this Engine. Engines that don't track their refreshes return {@link SequenceNumbers#NO_OPS_PERFORMED},
+     * which never claims more than what is visible.
+     */
+    public long getLastRefreshedCheckpoint() {
+        return SequenceNumbers.NO_OPS_PERFORMED;
+    }
+
     /**
      * @return a {@link SeqNoStats} object, using local state and the supplied global checkpoint
      */
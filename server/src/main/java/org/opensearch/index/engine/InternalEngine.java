@@ -2801,6 +2801,11 @@ public class InternalEngine extends Engine {
         return lastRefreshedCheckpointListener.refreshedCheckpoint.get();
     }
 
+    @Override
+    public long getLastRefreshedCheckpoint() {
+        return lastRefreshedCheckpoint();
+    }
+
 
     private final Object refreshIfNeededMutex = new Object();
 
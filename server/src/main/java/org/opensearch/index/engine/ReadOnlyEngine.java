@@ -361,6 +361,12 @@ public class ReadOnlyEngine extends Engine {
         return seqNoStats.getLocalCheckpoint();
     }
 
+    @Override
+    public long getLastRefreshedCheckpoint() {
+        // the reader is opened on the last commit and never refreshed
+        return seqNoStats.getLocalCheckpoint();
+    }
+
     @Override
     public SeqNoStats getSeqNoStats(long globalCheckpoint) {
         return new SeqNoStats(seqNoStats.getMaxSeqNo(), seqNoStats.getLocalCheckpoint(), globalCheckpoint);
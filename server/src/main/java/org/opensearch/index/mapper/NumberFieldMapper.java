@@ -46,6 +46,7 @@ import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.IndexSortSortedNumericDocValuesRangeQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
@@ -58,6 +59,8 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentParser.Token;
+import org.opensearch.index.codec.skipindex.DocValuesSkipIndex;
+import org.opensearch.index.codec.skipindex.SkipIndexRangeQuery;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
 import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
@@ -92,6 +95,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         private final Parameter<Boolean> indexed = Parameter.indexParam(m -> toType(m).indexed, true);
         private final Parameter<Boolean> hasDocValues = Parameter.docValuesParam(m -> toType(m).hasDocValues, true);
         private final Parameter<Boolean> stored = Parameter.storeParam(m -> toType(m).stored, false);
+        private final Parameter<Boolean> skipIndex = Parameter.boolParam("skip_index", false, m -> toType(m).skipIndex, false);
 
         private final Parameter<Explicit<Boolean>> ignoreMalformed;
         private final Parameter<Explicit<Boolean>> coerce;
@@ -135,11 +139,14 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
 
         @Override
         protected List<Parameter<?>> getParameters() {
-            return Arrays.asList(indexed, hasDocValues, stored, ignoreMalformed, coerce, nullValue, meta);
+            return Arrays.asList(indexed, hasDocValues, stored, skipIndex, ignoreMalformed, coerce, nullValue, meta);
         }
 
         @Override
         public NumberFieldMapper build(BuilderContext context) {
+            if (skipIndex.getValue() && hasDocValues.getValue() == false) {
+                throw new IllegalArgumentException("Field [" + name + "] requires [doc_values] to have a [skip_index]");
+            }
             MappedFieldType ft = new NumberFieldType(buildFullName(context), this);
             return new NumberFieldMapper(name, ft, multiFieldsBuilder.build(this, context), copyTo.build(), this);
         }
@@ -907,19 +914,27 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         private final NumberType type;
         private final boolean coerce;
         private final Number nullValue;
+        private final boolean skipIndex;
 
         public NumberFieldType(String name, NumberType type, boolean isSearchable, boolean isStored,
                                boolean hasDocValues, boolean coerce, Number nullValue, Map<String, String> meta) {
+            this(name, type, isSearchable, isStored, hasDocValues, false, coerce, nullValue, meta);
+        }
+
+        public NumberFieldType(String name, NumberType type, boolean isSearchable, boolean isStored, boolean hasDocValues,
+                               boolean skipIndex, boolean coerce, Number nullValue, Map<String, String> meta) {
             super(name, isSearchable, isStored, hasDocValues, TextSearchInfo.SIMPLE_MATCH_ONLY, meta);
             this.type = Objects.requireNonNull(type);
             this.coerce = coerce;
             this.nullValue = nullValue;
+            this.skipIndex = skipIndex;
             this.setIndexAnalyzer(Lucene.KEYWORD_ANALYZER);     // allows number fields in significant text aggs - do we need this?
         }
 
         NumberFieldType(String name, Builder builder) {
             this(name, builder.type, builder.indexed.getValue(), builder.stored.getValue(), builder.hasDocValues.getValue(),
-                builder.coerce.getValue().value(), builder.nullValue.getValue(), builder.meta.getValue());
+                builder.skipIndex.getValue(), builder.coerce.getValue().value(), builder.nullValue.getValue(),
+                builder.meta.getValue());
         }
 
         public NumberFieldType(String name, NumberType type) {
@@ -935,6 +950,14 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             return type.numericType();
         }
 
+        /**
+         * Returns whether the doc values of this field have a {@link DocValuesSkipIndex skip index}, which allows range queries
+         * to skip the blocks of documents whose values are out of the range, even if the field is not indexed.
+         */
+        public boolean hasSkipIndex() {
+            return skipIndex;
+        }
+
         @Override
         public Query termQuery(Object value, QueryShardContext context) {
             failIfNotIndexed();
@@ -957,14 +980,58 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
 
         @Override
         public Query rangeQuery(Object lowerTerm, Object upperTerm, boolean includeLower, boolean includeUpper, QueryShardContext context) {
-            failIfNotIndexed();
-            Query query = type.rangeQuery(name(), lowerTerm, upperTerm, includeLower, includeUpper, hasDocValues(), context);
+            Query query;
+            if (skipIndex) {
+                query = skipIndexRangeQuery(lowerTerm, upperTerm, includeLower, includeUpper, context);
+            } else {
+                failIfNotIndexed();
+                query = type.rangeQuery(name(), lowerTerm, upperTerm, includeLower, includeUpper, hasDocValues(), context);
+            }
             if (boost() != 1f) {
                 query = new BoostQuery(query, boost());
             }
             return query;
         }
 
+        /**
+         * Builds a range query on the doc values of this field that uses their skip index. The bounds are taken from the points
+         * query that {@link NumberType#rangeQuery} builds, whose encoding sorts the same way as the doc values, even if the field
+         * is not indexed.
+         */
+        private Query skipIndexRangeQuery(Object lowerTerm, Object upperTerm, boolean includeLower, boolean includeUpper,
+                                          QueryShardContext context) {
+            final Query pointQuery = type.rangeQuery(name(), lowerTerm, upperTerm, includeLower, includeUpper, false, context);
+            if (pointQuery instanceof PointRangeQuery == false) {
+                // the range can't match any value
+                return pointQuery;
+            }
+            final PointRangeQuery pointRangeQuery = (PointRangeQuery) pointQuery;
+            final long l = sortableLong(pointRangeQuery.getLowerPoint());
+            final long u = sortableLong(pointRangeQuery.getUpperPoint());
+            Query query = new SkipIndexRangeQuery(name(), l, u);
+            if (isSearchable()) {
+                query = new IndexOrDocValuesQuery(pointQuery, query);
+            }
+            if (type.numericType().isFloatingPoint() == false && context.indexSortedOnField(name())) {
+                query = new IndexSortSortedNumericDocValuesRangeQuery(name(), l, u, query);
+            }
+            return query;
+        }
+
+        private static long sortableLong(byte[] point) {
+            switch (point.length) {
+                case Long.BYTES:
+                    return NumericUtils.sortableBytesToLong(point, 0);
+                case Integer.BYTES:
+                    return NumericUtils.sortableBytesToInt(point, 0);
+                case Short.BYTES:
+                    // the sortable encoding of half floats, see HalfFloatPoint
+                    return (short) ((((point[0] & 0xFF) << 8) | (point[1] & 0xFF)) ^ 0x8000);
+                default:
+                    throw new IllegalArgumentException("Unsupported point of [" + point.length + "] bytes");
+            }
+        }
+
         @Override
         public Function<byte[], Number> pointReaderIfPossible() {
             if (isSearchable()) {
@@ -1027,6 +1094,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
     private final boolean indexed;
     private final boolean hasDocValues;
     private final boolean stored;
+    private final boolean skipIndex;
     private final Explicit<Boolean> ignoreMalformed;
     private final Explicit<Boolean> coerce;
     private final Number nullValue;
@@ -1045,6 +1113,7 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         this.indexed = builder.indexed.getValue();
         this.hasDocValues = builder.hasDocValues.getValue();
         this.stored = builder.stored.getValue();
+        this.skipIndex = builder.skipIndex.getValue();
         this.ignoreMalformed = builder.ignoreMalformed.getValue();
         this.coerce = builder.coerce.getValue();
         this.nullValue = builder.nullValue.getValue();
@@ -107,6 +107,8 @@ public class QueryShardContext extends QueryRewriteContext {
     private final IndexSearcher searcher;
     private String[] types = Strings.EMPTY_ARRAY;
     private boolean cacheable = true;
+    private boolean deterministic = true;
+    private int nowInMillisUsages;
     private final SetOnce<Boolean> frozen = new SetOnce<>();
 
     private final Index fullyQualifiedIndex;
@@ -436,6 +438,11 @@ public class QueryShardContext extends QueryRewriteContext {
      * class says a request can be cached.
      */
     protected final void failIfFrozen() {
+        this.deterministic = false;
+        markNotCacheable();
+    }
+
+    private void markNotCacheable() {
         this.cacheable = false;
         if (frozen.get() == Boolean.TRUE) {
             throw new IllegalArgumentException("features that prevent cachability are disabled on this context");
@@ -463,6 +470,22 @@ public class QueryShardContext extends QueryRewriteContext {
         return cacheable;
     }
 
+    /**
+     * Returns <code>true</code> iff the result of the processed search request only depends on the content of the shard and
+     * on the current time. Unlike {@link #isCacheable()}, this remains <code>true</code> when {@link #nowInMillis()} is used.
+     */
+    public final boolean isDeterministic() {
+        return deterministic;
+    }
+
+    /**
+     * Returns how many times the current time was read with {@link #nowInMillis()}, which allows to find out whether a part of
+     * the request depends on it.
+     */
+    public final int nowInMillisUsages() {
+        return nowInMillisUsages;
+    }
+
     /**
      * Returns the shard ID this context was created for.
      */
@@ -472,7 +495,8 @@ public class QueryShardContext extends QueryRewriteContext {
 
     @Override
     public final long nowInMillis() {
-        failIfFrozen();
+        markNotCacheable();
+        nowInMillisUsages++;
         return super.nowInMillis();
     }
 
@@ -147,6 +147,7 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.index.translog.TranslogGroupCommitter;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
@@ -309,7 +310,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
-            final CircuitBreakerService circuitBreakerService) throws IOException {
+            final CircuitBreakerService circuitBreakerService,
+            final @Nullable TranslogGroupCommitter translogGroupCommitter) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
@@ -323,7 +325,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
-        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine);
+        this.translogSyncer = createTranslogSyncer(logger, this::getEngine);
+        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), translogSyncer);
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats();
@@ -342,6 +345,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.shardBitsetFilterCache = new ShardBitsetFilterCache(shardId, indexSettings);
         state = IndexShardState.CREATED;
         this.path = path;
+        this.translogGroupCommit = translogGroupCommitter == null
+            ? null : translogGroupCommitter.newShard(path.getRootDataPath(), shardId, translogSyncer);
         this.circuitBreakerService = circuitBreakerService;
         /* create engine config */
         logger.debug("state: [CREATED]");
@@ -761,22 +766,68 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                                            long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
                                                            boolean isRetry)
         throws IOException {
+        return applyIndexOperationOnPrimary(version, versionType, sourceToParse, ifSeqNo, ifPrimaryTerm, autoGeneratedTimestamp, isRetry,
+            null);
+    }
+
+    /**
+     * Same as {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean)}, but reuses the
+     * given document, which was parsed ahead by {@link #preParseDocument}, unless the mapping changed since.
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(long version, VersionType versionType, SourceToParse sourceToParse,
+                                                           long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
+                                                           boolean isRetry, @Nullable PreParsedDocument preParsedDocument)
+        throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(getEngine(), UNASSIGNED_SEQ_NO, getOperationPrimaryTerm(), version, versionType, ifSeqNo,
-            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse);
+            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse, preParsedDocument);
     }
 
     public Engine.IndexResult applyIndexOperationOnReplica(long seqNo, long opPrimaryTerm, long version, long autoGeneratedTimeStamp,
         boolean isRetry, SourceToParse sourceToParse)
         throws IOException {
         return applyIndexOperation(getEngine(), seqNo, opPrimaryTerm, version, null, UNASSIGNED_SEQ_NO, 0,
-            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse);
+            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse, null);
+    }
+
+    /**
+     * Parses a document ahead of its indexing on the primary, so that the documents of a bulk request can be parsed concurrently
+     * before they are indexed in order. Returns {@code null} if the document can't be indexed with the current mapping, in which case
+     * it is parsed again when the operation is applied. A failure to parse the document is reported when the operation is applied.
+     */
+    @Nullable
+    public PreParsedDocument preParseDocument(SourceToParse sourceToParse) {
+        final String resolvedType = mapperService.resolveDocumentType(sourceToParse.type());
+        final DocumentMapperForType docMapper = docMapper(resolvedType);
+        if (docMapper.getMapping() != null) {
+            // the type is not mapped yet
+            return null;
+        }
+        final SourceToParse sourceWithResolvedType;
+        if (resolvedType.equals(sourceToParse.type())) {
+            sourceWithResolvedType = sourceToParse;
+        } else {
+            sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
+                sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
+        }
+        final long startTime = System.nanoTime();
+        final ParsedDocument doc;
+        try {
+            doc = docMapper.getDocumentMapper().parse(sourceWithResolvedType);
+        } catch (Exception e) {
+            return new PreParsedDocument(docMapper.getDocumentMapper(), null, e, System.nanoTime() - startTime);
+        }
+        if (doc.dynamicMappingsUpdate() != null) {
+            return null;
+        }
+        return new PreParsedDocument(docMapper.getDocumentMapper(), doc, null, System.nanoTime() - startTime);
     }
 
     private Engine.IndexResult applyIndexOperation(Engine engine, long seqNo, long opPrimaryTerm, long version,
                                                    @Nullable VersionType versionType, long ifSeqNo, long ifPrimaryTerm,
                                                    long autoGeneratedTimeStamp, boolean isRetry, Engine.Operation.Origin origin,
-                                                   SourceToParse sourceToParse) throws IOException {
+                                                   SourceToParse sourceToParse, @Nullable PreParsedDocument preParsedDocument)
+        throws IOException {
         assert opPrimaryTerm <= getOperationPrimaryTerm()
                 : "op term [ " + opPrimaryTerm + " ] > shard term [" + getOperationPrimaryTerm() + "]";
         ensureWriteAllowed(origin);
@@ -790,8 +841,20 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
                     sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
             }
-            operation = prepareIndex(docMapper(resolvedType), sourceWithResolvedType,
-                seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            final DocumentMapperForType docMapper = docMapper(resolvedType);
+            if (preParsedDocument != null && docMapper.getMapping() == null
+                && preParsedDocument.documentMapper() == docMapper.getDocumentMapper()) {
+                if (preParsedDocument.failure() != null) {
+                    throw preParsedDocument.failure();
+                }
+                // account the parsing as if it had just happened, rather than the wait for the execution of the previous items
+                final long startTime = System.nanoTime() - preParsedDocument.parseTimeInNanos();
+                operation = prepareIndex(preParsedDocument.parsedDocument(), startTime,
+                    seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            } else {
+                operation = prepareIndex(docMapper, sourceWithResolvedType,
+                    seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            }
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -817,6 +880,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         if (docMapper.getMapping() != null) {
             doc.addDynamicMappingsUpdate(docMapper.getMapping());
         }
+        return prepareIndex(doc, startTime, seqNo, primaryTerm, version, versionType, origin, autoGeneratedIdTimestamp, isRetry,
+            ifSeqNo, ifPrimaryTerm);
+    }
+
+    private static Engine.Index prepareIndex(ParsedDocument doc, long startTime, long seqNo, long primaryTerm, long version,
+                                             VersionType versionType, Engine.Operation.Origin origin, long autoGeneratedIdTimestamp,
+                                             boolean isRetry, long ifSeqNo, long ifPrimaryTerm) {
         Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
         return new Engine.Index(uid, doc, seqNo, primaryTerm, version, versionType, origin, startTime, autoGeneratedIdTimestamp, isRetry,
             ifSeqNo, ifPrimaryTerm);
@@ -2361,6 +2431,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return getEngine().getLastSyncedGlobalCheckpoint();
     }
 
+
     /**
      * Get the local knowledge of the global checkpoints for all in-sync allocation IDs.
      *
@@ -3112,22 +3183,31 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return indexShardOperationPermits.getActiveOperations();
     }
 
+    private final TranslogGroupCommitter.ShardSyncer translogSyncer;
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    @Nullable
+    private final TranslogGroupCommitter.Shard translogGroupCommit;
+
+    private static TranslogGroupCommitter.ShardSyncer createTranslogSyncer(Logger logger, Supplier<Engine> engineSupplier) {
+        return locations -> {
+            try {
+                engineSupplier.get().ensureTranslogSynced(locations);
+            } catch (AlreadyClosedException ex) {
+                // that's fine since we already synced everything on engine close - this also is conform with the methods
+                // documentation
+            } catch (IOException ex) { // if this fails we are in deep shit - fail the request
+                logger.debug("failed to sync translog", ex);
+                throw ex;
+            }
+        };
+    }
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(Logger logger, ThreadContext threadContext,
-                                                                                   Supplier<Engine> engineSupplier) {
+                                                                                   TranslogGroupCommitter.ShardSyncer translogSyncer) {
         return new AsyncIOProcessor<Translog.Location>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
-                try {
-                    engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
-                } catch (AlreadyClosedException ex) {
-                    // that's fine since we already synced everything on engine close - this also is conform with the methods
-                    // documentation
-                } catch (IOException ex) { // if this fails we are in deep shit - fail the request
-                    logger.debug("failed to sync translog", ex);
-                    throw ex;
-                }
+                translogSyncer.ensureSynced(candidates.stream().map(Tuple::v1));
             }
         };
     }
@@ -3140,10 +3220,15 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * one thread blocking on the sync an all others can continue indexing.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
+     * If translog group commit is enabled, the sync is batched with the syncs of the other shards on the same data path instead.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        if (translogGroupCommit != null) {
+            translogGroupCommit.sync(location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
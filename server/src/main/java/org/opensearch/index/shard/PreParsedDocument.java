@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.ParsedDocument;
+
+/**
+ * A document parsed ahead of its indexing on the primary, see {@link IndexShard#preParseDocument}, or the failure to parse it. It is
+ * only used if the document mapper it was parsed with is still the current one when the operation is applied.
+ */
+public final class PreParsedDocument {
+
+    private final DocumentMapper documentMapper;
+    private final ParsedDocument parsedDocument;
+    private final Exception failure;
+    private final long parseTimeInNanos;
+
+    PreParsedDocument(DocumentMapper documentMapper, @Nullable ParsedDocument parsedDocument, @Nullable Exception failure,
+                      long parseTimeInNanos) {
+        assert (parsedDocument == null) != (failure == null);
+        this.documentMapper = documentMapper;
+        this.parsedDocument = parsedDocument;
+        this.failure = failure;
+        this.parseTimeInNanos = parseTimeInNanos;
+    }
+
+    DocumentMapper documentMapper() {
+        return documentMapper;
+    }
+
+    @Nullable
+    ParsedDocument parsedDocument() {
+        return parsedDocument;
+    }
+
+    /**
+     * The failure to parse the document, which is reported when the operation is applied.
+     */
+    @Nullable
+    Exception failure() {
+        return failure;
+    }
+
+    /**
+     * The time it took to parse the document, which is accounted in the time taken by the operation.
+     */
+    long parseTimeInNanos() {
+        return parseTimeInNanos;
+    }
+}
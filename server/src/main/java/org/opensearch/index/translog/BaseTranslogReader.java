@@ -127,13 +127,17 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
 
     protected Translog.Operation read(BufferedChecksumStreamInput inStream) throws IOException {
         final Translog.Operation op = Translog.readOperation(inStream);
+        verifyPrimaryTerm(op);
+        return op;
+    }
+
+    protected final void verifyPrimaryTerm(Translog.Operation op) {
         if (op.primaryTerm() > getPrimaryTerm() && getPrimaryTerm() != SequenceNumbers.UNASSIGNED_PRIMARY_TERM) {
             throw new TranslogCorruptedException(
                     path.toString(),
                     "operation's term is newer than translog header term; " +
                     "operation term[" + op.primaryTerm() + "], translog header term [" + getPrimaryTerm() + "]");
         }
-        return op;
     }
 
     /**
@@ -33,6 +33,7 @@
 package org.opensearch.index.translog;
 
 import com.carrotsearch.hppc.LongObjectHashMap;
+import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.seqno.CountedBitSet;
 import org.opensearch.index.seqno.SequenceNumbers;
 
@@ -93,7 +94,11 @@ final class MultiSnapshot implements Translog.Snapshot {
 
     @Override
     public void close() throws IOException {
-        onClose.close();
+        try {
+            IOUtils.close(translogs);
+        } finally {
+            onClose.close();
+        }
     }
 
     static final class SeqNoSet {
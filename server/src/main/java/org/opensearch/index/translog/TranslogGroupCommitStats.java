@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.metrics.HistogramMetric;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node level statistics of the {@link TranslogGroupCommitter}: the number of batches, the number of sync requests and shard syncs
+ * they contained, and histograms of the number of sync requests per batch and of the time it took to process a batch.
+ */
+public class TranslogGroupCommitStats implements Writeable, ToXContentFragment {
+
+    private final long batches;
+    private final long syncRequests;
+    private final long shardSyncs;
+    private final long failedShardSyncs;
+    private final long totalTimeInMicros;
+    private final long[] batchSizeHistogram;
+    private final long[] latencyHistogram;
+
+    public TranslogGroupCommitStats(long batches, long syncRequests, long shardSyncs, long failedShardSyncs, long totalTimeInMicros,
+                                    long[] batchSizeHistogram, long[] latencyHistogram) {
+        this.batches = batches;
+        this.syncRequests = syncRequests;
+        this.shardSyncs = shardSyncs;
+        this.failedShardSyncs = failedShardSyncs;
+        this.totalTimeInMicros = totalTimeInMicros;
+        this.batchSizeHistogram = batchSizeHistogram;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    public TranslogGroupCommitStats(StreamInput in) throws IOException {
+        batches = in.readVLong();
+        syncRequests = in.readVLong();
+        shardSyncs = in.readVLong();
+        failedShardSyncs = in.readVLong();
+        totalTimeInMicros = in.readVLong();
+        batchSizeHistogram = in.readVLongArray();
+        latencyHistogram = in.readVLongArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(batches);
+        out.writeVLong(syncRequests);
+        out.writeVLong(shardSyncs);
+        out.writeVLong(failedShardSyncs);
+        out.writeVLong(totalTimeInMicros);
+        out.writeVLongArray(batchSizeHistogram);
+        out.writeVLongArray(latencyHistogram);
+    }
+
+    /**
+     * The number of batches that were processed.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * The number of sync requests of all batches.
+     */
+    public long getSyncRequests() {
+        return syncRequests;
+    }
+
+    /**
+     * The number of shard translog syncs of all batches, requests of the same shard in a batch are synced together.
+     */
+    public long getShardSyncs() {
+        return shardSyncs;
+    }
+
+    public long getFailedShardSyncs() {
+        return failedShardSyncs;
+    }
+
+    public long getTotalTimeInMicros() {
+        return totalTimeInMicros;
+    }
+
+    /**
+     * The number of batches per batch size bucket, see {@link HistogramMetric} for the bounds of the buckets.
+     */
+    public long[] getBatchSizeHistogram() {
+        return batchSizeHistogram;
+    }
+
+    /**
+     * The number of batches per latency bucket in microseconds, see {@link HistogramMetric} for the bounds of the buckets.
+     */
+    public long[] getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.TRANSLOG_GROUP_COMMIT);
+        builder.field(Fields.BATCHES, batches);
+        builder.field(Fields.SYNC_REQUESTS, syncRequests);
+        builder.field(Fields.SHARD_SYNCS, shardSyncs);
+        builder.field(Fields.FAILED_SHARD_SYNCS, failedShardSyncs);
+        builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME,
+            new TimeValue(TimeUnit.MICROSECONDS.toMillis(totalTimeInMicros)));
+        histogramToXContent(builder, Fields.BATCH_SIZE_HISTOGRAM, batchSizeHistogram, Fields.GE, Fields.LT);
+        histogramToXContent(builder, Fields.LATENCY_HISTOGRAM, latencyHistogram, Fields.GE_MICROS, Fields.LT_MICROS);
+        builder.endObject();
+        return builder;
+    }
+
+    private static void histogramToXContent(XContentBuilder builder, String name, long[] histogram, String lowerBoundField,
+                                            String upperBoundField) throws IOException {
+        builder.startArray(name);
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] == 0) {
+                continue;
+            }
+            builder.startObject();
+            if (bucket > 0) {
+                builder.field(lowerBoundField, HistogramMetric.upperBound(bucket - 1));
+            }
+            if (bucket < histogram.length - 1) {
+                builder.field(upperBoundField, HistogramMetric.upperBound(bucket));
+            }
+            builder.field(Fields.COUNT, histogram[bucket]);
+            builder.endObject();
+        }
+        builder.endArray();
+    }
+
+    static final class Fields {
+        static final String TRANSLOG_GROUP_COMMIT = "translog_group_commit";
+        static final String BATCHES = "batches";
+        static final String SYNC_REQUESTS = "sync_requests";
+        static final String SHARD_SYNCS = "shard_syncs";
+        static final String FAILED_SHARD_SYNCS = "failed_shard_syncs";
+        static final String TOTAL_TIME = "total_time";
+        static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
+        static final String BATCH_SIZE_HISTOGRAM = "batch_size_histogram";
+        static final String LATENCY_HISTOGRAM = "latency_histogram";
+        static final String GE = "ge";
+        static final String LT = "lt";
+        static final String GE_MICROS = "ge_micros";
+        static final String LT_MICROS = "lt_micros";
+        static final String COUNT = "count";
+    }
+}
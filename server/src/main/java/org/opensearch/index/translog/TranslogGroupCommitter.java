@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.HistogramMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Coalesces the translog syncs of all shards on the same data path into batches. Without group commit every shard syncs its
+ * translog independently, so a node with many shards that are indexed with {@link Translog.Durability#REQUEST} durability issues
+ * many concurrent fsyncs against the same device. With group commit a single thread per data path collects the pending sync requests
+ * of all shards while the other indexing threads continue, and the locations of a shard that were requested in the same batch are
+ * synced once. The translogs of the shards of a batch are synced concurrently, so that the device can serve their fsyncs in parallel,
+ * and the listeners of a shard are notified as soon as its own translog is synced rather than once the whole batch is. The next batch
+ * starts once all shards of the previous one are synced, which bounds the number of concurrent fsyncs per data path to the number of
+ * shards of a batch.
+ * <p>
+ * The listener of a sync request is only notified once the translog of its shard was synced up to the requested location, so each
+ * request keeps its durability guarantee. A failure to sync one shard only fails the requests of this shard. Like without group
+ * commit, each shard can have up to 1024 pending sync requests before its indexing threads block, so the headroom of
+ * a data path grows with the number of its shards.
+ */
+public class TranslogGroupCommitter {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitter.class);
+
+    public static final Setting<Boolean> TRANSLOG_GROUP_COMMIT_ENABLED_SETTING =
+        Setting.boolSetting("indices.translog.group_commit.enabled", false, Setting.Property.NodeScope);
+
+    // the maximum number of pending sync requests per shard before its indexing threads block, the same as without group commit
+    static final int QUEUE_SIZE = 1024;
+    // enough buckets to distinguish all batch sizes up to the queue size
+    static final int BATCH_SIZE_BUCKETS = 12;
+    // batch latencies are tracked in microseconds, the last bucket counts batches that took more than ~8 seconds
+    static final int LATENCY_BUCKETS = 24;
+
+    private final ThreadContext threadContext;
+    private final Executor executor;
+    private final ConcurrentMap<Path, AsyncIOProcessor<SyncRequest>> processors = ConcurrentCollections.newConcurrentMap();
+    private final HistogramMetric batchSizes = new HistogramMetric(BATCH_SIZE_BUCKETS);
+    private final HistogramMetric batchLatencies = new HistogramMetric(LATENCY_BUCKETS);
+    private final CounterMetric shardSyncs = new CounterMetric();
+    private final CounterMetric failedShardSyncs = new CounterMetric();
+
+    /**
+     * @param executor the executor that syncs the translogs of the shards of a batch, except the one that the batch thread syncs
+     */
+    public TranslogGroupCommitter(ThreadContext threadContext, Executor executor) {
+        this.threadContext = threadContext;
+        this.executor = executor;
+    }
+
+    /**
+     * Syncs the translog of a shard, the function is called with the locations of all pending requests of the shard.
+     */
+    @FunctionalInterface
+    public interface ShardSyncer {
+        void ensureSynced(Stream<Translog.Location> locations) throws IOException;
+    }
+
+    /**
+     * Returns the handle that the given shard syncs its translog through, which must be created once per shard.
+     *
+     * @param dataPath the data path that holds the translog of the shard, requests are batched per data path
+     * @param syncer   syncs the translog of the shard, it groups the requests of the shard within a batch
+     */
+    public Shard newShard(Path dataPath, ShardId shardId, ShardSyncer syncer) {
+        return new Shard(processors.computeIfAbsent(dataPath, path -> new BatchProcessor()), shardId, syncer);
+    }
+
+    /**
+     * The translog of a shard whose syncs are batched with the syncs of the other shards on the same data path.
+     */
+    public static final class Shard {
+        private final AsyncIOProcessor<SyncRequest> processor;
+        private final ShardId shardId;
+        private final ShardSyncer syncer;
+        private final Semaphore pendingRequests = new Semaphore(QUEUE_SIZE);
+
+        private Shard(AsyncIOProcessor<SyncRequest> processor, ShardId shardId, ShardSyncer syncer) {
+            this.processor = processor;
+            this.shardId = shardId;
+            this.syncer = syncer;
+        }
+
+        /**
+         * Syncs the given location of the translog. The listener is notified once the location was synced, which might happen on
+         * another thread, or with the exception if the sync failed. Blocks while the shard already has 1024 pending sync
+         * requests.
+         */
+        public void sync(Translog.Location location, Consumer<Exception> listener) {
+            try {
+                pendingRequests.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                listener.accept(e);
+                return;
+            }
+            // the listener is notified by the batch once the shard is synced, and by the processor if the batch failed as a whole
+            final AtomicBoolean notified = new AtomicBoolean();
+            processor.put(new SyncRequest(shardId, syncer, location), e -> {
+                if (notified.compareAndSet(false, true)) {
+                    pendingRequests.release();
+                    listener.accept(e);
+                }
+            });
+        }
+    }
+
+    public TranslogGroupCommitStats stats() {
+        return new TranslogGroupCommitStats(batchSizes.count(), batchSizes.sum(), shardSyncs.count(), failedShardSyncs.count(),
+            batchLatencies.sum(), batchSizes.counts(), batchLatencies.counts());
+    }
+
+    private static final class SyncRequest {
+        private final ShardId shardId;
+        private final ShardSyncer syncer;
+        private final Translog.Location location;
+
+        private SyncRequest(ShardId shardId, ShardSyncer syncer, Translog.Location location) {
+            this.shardId = shardId;
+            this.syncer = syncer;
+            this.location = location;
+        }
+    }
+
+    private final class BatchProcessor extends AsyncIOProcessor<SyncRequest> {
+
+        private BatchProcessor() {
+            // the pending requests are bounded per shard
+            super(logger, threadContext);
+        }
+
+        @Override
+        protected void write(List<Tuple<SyncRequest, Consumer<Exception>>> candidates) {
+            final long startNanos = System.nanoTime();
+            final Map<ShardSyncer, List<Tuple<SyncRequest, Consumer<Exception>>>> requestsPerShard = new IdentityHashMap<>();
+            for (Tuple<SyncRequest, Consumer<Exception>> candidate : candidates) {
+                requestsPerShard.computeIfAbsent(candidate.v1().syncer, s -> new ArrayList<>()).add(candidate);
+            }
+            final List<Map.Entry<ShardSyncer, List<Tuple<SyncRequest, Consumer<Exception>>>>> shards =
+                new ArrayList<>(requestsPerShard.entrySet());
+            // each shard notifies its listeners once it is synced, the next batch waits for all shards of this one
+            final CountDownLatch forkedSyncs = new CountDownLatch(shards.size() - 1);
+            for (int i = 1; i < shards.size(); i++) {
+                final Map.Entry<ShardSyncer, List<Tuple<SyncRequest, Consumer<Exception>>>> shard = shards.get(i);
+                try {
+                    executor.execute(() -> {
+                        try {
+                            syncShard(shard.getKey(), shard.getValue());
+                        } finally {
+                            forkedSyncs.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    syncShard(shard.getKey(), shard.getValue());
+                    forkedSyncs.countDown();
+                }
+            }
+            syncShard(shards.get(0).getKey(), shards.get(0).getValue());
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    forkedSyncs.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            shardSyncs.inc(requestsPerShard.size());
+            batchSizes.inc(candidates.size());
+            batchLatencies.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        }
+
+        private void syncShard(ShardSyncer syncer, List<Tuple<SyncRequest, Consumer<Exception>>> requests) {
+            Exception failure = null;
+            try {
+                syncer.ensureSynced(requests.stream().map(request -> request.v1().location));
+            } catch (Exception e) {
+                logger.debug(new ParameterizedMessage("{} failed to sync translog", requests.get(0).v1().shardId), e);
+                failedShardSyncs.inc();
+                failure = e;
+            }
+            for (Tuple<SyncRequest, Consumer<Exception>> request : requests) {
+                try {
+                    request.v2().accept(failure);
+                } catch (Exception e) {
+                    logger.warn("failed to notify callback", e);
+                }
+            }
+        }
+    }
+}
@@ -125,6 +125,12 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
         return length;
     }
 
+    @Override
+    public TranslogSnapshot newSnapshot() {
+        // the generation of a reader is immutable, so its snapshots can read it through a memory mapped buffer
+        return new TranslogSnapshot(this, sizeInBytes(), TranslogSnapshot.MMAP_SNAPSHOTS && sizeInBytes() <= Integer.MAX_VALUE);
+    }
+
     public int totalOperations() {
         return totalOperations;
     }
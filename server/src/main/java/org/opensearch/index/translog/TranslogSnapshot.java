@@ -31,14 +31,32 @@
 
 package org.opensearch.index.translog;
 
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.Constants;
+import org.opensearch.common.Booleans;
 import org.opensearch.common.io.Channels;
+import org.opensearch.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
+import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * A snapshot of the operations of a single translog generation. Snapshots of immutable generations can read the generation through
+ * a memory mapped buffer instead of reading each operation out of the file channel. In that case the checksum of an operation is
+ * verified in one pass over the mapped bytes and the operation is then deserialized from the mapped bytes. Deserializing still copies
+ * the source of the operation to the heap, since operations outlive the snapshot. The mapping is released once the snapshot is closed
+ * and its buffer is garbage collected.
+ */
+final class TranslogSnapshot extends BaseTranslogReader implements Closeable {
 
-final class TranslogSnapshot extends BaseTranslogReader {
+    // memory mapping is only used on 64 bit JVMs and not on Windows, where mapped files can't be deleted
+    static final boolean MMAP_SNAPSHOTS = Constants.JRE_IS_64BIT && Constants.WINDOWS == false
+        && Booleans.parseBoolean(System.getProperty("opensearch.translog.mmap_snapshots", "true"));
 
     private final int totalOperations;
     private final Checkpoint checkpoint;
@@ -49,12 +67,26 @@ final class TranslogSnapshot extends BaseTranslogReader {
     private int skippedOperations;
     private int readOperations;
     private BufferedChecksumStreamInput reuse;
+    private final boolean mmap;
+    private ByteBuffer mapped;
+    private CRC32 checksum;
+    private boolean closed;
 
     /**
      * Create a snapshot of translog file channel.
      */
     TranslogSnapshot(final BaseTranslogReader reader, final long length) {
+        this(reader, length, false);
+    }
+
+    /**
+     * Create a snapshot of translog file channel that reads the operations through a memory mapped buffer if <code>mmap</code> is
+     * set. This must only be set if the file is not written to anymore and its length fits into a single buffer.
+     */
+    TranslogSnapshot(final BaseTranslogReader reader, final long length, final boolean mmap) {
         super(reader.generation, reader.channel, reader.path, reader.header);
+        assert mmap == false || length <= Integer.MAX_VALUE : "can't map translog of length [" + length + "]";
+        this.mmap = mmap;
         this.length = length;
         this.totalOperations = reader.totalOperations();
         this.checkpoint = reader.getCheckpoint();
@@ -78,7 +110,10 @@ final class TranslogSnapshot extends BaseTranslogReader {
         return checkpoint;
     }
 
-    public Translog.Operation next() throws IOException {
+    public synchronized Translog.Operation next() throws IOException {
+        if (closed) {
+            throw new AlreadyClosedException("snapshot of translog generation [" + generation + "] is already closed");
+        }
         while (readOperations < totalOperations) {
             final Translog.Operation operation = readOperation();
             if (operation.seqNo() <= checkpoint.trimmedAboveSeqNo || checkpoint.trimmedAboveSeqNo == SequenceNumbers.UNASSIGNED_SEQ_NO) {
@@ -90,6 +125,9 @@ final class TranslogSnapshot extends BaseTranslogReader {
     }
 
     private Translog.Operation readOperation() throws IOException {
+        if (mmap) {
+            return readMappedOperation();
+        }
         final int opSize = readSize(reusableBuffer, position);
         reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
         Translog.Operation op = read(reuse);
@@ -98,10 +136,77 @@ final class TranslogSnapshot extends BaseTranslogReader {
         return op;
     }
 
+    private Translog.Operation readMappedOperation() throws IOException {
+        if (mapped == null) {
+            if (channel.size() < length) {
+                throw new TranslogCorruptedException(path.toString(), "translog truncated", new EOFException("translog of length ["
+                    + channel.size() + "] is shorter than expected [" + length + "], generation: [" + getGeneration() + "]"));
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            checksum = new CRC32();
+        }
+        if (position + 4 > length) {
+            throw new TranslogCorruptedException(path.toString(), "translog truncated", new EOFException("read requested past EOF. pos ["
+                + position + "] end: [" + length + "], generation: [" + getGeneration() + "], path: [" + path + "]"));
+        }
+        final int offset = Math.toIntExact(position);
+        // Add an extra 4 to account for the operation size integer itself
+        final int opSize = mapped.getInt(offset) + 4;
+        final long maxSize = length - position;
+        if (opSize < 0 || opSize > maxSize) {
+            throw new TranslogCorruptedException(path.toString(), "operation size is corrupted must be [0.." + maxSize + "] but was: "
+                + opSize);
+        }
+        // the checksum is written after the operation and does not cover the operation size
+        if (opSize < 8) {
+            throw new TranslogCorruptedException(path.toString(), "operation size must be at least 4 but was: " + (opSize - 4));
+        }
+        final int operationStart = offset + 4;
+        final int operationEnd = offset + opSize - 4;
+        final ByteBuffer operation = mapped.duplicate();
+        operation.limit(operationEnd);
+        operation.position(operationStart);
+        checksum.reset();
+        checksum.update(operation);
+        final long expectedChecksum = checksum.getValue();
+        final long readChecksum = Integer.toUnsignedLong(mapped.getInt(operationEnd));
+        if (readChecksum != expectedChecksum) {
+            throw new TranslogCorruptedException(path.toString(), "checksum verification failed - expected: 0x" +
+                Long.toHexString(expectedChecksum) + ", got: 0x" + Long.toHexString(readChecksum));
+        }
+        operation.position(operationStart);
+        final Translog.Operation op;
+        try {
+            op = Translog.Operation.readOperation(new ByteBufferStreamInput(operation));
+        } catch (EOFException e) {
+            throw new TruncatedTranslogException(path.toString(), "reached premature end of file, translog is truncated", e);
+        }
+        if (operation.hasRemaining()) {
+            throw new TranslogCorruptedException(path.toString(), "operation size is corrupted, [" + operation.remaining()
+                + "] bytes were not read");
+        }
+        verifyPrimaryTerm(op);
+        position += opSize;
+        readOperations++;
+        return op;
+    }
+
     public long sizeInBytes() {
         return length;
     }
 
+    /**
+     * Drops the memory mapping of the generation, if any, so that it is unmapped once it is garbage collected. The operations that
+     * were read remain valid.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed == false) {
+            closed = true;
+            mapped = null;
+        }
+    }
+
     /**
      * reads an operation at the given position into the given buffer.
      */
@@ -130,6 +235,7 @@ final class TranslogSnapshot extends BaseTranslogReader {
                 ", length=" + length +
                 ", generation=" + generation +
                 ", reusableBuffer=" + reusableBuffer +
+                ", mmap=" + mmap +
                 '}';
     }
 }
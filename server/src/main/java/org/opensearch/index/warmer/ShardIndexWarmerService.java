@@ -45,6 +45,8 @@ public class ShardIndexWarmerService extends AbstractIndexShardComponent {
 
     private final CounterMetric current = new CounterMetric();
     private final MeanMetric warmerMetric = new MeanMetric();
+    private final CounterMetric globalOrdinalsCurrent = new CounterMetric();
+    private final MeanMetric globalOrdinalsMetric = new MeanMetric();
 
     public ShardIndexWarmerService(ShardId shardId, IndexSettings indexSettings) {
         super(shardId, indexSettings);
@@ -63,7 +65,17 @@ public class ShardIndexWarmerService extends AbstractIndexShardComponent {
         warmerMetric.inc(tookInNanos);
     }
 
+    public void onPreGlobalOrdinalsWarm() {
+        globalOrdinalsCurrent.inc();
+    }
+
+    public void onPostGlobalOrdinalsWarm(long tookInNanos) {
+        globalOrdinalsCurrent.dec();
+        globalOrdinalsMetric.inc(tookInNanos);
+    }
+
     public WarmerStats stats() {
-        return new WarmerStats(current.count(), warmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(warmerMetric.sum()));
+        return new WarmerStats(current.count(), warmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(warmerMetric.sum()),
+            globalOrdinalsCurrent.count(), globalOrdinalsMetric.count(), TimeUnit.NANOSECONDS.toMillis(globalOrdinalsMetric.sum()));
     }
 }
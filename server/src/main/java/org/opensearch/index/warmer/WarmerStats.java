@@ -32,6 +32,7 @@
 
 package org.opensearch.index.warmer;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -49,6 +50,12 @@ public class WarmerStats implements Writeable, ToXContentFragment {
 
     private long totalTimeInMillis;
 
+    private long globalOrdinalsCurrent;
+
+    private long globalOrdinalsTotal;
+
+    private long globalOrdinalsTotalTimeInMillis;
+
     public WarmerStats() {
 
     }
@@ -57,12 +64,25 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         current = in.readVLong();
         total = in.readVLong();
         totalTimeInMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            globalOrdinalsCurrent = in.readVLong();
+            globalOrdinalsTotal = in.readVLong();
+            globalOrdinalsTotalTimeInMillis = in.readVLong();
+        }
     }
 
     public WarmerStats(long current, long total, long totalTimeInMillis) {
+        this(current, total, totalTimeInMillis, 0, 0, 0);
+    }
+
+    public WarmerStats(long current, long total, long totalTimeInMillis,
+                       long globalOrdinalsCurrent, long globalOrdinalsTotal, long globalOrdinalsTotalTimeInMillis) {
         this.current = current;
         this.total = total;
         this.totalTimeInMillis = totalTimeInMillis;
+        this.globalOrdinalsCurrent = globalOrdinalsCurrent;
+        this.globalOrdinalsTotal = globalOrdinalsTotal;
+        this.globalOrdinalsTotalTimeInMillis = globalOrdinalsTotalTimeInMillis;
     }
 
     public void add(long current, long total, long totalTimeInMillis) {
@@ -78,6 +98,9 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         this.current += warmerStats.current;
         this.total += warmerStats.total;
         this.totalTimeInMillis += warmerStats.totalTimeInMillis;
+        this.globalOrdinalsCurrent += warmerStats.globalOrdinalsCurrent;
+        this.globalOrdinalsTotal += warmerStats.globalOrdinalsTotal;
+        this.globalOrdinalsTotalTimeInMillis += warmerStats.globalOrdinalsTotalTimeInMillis;
     }
 
     public long current() {
@@ -105,12 +128,45 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         return new TimeValue(totalTimeInMillis);
     }
 
+    /**
+     * The number of global ordinals that are being built by the warmer.
+     */
+    public long globalOrdinalsCurrent() {
+        return this.globalOrdinalsCurrent;
+    }
+
+    /**
+     * The total number of global ordinals that have been built by the warmer, including in the background.
+     */
+    public long globalOrdinalsTotal() {
+        return this.globalOrdinalsTotal;
+    }
+
+    /**
+     * The total time the warmer spent building global ordinals (in milliseconds).
+     */
+    public long globalOrdinalsTotalTimeInMillis() {
+        return this.globalOrdinalsTotalTimeInMillis;
+    }
+
+    /**
+     * The total time the warmer spent building global ordinals.
+     */
+    public TimeValue globalOrdinalsTotalTime() {
+        return new TimeValue(globalOrdinalsTotalTimeInMillis);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.WARMER);
         builder.field(Fields.CURRENT, current);
         builder.field(Fields.TOTAL, total);
         builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, totalTime());
+        builder.startObject(Fields.GLOBAL_ORDINALS);
+        builder.field(Fields.CURRENT, globalOrdinalsCurrent);
+        builder.field(Fields.TOTAL, globalOrdinalsTotal);
+        builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, globalOrdinalsTotalTime());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -121,6 +177,7 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String TOTAL_TIME = "total_time";
         static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
+        static final String GLOBAL_ORDINALS = "global_ordinals";
     }
 
     @Override
@@ -128,5 +185,10 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         out.writeVLong(current);
         out.writeVLong(total);
         out.writeVLong(totalTimeInMillis);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(globalOrdinalsCurrent);
+            out.writeVLong(globalOrdinalsTotal);
+            out.writeVLong(globalOrdinalsTotalTimeInMillis);
+        }
     }
 }
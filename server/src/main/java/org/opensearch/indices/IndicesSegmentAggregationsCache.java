@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A node level cache of the partial aggregation results of single segments. Unlike the {@link IndicesRequestCache}, which keys
+ * the results of a whole shard on the exact request, entries are keyed on the core of a segment and on the parts of the request
+ * that the results of that segment depend on. This allows requests that filter on a range relative to "now", which are never
+ * the same twice, to only compute the aggregations of the segments that were added since the previous request and to reuse the
+ * results of the segments whose values all fall within the range of both requests.
+ * <p>
+ * Segments are immutable, so entries never get stale: they are invalidated when the core of their segment is closed and are
+ * otherwise evicted by size. Since deleted documents are not part of the core of a segment, only the results of segments
+ * without deletions may be cached.
+ */
+public final class IndicesSegmentAggregationsCache implements RemovalListener<IndicesSegmentAggregationsCache.Key, BytesReference>,
+    Closeable {
+
+    /**
+     * A setting to enable or disable caching the aggregations of segments on an index level.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING =
+        Setting.boolSetting("index.requests.cache.segment_aggregations.enable", false, Property.Dynamic, Property.IndexScope);
+    public static final Setting<ByteSizeValue> INDICES_CACHE_SEGMENT_AGGREGATIONS_SIZE =
+        Setting.memorySizeSetting("indices.requests.cache.segment_aggregations.size", "1%", Property.NodeScope);
+
+    private final ConcurrentMap<Object, Set<Key>> keysBySegment = ConcurrentCollections.newConcurrentMap();
+    private final Cache<Key, BytesReference> cache;
+    private final CounterMetric hitCount = new CounterMetric();
+    private final CounterMetric missCount = new CounterMetric();
+
+    public IndicesSegmentAggregationsCache(Settings settings) {
+        cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(INDICES_CACHE_SEGMENT_AGGREGATIONS_SIZE.get(settings).getBytes())
+            .weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed())
+            .removalListener(this)
+            .setBufferedPromotions(true)
+            .build();
+    }
+
+    /**
+     * Returns the cached results of the given segment for the given request key, or {@code null} if there are none.
+     */
+    @Nullable
+    public BytesReference get(IndexReader.CacheHelper segment, Accountable requestKey) {
+        final BytesReference value = cache.get(new Key(segment.getKey(), requestKey));
+        if (value == null) {
+            missCount.inc();
+        } else {
+            hitCount.inc();
+        }
+        return value;
+    }
+
+    /**
+     * Caches the results of the given segment for the given request key until the core of the segment is closed.
+     */
+    public void put(IndexReader.CacheHelper segment, Accountable requestKey, BytesReference value) {
+        final Key key = new Key(segment.getKey(), requestKey);
+        final Set<Key> keys = keysBySegment.computeIfAbsent(key.segment, k -> {
+            segment.addClosedListener(this::onClose);
+            return ConcurrentCollections.newConcurrentSet();
+        });
+        keys.add(key);
+        cache.put(key, value);
+        if (keysBySegment.get(key.segment) != keys) {
+            // the segment was closed concurrently
+            cache.invalidate(key);
+        }
+    }
+
+    private void onClose(IndexReader.CacheKey segment) {
+        final Set<Key> keys = keysBySegment.remove(segment);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
+        final Set<Key> keys = keysBySegment.get(notification.getKey().segment);
+        if (keys != null) {
+            keys.remove(notification.getKey());
+        }
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The number of lookups that found the results of a segment in the cache.
+     */
+    public long hitCount() {
+        return hitCount.count();
+    }
+
+    /**
+     * The number of lookups that didn't find the results of a segment in the cache.
+     */
+    public long missCount() {
+        return missCount.count();
+    }
+
+    /**
+     * The number of cached segment results.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    static final class Key implements Accountable {
+
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        private final Object segment;
+        private final Accountable requestKey;
+
+        Key(Object segment, Accountable requestKey) {
+            this.segment = segment;
+            this.requestKey = requestKey;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return segment.equals(key.segment) && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * segment.hashCode() + requestKey.hashCode();
+        }
+    }
+}
@@ -130,6 +130,8 @@ import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
+import org.opensearch.index.translog.TranslogGroupCommitter;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -232,6 +234,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval;
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    private final IndicesSegmentAggregationsCache indicesSegmentAggregationsCache;
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -247,6 +250,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private final Set<Index> danglingIndicesToWrite = Sets.newConcurrentHashSet();
     private final boolean nodeWriteDanglingIndicesInfo;
     private final ValuesSourceRegistry valuesSourceRegistry;
+    @Nullable
+    private final TranslogGroupCommitter translogGroupCommitter;
 
     @Override
     protected void doStart() {
@@ -272,6 +277,7 @@ public class IndicesService extends AbstractLifecycleComponent
         this.analysisRegistry = analysisRegistry;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.indicesRequestCache = new IndicesRequestCache(settings);
+        this.indicesSegmentAggregationsCache = new IndicesSegmentAggregationsCache(settings);
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -298,6 +304,8 @@ public class IndicesService extends AbstractLifecycleComponent
         this.cacheCleaner = new CacheCleaner(indicesFieldDataCache, indicesRequestCache,  logger, threadPool, this.cleanInterval);
         this.metaStateService = metaStateService;
         this.engineFactoryProviders = engineFactoryProviders;
+        this.translogGroupCommitter = TranslogGroupCommitter.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.get(settings)
+            ? new TranslogGroupCommitter(threadPool.getThreadContext(), threadPool.executor(ThreadPool.Names.GENERIC)) : null;
 
         // do not allow any plugin-provided index store type to conflict with a built-in type
         for (final String indexStoreType : directoryFactories.keySet()) {
@@ -323,6 +331,7 @@ public class IndicesService extends AbstractLifecycleComponent
                             indicesFieldDataCache,
                             cacheCleaner,
                             indicesRequestCache,
+                            indicesSegmentAggregationsCache,
                             indicesQueryCache);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
@@ -682,7 +691,8 @@ public class IndicesService extends AbstractLifecycleComponent
                 indicesFieldDataCache,
                 namedWriteableRegistry,
                 this::isIdFieldDataEnabled,
-                valuesSourceRegistry
+                valuesSourceRegistry,
+                translogGroupCommitter
         );
     }
 
@@ -1389,6 +1399,41 @@ public class IndicesService extends AbstractLifecycleComponent
     }
 
 
+    /**
+     * Can the aggregations of the shard request be cached per segment? Unlike {@link #canCache}, this doesn't require the
+     * query to be independent of the current time, see {@link IndicesSegmentAggregationsCache}.
+     */
+    public boolean canCacheSegmentAggregations(ShardSearchRequest request, SearchContext context) {
+        if (context.aggregations() == null || context.aggregations().dependsOnNow()) {
+            return false;
+        }
+        // same as the request cache, see canCache
+        if (request.scroll() != null || SearchType.QUERY_THEN_FETCH != context.searchType()) {
+            return false;
+        }
+        if (request.source() != null && request.source().profile()) {
+            return false;
+        }
+        if (request.requestCache() == Boolean.FALSE
+            || context.indexShard().indexSettings().getValue(
+                IndicesSegmentAggregationsCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING) == false) {
+            return false;
+        }
+        // these change which documents are collected
+        if (context.minimumScore() != null || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return false;
+        }
+        // the results of the segments are merged with a partial reduction like the slices of a concurrent segment search
+        if (context.aggregations().factories().allFactoriesSupportConcurrentSegmentSearch() == false) {
+            return false;
+        }
+        return context.getQueryShardContext().isDeterministic();
+    }
+
+    public IndicesSegmentAggregationsCache getSegmentAggregationsCache() {
+        return indicesSegmentAggregationsCache;
+    }
+
     /**
      * Loads the cache result, computing it if needed by executing the query phase and otherwise deserializing the cached
      * value into the {@link SearchContext#queryResult() context's query result}. The combination of load + compute allows
@@ -1429,6 +1474,14 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Returns the statistics of the translog group commit or <code>null</code> if translog group commit is disabled.
+     */
+    @Nullable
+    public TranslogGroupCommitStats getTranslogGroupCommitStats() {
+        return translogGroupCommitter == null ? null : translogGroupCommitter.stats();
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
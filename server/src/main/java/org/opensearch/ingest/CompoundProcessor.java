@@ -40,7 +40,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -60,6 +59,7 @@ public class CompoundProcessor implements Processor {
     private final List<Processor> onFailureProcessors;
     private final List<Tuple<Processor, IngestMetric>> processorsWithMetrics;
     private final LongSupplier relativeTimeProvider;
+    private final boolean synchronous;
 
     CompoundProcessor(LongSupplier relativeTimeProvider, Processor... processor) {
         this(false, Arrays.asList(processor), Collections.emptyList(), relativeTimeProvider);
@@ -81,6 +81,8 @@ public class CompoundProcessor implements Processor {
         this.relativeTimeProvider = relativeTimeProvider;
         this.processorsWithMetrics = new ArrayList<>(processors.size());
         processors.forEach(p -> processorsWithMetrics.add(new Tuple<>(p, new IngestMetric())));
+        this.synchronous = processors.stream().allMatch(Processor::isSynchronous)
+            && onFailureProcessors.stream().allMatch(Processor::isSynchronous);
     }
 
     List<Tuple<Processor, IngestMetric>> getProcessorsWithMetrics() {
@@ -132,9 +134,32 @@ public class CompoundProcessor implements Processor {
         return null;
     }
 
+    /**
+     * A compound processor is synchronous if all its processors, including its on failure processors, are synchronous. It
+     * is then executed inline by the compound processor that holds it, so that the processors of a pipeline, including the
+     * ones that ignore or handle their failures, run in a single loop.
+     */
+    @Override
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
-        throw new UnsupportedOperationException("this method should not get executed");
+        if (synchronous == false) {
+            throw new UnsupportedOperationException("this method should not get executed");
+        }
+        // all processors are synchronous, so the handler is called before innerExecute returns
+        final IngestDocument[] result = new IngestDocument[1];
+        final Exception[] failure = new Exception[1];
+        innerExecute(0, ingestDocument, (r, e) -> {
+            result[0] = r;
+            failure[0] = e;
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return result[0];
     }
 
     @Override
@@ -143,6 +168,40 @@ public class CompoundProcessor implements Processor {
     }
 
     void innerExecute(int currentProcessor, IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> handler) {
+        // run synchronous processors in a loop, only asynchronous processors continue the execution in a callback
+        while (currentProcessor < processorsWithMetrics.size() && processorsWithMetrics.get(currentProcessor).v1().isSynchronous()) {
+            Tuple<Processor, IngestMetric> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+            final Processor processor = processorWithMetric.v1();
+            final IngestMetric metric = processorWithMetric.v2();
+            final long startTimeInNanos = relativeTimeProvider.getAsLong();
+            metric.preIngest();
+            final IngestDocument result;
+            try {
+                result = processor.execute(ingestDocument);
+            } catch (Exception e) {
+                metric.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
+                metric.ingestFailed();
+                if (ignoreFailure) {
+                    currentProcessor++;
+                    continue;
+                }
+                IngestProcessorException compoundProcessorException = newCompoundProcessorException(e, processor, ingestDocument);
+                if (onFailureProcessors.isEmpty()) {
+                    handler.accept(null, compoundProcessorException);
+                } else {
+                    executeOnFailureAsync(0, ingestDocument, compoundProcessorException, handler);
+                }
+                return;
+            }
+            metric.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            if (result == null) {
+                handler.accept(null, null);
+                return;
+            }
+            ingestDocument = result;
+            currentProcessor++;
+        }
+
         if (currentProcessor == processorsWithMetrics.size()) {
             handler.accept(ingestDocument, null);
             return;
@@ -153,26 +212,27 @@ public class CompoundProcessor implements Processor {
         final IngestMetric metric = processorWithMetric.v2();
         final long startTimeInNanos = relativeTimeProvider.getAsLong();
         metric.preIngest();
-        processor.execute(ingestDocument, (result, e) -> {
-            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
-            metric.postIngest(ingestTimeInMillis);
+        final int nextProcessor = currentProcessor + 1;
+        final IngestDocument document = ingestDocument;
+        processor.execute(document, (result, e) -> {
+            metric.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
 
             if (e != null) {
                 metric.ingestFailed();
                 if (ignoreFailure) {
-                    innerExecute(currentProcessor + 1, ingestDocument, handler);
+                    innerExecute(nextProcessor, document, handler);
                 } else {
                     IngestProcessorException compoundProcessorException =
-                        newCompoundProcessorException(e, processor, ingestDocument);
+                        newCompoundProcessorException(e, processor, document);
                     if (onFailureProcessors.isEmpty()) {
                         handler.accept(null, compoundProcessorException);
                     } else {
-                        executeOnFailureAsync(0, ingestDocument, compoundProcessorException, handler);
+                        executeOnFailureAsync(0, document, compoundProcessorException, handler);
                     }
                 }
             } else {
                 if (result != null) {
-                    innerExecute(currentProcessor + 1, result, handler);
+                    innerExecute(nextProcessor, result, handler);
                 } else {
                     handler.accept(null, null);
                 }
@@ -49,7 +49,6 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -116,8 +115,7 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
             final long startTimeInNanos = relativeTimeProvider.getAsLong();
             metric.preIngest();
             processor.execute(ingestDocument, (result, e) -> {
-                long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
-                metric.postIngest(ingestTimeInMillis);
+                metric.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
                 if (e != null) {
                     metric.ingestFailed();
                     handler.accept(null, e);
@@ -130,9 +128,32 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
         }
     }
 
+    /**
+     * A conditional processor is synchronous if the processor it wraps is.
+     */
+    @Override
+    public boolean isSynchronous() {
+        return processor.isSynchronous();
+    }
+
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
-        throw new UnsupportedOperationException("this method should not get executed");
+        if (processor.isSynchronous() == false) {
+            throw new UnsupportedOperationException("this method should not get executed");
+        }
+        if (evaluate(ingestDocument) == false) {
+            return ingestDocument;
+        }
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metric.preIngest();
+        try {
+            return processor.execute(ingestDocument);
+        } catch (Exception e) {
+            metric.ingestFailed();
+            throw e;
+        } finally {
+            metric.postIngest(relativeTimeProvider.getAsLong() - startTimeInNanos);
+        }
     }
 
     boolean evaluate(IngestDocument ingestDocument) {
@@ -51,6 +51,11 @@ public final class DropProcessor extends AbstractProcessor {
         return null;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -35,6 +35,7 @@ package org.opensearch.ingest;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -73,11 +74,12 @@ class IngestMetric {
 
     /**
      * Call this after the performing the ingest action, even if the action failed.
-     * @param ingestTimeInMillis The time it took to perform the action.
+     * @param ingestTimeInNanos The time it took to perform the action. It is accumulated in nanoseconds, since many actions take
+     *                          less than a millisecond.
      */
-    void postIngest(long ingestTimeInMillis) {
+    void postIngest(long ingestTimeInNanos) {
         ingestCurrent.decrementAndGet();
-        ingestTime.inc(ingestTimeInMillis);
+        ingestTime.inc(ingestTimeInNanos);
         ingestCount.inc();
     }
 
@@ -105,6 +107,7 @@ class IngestMetric {
      * Creates a serializable representation for these metrics.
      */
     IngestStats.Stats createStats() {
-        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count());
+        return new IngestStats.Stats(ingestCount.count(), TimeUnit.NANOSECONDS.toMillis(ingestTime.sum()), ingestCurrent.get(),
+            ingestFailed.count());
     }
 }
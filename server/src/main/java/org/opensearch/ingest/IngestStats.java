@@ -129,7 +129,12 @@ public class IngestStats implements Writeable, ToXContentFragment {
         builder.startObject("pipelines");
         for (PipelineStat pipelineStat : pipelineStats) {
             builder.startObject(pipelineStat.getPipelineId());
-            pipelineStat.getStats().toXContent(builder, params);
+            final Stats stats = pipelineStat.getStats();
+            stats.toXContent(builder, params);
+            if (stats.getIngestTimeInMillis() > 0) {
+                // the number of documents that the pipeline processes per second of its execution time
+                builder.field("throughput_in_docs_per_second", stats.getIngestCount() * 1000.0 / stats.getIngestTimeInMillis());
+            }
             List<ProcessorStat> processorStatsForPipeline = processorStats.get(pipelineStat.getPipelineId());
             builder.startArray("processors");
             if (processorStatsForPipeline != null) {
@@ -78,6 +78,16 @@ public interface Processor {
      */
     IngestDocument execute(IngestDocument ingestDocument) throws Exception;
 
+    /**
+     * Returns whether this processor always completes synchronously, i.e. whether {@link #execute(IngestDocument, BiConsumer)}
+     * is equivalent to calling {@link #execute(IngestDocument)}. Consecutive synchronous processors of a pipeline are executed
+     * in a loop rather than through a chain of callbacks. Processors that override {@link #execute(IngestDocument, BiConsumer)}
+     * must not return {@code true}.
+     */
+    default boolean isSynchronous() {
+        return false;
+    }
+
     /**
      * Gets the type of a processor
      */
@@ -32,6 +32,7 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -42,6 +43,7 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -51,40 +53,74 @@ import java.util.stream.Collectors;
 /**
  * Class representing statistics about adaptive replica selection. This includes
  * EWMA of queue size, service time, and response time, as well as outgoing
- * searches to each node and the "rank" based on the ARS formula.
+ * searches to each node and the "rank" based on the ARS formula. The same
+ * statistics are kept apart for gets and multi-gets.
  */
 public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
 
     private final Map<String, Long> clientOutgoingConnections;
     private final Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats;
+    private final Map<String, Long> clientOutgoingGets;
+    private final Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedGetStats;
 
     public AdaptiveSelectionStats(Map<String, Long> clientConnections,
                                   Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats) {
+        this(clientConnections, nodeComputedStats, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public AdaptiveSelectionStats(Map<String, Long> clientConnections,
+                                  Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats,
+                                  Map<String, Long> clientOutgoingGets,
+                                  Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedGetStats) {
         this.clientOutgoingConnections = clientConnections;
         this.nodeComputedStats = nodeComputedStats;
+        this.clientOutgoingGets = clientOutgoingGets;
+        this.nodeComputedGetStats = nodeComputedGetStats;
     }
 
     public AdaptiveSelectionStats(StreamInput in) throws IOException {
         this.clientOutgoingConnections = in.readMap(StreamInput::readString, StreamInput::readLong);
         this.nodeComputedStats = in.readMap(StreamInput::readString, ResponseCollectorService.ComputedNodeStats::new);
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            this.clientOutgoingGets = in.readMap(StreamInput::readString, StreamInput::readLong);
+            this.nodeComputedGetStats = in.readMap(StreamInput::readString, ResponseCollectorService.ComputedNodeStats::new);
+        } else {
+            this.clientOutgoingGets = Collections.emptyMap();
+            this.nodeComputedGetStats = Collections.emptyMap();
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeMap(this.clientOutgoingConnections, StreamOutput::writeString, StreamOutput::writeLong);
         out.writeMap(this.nodeComputedStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeMap(this.clientOutgoingGets, StreamOutput::writeString, StreamOutput::writeLong);
+            out.writeMap(this.nodeComputedGetStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
+        }
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("adaptive_selection");
+        toXContent(builder, clientOutgoingConnections, nodeComputedStats, "outgoing_searches");
+        builder.endObject();
+        builder.startObject("adaptive_selection_gets");
+        toXContent(builder, clientOutgoingGets, nodeComputedGetStats, "outgoing_gets");
+        builder.endObject();
+        return builder;
+    }
+
+    private static void toXContent(XContentBuilder builder, Map<String, Long> clientOutgoingConnections,
+                                   Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats,
+                                   String outgoingField) throws IOException {
         Set<String> allNodeIds = Sets.union(clientOutgoingConnections.keySet(), nodeComputedStats.keySet());
         for (String nodeId : allNodeIds) {
             builder.startObject(nodeId);
             ResponseCollectorService.ComputedNodeStats stats = nodeComputedStats.get(nodeId);
             if (stats != null) {
-                long outgoingSearches = clientOutgoingConnections.getOrDefault(nodeId, 0L);
-                builder.field("outgoing_searches", outgoingSearches);
+                long outgoing = clientOutgoingConnections.getOrDefault(nodeId, 0L);
+                builder.field(outgoingField, outgoing);
                 builder.field("avg_queue_size", stats.queueSize);
                 if (builder.humanReadable()) {
                     builder.field("avg_service_time", new TimeValue((long) stats.serviceTime, TimeUnit.NANOSECONDS).toString());
@@ -94,12 +130,10 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
                     builder.field("avg_response_time", new TimeValue((long) stats.responseTime, TimeUnit.NANOSECONDS).toString());
                 }
                 builder.field("avg_response_time_ns", (long) stats.responseTime);
-                builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches)));
+                builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoing)));
             }
             builder.endObject();
         }
-        builder.endObject();
-        return builder;
     }
 
     /**
@@ -120,6 +154,32 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
      * Returns a map of node id to the ranking of the nodes based on the adaptive replica formula
      */
     public Map<String, Double> getRanks() {
+        return ranks(clientOutgoingConnections, nodeComputedStats);
+    }
+
+    /**
+     * Returns a map of node id to the outgoing get and multi-get requests to that node
+     */
+    public Map<String, Long> getOutgoingGets() {
+        return clientOutgoingGets;
+    }
+
+    /**
+     * Returns a map of node id to the computed stats of get and multi-get requests
+     */
+    public Map<String, ResponseCollectorService.ComputedNodeStats> getComputedGetStats() {
+        return nodeComputedGetStats;
+    }
+
+    /**
+     * Returns a map of node id to the ranking of the nodes for get and multi-get requests based on the adaptive replica formula
+     */
+    public Map<String, Double> getGetRanks() {
+        return ranks(clientOutgoingGets, nodeComputedGetStats);
+    }
+
+    private static Map<String, Double> ranks(Map<String, Long> clientOutgoingConnections,
+                                             Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats) {
         return nodeComputedStats.entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
                                 e -> e.getValue().rank(clientOutgoingConnections.getOrDefault(e.getKey(), 0L))));
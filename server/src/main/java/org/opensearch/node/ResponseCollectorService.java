@@ -40,6 +40,8 @@ import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.IOException;
@@ -48,6 +50,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
  * Collects statistics about queue size, response time, and service time of
@@ -58,12 +62,49 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * The half-life of the queue size and response time penalties of a node that stopped reporting statistics. Without decay a node
+     * that was ranked badly during a spike would keep its rank until it receives requests again, which may never happen if all
+     * requests are routed to the other copies. A value of {@code 0} disables the decay.
+     */
+    public static final Setting<TimeValue> PENALTY_DECAY_HALF_LIFE_SETTING =
+        Setting.timeSetting("cluster.routing.adaptive_replica_selection.penalty_decay_half_life", TimeValue.timeValueSeconds(30),
+            TimeValue.ZERO, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
+    private final Map<String, Long> outstandingRequests = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+    private final LongSupplier relativeTimeNanos;
+    private final AtomicLong penaltyDecayHalfLifeNanos;
+    private final ResponseCollectorService gets;
 
     public ResponseCollectorService(ClusterService clusterService) {
+        this(clusterService, System::nanoTime);
+    }
+
+    ResponseCollectorService(ClusterService clusterService, LongSupplier relativeTimeNanos) {
+        this.relativeTimeNanos = relativeTimeNanos;
+        this.penaltyDecayHalfLifeNanos = new AtomicLong(PENALTY_DECAY_HALF_LIFE_SETTING.get(clusterService.getSettings()).nanos());
+        this.gets = new ResponseCollectorService(relativeTimeNanos, penaltyDecayHalfLifeNanos);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PENALTY_DECAY_HALF_LIFE_SETTING,
+            halfLife -> this.penaltyDecayHalfLifeNanos.set(halfLife.nanos()));
         clusterService.addListener(this);
     }
 
+    private ResponseCollectorService(LongSupplier relativeTimeNanos, AtomicLong penaltyDecayHalfLifeNanos) {
+        this.relativeTimeNanos = relativeTimeNanos;
+        this.penaltyDecayHalfLifeNanos = penaltyDecayHalfLifeNanos;
+        this.gets = this;
+    }
+
+    /**
+     * Returns the collector of the statistics of get and multi-get requests. Gets are much cheaper than searches, so their response
+     * times are kept in their own moving averages rather than dragging down the ones that searches are ranked with. The collector
+     * of gets is its own collector of gets.
+     */
+    public ResponseCollectorService gets() {
+        return gets;
+    }
+
     @Override
     public void clusterChanged(ClusterChangedEvent event) {
         if (event.nodesRemoved()) {
@@ -75,18 +116,69 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        // requests that are still in flight to the node complete as no-ops once their count is gone
+        outstandingRequests.remove(nodeId);
+        if (gets != this) {
+            gets.removeNode(nodeId);
+        }
+    }
+
+    /**
+     * Records that a request was sent to the given node, for requests that are not counted by the
+     * {@link org.opensearch.action.search.SearchTransportService}. Must be followed by exactly one call to
+     * {@link #onRequestCompleted} once the node responded or the request failed.
+     */
+    public void onRequestSent(String nodeId) {
+        outstandingRequests.compute(nodeId, (id, conns) -> conns == null ? 1 : conns + 1);
+    }
+
+    /**
+     * Records that a request that was sent to the given node with {@link #onRequestSent} completed.
+     */
+    public void onRequestCompleted(String nodeId) {
+        outstandingRequests.computeIfPresent(nodeId, (id, conns) -> conns == 1 ? null : conns - 1);
+    }
+
+    /**
+     * Returns a copy of the number of outstanding requests per node, which can be passed to
+     * {@link org.opensearch.cluster.routing.OperationRouting} to rank the shard copies and is updated by it with the copy it picks.
+     */
+    public Map<String, Long> outstandingRequests() {
+        return new HashMap<>(outstandingRequests);
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
+        final long now = relativeTimeNanos.getAsLong();
         nodeIdToStats.compute(nodeId, (id, ns) -> {
             if (ns == null) {
                 ExponentiallyWeightedMovingAverage queueEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, queueSize);
                 ExponentiallyWeightedMovingAverage responseEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
-                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
+                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos, now);
             } else {
                 ns.queueSize.addValue((double) queueSize);
                 ns.responseTime.addValue((double) responseTimeNanos);
                 ns.serviceTime = avgServiceTimeNanos;
+                ns.lastUpdateNanos = now;
+                return ns;
+            }
+        });
+    }
+
+    /**
+     * Adds the response time of a request whose response does not piggyback the queue size and service time of the node that
+     * executed it, like the gets that are recorded in the {@link #gets()} collector. A node without statistics is assumed to have an
+     * empty queue and a service time that is equal to the response time, the queue size and service time of known nodes are kept.
+     */
+    public void addResponseTime(String nodeId, long responseTimeNanos) {
+        final long now = relativeTimeNanos.getAsLong();
+        nodeIdToStats.compute(nodeId, (id, ns) -> {
+            if (ns == null) {
+                ExponentiallyWeightedMovingAverage queueEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, 0);
+                ExponentiallyWeightedMovingAverage responseEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
+                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, responseTimeNanos, now);
+            } else {
+                ns.responseTime.addValue((double) responseTimeNanos);
+                ns.lastUpdateNanos = now;
                 return ns;
             }
         });
@@ -94,16 +186,36 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
+        final long now = relativeTimeNanos.getAsLong();
         // Transform the mutable object internally used for accounting into the computed version
         Map<String, ComputedNodeStats> nodeStats = new HashMap<>(nodeIdToStats.size());
         nodeIdToStats.forEach((k, v) -> {
-            nodeStats.put(k, new ComputedNodeStats(clientNum, v));
+            nodeStats.put(k, new ComputedNodeStats(clientNum, v, penaltyDecay(v, now)));
         });
         return nodeStats;
     }
 
+    /**
+     * Returns the factor that the queue size and response time of the given node are multiplied with, which halves with every
+     * full half-life that passed since the node last reported statistics. Statistics of nodes that are actively reporting are
+     * therefore used as they are.
+     */
+    private double penaltyDecay(NodeStatistics nodeStats, long now) {
+        final long halfLife = penaltyDecayHalfLifeNanos.get();
+        if (halfLife <= 0) {
+            return 1.0;
+        }
+        final long halfLives = (now - nodeStats.lastUpdateNanos) / halfLife;
+        return halfLives <= 0 ? 1.0 : Math.pow(0.5, halfLives);
+    }
+
+    /**
+     * Returns the adaptive replica selection statistics of searches, with the given outgoing searches per node, along with the ones
+     * of the {@link #gets()} collector.
+     */
     public AdaptiveSelectionStats getAdaptiveStats(Map<String, Long> clientSearchConnections) {
-        return new AdaptiveSelectionStats(clientSearchConnections, getAllNodeStatistics());
+        return new AdaptiveSelectionStats(clientSearchConnections, getAllNodeStatistics(),
+            gets.outstandingRequests(), gets.getAllNodeStatistics());
     }
 
     /**
@@ -113,7 +225,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
      */
     public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId) {
         final int clientNum = nodeIdToStats.size();
-        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
+        final long now = relativeTimeNanos.getAsLong();
+        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns, penaltyDecay(ns, now)));
     }
 
     /**
@@ -143,9 +256,9 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTime;
         }
 
-        ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
-            this(nodeStats.nodeId, clientNum,
-                    (int) nodeStats.queueSize.getAverage(), nodeStats.responseTime.getAverage(), nodeStats.serviceTime);
+        ComputedNodeStats(int clientNum, NodeStatistics nodeStats, double penaltyDecay) {
+            this(nodeStats.nodeId, clientNum, (int) (nodeStats.queueSize.getAverage() * penaltyDecay),
+                    nodeStats.responseTime.getAverage() * penaltyDecay, nodeStats.serviceTime);
         }
 
         ComputedNodeStats(StreamInput in) throws IOException {
@@ -224,15 +337,18 @@ public final class ResponseCollectorService implements ClusterStateListener {
         final ExponentiallyWeightedMovingAverage queueSize;
         final ExponentiallyWeightedMovingAverage responseTime;
         double serviceTime;
+        long lastUpdateNanos;
 
         NodeStatistics(String nodeId,
                        ExponentiallyWeightedMovingAverage queueSizeEWMA,
                        ExponentiallyWeightedMovingAverage responseTimeEWMA,
-                       double serviceTimeEWMA) {
+                       double serviceTimeEWMA,
+                       long lastUpdateNanos) {
             this.nodeId = nodeId;
             this.queueSize = queueSizeEWMA;
             this.responseTime = responseTimeEWMA;
             this.serviceTime = serviceTimeEWMA;
+            this.lastUpdateNanos = lastUpdateNanos;
         }
     }
 }
@@ -49,6 +49,7 @@ import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpContentStream;
 import org.opensearch.http.HttpRequest;
 
 import java.io.IOException;
@@ -234,6 +235,16 @@ public class RestRequest implements ToXContent.Params {
         return httpRequest.content();
     }
 
+    /**
+     * The content of the request if it is streamed to the handler as it is received, rather than returned by {@link #content()}, or
+     * {@code null} otherwise. Only handlers that {@link RestHandler#supportsContentStream() support content streams} may be given a
+     * streamed content.
+     */
+    @Nullable
+    public HttpContentStream contentStream() {
+        return httpRequest.contentStream();
+    }
+
     /**
      * @return content of the request body or throw an exception if the body or content type is missing
      */
@@ -32,17 +32,35 @@
 
 package org.opensearch.rest.action.document;
 
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.bulk.IncrementalBulkHandler;
 import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Requests;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.http.HttpContentStream;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.rest.action.RestStatusToXContentListener;
 import org.opensearch.rest.action.search.RestSearchAction;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -66,13 +84,23 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
  */
 public class RestBulkAction extends BaseRestHandler {
 
+    /**
+     * The size of the batches that the bodies of bulk requests that are larger than it are executed in, one after the other as they
+     * are received, or {@code 0} to execute every body in a single batch once it is received. Requests that refresh are always
+     * executed in a single batch.
+     */
+    public static final Setting<ByteSizeValue> INCREMENTAL_BATCH_SIZE = Setting.byteSizeSetting("rest.action.bulk.incremental_batch_size",
+        new ByteSizeValue(0), new ByteSizeValue(0), new ByteSizeValue(Integer.MAX_VALUE), Setting.Property.NodeScope);
+
     private final boolean allowExplicitIndex;
+    private final int incrementalBatchSize;
     private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(RestSearchAction.class);
     public static final String TYPES_DEPRECATION_MESSAGE = "[types removal]" +
     " Specifying types in bulk requests is deprecated.";
 
     public RestBulkAction(Settings settings) {
         this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
+        this.incrementalBatchSize = (int) INCREMENTAL_BATCH_SIZE.get(settings).getBytes();
     }
 
     @Override
@@ -112,12 +140,89 @@ public class RestBulkAction extends BaseRestHandler {
         Boolean defaultRequireAlias = request.paramAsBoolean(DocWriteRequest.REQUIRE_ALIAS, null);
         bulkRequest.timeout(request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT));
         bulkRequest.setRefreshPolicy(request.param("refresh"));
-        bulkRequest.add(request.requiredContent(), defaultIndex, defaultType, defaultRouting,
-            defaultFetchSourceContext, defaultPipeline, defaultRequireAlias, allowExplicitIndex, request.getXContentType());
+        final HttpContentStream contentStream = request.contentStream();
+        // a refresh per batch would be much more expensive than the single refresh of the request
+        if (incrementalBatchSize > 0 && bulkRequest.getRefreshPolicy() == WriteRequest.RefreshPolicy.NONE
+            && (contentStream != null || request.content().length() > incrementalBatchSize)) {
+            // execute batches of the body as they are received, so that the first documents are indexed before all the body is received
+            final XContentType xContentType = request.getXContentType();
+            final BulkRequestParser parser = new BulkRequestParser(true);
+            final String type = defaultType;
+            final IncrementalBulkHandler.BatchParser batchParser = (data, startLine, lastData, batch) -> parser.parseIncrementally(
+                data, startLine, lastData, defaultIndex, type, defaultRouting, defaultFetchSourceContext, defaultPipeline,
+                defaultRequireAlias, allowExplicitIndex, xContentType, batch::add, batch::add, batch::add);
+            return channel -> {
+                final IncrementalBulkHandler handler = new IncrementalBulkHandler(batchParser, () -> Requests.bulkRequest()
+                    .waitForActiveShards(bulkRequest.waitForActiveShards())
+                    .timeout(bulkRequest.timeout()), client::bulk, incrementalBatchSize, xContentType.xContent().streamSeparator(),
+                    incrementalBulkListener(channel));
+                if (contentStream != null) {
+                    contentStream.subscribe(new HttpContentStream.ContentConsumer() {
+                        @Override
+                        public void onContent(ReleasableBytesReference content, boolean last, Runnable requestMore) {
+                            handler.addData(content, last, requestMore);
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            handler.onDataFailure(e);
+                        }
+                    });
+                } else {
+                    // the content is released with the request, once the response is sent
+                    handler.addData(ReleasableBytesReference.wrap(request.content()), true, () -> {});
+                }
+            };
+        }
+
+        BytesReference content = request.requiredContent();
+        XContentType xContentType = request.getXContentType();
+        bulkRequest.add(content, defaultIndex, defaultType, defaultRouting,
+            defaultFetchSourceContext, defaultPipeline, defaultRequireAlias, allowExplicitIndex, xContentType);
 
         return channel -> client.bulk(bulkRequest, new RestStatusToXContentListener<>(channel));
     }
 
+    private static ActionListener<BulkResponse> incrementalBulkListener(RestChannel channel) {
+        final RestStatusToXContentListener<BulkResponse> listener = new RestStatusToXContentListener<>(channel);
+        return ActionListener.wrap(listener::onResponse, e -> {
+            if (e instanceof IncrementalBulkHandler.PartialExecutionException) {
+                try {
+                    channel.sendResponse(partialExecutionResponse(channel, (IncrementalBulkHandler.PartialExecutionException) e));
+                } catch (Exception inner) {
+                    inner.addSuppressed(e);
+                    listener.onFailure(inner);
+                }
+            } else {
+                listener.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * Builds the response to a body that failed after some of its batches were executed. It holds the failure like the response to a
+     * failed request, and the items of the executed batches like a bulk response, since these batches were not rolled back.
+     */
+    static BytesRestResponse partialExecutionResponse(RestChannel channel, IncrementalBulkHandler.PartialExecutionException e)
+        throws IOException {
+        final Exception cause = (Exception) e.getCause();
+        final RestStatus status = ExceptionsHelper.status(cause);
+        final BulkResponse executedItems = e.getExecutedItems();
+        final XContentBuilder builder = channel.newErrorBuilder();
+        builder.startObject();
+        OpenSearchException.generateFailureXContent(builder, channel.request(), cause, channel.detailedErrorsEnabled());
+        builder.field("status", status.getStatus());
+        builder.field("took", executedItems.getTook().millis());
+        builder.field("errors", true);
+        builder.startArray("items");
+        for (BulkItemResponse item : executedItems) {
+            item.toXContent(builder, channel.request());
+        }
+        builder.endArray();
+        builder.endObject();
+        return new BytesRestResponse(status, builder);
+    }
+
     @Override
     public boolean supportsContentStream() {
         return true;
@@ -65,6 +65,7 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
+import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -143,6 +144,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
@@ -378,6 +380,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
      */
     private void loadOrExecuteQueryPhase(final ShardSearchRequest request, final SearchContext context) throws Exception {
         final boolean canCache = indicesService.canCache(request, context);
+        if (indicesService.canCacheSegmentAggregations(request, context)) {
+            context.aggregations().segmentCache(indicesService.getSegmentAggregationsCache());
+        }
         context.getQueryShardContext().freezeContext();
         if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
@@ -605,7 +610,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     }
                     executor.success();
                 }
-                return searchContext.fetchResult();
+                final FetchSearchResult fetchResult = searchContext.fetchResult();
+                final ExecutorService searchExecutor = threadPool.executor(Names.SEARCH);
+                if (searchExecutor instanceof QueueResizingOpenSearchThreadPoolExecutor) {
+                    QueueResizingOpenSearchThreadPoolExecutor rExecutor = (QueueResizingOpenSearchThreadPoolExecutor) searchExecutor;
+                    fetchResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
+                    fetchResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
+                }
+                return fetchResult;
             } catch (Exception e) {
                 assert TransportActions.isShardNotAvailableException(e) == false : new AssertionError(e);
                 // we handle the failure in the failure listener below
@@ -945,8 +957,11 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         context.terminateAfter(source.terminateAfter());
         if (source.aggregations() != null && includeAggregations) {
             try {
+                final int nowInMillisUsages = queryShardContext.nowInMillisUsages();
                 AggregatorFactories factories = source.aggregations().build(queryShardContext, null);
-                context.aggregations(new SearchContextAggregations(factories, multiBucketConsumerService.create()));
+                SearchContextAggregations aggregations = new SearchContextAggregations(factories, multiBucketConsumerService.create());
+                aggregations.dependsOnNow(queryShardContext.nowInMillisUsages() != nowInMillisUsages);
+                context.aggregations(aggregations);
             } catch (IOException e) {
                 throw new AggregationInitializationException("Failed to create aggregators", e);
             }
@@ -36,6 +36,7 @@ import org.apache.lucene.search.Query;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.query.CollectorResult;
 import org.opensearch.search.profile.query.InternalProfileCollector;
@@ -75,6 +76,11 @@ public class AggregationPhase {
                         collector = new InternalProfileCollector(collector, CollectorResult.REASON_AGGREGATION,
                                 // TODO: report on child aggs as well
                                 Collections.emptyList());
+                    } else if (context.aggregations().segmentCache() != null) {
+                        CachedSegmentAggregations cachedSegments = CachedSegmentAggregations.create(context,
+                            context.aggregations().segmentCache());
+                        context.aggregations().cachedSegments(cachedSegments);
+                        collector = cachedSegments.wrap(collector);
                     }
                     context.queryCollectors().put(AggregationPhase.class, collector);
                 }
@@ -84,6 +90,28 @@ public class AggregationPhase {
         }
     }
 
+    /**
+     * Creates a new set of top level aggregators to collect an additional slice of a concurrent segment search. Global
+     * aggregators are left out since they run on the whole shard in {@link #execute(SearchContext)}.
+     *
+     * @return the collector for the slice or {@code null} if all top level aggregators are global
+     */
+    public static Collector createSliceCollector(SearchContext context) throws IOException {
+        List<Aggregator> collectors = new ArrayList<>();
+        for (Aggregator aggregator : context.aggregations().factories().createTopLevelAggregators(context)) {
+            if (aggregator instanceof GlobalAggregator == false) {
+                collectors.add(aggregator);
+            }
+        }
+        if (collectors.isEmpty()) {
+            return null;
+        }
+        context.aggregations().addSliceAggregators(collectors.toArray(new Aggregator[0]));
+        BucketCollector collector = MultiBucketCollector.wrap(collectors);
+        collector.preCollection();
+        return collector;
+    }
+
     public void execute(SearchContext context) {
         if (context.aggregations() == null) {
             context.queryResult().aggregations(null);
@@ -138,6 +166,9 @@ public class AggregationPhase {
                 throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
             }
         }
+        if (context.aggregations().sliceAggregators().isEmpty() == false || context.aggregations().cachedSegments() != null) {
+            aggregations = reduceSlices(context, aggregations);
+        }
         context.queryResult().aggregations(new InternalAggregations(aggregations,
                 context.request().source().aggregations()::buildPipelineTree));
 
@@ -145,4 +176,41 @@ public class AggregationPhase {
         context.aggregations(null);
         context.queryCollectors().remove(AggregationPhase.class);
     }
+
+    /**
+     * Merges the aggregations of the first slice with the ones collected by the additional slices of a concurrent segment search
+     * and with the ones of the segments that were cached or collected separately to be cached, using a partial reduction. The
+     * final reduction still happens on the coordinating node.
+     * <p>
+     * Each slice truncates its terms to the shard size, so the partial reduction sums the errors of the slices into the doc count
+     * error of the merged terms, which the coordinating node keeps even if the shard is the only one.
+     */
+    private static List<InternalAggregation> reduceSlices(SearchContext context, List<InternalAggregation> aggregations) {
+        List<InternalAggregations> slices = new ArrayList<>();
+        slices.add(InternalAggregations.from(aggregations));
+        for (Aggregator[] sliceAggregators : context.aggregations().sliceAggregators()) {
+            // the buckets of all slices count towards the same limit, the consumer was reset before building the first slice
+            List<InternalAggregation> sliceAggregations = new ArrayList<>(sliceAggregators.length);
+            for (Aggregator aggregator : sliceAggregators) {
+                try {
+                    aggregator.postCollection();
+                    sliceAggregations.add(aggregator.buildTopLevel());
+                } catch (IOException e) {
+                    throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
+                }
+            }
+            slices.add(InternalAggregations.from(sliceAggregations));
+        }
+        if (context.aggregations().cachedSegments() != null) {
+            try {
+                slices.addAll(context.aggregations().cachedSegments().buildSegmentResults());
+            } catch (IOException e) {
+                throw new AggregationExecutionException("Failed to build the cached aggregations of segments", e);
+            }
+        }
+        // scripts are only needed by the final reduction on the coordinating node
+        InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(
+            context.bigArrays(), null, () -> PipelineTree.EMPTY);
+        return InternalAggregations.reduce(slices, reduceContext).copyResults();
+    }
 }
@@ -233,6 +233,19 @@ public class AggregatorFactories {
         return aggregators;
     }
 
+    /**
+     * @return whether all factories of this tree, including sub-aggregations, support concurrent segment search
+     */
+    public boolean allFactoriesSupportConcurrentSegmentSearch() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsConcurrentSegmentSearch() == false
+                || factory.factories.allFactoriesSupportConcurrentSegmentSearch() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * @return the number of sub-aggregator factories
      */
@@ -103,4 +103,12 @@ public abstract class AggregatorFactory {
     public String getStatsSubtype() {
         return OTHER_SUBTYPE;
     }
+
+    /**
+     * Returns whether the aggregators built by this factory can collect slices of a shard's leaves concurrently and have
+     * their per-slice results merged with a partial reduction.
+     */
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
 }
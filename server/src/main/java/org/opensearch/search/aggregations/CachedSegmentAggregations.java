@@ -0,0 +1,322 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.FutureArrays;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
+import org.opensearch.indices.IndicesSegmentAggregationsCache;
+import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collects the top level aggregations of a request per segment for the segments whose results can be cached in the
+ * {@link IndicesSegmentAggregationsCache}, so that later requests can reuse them.
+ * <p>
+ * The results of a segment can be reused by requests that have the same aggregations and match the same documents of that
+ * segment. Requests that filter on a range relative to "now" match different documents every time, but they match all the
+ * documents that have a value for the field of the range in the segments whose minimum and maximum values both fall within
+ * the range. For these segments, the range is left out of the cache key. The other segments are collected by the top level
+ * aggregators as usual while the cacheable segments are either read from the cache or collected by their own top level
+ * aggregators, and all results are merged with a partial reduction like the slices of a concurrent segment search.
+ */
+public final class CachedSegmentAggregations {
+
+    private final SearchContext context;
+    private final IndicesSegmentAggregationsCache cache;
+    private final RequestKey requestKey;
+    @Nullable
+    private final PointRangeQuery range;
+    private final List<CachedSegment> cachedSegments = Collections.synchronizedList(new ArrayList<>());
+    private final List<CollectedSegment> collectedSegments = Collections.synchronizedList(new ArrayList<>());
+
+    private CachedSegmentAggregations(SearchContext context, IndicesSegmentAggregationsCache cache, RequestKey requestKey,
+                                      @Nullable PointRangeQuery range) {
+        this.context = context;
+        this.cache = cache;
+        this.requestKey = requestKey;
+        this.range = range;
+    }
+
+    /**
+     * Creates the state to cache the aggregations of the segments of the given request, the request must have passed
+     * {@link org.opensearch.indices.IndicesService#canCacheSegmentAggregations}.
+     */
+    static CachedSegmentAggregations create(SearchContext context, IndicesSegmentAggregationsCache cache) throws IOException {
+        final BytesReference aggregations;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            context.request().source().aggregations().writeTo(out);
+            aggregations = out.bytes();
+        }
+        final long mappingVersion = context.indexShard().indexSettings().getIndexMetadata().getMappingVersion();
+        final Query query = unwrap(context.query());
+        if (isRange(query)) {
+            // a lone range, which is also what a bool query with a single range filter rewrites to
+            final PointRangeQuery range = (PointRangeQuery) query;
+            return new CachedSegmentAggregations(context, cache,
+                new RequestKey(aggregations, mappingVersion, range.getField(), new MatchAllDocsQuery()), range);
+        }
+        final List<BooleanClause> clauses = new ArrayList<>();
+        if (query instanceof BooleanQuery == false || flatten((BooleanQuery) query, clauses) == false) {
+            // the query isn't a conjunction, so it has to match the same documents as the previous requests
+            return new CachedSegmentAggregations(context, cache, new RequestKey(aggregations, mappingVersion, null, query), null);
+        }
+        PointRangeQuery range = null;
+        final BooleanQuery.Builder residual = new BooleanQuery.Builder();
+        for (BooleanClause clause : clauses) {
+            final Query inner = unwrap(clause.getQuery());
+            if (range == null && clause.isRequired() && isRange(inner)) {
+                range = (PointRangeQuery) inner;
+            } else {
+                residual.add(clause.getQuery(), clause.isProhibited() ? BooleanClause.Occur.MUST_NOT : BooleanClause.Occur.FILTER);
+            }
+        }
+        final String field = range == null ? null : range.getField();
+        final BooleanQuery residualQuery = residual.build();
+        // share the entries of the requests that only filter on the range, whether or not they are wrapped in a bool query
+        final Query residualKey = residualQuery.clauses().isEmpty() ? new MatchAllDocsQuery() : residualQuery;
+        return new CachedSegmentAggregations(context, cache, new RequestKey(aggregations, mappingVersion, field, residualKey), range);
+    }
+
+    private static boolean isRange(Query query) {
+        return query instanceof PointRangeQuery && ((PointRangeQuery) query).getNumDims() == 1;
+    }
+
+    private static Query unwrap(Query query) {
+        while (true) {
+            if (query instanceof ConstantScoreQuery) {
+                query = ((ConstantScoreQuery) query).getQuery();
+            } else if (query instanceof BoostQuery) {
+                query = ((BoostQuery) query).getQuery();
+            } else if (query instanceof DateRangeIncludingNowQuery) {
+                query = ((DateRangeIncludingNowQuery) query).getQuery();
+            } else if (query instanceof IndexOrDocValuesQuery) {
+                query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+            } else {
+                return query;
+            }
+        }
+    }
+
+    /**
+     * Adds the required and prohibited clauses of the given conjunction and of the conjunctions that it requires, returns
+     * {@code false} if any of them has optional clauses.
+     */
+    private static boolean flatten(BooleanQuery query, List<BooleanClause> clauses) {
+        if (query.getMinimumNumberShouldMatch() != 0) {
+            return false;
+        }
+        for (BooleanClause clause : query.clauses()) {
+            final Query inner = unwrap(clause.getQuery());
+            if (clause.getOccur() == BooleanClause.Occur.SHOULD) {
+                return false;
+            } else if (clause.isRequired() && inner instanceof BooleanQuery) {
+                if (flatten((BooleanQuery) inner, clauses) == false) {
+                    return false;
+                }
+            } else {
+                clauses.add(clause);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wraps a collector of top level aggregators so that it skips the segments that are read from the cache or collected by their
+     * own aggregators. Collectors that need scores are returned as-is since scores depend on the whole query.
+     */
+    Collector wrap(Collector collector) {
+        if (collector.scoreMode().needsScores()) {
+            return collector;
+        }
+        return new FilterCollector(collector) {
+            @Override
+            public LeafCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+                final IndexReader.CacheHelper segment = cacheableSegment(ctx);
+                if (segment == null) {
+                    return super.getLeafCollector(ctx);
+                }
+                final BytesReference cached = cache.get(segment, requestKey);
+                if (cached != null) {
+                    cachedSegments.add(new CachedSegment(cached));
+                    throw new CollectionTerminatedException();
+                }
+                final List<Aggregator> aggregators = new ArrayList<>();
+                for (Aggregator aggregator : context.aggregations().factories().createTopLevelAggregators(context)) {
+                    if (aggregator instanceof GlobalAggregator == false) {
+                        aggregators.add(aggregator);
+                    }
+                }
+                final BucketCollector segmentCollector = MultiBucketCollector.wrap(aggregators);
+                segmentCollector.preCollection();
+                collectedSegments.add(new CollectedSegment(segment, aggregators));
+                return segmentCollector.getLeafCollector(ctx);
+            }
+        };
+    }
+
+    /**
+     * Returns the cache helper of the core of the given segment if its results can be cached, that is if it has no deletions and
+     * all its values of the field of the range of the query fall within that range.
+     */
+    @Nullable
+    private IndexReader.CacheHelper cacheableSegment(LeafReaderContext ctx) throws IOException {
+        final IndexReader.CacheHelper segment = ctx.reader().getCoreCacheHelper();
+        if (segment == null || ctx.reader().getLiveDocs() != null) {
+            return null;
+        }
+        if (range != null) {
+            final PointValues values = ctx.reader().getPointValues(range.getField());
+            if (values == null || values.getBytesPerDimension() != range.getBytesPerDim()) {
+                return null;
+            }
+            final int bytesPerDim = range.getBytesPerDim();
+            if (FutureArrays.compareUnsigned(values.getMinPackedValue(), 0, bytesPerDim, range.getLowerPoint(), 0, bytesPerDim) < 0
+                || FutureArrays.compareUnsigned(values.getMaxPackedValue(), 0, bytesPerDim, range.getUpperPoint(), 0, bytesPerDim) > 0) {
+                return null;
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the results of the segments that were read from the cache or collected by their own aggregators, and caches the
+     * latter unless the search timed out since their results might be incomplete.
+     */
+    List<InternalAggregations> buildSegmentResults() throws IOException {
+        final List<InternalAggregations> results = new ArrayList<>();
+        for (CachedSegment segment : cachedSegments) {
+            final InternalAggregations segmentResults;
+            try (StreamInput in = new NamedWriteableAwareStreamInput(segment.bytes.streamInput(),
+                    context.getQueryShardContext().getWriteableRegistry())) {
+                segmentResults = InternalAggregations.readFrom(in);
+            }
+            // like the buckets that are built, the buckets of the cached results are counted by the final reduction, this only gives
+            // the consumer a chance to check the circuit breaker
+            context.aggregations().multiBucketConsumer().accept(0);
+            results.add(segmentResults);
+        }
+        final boolean timedOut = context.queryResult().searchTimedOut();
+        for (CollectedSegment segment : collectedSegments) {
+            final List<InternalAggregation> aggregations = new ArrayList<>(segment.aggregators.size());
+            for (Aggregator aggregator : segment.aggregators) {
+                try {
+                    aggregator.postCollection();
+                    aggregations.add(aggregator.buildTopLevel());
+                } catch (IOException e) {
+                    throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
+                }
+            }
+            final InternalAggregations segmentResults = InternalAggregations.from(aggregations);
+            if (timedOut == false) {
+                try (BytesStreamOutput out = new BytesStreamOutput()) {
+                    segmentResults.writeTo(out);
+                    cache.put(segment.segment, requestKey, out.bytes());
+                }
+            }
+            results.add(segmentResults);
+        }
+        return results;
+    }
+
+    private static final class CachedSegment {
+        private final BytesReference bytes;
+
+        CachedSegment(BytesReference bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class CollectedSegment {
+        private final IndexReader.CacheHelper segment;
+        private final List<Aggregator> aggregators;
+
+        CollectedSegment(IndexReader.CacheHelper segment, List<Aggregator> aggregators) {
+            this.segment = segment;
+            this.aggregators = aggregators;
+        }
+    }
+
+    /**
+     * The parts of a request that the aggregations of a cacheable segment depend on: the aggregations, the mapping, the field of
+     * the range that the segment is fully within and the rest of the query.
+     */
+    private static final class RequestKey implements Accountable {
+
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(RequestKey.class);
+        // the same estimate as Lucene's query cache for queries that don't report their memory usage
+        private static final long DEFAULT_QUERY_RAM_BYTES_USED = 1024;
+
+        private final BytesReference aggregations;
+        private final long mappingVersion;
+        @Nullable
+        private final String field;
+        private final Query query;
+
+        RequestKey(BytesReference aggregations, long mappingVersion, @Nullable String field, Query query) {
+            this.aggregations = aggregations;
+            this.mappingVersion = mappingVersion;
+            this.field = field;
+            this.query = query;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + aggregations.ramBytesUsed() + RamUsageEstimator.sizeOf(field)
+                + (query instanceof Accountable ? ((Accountable) query).ramBytesUsed() : DEFAULT_QUERY_RAM_BYTES_USED);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return mappingVersion == that.mappingVersion
+                && aggregations.equals(that.aggregations)
+                && Objects.equals(field, that.field)
+                && query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(aggregations, mappingVersion, field, query);
+        }
+    }
+}
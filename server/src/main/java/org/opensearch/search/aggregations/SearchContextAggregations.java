@@ -31,6 +31,11 @@
 
 package org.opensearch.search.aggregations;
 
+import org.opensearch.indices.IndicesSegmentAggregationsCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 
 /**
@@ -41,6 +46,10 @@ public class SearchContextAggregations {
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
     private Aggregator[] aggregators;
+    private final List<Aggregator[]> sliceAggregators = new ArrayList<>();
+    private boolean dependsOnNow;
+    private IndicesSegmentAggregationsCache segmentCache;
+    private CachedSegmentAggregations cachedSegments;
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
@@ -67,6 +76,56 @@ public class SearchContextAggregations {
         this.aggregators = aggregators;
     }
 
+    /**
+     * Returns the top level aggregators that were created for the additional slices of a concurrent segment search.
+     * The aggregators returned by {@link #aggregators()} collect the first slice.
+     */
+    public List<Aggregator[]> sliceAggregators() {
+        return sliceAggregators;
+    }
+
+    /**
+     * Registers the top level aggregators created to collect an additional slice of a concurrent segment search.
+     */
+    public void addSliceAggregators(Aggregator[] aggregators) {
+        sliceAggregators.add(aggregators);
+    }
+
+    /**
+     * Returns whether the aggregations depend on the current time, e.g. because they have ranges relative to "now".
+     */
+    public boolean dependsOnNow() {
+        return dependsOnNow;
+    }
+
+    public void dependsOnNow(boolean dependsOnNow) {
+        this.dependsOnNow = dependsOnNow;
+    }
+
+    /**
+     * Returns the cache that the aggregations of the segments of the shard should be cached in, or {@code null} if they
+     * can't be cached.
+     */
+    public IndicesSegmentAggregationsCache segmentCache() {
+        return segmentCache;
+    }
+
+    public void segmentCache(IndicesSegmentAggregationsCache segmentCache) {
+        this.segmentCache = segmentCache;
+    }
+
+    /**
+     * Returns the state of the segments whose aggregations are cached or collected separately to be cached, or {@code null}
+     * if the aggregations of the segments are not cached.
+     */
+    public CachedSegmentAggregations cachedSegments() {
+        return cachedSegments;
+    }
+
+    void cachedSegments(CachedSegmentAggregations cachedSegments) {
+        this.cachedSegments = cachedSegments;
+    }
+
     /**
      * Returns a consumer for multi bucket aggregation that checks the total number of buckets
      * created in the response
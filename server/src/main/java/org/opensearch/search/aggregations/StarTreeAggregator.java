@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.codec.startree.StarTreeValues;
+
+import java.io.IOException;
+
+/**
+ * An {@link Aggregator} that can collect the pre-aggregated rows of the {@link StarTreeValues star tree} of a segment instead of
+ * its documents. Aggregators that start collecting a segment from its star tree require all their sub-aggregators to support it,
+ * and fall back to collecting documents otherwise.
+ */
+public interface StarTreeAggregator {
+
+    /**
+     * Returns a collector for the rows of the star tree of the given segment, or {@code null} if this aggregator needs to collect
+     * the documents of the segment. This must not have side effects since the caller may collect documents anyway.
+     */
+    @Nullable
+    RowCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) throws IOException;
+
+    /**
+     * Collects the rows of a star tree.
+     */
+    @FunctionalInterface
+    interface RowCollector {
+
+        RowCollector NO_OP = (row, owningBucketOrd) -> {};
+
+        /**
+         * Collects all documents of the given row into the given bucket.
+         */
+        void collect(int row, long owningBucketOrd) throws IOException;
+    }
+}
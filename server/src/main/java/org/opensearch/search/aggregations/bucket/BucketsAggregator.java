@@ -31,9 +31,12 @@
 
 package org.opensearch.search.aggregations.bucket;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.IntArray;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorBase;
@@ -42,6 +45,7 @@ import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.StarTreeAggregator;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.AggregationPath;
@@ -165,6 +169,50 @@ public abstract class BucketsAggregator extends AggregatorBase {
         docCounts.increment(bucketOrd, inc);
     }
 
+    /**
+     * Utility method to collect a row of a star tree in the given bucket (identified by the bucket ordinal)
+     */
+    public final void collectStarTreeBucket(StarTreeAggregator.RowCollector subCollector, int row, int docCount, long bucketOrd)
+        throws IOException {
+        grow(bucketOrd + 1);
+        if (docCounts.increment(bucketOrd, docCount) == docCount) {
+            // see collectExistingBucket
+            multiBucketConsumer.accept(0);
+        }
+        subCollector.collect(row, bucketOrd);
+    }
+
+    /**
+     * Returns a collector that collects the rows of the star tree of the given segment with all sub-aggregators, or {@code null} if
+     * one of them needs to collect the documents of the segment.
+     */
+    @Nullable
+    protected final StarTreeAggregator.RowCollector getSubStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree)
+        throws IOException {
+        final StarTreeAggregator.RowCollector[] collectors = new StarTreeAggregator.RowCollector[subAggregators.length];
+        for (int i = 0; i < subAggregators.length; i++) {
+            if (subAggregators[i] instanceof StarTreeAggregator == false) {
+                return null;
+            }
+            collectors[i] = ((StarTreeAggregator) subAggregators[i]).getStarTreeCollector(ctx, starTree);
+            if (collectors[i] == null) {
+                return null;
+            }
+        }
+        switch (collectors.length) {
+            case 0:
+                return StarTreeAggregator.RowCollector.NO_OP;
+            case 1:
+                return collectors[0];
+            default:
+                return (row, owningBucketOrd) -> {
+                    for (StarTreeAggregator.RowCollector collector : collectors) {
+                        collector.collect(row, owningBucketOrd);
+                    }
+                };
+        }
+    }
+
     /**
      * Utility method to return the number of documents that fell in the given bucket (identified by the bucket ordinal)
      */
@@ -103,6 +103,14 @@ public abstract class DeferableBucketAggregator extends BucketsAggregator {
         return false;
     }
 
+    /**
+     * Returns whether some sub-aggregations are deferred. Their collection is replayed on the best buckets once all documents
+     * are collected, so they need to see every collected document with the bucket ordinal it was collected in.
+     */
+    protected final boolean hasDeferredAggregations() {
+        return recordingWrapper != null;
+    }
+
     @Override
     protected void beforeBuildingBuckets(long[] ordsToCollect) throws IOException {
         if (recordingWrapper != null) {
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConjunctionDISI;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.common.Nullable;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Helpers for the "filter by filter" execution of bucket aggregations. Instead of collecting the documents that match the query
+ * one by one and looking up their values, an aggregation with a small and fixed set of buckets can count each bucket by
+ * intersecting a filter for that bucket with the query. This only produces the same results for top level aggregations
+ * without sub-aggregations that see every matching document, and it is only faster if iterating the filters is cheaper than
+ * collecting the matching documents, which the aggregator factories estimate with {@link #collectCost}.
+ */
+public final class FilterByFilter {
+
+    /**
+     * The key of the profile debug information that describes the execution strategy that was picked.
+     */
+    public static final String EXECUTION_STRATEGY = "execution_strategy";
+    public static final String FILTERS = "filters";
+    public static final String COLLECT = "collect";
+
+    /**
+     * The number of documents to iterate between two checks for cancellation.
+     */
+    private static final int CHECK_CANCELLED_INTERVAL = 1 << 11;
+
+    private FilterByFilter() {}
+
+    /**
+     * Returns whether an aggregator with the given parent and sub-aggregations could count its buckets with filters.
+     */
+    public static boolean canUse(SearchContext context, Aggregator parent, AggregatorFactories factories) {
+        return parent == null
+            && factories.countAggregators() == 0
+            && context.minimumScore() == null
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER;
+    }
+
+    /**
+     * Returns a searcher to build the filters with. It doesn't cache nor profile the filters since they are an implementation
+     * detail of the aggregation.
+     */
+    public static IndexSearcher searcher(SearchContext context) {
+        final IndexReader reader = context.searcher().getIndexReader();
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null);
+        return searcher;
+    }
+
+    /**
+     * Returns the weight of the query that the filters need to be intersected with, or {@code null} if the query matches all
+     * documents. The query of the search context has already been rewritten, so it isn't rewritten again.
+     */
+    @Nullable
+    public static Weight topLevelWeight(SearchContext context, IndexSearcher searcher) throws IOException {
+        Query query = context.query();
+        while (query instanceof ConstantScoreQuery || query instanceof BoostQuery) {
+            query = query instanceof ConstantScoreQuery ? ((ConstantScoreQuery) query).getQuery() : ((BoostQuery) query).getQuery();
+        }
+        if (query == null || query instanceof MatchAllDocsQuery) {
+            return null;
+        }
+        return searcher.createWeight(context.query(), ScoreMode.COMPLETE_NO_SCORES, 1f);
+    }
+
+    /**
+     * Creates the weight of a filter.
+     */
+    public static Weight filterWeight(IndexSearcher searcher, Query filter) throws IOException {
+        return searcher.createWeight(searcher.rewrite(filter), ScoreMode.COMPLETE_NO_SCORES, 1f);
+    }
+
+    /**
+     * Estimates the cost of iterating the given weight on a segment.
+     */
+    public static long cost(LeafReaderContext ctx, Weight weight) throws IOException {
+        final ScorerSupplier scorerSupplier = weight.scorerSupplier(ctx);
+        return scorerSupplier == null ? 0 : scorerSupplier.cost();
+    }
+
+    /**
+     * Estimates the number of documents that have to be collected on a segment.
+     */
+    public static long collectCost(LeafReaderContext ctx, @Nullable Weight topLevel) throws IOException {
+        return topLevel == null ? ctx.reader().maxDoc() : cost(ctx, topLevel);
+    }
+
+    /**
+     * Returns a counter for the buckets of a segment that checks for the cancellation and the timeout of the search while it
+     * iterates documents, like the {@link ContextIndexSearcher} does when it collects them.
+     */
+    public static LeafCounter leafCounter(SearchContext context, LeafReaderContext ctx, @Nullable Weight topLevel) {
+        return new LeafCounter(context.searcher(), ctx, topLevel);
+    }
+
+    /**
+     * Counts the documents of the buckets of a segment. The top level query is only iterated once per segment, the first time a
+     * bucket is counted, and the live documents that it matches are kept in a bit set that the filter of each bucket is then
+     * intersected with. Collecting the documents also iterates the query once per segment, which is why the aggregator factories
+     * only compare the cost of the intersections with the cost of collecting.
+     */
+    public static final class LeafCounter {
+
+        private final ContextIndexSearcher searcher;
+        private final LeafReaderContext ctx;
+        private final Weight topLevel;
+        private boolean topLevelIterated;
+        private BitSet topLevelMatches;
+        private int topLevelMatchCount;
+
+        private LeafCounter(ContextIndexSearcher searcher, LeafReaderContext ctx, @Nullable Weight topLevel) {
+            this.searcher = searcher;
+            this.ctx = ctx;
+            this.topLevel = topLevel;
+        }
+
+        /**
+         * Counts the live documents of the segment that match both the filter and the top level query.
+         */
+        public int count(DocIdSetIterator filter) throws IOException {
+            DocIdSetIterator iterator = filter;
+            Bits liveDocs = ctx.reader().getLiveDocs();
+            if (topLevel != null) {
+                if (topLevelIterated == false) {
+                    iterateTopLevel();
+                }
+                if (topLevelMatchCount == 0) {
+                    return 0;
+                }
+                iterator = ConjunctionDISI.intersectIterators(
+                    Arrays.asList(filter, new BitSetIterator(topLevelMatches, topLevelMatchCount)));
+                // the matches of the query only hold live documents
+                liveDocs = null;
+            }
+            int count = 0;
+            int seen = 0;
+            searcher.checkCancelled();
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                if (++seen % CHECK_CANCELLED_INTERVAL == 0) {
+                    searcher.checkCancelled();
+                }
+                if (liveDocs == null || liveDocs.get(doc)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void iterateTopLevel() throws IOException {
+            topLevelIterated = true;
+            final Scorer scorer = topLevel.scorer(ctx);
+            if (scorer == null) {
+                return;
+            }
+            final DocIdSetIterator iterator = scorer.iterator();
+            final int maxDoc = ctx.reader().maxDoc();
+            // the same choice between a sparse and a dense bit set as BitSet#of
+            final BitSet matches = iterator.cost() < maxDoc >>> 7 ? new SparseFixedBitSet(maxDoc) : new FixedBitSet(maxDoc);
+            final Bits liveDocs = ctx.reader().getLiveDocs();
+            int matchCount = 0;
+            searcher.checkCancelled();
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                if (liveDocs == null || liveDocs.get(doc)) {
+                    matches.set(doc);
+                    if (++matchCount % CHECK_CANCELLED_INTERVAL == 0) {
+                        searcher.checkCancelled();
+                    }
+                }
+            }
+            topLevelMatches = matches;
+            topLevelMatchCount = matchCount;
+        }
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.lucene.search.DocIdSet;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafFieldComparator;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
@@ -80,6 +81,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
@@ -103,11 +105,24 @@ final class CompositeAggregator extends BucketsAggregator {
 
     private boolean earlyTerminated;
 
+    // the weight of the query that jumps to the documents after the after key, reused for all segments with the same index sort prefix
+    private Sort afterKeyWeightSort;
+    private Weight afterKeyWeight;
+
+    private int segmentsCollected;
+    private int segmentsEarlyTerminated;
+    private final boolean countSkippedDocs;
+    // the number of documents matching the query that were skipped because their segment terminated early, only counted when profiling
+    private long docsSkipped;
+    // the weight of the query that counts the skipped documents, it's not profiled
+    private Weight skippedDocsWeight;
+
     CompositeAggregator(String name, AggregatorFactories factories, SearchContext context, Aggregator parent,
                         Map<String, Object> metadata,
                         int size, CompositeValuesSourceConfig[] sourceConfigs, CompositeKey rawAfterKey) throws IOException {
         super(name, factories, context, parent, CardinalityUpperBound.MANY, metadata);
         this.size = size;
+        this.countSkippedDocs = context.getProfilers() != null;
         this.sourceNames = Arrays.stream(sourceConfigs).map(CompositeValuesSourceConfig::name).collect(Collectors.toList());
         this.reverseMuls = Arrays.stream(sourceConfigs).mapToInt(CompositeValuesSourceConfig::reverseMul).toArray();
         this.formats = Arrays.stream(sourceConfigs).map(CompositeValuesSourceConfig::format).collect(Collectors.toList());
@@ -183,6 +198,14 @@ final class CompositeAggregator extends BucketsAggregator {
         };
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("segments_collected", segmentsCollected);
+        add.accept("segments_early_terminated", segmentsEarlyTerminated);
+        add.accept("docs_skipped", docsSkipped);
+    }
+
     @Override
     public InternalAggregation buildEmptyAggregation() {
         return new InternalComposite(name, size, sourceNames, formats, Collections.emptyList(), null, reverseMuls,
@@ -364,28 +387,32 @@ final class CompositeAggregator extends BucketsAggregator {
         for (int i = 0; i < formats.length; i++) {
             formats[i] = sources[i].format;
         }
-        FieldDoc fieldDoc = SearchAfterBuilder.buildFieldDoc(new SortAndFormats(indexSortPrefix, formats),
-            Arrays.copyOfRange(rawAfterKey.values(), 0, formats.length));
-        if (indexSortPrefix.getSort().length < sources.length) {
-            // include all docs that belong to the partial bucket
-            fieldDoc.doc = -1;
+        if (indexSortPrefix.equals(afterKeyWeightSort) == false) {
+            FieldDoc fieldDoc = SearchAfterBuilder.buildFieldDoc(new SortAndFormats(indexSortPrefix, formats),
+                Arrays.copyOfRange(rawAfterKey.values(), 0, formats.length));
+            if (indexSortPrefix.getSort().length < sources.length) {
+                // include all docs that belong to the partial bucket
+                fieldDoc.doc = -1;
+            }
+            BooleanQuery newQuery = new BooleanQuery.Builder()
+                .add(context.query(), BooleanClause.Occur.MUST)
+                .add(new SearchAfterSortedDocQuery(applySortFieldRounding(indexSortPrefix), fieldDoc), BooleanClause.Occur.FILTER)
+                .build();
+            afterKeyWeight = context.searcher().createWeight(context.searcher().rewrite(newQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+            afterKeyWeightSort = indexSortPrefix;
         }
-        BooleanQuery newQuery = new BooleanQuery.Builder()
-            .add(context.query(), BooleanClause.Occur.MUST)
-            .add(new SearchAfterSortedDocQuery(applySortFieldRounding(indexSortPrefix), fieldDoc), BooleanClause.Occur.FILTER)
-            .build();
-        Weight weight = context.searcher().createWeight(context.searcher().rewrite(newQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
-        Scorer scorer = weight.scorer(ctx);
-        if (scorer != null) {
-            DocIdSetIterator docIt = scorer.iterator();
-            final LeafBucketCollector inner = queue.getLeafCollector(ctx,
-                getFirstPassCollector(docIdSetBuilder, indexSortPrefix.getSort().length));
-            inner.setScorer(scorer);
-            final Bits liveDocs = ctx.reader().getLiveDocs();
-            while (docIt.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
-                if (liveDocs == null || liveDocs.get(docIt.docID())) {
-                    inner.collect(docIt.docID());
-                }
+        Scorer scorer = afterKeyWeight.scorer(ctx);
+        if (scorer == null) {
+            return;
+        }
+        DocIdSetIterator docIt = scorer.iterator();
+        final LeafBucketCollector inner = queue.getLeafCollector(ctx,
+            getFirstPassCollector(docIdSetBuilder, indexSortPrefix.getSort().length, ctx));
+        inner.setScorer(scorer);
+        final Bits liveDocs = ctx.reader().getLiveDocs();
+        for (int doc = docIt.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docIt.nextDoc()) {
+            if (liveDocs == null || liveDocs.get(doc)) {
+                inner.collect(doc);
             }
         }
     }
@@ -405,10 +432,13 @@ final class CompositeAggregator extends BucketsAggregator {
             // Visit documents sorted by the leading source of the composite definition and terminates
             // when the leading source value is guaranteed to be greater than the lowest composite bucket
             // in the queue.
+            sortedDocsProducer.setCountSkippedDocs(countSkippedDocs);
             DocIdSet docIdSet = sortedDocsProducer.processLeaf(context.query(), queue, ctx, fillDocIdSet);
             if (fillDocIdSet) {
                 entries.add(new Entry(ctx, docIdSet));
             }
+            segmentsEarlyTerminated += sortedDocsProducer.leavesEarlyTerminated();
+            docsSkipped += sortedDocsProducer.docsSkipped();
             // We can bypass search entirely for this segment, the processing is done in the previous call.
             // Throwing this exception will terminate the execution of the search for this root aggregation,
             // see {@link MultiCollector} for more details on how we handle early termination in aggregations.
@@ -419,6 +449,7 @@ final class CompositeAggregator extends BucketsAggregator {
                 currentLeaf = ctx;
                 docIdSetBuilder = new RoaringDocIdSet.Builder(ctx.reader().maxDoc());
             }
+            segmentsCollected++;
             if (rawAfterKey != null && sortPrefixLen > 0) {
                 // We have an after key and index sort is applicable so we jump directly to the doc
                 // that is after the index sort prefix using the rawAfterKey and we start collecting
@@ -426,7 +457,8 @@ final class CompositeAggregator extends BucketsAggregator {
                 processLeafFromQuery(ctx, indexSortPrefix);
                 throw new CollectionTerminatedException();
             } else {
-                final LeafBucketCollector inner = queue.getLeafCollector(ctx, getFirstPassCollector(docIdSetBuilder, sortPrefixLen));
+                final LeafBucketCollector inner = queue.getLeafCollector(ctx,
+                    getFirstPassCollector(docIdSetBuilder, sortPrefixLen, ctx));
                 return new LeafBucketCollector() {
                     @Override
                     public void collect(int doc, long zeroBucket) throws IOException {
@@ -440,8 +472,10 @@ final class CompositeAggregator extends BucketsAggregator {
 
     /**
      * The first pass selects the top composite buckets from all matching documents.
+     * If the index sort guarantees that none of the following documents of the segment
+     * can produce a competitive bucket, the collection of the segment is terminated.
      */
-    private LeafBucketCollector getFirstPassCollector(RoaringDocIdSet.Builder builder, int indexSortPrefix) {
+    private LeafBucketCollector getFirstPassCollector(RoaringDocIdSet.Builder builder, int indexSortPrefix, LeafReaderContext ctx) {
         return new LeafBucketCollector() {
             int lastDoc = -1;
 
@@ -456,12 +490,45 @@ final class CompositeAggregator extends BucketsAggregator {
                     }
                 } catch (CollectionTerminatedException exc) {
                     earlyTerminated = true;
+                    segmentsEarlyTerminated++;
+                    if (countSkippedDocs) {
+                        docsSkipped += countMatchingDocsAfter(ctx, doc);
+                    }
                     throw exc;
                 }
             }
         };
     }
 
+    /**
+     * Counts the live documents of the segment after the given one that match the query. This runs the query over the rest of
+     * the segment, so it is only used to profile the documents that an early termination skipped.
+     */
+    private long countMatchingDocsAfter(LeafReaderContext ctx, int doc) throws IOException {
+        if (doc + 1 >= ctx.reader().maxDoc()) {
+            return 0;
+        }
+        if (skippedDocsWeight == null) {
+            // a plain searcher so that the counting doesn't show up in the profile of the query
+            final IndexSearcher searcher = new IndexSearcher(context.searcher().getIndexReader());
+            searcher.setQueryCache(null);
+            skippedDocsWeight = searcher.createWeight(searcher.rewrite(context.query()), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        }
+        final Scorer scorer = skippedDocsWeight.scorer(ctx);
+        if (scorer == null) {
+            return 0;
+        }
+        final DocIdSetIterator it = scorer.iterator();
+        final Bits liveDocs = ctx.reader().getLiveDocs();
+        long count = 0;
+        for (int next = it.advance(doc + 1); next != DocIdSetIterator.NO_MORE_DOCS; next = it.nextDoc()) {
+            if (liveDocs == null || liveDocs.get(next)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Replay the documents that might contain a top bucket and pass top buckets to
      * the {@link #deferredCollectors}.
@@ -88,7 +88,9 @@ class PointsSortedDocsProducer extends SortedDocsProducer {
         try {
             values.intersect(visitor);
             visitor.flush();
-        } catch (CollectionTerminatedException exc) {}
+        } catch (CollectionTerminatedException exc) {
+            onEarlyTermination(countSkippedDocs() ? values.estimatePointCount(visitor.remainingVisitor()) : 0);
+        }
         return fillDocIdSet ? builder.build() : DocIdSet.EMPTY;
     }
 
@@ -185,6 +187,42 @@ class PointsSortedDocsProducer extends SortedDocsProducer {
             return PointValues.Relation.CELL_CROSSES_QUERY;
         }
 
+        /**
+         * Returns a visitor that matches the points of the buckets after the last one that was processed, which can be used to
+         * estimate the number of documents that were skipped when the collection terminated early.
+         */
+        PointValues.IntersectVisitor remainingVisitor() {
+            final long terminatedBucket = lastBucket;
+            return new PointValues.IntersectVisitor() {
+                @Override
+                public void visit(int docID) {
+                    throw new IllegalStateException("should never be called");
+                }
+
+                @Override
+                public void visit(int docID, byte[] packedValue) {
+                    throw new IllegalStateException("should never be called");
+                }
+
+                @Override
+                public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                    if (Visitor.this.compare(minPackedValue, maxPackedValue) == PointValues.Relation.CELL_OUTSIDE_QUERY
+                            || bucketFunction.applyAsLong(maxPackedValue) <= terminatedBucket) {
+                        return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                    }
+                    if (bucketFunction.applyAsLong(minPackedValue) > terminatedBucket
+                            && (upperBucket == Long.MAX_VALUE || bucketFunction.applyAsLong(maxPackedValue) <= upperBucket)
+                            && (lowerPointQuery == null ||
+                                FutureArrays.compareUnsigned(minPackedValue, 0, bytesPerDim, lowerPointQuery, 0, bytesPerDim) >= 0)
+                            && (upperPointQuery == null ||
+                                FutureArrays.compareUnsigned(maxPackedValue, 0, bytesPerDim, upperPointQuery, 0, bytesPerDim) <= 0)) {
+                        return PointValues.Relation.CELL_INSIDE_QUERY;
+                    }
+                    return PointValues.Relation.CELL_CROSSES_QUERY;
+                }
+            };
+        }
+
         public void flush() throws IOException {
             if (first == false)  {
                 final DocIdSet docIdSet = bucketDocsBuilder.build();
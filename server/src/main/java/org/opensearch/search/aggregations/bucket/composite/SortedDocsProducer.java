@@ -50,11 +50,50 @@ import java.io.IOException;
  */
 abstract class SortedDocsProducer {
     protected final String field;
+    private boolean countSkippedDocs;
+    private int leavesEarlyTerminated;
+    private long docsSkipped;
 
     SortedDocsProducer(String field) {
         this.field = field;
     }
 
+    /**
+     * Sets whether the documents that a leaf skips when it terminates early are counted. Counting them may need to visit the
+     * remaining values of the leading source, so this is only set when profiling.
+     */
+    void setCountSkippedDocs(boolean countSkippedDocs) {
+        this.countSkippedDocs = countSkippedDocs;
+    }
+
+    protected boolean countSkippedDocs() {
+        return countSkippedDocs;
+    }
+
+    /**
+     * Records that the current leaf terminated early, because the remaining values of the leading source could not produce a
+     * competitive composite bucket, and the number of documents with these values that were skipped.
+     */
+    protected void onEarlyTermination(long docsSkipped) {
+        leavesEarlyTerminated++;
+        this.docsSkipped += docsSkipped;
+    }
+
+    /**
+     * Returns the number of leaves that terminated early so far.
+     */
+    int leavesEarlyTerminated() {
+        return leavesEarlyTerminated;
+    }
+
+    /**
+     * Returns the number of documents that the leaves skipped when they terminated early so far, or {@code 0} if they are not
+     * counted. A document with several of the skipped values is counted once per value.
+     */
+    long docsSkipped() {
+        return docsSkipped;
+    }
+
     /**
      * Visits all non-deleted documents in <code>iterator</code> and fills the provided <code>queue</code>
      * with the top composite buckets extracted from the collection.
@@ -40,6 +40,7 @@ import org.apache.lucene.search.DocIdSet;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.DocIdSetBuilder;
+import org.opensearch.common.Nullable;
 
 import java.io.IOException;
 
@@ -84,10 +85,22 @@ class TermsSortedDocsProducer extends SortedDocsProducer {
                 // this bucket does not have any competitive composite buckets,
                 // we can early terminate the collection because the remaining buckets are guaranteed
                 // to be greater than this bucket.
+                onEarlyTermination(countSkippedDocs() ? countRemainingDocs(te, upper) : 0);
                 break;
             }
             first = false;
         } while (te.next() != null);
         return fillDocIdSet ? builder.build() : DocIdSet.EMPTY;
     }
+
+    /**
+     * Returns the number of documents of the terms after the current term of the enum, up to the inclusive upper bound.
+     */
+    private static long countRemainingDocs(TermsEnum te, @Nullable BytesRef upper) throws IOException {
+        long docs = 0;
+        while (te.next() != null && (upper == null || upper.compareTo(te.term()) >= 0)) {
+            docs += te.docFreq();
+        }
+        return docs;
+    }
 }
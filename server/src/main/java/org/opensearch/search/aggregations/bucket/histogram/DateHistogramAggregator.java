@@ -31,13 +31,27 @@
 
 package org.opensearch.search.aggregations.bucket.histogram;
 
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.codec.startree.StarTreeValues;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -46,6 +60,7 @@ import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
@@ -81,6 +96,23 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * The field whose points are used to count the documents per bucket, or {@code null} if documents have to be collected.
+     */
+    private final String pointField;
+    /**
+     * The field whose star tree can be collected instead of the documents, or {@code null} if documents have to be collected.
+     */
+    private final String starTreeField;
+    /**
+     * The inclusive bounds of the top level range query on the field, or the full range of longs.
+     */
+    private final long queryLowerBound;
+    private final long queryUpperBound;
+    private int segmentsCountedFromPoints;
+    private int segmentsCollectedFromStarTree;
+    private int segmentsCollected;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +144,74 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+
+        final long[] bounds = queryBoundsOrNull(valuesSourceConfig, aggregationContext, parent);
+        if (bounds != null) {
+            final String field = valuesSourceConfig.fieldContext().field();
+            // points can only count documents, sub-aggregations need to see them
+            this.pointField = factories.countAggregators() == 0 && valuesSourceConfig.getPointReaderOrNull() != null ? field : null;
+            this.starTreeField = field;
+            this.queryLowerBound = bounds[0];
+            this.queryUpperBound = bounds[1];
+        } else {
+            this.pointField = null;
+            this.starTreeField = null;
+            this.queryLowerBound = Long.MIN_VALUE;
+            this.queryUpperBound = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the inclusive bounds of the values that match the query if the buckets can be computed from the points or the star
+     * tree of the field instead of collecting documents, or {@code null} otherwise. This requires a top level aggregation on a
+     * millisecond date field, and a query that either matches all documents or is a range query on the same field.
+     */
+    private static long[] queryBoundsOrNull(ValuesSourceConfig config, SearchContext context, Aggregator parent) {
+        if (parent != null || config.hasValues() == false) {
+            return null;
+        }
+        if (context.minimumScore() != null || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return null;
+        }
+        if (config.fieldContext() == null || config.script() != null || config.missing() != null) {
+            return null;
+        }
+        final MappedFieldType fieldType = config.fieldType();
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false
+            || ((DateFieldMapper.DateFieldType) fieldType).resolution() != DateFieldMapper.Resolution.MILLISECONDS) {
+            return null;
+        }
+        Query query = context.query();
+        if (query == null) {
+            return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        }
+        while (true) {
+            if (query instanceof ConstantScoreQuery) {
+                query = ((ConstantScoreQuery) query).getQuery();
+            } else if (query instanceof BoostQuery) {
+                query = ((BoostQuery) query).getQuery();
+            } else if (query instanceof DateRangeIncludingNowQuery) {
+                query = ((DateRangeIncludingNowQuery) query).getQuery();
+            } else if (query instanceof IndexOrDocValuesQuery) {
+                query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+            } else {
+                break;
+            }
+        }
+        if (query instanceof MatchAllDocsQuery) {
+            return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        }
+        if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (rangeQuery.getField().equals(fieldType.name())
+                && rangeQuery.getNumDims() == 1
+                && rangeQuery.getBytesPerDim() == Long.BYTES) {
+                return new long[] {
+                    LongPoint.decodeDimension(rangeQuery.getLowerPoint(), 0),
+                    LongPoint.decodeDimension(rangeQuery.getUpperPoint(), 0) };
+            }
+        }
+        return null;
     }
 
     @Override
@@ -127,6 +227,17 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (pointField != null && countFromPoints(ctx)) {
+            segmentsCountedFromPoints++;
+            // all documents of the segment have been counted, we don't need to collect them
+            throw new CollectionTerminatedException();
+        }
+        if (starTreeField != null && collectFromStarTree(ctx)) {
+            segmentsCollectedFromStarTree++;
+            // all documents of the segment have been collected from the star tree
+            throw new CollectionTerminatedException();
+        }
+        segmentsCollected++;
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -158,6 +269,146 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    /**
+     * Counts the documents of the segment per bucket by walking the points of the field, which avoids reading and rounding the doc
+     * values of every document. Cells of the tree whose values all round to the same bucket are rounded once, their documents are
+     * still visited one by one but only increment a counter, so the cost remains linear in the number of matching documents with
+     * a smaller constant than collecting them. Returns {@code false} if the segment doesn't allow to count documents this way.
+     */
+    private boolean countFromPoints(LeafReaderContext ctx) throws IOException {
+        if (ctx.reader().getLiveDocs() != null) {
+            return false;
+        }
+        final FieldInfo fieldInfo = ctx.reader().getFieldInfos().fieldInfo(pointField);
+        if (fieldInfo == null) {
+            // no document of the segment has a value
+            return true;
+        }
+        if (fieldInfo.getPointDimensionCount() != 1) {
+            return false;
+        }
+        final PointValues pointValues = ctx.reader().getPointValues(pointField);
+        if (pointValues == null) {
+            return true;
+        }
+        if (pointValues.getDocCount() != pointValues.size()) {
+            // documents with several values must be counted once per bucket
+            return false;
+        }
+        final long segmentMin = LongPoint.decodeDimension(pointValues.getMinPackedValue(), 0);
+        final long segmentMax = LongPoint.decodeDimension(pointValues.getMaxPackedValue(), 0);
+        if (segmentMin > queryUpperBound || segmentMax < queryLowerBound) {
+            return true;
+        }
+        final PointCountingVisitor visitor = new PointCountingVisitor();
+        pointValues.intersect(visitor);
+        visitor.flush();
+        return true;
+    }
+
+    /**
+     * Collects the pre-aggregated rows of the star tree of the segment instead of its documents. This requires sub-aggregations
+     * that can collect star trees, a segment without deleted documents whose dates all match the query, and rows whose whole
+     * interval rounds to the same bucket. Returns {@code false} without collecting anything otherwise.
+     */
+    private boolean collectFromStarTree(LeafReaderContext ctx) throws IOException {
+        if (ctx.reader().getLiveDocs() != null) {
+            return false;
+        }
+        final StarTreeValues starTree = StarTreeValues.get(ctx.reader(), starTreeField);
+        if (starTree == null || starTree.minDate() < queryLowerBound || starTree.maxDate() > queryUpperBound) {
+            return false;
+        }
+        final StarTreeAggregator.RowCollector sub = getSubStarTreeCollector(ctx, starTree);
+        if (sub == null) {
+            return false;
+        }
+        final long[] rounded = new long[starTree.rowCount()];
+        for (int row = 0; row < rounded.length; row++) {
+            final long date = starTree.date(row);
+            rounded[row] = preparedRounding.round(date);
+            if (rounded[row] != preparedRounding.round(date + starTree.dateInterval() - 1)) {
+                return false;
+            }
+        }
+        for (int row = 0; row < rounded.length; row++) {
+            if (hardBounds == null || hardBounds.contain(rounded[row])) {
+                long bucketOrd = bucketOrds.add(0, rounded[row]);
+                if (bucketOrd < 0) {
+                    bucketOrd = -1 - bucketOrd;
+                }
+                collectStarTreeBucket(sub, row, starTree.docCount(row), bucketOrd);
+            }
+        }
+        return true;
+    }
+
+    private class PointCountingVisitor implements PointValues.IntersectVisitor {
+        // the bucket that the documents of the cell that is visited as a whole fall into
+        private long cellBucketOrd = -1;
+        private long pendingBucketOrd = -1;
+        private int pendingCount;
+
+        @Override
+        public void visit(int docID) {
+            count(cellBucketOrd);
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) {
+            final long value = LongPoint.decodeDimension(packedValue, 0);
+            if (value < queryLowerBound || value > queryUpperBound) {
+                return;
+            }
+            final long rounded = preparedRounding.round(value);
+            if (hardBounds == null || hardBounds.contain(rounded)) {
+                count(bucketOrd(rounded));
+            }
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            final long min = LongPoint.decodeDimension(minPackedValue, 0);
+            final long max = LongPoint.decodeDimension(maxPackedValue, 0);
+            if (min > queryUpperBound || max < queryLowerBound) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            if (min < queryLowerBound || max > queryUpperBound) {
+                return PointValues.Relation.CELL_CROSSES_QUERY;
+            }
+            final long rounded = preparedRounding.round(min);
+            if (rounded != preparedRounding.round(max)) {
+                return PointValues.Relation.CELL_CROSSES_QUERY;
+            }
+            if (hardBounds != null && hardBounds.contain(rounded) == false) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            // the documents of the cell are visited right after this call, one visit(int) per document
+            cellBucketOrd = bucketOrd(rounded);
+            return PointValues.Relation.CELL_INSIDE_QUERY;
+        }
+
+        private long bucketOrd(long rounded) {
+            final long bucketOrd = bucketOrds.add(0, rounded);
+            return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+        }
+
+        private void count(long bucketOrd) {
+            if (bucketOrd != pendingBucketOrd) {
+                flush();
+                pendingBucketOrd = bucketOrd;
+            }
+            pendingCount++;
+        }
+
+        void flush() {
+            if (pendingCount > 0) {
+                incrementBucketDocCount(pendingBucketOrd, pendingCount);
+                pendingCount = 0;
+            }
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds,
@@ -194,6 +445,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        add.accept("segments_counted_from_points", segmentsCountedFromPoints);
+        add.accept("segments_collected_from_star_tree", segmentsCollectedFromStarTree);
+        add.accept("segments_collected", segmentsCollected);
     }
 
     /**
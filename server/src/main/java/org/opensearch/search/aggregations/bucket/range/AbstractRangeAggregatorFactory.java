@@ -32,11 +32,23 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Weight;
+import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.bucket.FilterByFilter;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregator.Range;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregator.Unmapped;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
@@ -98,7 +110,19 @@ public class AbstractRangeAggregatorFactory<R extends Range> extends ValuesSourc
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
     ) throws IOException {
-
+        final Query[] filters = filtersOrNull(searchContext, parent);
+        if (filters != null) {
+            final IndexSearcher searcher = FilterByFilter.searcher(searchContext);
+            final Weight topLevel = FilterByFilter.topLevelWeight(searchContext, searcher);
+            final Weight[] filterWeights = new Weight[filters.length];
+            for (int i = 0; i < filters.length; i++) {
+                filterWeights[i] = FilterByFilter.filterWeight(searcher, filters[i]);
+            }
+            if (filtersAreCheaper(searcher, filterWeights, topLevel)) {
+                return new RangeAggregator(name, factories, (Numeric) config.getValuesSource(), config.format(), rangeFactory, ranges,
+                    keyed, searchContext, parent, cardinality, metadata, config.fieldType().name(), filterWeights, topLevel);
+            }
+        }
         return queryShardContext.getValuesSourceRegistry()
             .getAggregator(registryKey, config)
             .build(
@@ -115,4 +139,88 @@ public class AbstractRangeAggregatorFactory<R extends Range> extends ValuesSourc
                 metadata
             );
     }
+
+    /**
+     * Returns one query per range that matches exactly the documents that have a value in the range if the ranges can be counted
+     * filter by filter, or {@code null} otherwise. The queries run on the points of the field, which hold the same values as
+     * its doc values, so we need an indexed field without script or missing value.
+     */
+    private Query[] filtersOrNull(SearchContext searchContext, Aggregator parent) {
+        if (FilterByFilter.canUse(searchContext, parent, factories) == false || config.getPointReaderOrNull() == null) {
+            return null;
+        }
+        final MappedFieldType fieldType = config.fieldType();
+        if (fieldType.isSearchable() == false) {
+            return null;
+        }
+        final NumericType numericType;
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            numericType = ((NumberFieldMapper.NumberFieldType) fieldType).numericType();
+        } else if (fieldType instanceof DateFieldMapper.DateFieldType
+            && ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS) {
+            numericType = NumericType.LONG;
+        } else {
+            return null;
+        }
+        final String field = fieldType.name();
+        final Query[] filters = new Query[ranges.length];
+        for (int i = 0; i < ranges.length; i++) {
+            final double from = ranges[i].from;
+            final double to = ranges[i].to;
+            if (from == Double.POSITIVE_INFINITY || to == Double.NEGATIVE_INFINITY) {
+                // empty ranges that would need special casing
+                return null;
+            }
+            switch (numericType) {
+                case LONG:
+                case INT:
+                case SHORT:
+                case BYTE:
+                    // doc values are compared as doubles, which is only exact for the integer bounds within +/- 2^53
+                    if (isExactLong(from) == false || isExactLong(to) == false) {
+                        return null;
+                    }
+                    final long lower = from == Double.NEGATIVE_INFINITY ? Long.MIN_VALUE : (long) Math.ceil(from);
+                    final long upper = to == Double.POSITIVE_INFINITY ? Long.MAX_VALUE : (long) Math.ceil(to) - 1;
+                    if (numericType == NumericType.LONG) {
+                        filters[i] = LongPoint.newRangeQuery(field, lower, upper);
+                    } else {
+                        filters[i] = IntPoint.newRangeQuery(field, (int) Math.max(lower, Integer.MIN_VALUE),
+                            (int) Math.min(upper, Integer.MAX_VALUE));
+                    }
+                    break;
+                case DOUBLE:
+                    // the lower bound is inclusive and -0 equals +0 when doc values are compared, but not for points
+                    filters[i] = DoublePoint.newRangeQuery(field, from == 0d ? -0d : from, Math.nextDown(to));
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return filters;
+    }
+
+    private static final double MAX_EXACT_LONG = 1L << 53;
+
+    private static boolean isExactLong(double bound) {
+        return Double.isInfinite(bound) || (bound >= -MAX_EXACT_LONG && bound <= MAX_EXACT_LONG);
+    }
+
+    /**
+     * Estimates whether counting the documents of each range by intersecting its filter with the query is cheaper than collecting
+     * all documents that match the query. Both iterate the query once per segment, so only the intersections are compared with
+     * the collection.
+     */
+    private static boolean filtersAreCheaper(IndexSearcher searcher, Weight[] filters, Weight topLevel) throws IOException {
+        long filterCost = 0;
+        long collectCost = 0;
+        for (LeafReaderContext ctx : searcher.getIndexReader().leaves()) {
+            final long leafCollectCost = FilterByFilter.collectCost(ctx, topLevel);
+            collectCost += leafCollectCost;
+            for (Weight filter : filters) {
+                filterCost += Math.min(FilterByFilter.cost(ctx, filter), leafCollectCost);
+            }
+        }
+        return filterCost <= collectCost;
+    }
 }
@@ -31,8 +31,13 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -54,6 +59,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.FilterByFilter;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 
@@ -62,6 +68,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -236,9 +243,33 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * The indexed field and one filter per range if the ranges are counted filter by filter, {@code null} if documents are collected.
+     */
+    @Nullable
+    private final String filterField;
+    @Nullable
+    private final Weight[] filters;
+    @Nullable
+    private final Weight topLevel;
+    private int segmentsCountedWithFilters;
+    private int segmentsCollected;
+
     public RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
             InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
             Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, valuesSource, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata, null, null, null);
+    }
+
+    /**
+     * Creates an aggregator that counts the documents of each range by intersecting the given filters, which must match exactly
+     * the documents that have a value in the range at the same index, with the top level query instead of collecting documents.
+     * The filters run on the points of the given field.
+     */
+    RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata,
+            @Nullable String filterField, @Nullable Weight[] filters, @Nullable Weight topLevel) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -255,6 +286,10 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to,maxTo[i-1]);
         }
 
+        assert filters == null || (filters.length == ranges.length && factories.countAggregators() == 0);
+        this.filterField = filterField;
+        this.filters = filters;
+        this.topLevel = topLevel;
     }
 
     @Override
@@ -268,6 +303,19 @@ public class RangeAggregator extends BucketsAggregator {
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
             final LeafBucketCollector sub) throws IOException {
+        if (filters != null && hasPoints(ctx)) {
+            final FilterByFilter.LeafCounter counter = FilterByFilter.leafCounter(context, ctx, topLevel);
+            for (int i = 0; i < filters.length; i++) {
+                final Scorer filter = filters[i].scorer(ctx);
+                if (filter != null) {
+                    incrementBucketDocCount(subBucketOrdinal(0, i), counter.count(filter.iterator()));
+                }
+            }
+            segmentsCountedWithFilters++;
+            // all documents of the segment have been counted, we don't need to collect them
+            throw new CollectionTerminatedException();
+        }
+        segmentsCollected++;
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -332,6 +380,14 @@ public class RangeAggregator extends BucketsAggregator {
         };
     }
 
+    /**
+     * Returns whether the filters can count the documents of the segment, which is only the case if the field was indexed with points.
+     */
+    private boolean hasPoints(LeafReaderContext ctx) {
+        final FieldInfo fieldInfo = ctx.reader().getFieldInfos().fieldInfo(filterField);
+        return fieldInfo == null || fieldInfo.getPointDimensionCount() > 0;
+    }
+
     private long subBucketOrdinal(long owningBucketOrdinal, int rangeOrd) {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
@@ -345,6 +401,14 @@ public class RangeAggregator extends BucketsAggregator {
             }, buckets -> rangeFactory.create(name, buckets, format, keyed, metadata()));
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept(FilterByFilter.EXECUTION_STRATEGY, filters != null ? FilterByFilter.FILTERS : FilterByFilter.COLLECT);
+        add.accept("segments_counted_with_filters", segmentsCountedWithFilters);
+        add.accept("segments_collected", segmentsCollected);
+    }
+
     @Override
     public InternalAggregation buildEmptyAggregation() {
         InternalAggregations subAggs = buildEmptySubAggregations();
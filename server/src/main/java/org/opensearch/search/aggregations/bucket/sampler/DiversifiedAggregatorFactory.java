@@ -146,4 +146,10 @@ public class DiversifiedAggregatorFactory extends ValuesSourceAggregatorFactory
             }
         };
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // sampling per slice would change the size of the sample
+        return false;
+    }
 }
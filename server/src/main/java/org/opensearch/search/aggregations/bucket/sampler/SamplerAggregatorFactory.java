@@ -60,4 +60,9 @@ public class SamplerAggregatorFactory extends AggregatorFactory {
         return new SamplerAggregator(name, shardSize, factories, searchContext, parent, metadata);
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // sampling per slice would change the size of the sample
+        return false;
+    }
 }
@@ -35,11 +35,17 @@ package org.opensearch.search.aggregations.bucket.terms;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -47,6 +53,7 @@ import org.opensearch.common.util.IntArray;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
@@ -58,6 +65,8 @@ import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeAggregator;
+import org.opensearch.search.aggregations.bucket.FilterByFilter;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForBytes;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
 import org.opensearch.search.aggregations.support.ValuesSource;
@@ -77,7 +86,7 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 /**
  * An aggregator of string values that relies on global ordinals in order to build buckets.
  */
-public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggregator {
+public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggregator implements StarTreeAggregator {
     protected final ResultStrategy<?, ?, ?> resultStrategy;
     protected final ValuesSource.Bytes.WithOrdinals valuesSource;
 
@@ -87,6 +96,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     protected final CollectionStrategy collectionStrategy;
     protected int segmentsWithSingleValuedOrds = 0;
     protected int segmentsWithMultiValuedOrds = 0;
+    /**
+     * The keyword field whose star tree dimension can be collected instead of the documents, {@code null} if documents are collected.
+     */
+    @Nullable
+    private String starTreeField;
 
     public interface GlobalOrdLookupFunction {
         BytesRef apply(long ord) throws IOException;
@@ -130,6 +144,14 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         }
     }
 
+    /**
+     * Collects the rows of star trees that have a dimension on the given field when the parent aggregation collects a star tree.
+     * This requires the values of the field itself, without script nor missing value.
+     */
+    void useStarTree(String field) {
+        this.starTreeField = field;
+    }
+
     String descriptCollectionStrategy() {
         return collectionStrategy.describe();
     }
@@ -205,6 +227,39 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         });
     }
 
+    @Override
+    public StarTreeAggregator.RowCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) throws IOException {
+        if (starTreeField == null
+            || resultStrategy instanceof StandardTermsResults == false
+            || valuesSource.supportsGlobalOrdinalsMapping() == false) {
+            return null;
+        }
+        if (collectMode == SubAggCollectionMode.BREADTH_FIRST && hasDeferredAggregations()) {
+            // deferred sub-aggregations replay the documents of the buckets that were selected, rows can't be replayed
+            return null;
+        }
+        final int dimension = starTree.dimensionIndex(starTreeField);
+        if (dimension < 0) {
+            return null;
+        }
+        final StarTreeAggregator.RowCollector sub = getSubStarTreeCollector(ctx, starTree);
+        if (sub == null) {
+            return null;
+        }
+        final LongUnaryOperator mapping = valuesSource.globalOrdinalsMapping(ctx);
+        return (row, owningBucketOrd) -> {
+            final int ord = starTree.ord(dimension, row);
+            if (ord < 0) {
+                return;
+            }
+            final long globalOrd = mapping.applyAsLong(ord);
+            if (false == acceptedGlobalOrdinals.test(globalOrd)) {
+                return;
+            }
+            collectStarTreeBucket(sub, row, starTree.docCount(row), collectionStrategy.addGlobalOrd(owningBucketOrd, globalOrd));
+        };
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -287,6 +342,15 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         private LongUnaryOperator mapping;
         private IntArray segmentDocCounts;
 
+        /**
+         * The indexed field to count the terms of filter by filter, {@code null} if documents are collected.
+         */
+        @Nullable
+        private String filterField;
+        @Nullable
+        private Weight topLevel;
+        private int segmentsCountedWithFilters;
+
         LowCardinality(
             String name,
             AggregatorFactories factories,
@@ -318,6 +382,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             assert sub == LeafBucketCollector.NO_OP_COLLECTOR;
             final SortedDocValues singleValues = DocValues.unwrapSingleton(segmentOrds);
             mapping = valuesSource.globalOrdinalsMapping(ctx);
+            if (filterField != null && countWithFilters(ctx, segmentOrds)) {
+                segmentsCountedWithFilters++;
+                // all documents of the segment have been counted, we don't need to collect them
+                throw new CollectionTerminatedException();
+            }
             // Dense mode doesn't support include/exclude so we don't have to check it here.
             if (singleValues != null) {
                 segmentsWithSingleValuedOrds++;
@@ -348,6 +417,56 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             });
         }
 
+        /**
+         * Counts the documents of each term by intersecting its postings with the top level query instead of collecting documents.
+         * This requires an indexed field whose terms are the values of the doc values.
+         */
+        void useFilters(String field, @Nullable Weight topLevel) {
+            this.filterField = field;
+            this.topLevel = topLevel;
+        }
+
+        /**
+         * Counts the documents of each segment ordinal from the postings of its term. Returns {@code false} without counting
+         * anything if a term of the doc values can't be found in the terms index, in which case documents need to be collected.
+         */
+        private boolean countWithFilters(LeafReaderContext ctx, SortedSetDocValues segmentOrds) throws IOException {
+            final long valueCount = segmentOrds.getValueCount();
+            final Terms terms = ctx.reader().terms(filterField);
+            if (terms == null) {
+                return valueCount == 0;
+            }
+            final boolean useDocFreq = topLevel == null && ctx.reader().getLiveDocs() == null;
+            final TermsEnum termsEnum = terms.iterator();
+            final int[] counts = new int[Math.toIntExact(valueCount)];
+            final FilterByFilter.LeafCounter counter = useDocFreq ? null : FilterByFilter.leafCounter(context, ctx, topLevel);
+            PostingsEnum postings = null;
+            for (int ord = 0; ord < counts.length; ord++) {
+                if (termsEnum.seekExact(segmentOrds.lookupOrd(ord)) == false) {
+                    return false;
+                }
+                if (useDocFreq) {
+                    counts[ord] = termsEnum.docFreq();
+                } else {
+                    postings = termsEnum.postings(postings, PostingsEnum.NONE);
+                    counts[ord] = counter.count(postings);
+                }
+            }
+            for (int ord = 0; ord < counts.length; ord++) {
+                if (counts[ord] > 0) {
+                    segmentDocCounts.increment(ord + 1, counts[ord]);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void collectDebugInfo(BiConsumer<String, Object> add) {
+            super.collectDebugInfo(add);
+            add.accept(FilterByFilter.EXECUTION_STRATEGY, filterField != null ? FilterByFilter.FILTERS : FilterByFilter.COLLECT);
+            add.accept("segments_counted_with_filters", segmentsCountedWithFilters);
+        }
+
         @Override
         protected void doPostCollection() throws IOException {
             if (mapping != null) {
@@ -414,6 +533,10 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
          * Convert a global ordinal into a bucket ordinal.
          */
         abstract long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd);
+        /**
+         * Convert a global ordinal into a bucket ordinal, adding a bucket if it wasn't collected yet.
+         */
+        abstract long addGlobalOrd(long owningBucketOrd, long globalOrd);
         /**
          * Iterate all of the buckets. Implementations take into account
          * the {@link BucketCountThresholds}. In particular,
@@ -459,6 +582,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return globalOrd;
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            assert owningBucketOrd == 0;
+            return globalOrd;
+        }
+
         @Override
         void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException {
             assert owningBucketOrd == 0;
@@ -519,6 +648,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return bucketOrds.find(owningBucketOrd, globalOrd);
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            final long bucketOrd = bucketOrds.add(owningBucketOrd, globalOrd);
+            return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+        }
+
         @Override
         void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException {
             if (bucketCountThresholds.getMinDocCount() == 0) {
@@ -444,8 +444,12 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         long docCountError;
         if (sumDocCountError == -1) {
             docCountError = -1;
+        } else if (aggregations.size() == 1) {
+            // the top terms of a single shard are exact, unless the shard already merged truncated results, like the slices of a
+            // concurrent segment search, in which case it carries their error
+            docCountError = Math.max(0, ((InternalTerms<?, ?>) aggregations.get(0)).getDocCountError());
         } else {
-            docCountError = aggregations.size() == 1 ? 0 : sumDocCountError;
+            docCountError = sumDocCountError;
         }
         return create(name, Arrays.asList(list), reduceContext.isFinalReduce() ? order : thisReduceOrder, docCountError, otherDocCount);
     }
@@ -31,13 +31,17 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.IntArray;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.search.DocValueFormat;
@@ -63,6 +67,7 @@ import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 
+import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_ORDS;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 
 /**
@@ -72,8 +77,8 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
     private final CollectorSource collectorSource;
     private final ResultStrategy<?, ?> resultStrategy;
-    private final BytesKeyedBucketOrds bucketOrds;
-    private final IncludeExclude.StringFilter includeExclude;
+    protected final BytesKeyedBucketOrds bucketOrds;
+    protected final IncludeExclude.StringFilter includeExclude;
 
     public MapStringTermsAggregator(
         String name,
@@ -224,6 +229,126 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         public void close() {}
     }
 
+    /**
+     * Variant of {@linkplain MapStringTermsAggregator} that counts the documents of
+     * each segment ordinal and only looks up and hashes the terms once per segment,
+     * when moving on to the next segment. Unlike the
+     * {@link GlobalOrdinalsStringTermsAggregator} it doesn't need global ordinals,
+     * which are expensive to build on the first search after a refresh of an index
+     * with many segments. It only supports collecting a single bucket without
+     * sub-aggregations.
+     */
+    static class SegmentOrds extends MapStringTermsAggregator {
+        private final ValuesSource.Bytes.WithOrdinals valuesSource;
+        private IntArray segmentDocCounts;
+        private SortedSetDocValues segmentOrds;
+        private int segmentsWithSingleValuedOrds = 0;
+        private int segmentsWithMultiValuedOrds = 0;
+
+        SegmentOrds(
+            String name,
+            AggregatorFactories factories,
+            ValuesSource.Bytes.WithOrdinals valuesSource,
+            BucketOrder order,
+            DocValueFormat format,
+            BucketCountThresholds bucketCountThresholds,
+            IncludeExclude.StringFilter includeExclude,
+            SearchContext context,
+            Aggregator parent,
+            SubAggCollectionMode collectionMode,
+            boolean showTermDocCountError,
+            Map<String, Object> metadata
+        ) throws IOException {
+            super(name, factories, new ValuesSourceCollectorSource(valuesSource), a -> a.new StandardTermsResults(valuesSource), order,
+                format, bucketCountThresholds, includeExclude, context, parent, collectionMode, showTermDocCountError,
+                CardinalityUpperBound.ONE, metadata);
+            assert factories == null || factories.countAggregators() == 0;
+            this.valuesSource = valuesSource;
+            this.segmentDocCounts = context.bigArrays().newIntArray(1, true);
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+            if (segmentOrds != null) {
+                mapSegmentCountsToBuckets();
+            }
+            final SortedSetDocValues ords = valuesSource.ordinalsValues(ctx);
+            segmentDocCounts = context.bigArrays().grow(segmentDocCounts, ords.getValueCount());
+            segmentOrds = ords;
+            assert sub == LeafBucketCollector.NO_OP_COLLECTOR;
+            final SortedDocValues singleValues = DocValues.unwrapSingleton(ords);
+            if (singleValues != null) {
+                segmentsWithSingleValuedOrds++;
+                return new LeafBucketCollectorBase(sub, ords) {
+                    @Override
+                    public void collect(int doc, long owningBucketOrd) throws IOException {
+                        assert owningBucketOrd == 0;
+                        if (singleValues.advanceExact(doc)) {
+                            segmentDocCounts.increment(singleValues.ordValue(), 1);
+                        }
+                    }
+                };
+            }
+            segmentsWithMultiValuedOrds++;
+            return new LeafBucketCollectorBase(sub, ords) {
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    assert owningBucketOrd == 0;
+                    if (false == ords.advanceExact(doc)) {
+                        return;
+                    }
+                    for (long ord = ords.nextOrd(); ord != NO_MORE_ORDS; ord = ords.nextOrd()) {
+                        segmentDocCounts.increment(ord, 1);
+                    }
+                }
+            };
+        }
+
+        @Override
+        protected void doPostCollection() throws IOException {
+            if (segmentOrds != null) {
+                mapSegmentCountsToBuckets();
+            }
+        }
+
+        /**
+         * Adds the counts of the segment that was collected last to the buckets of
+         * its terms, and resets them for the next segment.
+         */
+        private void mapSegmentCountsToBuckets() throws IOException {
+            for (long ord = 0; ord < segmentOrds.getValueCount(); ord++) {
+                final int count = segmentDocCounts.set(ord, 0);
+                if (count == 0) {
+                    continue;
+                }
+                final BytesRef term = segmentOrds.lookupOrd(ord);
+                if (includeExclude != null && false == includeExclude.accept(term)) {
+                    continue;
+                }
+                long bucketOrd = bucketOrds.add(0, term);
+                if (bucketOrd < 0) {
+                    bucketOrd = -1 - bucketOrd;
+                }
+                incrementBucketDocCount(bucketOrd, count);
+            }
+            segmentOrds = null;
+        }
+
+        @Override
+        public void collectDebugInfo(BiConsumer<String, Object> add) {
+            super.collectDebugInfo(add);
+            add.accept("collection_strategy", "segment_ordinals");
+            add.accept("segments_with_single_valued_ords", segmentsWithSingleValuedOrds);
+            add.accept("segments_with_multi_valued_ords", segmentsWithMultiValuedOrds);
+        }
+
+        @Override
+        public void doClose() {
+            super.doClose();
+            Releasables.close(segmentDocCounts);
+        }
+    }
+
     /**
      * Strategy for building results.
      */
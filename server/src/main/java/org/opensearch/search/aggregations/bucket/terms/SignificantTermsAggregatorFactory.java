@@ -382,4 +382,10 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
             return parseField.getPreferredName();
         }
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the superset size is computed for the whole shard and must not be summed across slices
+        return false;
+    }
 }
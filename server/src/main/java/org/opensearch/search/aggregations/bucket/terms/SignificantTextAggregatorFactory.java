@@ -295,4 +295,10 @@ public class SignificantTextAggregatorFactory extends AggregatorFactory {
             Releasables.close(dupSequenceSpotters);
         }
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the superset size is computed for the whole shard and must not be summed across slices
+        return false;
+    }
 }
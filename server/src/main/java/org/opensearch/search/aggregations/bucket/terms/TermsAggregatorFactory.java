@@ -32,8 +32,13 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Weight;
 import org.opensearch.common.ParseField;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
@@ -48,6 +53,7 @@ import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.InternalOrder.CompoundOrder;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketUtils;
+import org.opensearch.search.aggregations.bucket.FilterByFilter;
 import org.opensearch.search.aggregations.bucket.terms.NumericTermsAggregator.ResultStrategy;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregator.BucketCountThresholds;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
@@ -254,7 +260,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         }
         bucketCountThresholds.ensureValidity();
 
-        return aggregatorSupplier.build(
+        Aggregator aggregator = aggregatorSupplier.build(
             name,
             factories,
             config.getValuesSource(),
@@ -270,6 +276,61 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
             cardinality,
             metadata
         );
+        if (aggregator instanceof GlobalOrdinalsStringTermsAggregator.LowCardinality) {
+            maybeCountWithFilters((GlobalOrdinalsStringTermsAggregator.LowCardinality) aggregator, searchContext, parent);
+        } else if (aggregator instanceof GlobalOrdinalsStringTermsAggregator
+            && config.script() == null
+            && config.missing() == null
+            && config.fieldType() instanceof KeywordFieldMapper.KeywordFieldType) {
+            // star trees hold the segment ordinals of the keyword fields they pre-aggregate on
+            ((GlobalOrdinalsStringTermsAggregator) aggregator).useStarTree(config.fieldType().name());
+        }
+        return aggregator;
+    }
+
+    /**
+     * Switches a low cardinality aggregator on an indexed keyword field to count the documents of each term from its postings
+     * if that is estimated to be cheaper than collecting all documents that match the query.
+     */
+    private void maybeCountWithFilters(
+        GlobalOrdinalsStringTermsAggregator.LowCardinality aggregator,
+        SearchContext searchContext,
+        Aggregator parent
+    ) throws IOException {
+        final MappedFieldType fieldType = config.fieldType();
+        if (FilterByFilter.canUse(searchContext, parent, factories) == false
+            || config.script() != null
+            || config.missing() != null
+            || fieldType instanceof KeywordFieldMapper.KeywordFieldType == false
+            || fieldType.isSearchable() == false) {
+            return;
+        }
+        final String field = fieldType.name();
+        final IndexSearcher searcher = FilterByFilter.searcher(searchContext);
+        final Weight topLevel = FilterByFilter.topLevelWeight(searchContext, searcher);
+        long filterCost = 0;
+        long collectCost = 0;
+        for (LeafReaderContext ctx : searcher.getIndexReader().leaves()) {
+            final long leafCollectCost = FilterByFilter.collectCost(ctx, topLevel);
+            collectCost += leafCollectCost;
+            final Terms terms = ctx.reader().terms(field);
+            if (terms == null) {
+                continue;
+            }
+            final long termCount = terms.size();
+            if (termCount < 0) {
+                return;
+            }
+            if (topLevel == null && ctx.reader().getLiveDocs() == null) {
+                // the counts are the document frequencies of the terms
+                filterCost += termCount;
+            } else {
+                filterCost += Math.min(terms.getSumDocFreq(), termCount * leafCollectCost);
+            }
+        }
+        if (filterCost <= collectCost) {
+            aggregator.useFilters(field, topLevel);
+        }
     }
 
     /**
@@ -436,6 +497,49 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     metadata
                 );
             }
+        },
+        SEGMENT_ORDINALS(new ParseField("segment_ordinals")) {
+
+            @Override
+            Aggregator create(String name,
+                              AggregatorFactories factories,
+                              ValuesSource valuesSource,
+                              BucketOrder order,
+                              DocValueFormat format,
+                              TermsAggregator.BucketCountThresholds bucketCountThresholds,
+                              IncludeExclude includeExclude,
+                              SearchContext context,
+                              Aggregator parent,
+                              SubAggCollectionMode subAggCollectMode,
+                              boolean showTermDocCountError,
+                              CardinalityUpperBound cardinality,
+                              Map<String, Object> metadata) throws IOException {
+                assert valuesSource instanceof ValuesSource.Bytes.WithOrdinals;
+                if (factories != AggregatorFactories.EMPTY || cardinality != CardinalityUpperBound.ONE) {
+                    /*
+                     * Counting per segment ordinal only works for a single bucket without
+                     * sub-aggregators. Otherwise we fall back to hashing the terms of every
+                     * document, which doesn't need global ordinals either.
+                     */
+                    return MAP.create(name, factories, valuesSource, order, format, bucketCountThresholds, includeExclude,
+                        context, parent, subAggCollectMode, showTermDocCountError, cardinality, metadata);
+                }
+                final IncludeExclude.StringFilter filter = includeExclude == null ? null : includeExclude.convertToStringFilter(format);
+                return new MapStringTermsAggregator.SegmentOrds(
+                    name,
+                    factories,
+                    (ValuesSource.Bytes.WithOrdinals) valuesSource,
+                    order,
+                    format,
+                    bucketCountThresholds,
+                    filter,
+                    context,
+                    parent,
+                    subAggCollectMode,
+                    showTermDocCountError,
+                    metadata
+                );
+            }
         };
 
         public static ExecutionMode fromString(String value) {
@@ -444,8 +548,11 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     return GLOBAL_ORDINALS;
                 case "map":
                     return MAP;
+                case "segment_ordinals":
+                    return SEGMENT_ORDINALS;
                 default:
-                    throw new IllegalArgumentException("Unknown `execution_hint`: [" + value + "], expected any of [map, global_ordinals]");
+                    throw new IllegalArgumentException("Unknown `execution_hint`: [" + value
+                        + "], expected any of [map, global_ordinals, segment_ordinals]");
             }
         }
 
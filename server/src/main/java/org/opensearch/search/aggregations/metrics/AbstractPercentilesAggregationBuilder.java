@@ -32,6 +32,7 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.TriFunction;
@@ -50,10 +51,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * This provides a base class for aggregations that are building percentiles or percentiles-like functionality (e.g. percentile ranks).
- * It provides a set of common fields/functionality for setting the available algorithms (TDigest and HDRHistogram),
+ * It provides a set of common fields/functionality for setting the available algorithms (TDigest, HDRHistogram and DDSketch),
  * as well as algorithm-specific settings via a {@link PercentilesConfig} object
  */
 public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPercentilesAggregationBuilder<T>>
@@ -86,6 +88,7 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
          *  - args[0]: values
          *  - args[1]: tdigest config options
          *  - args[2]: hdr config options
+         *  - args[3]: ddsketch config options
          *
          *  If `args` is null or empty, it means all were omitted.  This is usually an anti-pattern for
          *  ConstructingObjectParser, but we're allowing it because of the above-mentioned reasons
@@ -100,18 +103,22 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
 
             PercentilesConfig tDigestConfig = (PercentilesConfig) args[1];
             PercentilesConfig hdrConfig = (PercentilesConfig) args[2];
+            PercentilesConfig ddSketchConfig = (PercentilesConfig) args[3];
 
             double[] values = args[0] != null ? ((List<Double>) args[0]).stream().mapToDouble(Double::doubleValue).toArray() : null;
             PercentilesConfig percentilesConfig;
 
-            if (tDigestConfig != null && hdrConfig != null) {
+            long declaredConfigs = Stream.of(tDigestConfig, hdrConfig, ddSketchConfig).filter(Objects::nonNull).count();
+            if (declaredConfigs > 1) {
                 throw new IllegalArgumentException("Only one percentiles method should be declared.");
-            } else if (tDigestConfig == null && hdrConfig == null) {
+            } else if (declaredConfigs == 0) {
                 percentilesConfig = defaultConfig.get();
             } else if (tDigestConfig != null) {
                 percentilesConfig = tDigestConfig;
-            } else {
+            } else if (hdrConfig != null) {
                 percentilesConfig = hdrConfig;
+            } else {
+                percentilesConfig = ddSketchConfig;
             }
 
             return ctor.apply(name, values, percentilesConfig);
@@ -124,6 +131,8 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
             PercentilesMethod.TDIGEST.getParseField());
         parser.declareObject(ConstructingObjectParser.optionalConstructorArg(), PercentilesMethod.HDR_PARSER,
             PercentilesMethod.HDR.getParseField());
+        parser.declareObject(ConstructingObjectParser.optionalConstructorArg(), PercentilesMethod.DDSKETCH_PARSER,
+            PercentilesMethod.DDSKETCH.getParseField());
 
         return parser;
     }
@@ -175,6 +184,10 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
         if (out.getVersion().onOrAfter(LegacyESVersion.V_7_8_0)) {
             out.writeOptionalWriteable(percentilesConfig);
         } else {
+            if (percentilesConfig.getMethod().equals(PercentilesMethod.DDSKETCH)) {
+                throw new IllegalArgumentException("percentiles method [" + PercentilesMethod.DDSKETCH
+                    + "] is not supported on nodes before version [" + Version.V_1_1_0 + "]");
+            }
             // Legacy method serialized both SigFigs and compression, even though we only need one.  So we need
             // to serialize the default for the unused method
             int numberOfSignificantValueDigits = percentilesConfig.getMethod().equals(PercentilesMethod.HDR)
@@ -282,19 +295,15 @@ public abstract class AbstractPercentilesAggregationBuilder<T extends AbstractPe
         if (method == null) {
             throw new IllegalArgumentException("[method] must not be null: [" + name + "]");
         }
-        if (percentilesConfig == null) {
-            if (method.equals(PercentilesMethod.TDIGEST) ) {
-                this.percentilesConfig = new PercentilesConfig.TDigest();
-            } else {
-                this.percentilesConfig = new PercentilesConfig.Hdr();
-            }
-        } else if (percentilesConfig.getMethod().equals(method) == false) {
-            // we already have an algo configured, but it's different from the requested method
+        if (percentilesConfig == null || percentilesConfig.getMethod().equals(method) == false) {
+            // we don't have an algo configured yet, or it's different from the requested method:
             // reset to default for the requested method
-            if (method.equals(PercentilesMethod.TDIGEST) ) {
+            if (method.equals(PercentilesMethod.TDIGEST)) {
                 this.percentilesConfig = new PercentilesConfig.TDigest();
-            } else {
+            } else if (method.equals(PercentilesMethod.HDR)) {
                 this.percentilesConfig = new PercentilesConfig.Hdr();
+            } else {
+                this.percentilesConfig = new PercentilesConfig.DDSketch();
             }
         } // if method and config were same, this is a no-op so we don't overwrite settings
 
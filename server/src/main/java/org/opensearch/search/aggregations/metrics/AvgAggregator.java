@@ -58,6 +58,8 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
     DoubleArray sums;
     DoubleArray compensations;
     DocValueFormat format;
+    // accumulates the values of top level aggregations in blocks, null if the aggregation collects into several buckets
+    final DoubleValuesBatch batch;
 
     AvgAggregator(String name, ValuesSourceConfig valuesSourceConfig, SearchContext context,
                   Aggregator parent, Map<String, Object> metadata) throws IOException {
@@ -71,6 +73,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
             sums = bigArrays.newDoubleArray(1, true);
             compensations = bigArrays.newDoubleArray(1, true);
         }
+        this.batch = valuesSource != null && parent == null ? new DoubleValuesBatch(this::accumulate) : null;
     }
 
     @Override
@@ -86,6 +89,17 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        if (batch != null) {
+            return new LeafBucketCollectorBase(sub, values) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    assert bucket == 0;
+                    if (values.advanceExact(doc)) {
+                        batch.collect(values);
+                    }
+                }
+            };
+        }
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
 
         return new LeafBucketCollectorBase(sub, values) {
@@ -117,6 +131,21 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    private void accumulate(double[] values, int length) {
+        counts.increment(0, length);
+        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(0), compensations.get(0));
+        DoubleValuesBatch.sum(values, length, kahanSummation);
+        sums.set(0, kahanSummation.value());
+        compensations.set(0, kahanSummation.delta());
+    }
+
+    @Override
+    protected void doPostCollection() throws IOException {
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= sums.size()) {
@@ -79,6 +79,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
     private int numericCollectorsUsed;
     private int ordinalsCollectorsUsed;
     private int ordinalsCollectorsOverheadTooHigh;
+    private int ordinalsHashCollectorsUsed;
     private int stringHashingCollectorsUsed;
 
     public CardinalityAggregator(
@@ -131,6 +132,11 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
                 return new OrdinalsCollector(counts, ordinalValues, context.bigArrays());
             }
             ordinalsCollectorsOverheadTooHigh++;
+            // caching the hashes of the ordinals only pays off if terms are shared by several documents
+            if (maxOrd < ctx.reader().maxDoc()) {
+                ordinalsHashCollectorsUsed++;
+                return new OrdinalsHashCollector(counts, ordinalValues, context.bigArrays());
+            }
         }
 
         stringHashingCollectorsUsed++;
@@ -195,6 +201,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         add.accept("numeric_collectors_used", numericCollectorsUsed);
         add.accept("ordinals_collectors_used", ordinalsCollectorsUsed);
         add.accept("ordinals_collectors_overhead_too_high", ordinalsCollectorsOverheadTooHigh);
+        add.accept("ordinals_hash_collectors_used", ordinalsHashCollectorsUsed);
         add.accept("string_hashing_collectors_used", stringHashingCollectorsUsed);
     }
 
@@ -339,6 +346,69 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         }
     }
 
+    /**
+     * Collects the hashes of the ordinals of a segment directly into the counts and caches the hash of each ordinal so that each
+     * term is only hashed once per segment. Unlike {@link OrdinalsCollector} its memory overhead doesn't depend on the number of
+     * buckets, which makes it a better fit under parent aggregations that create many buckets.
+     */
+    private static class OrdinalsHashCollector extends Collector {
+
+        private final SortedSetDocValues values;
+        private final HyperLogLogPlusPlus counts;
+        private final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+        private final BitArray hashedOrds;
+        private final LongArray hashes;
+
+        OrdinalsHashCollector(HyperLogLogPlusPlus counts, SortedSetDocValues values, BigArrays bigArrays) {
+            this.counts = counts;
+            this.values = values;
+            BitArray hashedOrds = null;
+            LongArray hashes = null;
+            boolean success = false;
+            try {
+                hashedOrds = new BitArray(values.getValueCount(), bigArrays);
+                hashes = bigArrays.newLongArray(values.getValueCount(), false);
+                success = true;
+            } finally {
+                if (success == false) {
+                    Releasables.close(hashedOrds, hashes);
+                }
+            }
+            this.hashedOrds = hashedOrds;
+            this.hashes = hashes;
+        }
+
+        @Override
+        public void collect(int doc, long bucketOrd) throws IOException {
+            if (values.advanceExact(doc)) {
+                for (long ord = values.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = values.nextOrd()) {
+                    counts.collect(bucketOrd, hash(ord));
+                }
+            }
+        }
+
+        private long hash(long ord) throws IOException {
+            if (hashedOrds.get(ord)) {
+                return hashes.get(ord);
+            }
+            final BytesRef value = values.lookupOrd(ord);
+            MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, hash);
+            hashes.set(ord, hash.h1);
+            hashedOrds.set(ord);
+            return hash.h1;
+        }
+
+        @Override
+        public void postCollect() {
+            // no-op
+        }
+
+        @Override
+        public void close() {
+            Releasables.close(hashedOrds, hashes);
+        }
+    }
+
     /**
      * Representation of a list of hash values. There might be dups and there is no guarantee on the order.
      */
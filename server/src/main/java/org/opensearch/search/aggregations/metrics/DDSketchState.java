@@ -0,0 +1,370 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * A quantile sketch with relative error guarantees, based on DDSketch, see https://arxiv.org/abs/1908.10693.
+ * <p>
+ * Values are counted in bins whose bounds grow exponentially, so that the value returned for any quantile is within the
+ * configured relative accuracy of the actual value of that quantile. The number of bins is bounded: when a sketch would need
+ * more bins than that, the bins of the values of the smallest magnitude are collapsed together, which only affects the accuracy
+ * of the lowest quantiles. Merging two sketches only adds the counts of their bins, so the cost of merging and serializing a
+ * sketch only depends on its number of bins and not on the number of values it counted.
+ */
+public class DDSketchState {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    public static final int DEFAULT_MAX_BINS = 2048;
+
+    private final double relativeAccuracy;
+    private final int maxBins;
+    private final double gamma;
+    private final double logGamma;
+    private final Bins positives;
+    private final Bins negatives;
+    private long zeroCount;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public DDSketchState(double relativeAccuracy, int maxBins) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException(
+                "[relative_accuracy] must be greater than 0 and less than 1. Found [" + relativeAccuracy + "]");
+        }
+        if (maxBins <= 0) {
+            throw new IllegalArgumentException("[max_bins] must be greater than 0. Found [" + maxBins + "]");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBins = maxBins;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.positives = new Bins(maxBins);
+        this.negatives = new Bins(maxBins);
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public int maxBins() {
+        return maxBins;
+    }
+
+    /**
+     * The number of values that were added to this sketch.
+     */
+    public long count() {
+        return positives.total + negatives.total + zeroCount;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN");
+        }
+        if (value >= Double.MIN_NORMAL) {
+            positives.add(key(value), 1);
+        } else if (value <= -Double.MIN_NORMAL) {
+            negatives.add(key(-value), 1);
+        } else {
+            zeroCount++;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of the given sketch to this sketch.
+     */
+    public void add(DDSketchState other) {
+        if (relativeAccuracy != other.relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracies [" + relativeAccuracy
+                + "] and [" + other.relativeAccuracy + "]");
+        }
+        positives.add(other.positives);
+        negatives.add(other.negatives);
+        zeroCount += other.zeroCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the value at the given quantile, between {@code 0} and {@code 1}, or {@link Double#NaN} if the sketch is empty.
+     */
+    public double quantile(double q) {
+        final long count = count();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+        final double rank = q * (count - 1);
+        long n = 0;
+        // negative values go from the highest to the lowest magnitude
+        for (long key = negatives.maxKey; key >= negatives.minKey; key--) {
+            n += negatives.get(key);
+            if (n > rank) {
+                return clamp(-value(key));
+            }
+        }
+        n += zeroCount;
+        if (n > rank) {
+            return clamp(0);
+        }
+        for (long key = positives.minKey; key <= positives.maxKey; key++) {
+            n += positives.get(key);
+            if (n > rank) {
+                return clamp(value(key));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the fraction of the values that are lower than or equal to the given value, or {@link Double#NaN} if the sketch
+     * is empty.
+     */
+    public double cdf(double value) {
+        final long count = count();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (value < min) {
+            return 0;
+        }
+        if (value >= max) {
+            return 1;
+        }
+        long n = 0;
+        for (long key = negatives.maxKey; key >= negatives.minKey && -value(key) <= value; key--) {
+            n += negatives.get(key);
+        }
+        if (value >= 0) {
+            n += zeroCount;
+        }
+        for (long key = positives.minKey; key <= positives.maxKey && value(key) <= value; key++) {
+            n += positives.get(key);
+        }
+        return (double) n / count;
+    }
+
+    /**
+     * Returns an estimate of the memory used by this sketch.
+     */
+    public long byteSize() {
+        return (long) (positives.counts.length + negatives.counts.length) * Long.BYTES;
+    }
+
+    private int key(double value) {
+        // the cast saturates for values that are too large or too small to be indexed
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private double value(long key) {
+        // the middle of the bin in terms of relative error
+        return 2 * Math.pow(gamma, key) / (gamma + 1);
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    public static void write(DDSketchState state, StreamOutput out) throws IOException {
+        out.writeDouble(state.relativeAccuracy);
+        out.writeVInt(state.maxBins);
+        out.writeVLong(state.zeroCount);
+        out.writeDouble(state.min);
+        out.writeDouble(state.max);
+        state.positives.writeTo(out);
+        state.negatives.writeTo(out);
+    }
+
+    public static DDSketchState read(StreamInput in) throws IOException {
+        final DDSketchState state = new DDSketchState(in.readDouble(), in.readVInt());
+        state.zeroCount = in.readVLong();
+        state.min = in.readDouble();
+        state.max = in.readDouble();
+        state.positives.readFrom(in);
+        state.negatives.readFrom(in);
+        return state;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj instanceof DDSketchState == false) {
+            return false;
+        }
+        DDSketchState that = (DDSketchState) obj;
+        return relativeAccuracy == that.relativeAccuracy
+            && maxBins == that.maxBins
+            && zeroCount == that.zeroCount
+            && Double.compare(min, that.min) == 0
+            && Double.compare(max, that.max) == 0
+            && positives.equals(that.positives)
+            && negatives.equals(that.negatives);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = getClass().hashCode();
+        h = 31 * h + Double.hashCode(relativeAccuracy);
+        h = 31 * h + maxBins;
+        h = 31 * h + Long.hashCode(zeroCount);
+        h = 31 * h + Double.hashCode(min);
+        h = 31 * h + Double.hashCode(max);
+        h = 31 * h + positives.hashCode();
+        h = 31 * h + negatives.hashCode();
+        return h;
+    }
+
+    /**
+     * The counts of the bins of the values of one sign, indexed by key. When the range of keys would exceed the maximum number
+     * of bins, the lowest keys are collapsed into the lowest key that still fits.
+     */
+    private static final class Bins {
+
+        private static final long[] EMPTY = new long[0];
+        private static final int MIN_LENGTH = 16;
+
+        private final int maxBins;
+        private long[] counts = EMPTY;
+        // the key of counts[0]
+        private long offset;
+        private long minKey = Long.MAX_VALUE;
+        private long maxKey = Long.MIN_VALUE;
+        private long total;
+
+        Bins(int maxBins) {
+            this.maxBins = maxBins;
+        }
+
+        long get(long key) {
+            return counts[(int) (key - offset)];
+        }
+
+        void add(long key, long count) {
+            if (total == 0) {
+                ensureRange(key, key);
+                minKey = maxKey = key;
+            } else if (key < minKey) {
+                // collapse into the lowest key that still fits
+                key = Math.max(key, maxKey - maxBins + 1);
+                if (key < minKey) {
+                    ensureRange(key, maxKey);
+                    minKey = key;
+                }
+            } else if (key > maxKey) {
+                final long newMinKey = Math.max(minKey, key - maxBins + 1);
+                long collapsed = 0;
+                for (long k = minKey; k < newMinKey && k <= maxKey; k++) {
+                    collapsed += get(k);
+                    counts[(int) (k - offset)] = 0;
+                }
+                ensureRange(newMinKey, key);
+                counts[(int) (newMinKey - offset)] += collapsed;
+                minKey = newMinKey;
+                maxKey = key;
+            }
+            counts[(int) (key - offset)] += count;
+            total += count;
+        }
+
+        void add(Bins other) {
+            for (long key = other.minKey; key <= other.maxKey; key++) {
+                final long count = other.get(key);
+                if (count > 0) {
+                    add(key, count);
+                }
+            }
+        }
+
+        /**
+         * Makes sure that keys from {@code low} to {@code high} can be stored. Bins outside of this range must be empty.
+         */
+        private void ensureRange(long low, long high) {
+            if (low >= offset && high < offset + counts.length) {
+                return;
+            }
+            final int length = (int) Math.max(high - low + 1, Math.min(maxBins, Math.max(MIN_LENGTH, 2L * counts.length)));
+            // leave room for keys to come on the side the range is growing
+            final long newOffset = low < offset ? high - length + 1 : low;
+            final long[] newCounts = new long[length];
+            for (long key = Math.max(low, offset); key <= high && key < offset + counts.length; key++) {
+                newCounts[(int) (key - newOffset)] = counts[(int) (key - offset)];
+            }
+            counts = newCounts;
+            offset = newOffset;
+        }
+
+        void writeTo(StreamOutput out) throws IOException {
+            if (total == 0) {
+                out.writeVInt(0);
+                return;
+            }
+            out.writeVInt((int) (maxKey - minKey + 1));
+            out.writeZLong(minKey);
+            for (long key = minKey; key <= maxKey; key++) {
+                out.writeVLong(get(key));
+            }
+        }
+
+        void readFrom(StreamInput in) throws IOException {
+            final int numBins = in.readVInt();
+            if (numBins == 0) {
+                return;
+            }
+            final long firstKey = in.readZLong();
+            for (long key = firstKey; key < firstKey + numBins; key++) {
+                final long count = in.readVLong();
+                if (count > 0) {
+                    add(key, count);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            Bins that = (Bins) obj;
+            if (total != that.total || minKey != that.minKey || maxKey != that.maxKey) {
+                return false;
+            }
+            for (long key = minKey; key <= maxKey; key++) {
+                if (get(key) != that.get(key)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Long.hashCode(total);
+            for (long key = minKey; key <= maxKey; key++) {
+                h = 31 * h + Long.hashCode(get(key));
+            }
+            return h;
+        }
+    }
+}
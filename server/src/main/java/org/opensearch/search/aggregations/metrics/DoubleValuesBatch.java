@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+
+import java.io.IOException;
+
+/**
+ * Buffers the values of the documents that a top level numeric metrics aggregator collects so that they can be accumulated in
+ * blocks rather than one document at a time. Top level aggregators only ever collect into the first bucket, so accumulating a
+ * block reads and writes the state of that bucket once instead of once per document, and the accumulation itself runs over a
+ * primitive array.
+ * <p>
+ * The compensated sums of a block are computed over {@link #LANES} independent lanes which are merged at the end of the block.
+ * This breaks the dependency between consecutive additions so that the CPU can pipeline them. Blocks that contain or produce
+ * non-finite values are summed one value at a time with {@link CompensatedSum} instead in order to keep its semantics.
+ */
+public final class DoubleValuesBatch {
+
+    /**
+     * The number of values that are buffered before they are accumulated.
+     */
+    public static final int BLOCK_SIZE = 1024;
+
+    /**
+     * The number of independent lanes that compensated sums are computed with.
+     */
+    public static final int LANES = 4;
+
+    /**
+     * Accumulates a block of values.
+     */
+    @FunctionalInterface
+    public interface Accumulator {
+        void accumulate(double[] values, int length);
+    }
+
+    private final double[] values = new double[BLOCK_SIZE];
+    private final Accumulator accumulator;
+    private int length;
+
+    public DoubleValuesBatch(Accumulator accumulator) {
+        this.accumulator = accumulator;
+    }
+
+    /**
+     * Buffers the values of the document that the given doc values are positioned on.
+     */
+    public void collect(SortedNumericDoubleValues docValues) throws IOException {
+        for (int i = docValues.docValueCount(); i > 0; i--) {
+            if (length == BLOCK_SIZE) {
+                flush();
+            }
+            values[length++] = docValues.nextValue();
+        }
+    }
+
+    /**
+     * Accumulates the buffered values.
+     */
+    public void flush() {
+        if (length > 0) {
+            accumulator.accumulate(values, length);
+            length = 0;
+        }
+    }
+
+    /**
+     * Adds the first {@code length} values to the given compensated sum.
+     */
+    public static void sum(double[] values, int length, CompensatedSum sum) {
+        sum(values, length, false, sum);
+    }
+
+    /**
+     * Adds the squares of the first {@code length} values to the given compensated sum.
+     */
+    public static void sumOfSquares(double[] values, int length, CompensatedSum sum) {
+        sum(values, length, true, sum);
+    }
+
+    private static void sum(double[] values, int length, boolean squares, CompensatedSum sum) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        double d0 = 0, d1 = 0, d2 = 0, d3 = 0;
+        final int end = length - length % LANES;
+        for (int i = 0; i < end; i += LANES) {
+            double v0 = values[i], v1 = values[i + 1], v2 = values[i + 2], v3 = values[i + 3];
+            if (squares) {
+                v0 *= v0;
+                v1 *= v1;
+                v2 *= v2;
+                v3 *= v3;
+            }
+            final double c0 = v0 + d0, c1 = v1 + d1, c2 = v2 + d2, c3 = v3 + d3;
+            final double t0 = s0 + c0, t1 = s1 + c1, t2 = s2 + c2, t3 = s3 + c3;
+            d0 = c0 - (t0 - s0);
+            d1 = c1 - (t1 - s1);
+            d2 = c2 - (t2 - s2);
+            d3 = c3 - (t3 - s3);
+            s0 = t0;
+            s1 = t1;
+            s2 = t2;
+            s3 = t3;
+        }
+        if (Double.isFinite(s0) && Double.isFinite(s1) && Double.isFinite(s2) && Double.isFinite(s3)) {
+            // the compensations are tiny compared to the partial sums, so they are added last
+            sum.add(s0);
+            sum.add(s1);
+            sum.add(s2);
+            sum.add(s3);
+            sum.add(d0 + d1 + d2 + d3);
+            for (int i = end; i < length; i++) {
+                sum.add(squares ? values[i] * values[i] : values[i]);
+            }
+        } else {
+            // infinities and NaNs need to be propagated the same way as CompensatedSum does
+            for (int i = 0; i < length; i++) {
+                sum.add(squares ? values[i] * values[i] : values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the minimum of the given value and the first {@code length} values.
+     */
+    public static double min(double[] values, int length, double min) {
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the maximum of the given value and the first {@code length} values.
+     */
+    public static double max(double[] values, int length, double max) {
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
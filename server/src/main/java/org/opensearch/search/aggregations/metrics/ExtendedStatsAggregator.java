@@ -66,6 +66,8 @@ class ExtendedStatsAggregator extends NumericMetricsAggregator.MultiValue {
     DoubleArray maxes;
     DoubleArray sumOfSqrs;
     DoubleArray compensationOfSqrs;
+    // accumulates the values of top level aggregations in blocks, null if the aggregation collects into several buckets
+    final DoubleValuesBatch batch;
 
     ExtendedStatsAggregator(
         String name,
@@ -92,6 +94,7 @@ class ExtendedStatsAggregator extends NumericMetricsAggregator.MultiValue {
             sumOfSqrs = bigArrays.newDoubleArray(1, true);
             compensationOfSqrs = bigArrays.newDoubleArray(1, true);
         }
+        this.batch = valuesSource != null && parent == null ? new DoubleValuesBatch(this::accumulate) : null;
     }
 
     @Override
@@ -107,6 +110,17 @@ class ExtendedStatsAggregator extends NumericMetricsAggregator.MultiValue {
         }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        if (batch != null) {
+            return new LeafBucketCollectorBase(sub, values) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    assert bucket == 0;
+                    if (values.advanceExact(doc)) {
+                        batch.collect(values);
+                    }
+                }
+            };
+        }
         final CompensatedSum compensatedSum = new CompensatedSum(0, 0);
         final CompensatedSum compensatedSumOfSqr = new CompensatedSum(0, 0);
         return new LeafBucketCollectorBase(sub, values) {
@@ -162,6 +176,27 @@ class ExtendedStatsAggregator extends NumericMetricsAggregator.MultiValue {
         };
     }
 
+    private void accumulate(double[] values, int length) {
+        counts.increment(0, length);
+        final CompensatedSum compensatedSum = new CompensatedSum(sums.get(0), compensations.get(0));
+        DoubleValuesBatch.sum(values, length, compensatedSum);
+        sums.set(0, compensatedSum.value());
+        compensations.set(0, compensatedSum.delta());
+        final CompensatedSum compensatedSumOfSqr = new CompensatedSum(sumOfSqrs.get(0), compensationOfSqrs.get(0));
+        DoubleValuesBatch.sumOfSquares(values, length, compensatedSumOfSqr);
+        sumOfSqrs.set(0, compensatedSumOfSqr.value());
+        compensationOfSqrs.set(0, compensatedSumOfSqr.delta());
+        mins.set(0, DoubleValuesBatch.min(values, length, mins.get(0)));
+        maxes.set(0, DoubleValuesBatch.max(values, length, maxes.get(0)));
+    }
+
+    @Override
+    protected void doPostCollection() throws IOException {
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
     @Override
     public boolean hasMetric(String name) {
         try {
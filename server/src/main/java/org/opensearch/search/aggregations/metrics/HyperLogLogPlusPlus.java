@@ -32,18 +32,15 @@
 
 package org.opensearch.search.aggregations.metrics;
 
-import org.apache.lucene.util.BytesRef;
+import com.carrotsearch.hppc.BitMixer;
 import org.apache.lucene.util.packed.PackedInts;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitArray;
-import org.opensearch.common.util.ByteArray;
-import org.opensearch.common.util.ByteUtils;
 import org.opensearch.common.util.IntArray;
-
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.common.util.ObjectArray;
 
 /**
  * Hyperloglog++ counter, implemented based on pseudo code from
@@ -59,7 +56,11 @@ import java.nio.ByteOrder;
  * data structure are processed using the linear counting until a threshold defined by the precision is reached where the data is replayed
  * to the HyperLogLog algorithm and then this is used.
  *
- * It supports storing several HyperLogLogPlusPlus structures which are identified by a bucket number.
+ * It supports storing several HyperLogLogPlusPlus structures which are identified by a bucket number. Since most buckets of a parent
+ * aggregation usually only see a few distinct values, the memory of a bucket is only allocated when it is needed: the linear counting
+ * hash table of a bucket starts small and grows with the number of distinct values, and the HyperLogLog registers of a bucket are only
+ * allocated when it switches to HyperLogLog. Registers hold run lengths of at most <code>64 - p + 1</code>, so they are packed on 6 bits
+ * instead of taking a byte each.
  */
 public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
 
@@ -86,7 +87,7 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
      * Return the expected per-bucket memory usage for the given precision.
      */
     public static long memoryUsage(int precision) {
-        return 1L << precision;
+        return (long) HyperLogLog.longsPerBucket(precision) * Long.BYTES;
     }
 
     public HyperLogLogPlusPlus(int precision, BigArrays bigArrays, long initialBucketCount) {
@@ -97,7 +98,7 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         boolean success = false;
         try {
             hll = new HyperLogLog(bigArrays, initialBucketCount, precision);
-            lc = new LinearCounting(bigArrays, initialBucketCount, precision, hll);
+            lc = new LinearCounting(bigArrays, initialBucketCount, precision);
             algorithm = new BitArray(1, bigArrays);
             success = true;
         } finally {
@@ -161,30 +162,19 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         if (algorithm.get(bucketOrd) == LINEAR_COUNTING) {
             upgradeToHll(bucketOrd);
         }
-        hll.addRunLen(0, register, runLen);
+        hll.addRunLen(bucketOrd, register, runLen);
     }
 
     void upgradeToHll(long bucketOrd) {
         hll.ensureCapacity(bucketOrd + 1);
+        hll.reset(bucketOrd);
         final AbstractLinearCounting.HashesIterator hashes = lc.values(bucketOrd);
-        // We need to copy values into an arrays as we will override
-        // the values on the buffer
-        final IntArray values = lc.bigArrays.newIntArray(hashes.size());
-        try {
-            int i = 0;
-            while (hashes.next()) {
-                values.set(i++, hashes.value());
-            }
-            assert i == hashes.size();
-            hll.reset(bucketOrd);
-            for (long j = 0; j < values.size(); ++j) {
-                final int encoded = values.get(j);
-                hll.collectEncoded(bucketOrd, encoded);
-            }
-            algorithm.set(bucketOrd);
-        } finally {
-            Releasables.close(values);
+        while (hashes.next()) {
+            hll.collectEncoded(bucketOrd, hashes.value());
         }
+        algorithm.set(bucketOrd);
+        // the hashes are not needed anymore
+        lc.reset(bucketOrd);
     }
 
     public void merge(long thisBucket, AbstractHyperLogLogPlusPlus other, long otherBucket) {
@@ -224,27 +214,48 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
     }
 
     private static class HyperLogLog extends AbstractHyperLogLog implements Releasable {
+        private static final int BITS_PER_REGISTER = 6;
+        private static final int REGISTERS_PER_LONG = Long.SIZE / BITS_PER_REGISTER;
+        private static final long REGISTER_MASK = (1L << BITS_PER_REGISTER) - 1;
+
         private final BigArrays bigArrays;
         private final HyperLogLogIterator iterator;
-        // array for holding the runlens.
-        private ByteArray runLens;
+        private final int longsPerBucket;
+        // the packed registers of each bucket, null until the bucket switches to HyperLogLog
+        private ObjectArray<LongArray> registers;
 
+        static int longsPerBucket(int precision) {
+            return ((1 << precision) + REGISTERS_PER_LONG - 1) / REGISTERS_PER_LONG;
+        }
 
         HyperLogLog(BigArrays bigArrays, long initialBucketCount, int precision) {
             super(precision);
-            this.runLens =  bigArrays.newByteArray(initialBucketCount << precision);
+            this.registers = bigArrays.newObjectArray(initialBucketCount);
             this.bigArrays = bigArrays;
-            this.iterator = new HyperLogLogIterator(this, precision, m);
+            this.longsPerBucket = longsPerBucket(precision);
+            this.iterator = new HyperLogLogIterator(this, m);
         }
 
         public long maxOrd() {
-            return runLens.size() >>> precision();
+            return registers.size();
         }
 
         @Override
         protected void addRunLen(long bucketOrd, int register, int encoded) {
-            final long bucketIndex = (bucketOrd << p) + register;
-            runLens.set(bucketIndex, (byte) Math.max(encoded, runLens.get(bucketIndex)));
+            assert encoded >= 0 && encoded <= REGISTER_MASK : encoded;
+            LongArray bucketRegisters = registers.get(bucketOrd);
+            if (bucketRegisters == null) {
+                if (encoded == 0) {
+                    return;
+                }
+                bucketRegisters = allocate(bucketOrd);
+            }
+            final long index = register / REGISTERS_PER_LONG;
+            final int shift = (register % REGISTERS_PER_LONG) * BITS_PER_REGISTER;
+            final long word = bucketRegisters.get(index);
+            if (encoded > ((word >>> shift) & REGISTER_MASK)) {
+                bucketRegisters.set(index, (word & ~(REGISTER_MASK << shift)) | ((long) encoded << shift));
+            }
         }
 
         @Override
@@ -253,43 +264,66 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
             return iterator;
         }
 
+        private LongArray allocate(long bucketOrd) {
+            final LongArray bucketRegisters = bigArrays.newLongArray(longsPerBucket, true);
+            registers.set(bucketOrd, bucketRegisters);
+            return bucketRegisters;
+        }
+
         protected void reset(long bucketOrd) {
-            runLens.fill(bucketOrd << p, (bucketOrd << p) + m, (byte) 0);
+            final LongArray bucketRegisters = registers.get(bucketOrd);
+            if (bucketRegisters == null) {
+                allocate(bucketOrd);
+            } else {
+                bucketRegisters.fill(0, longsPerBucket, 0);
+            }
         }
 
         protected void ensureCapacity(long numBuckets) {
-            runLens = bigArrays.grow(runLens, numBuckets << p);
+            registers = bigArrays.grow(registers, numBuckets);
         }
 
         @Override
         public void close() {
-            Releasables.close(runLens);
+            for (long i = 0; i < registers.size(); i++) {
+                Releasables.close(registers.get(i));
+            }
+            Releasables.close(registers);
         }
     }
 
     private static class HyperLogLogIterator implements AbstractHyperLogLog.RunLenIterator {
 
         private final HyperLogLog hll;
-        private final int m, p;
+        private final int m;
         int pos;
-        long start;
+        // the registers of the current bucket, or null if the bucket has no registers
+        private LongArray registers;
+        private long word;
         private byte value;
 
-        HyperLogLogIterator(HyperLogLog hll, int p, int m) {
+        HyperLogLogIterator(HyperLogLog hll, int m) {
             this.hll = hll;
             this.m = m;
-            this.p = p;
         }
 
         void reset(long bucket) {
             pos = 0;
-            start = bucket << p;
+            registers = bucket < hll.registers.size() ? hll.registers.get(bucket) : null;
         }
 
         @Override
         public boolean next() {
             if (pos < m) {
-                value = hll.runLens.get(start + pos);
+                if (registers == null) {
+                    value = 0;
+                } else {
+                    final int shift = (pos % HyperLogLog.REGISTERS_PER_LONG) * HyperLogLog.BITS_PER_REGISTER;
+                    if (shift == 0) {
+                        word = registers.get(pos / HyperLogLog.REGISTERS_PER_LONG);
+                    }
+                    value = (byte) ((word >>> shift) & HyperLogLog.REGISTER_MASK);
+                }
                 pos++;
                 return true;
             }
@@ -304,47 +338,104 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
 
     private static class LinearCounting extends AbstractLinearCounting implements Releasable {
 
+        // the capacity of the hash table of a bucket when it collects its first value
+        private static final int INITIAL_CAPACITY = 16;
+
         protected final int threshold;
-        private final int mask;
-        private final BytesRef readSpare;
-        private final ByteBuffer writeSpare;
+        private final int initialCapacity;
         private final BigArrays bigArrays;
         private final LinearCountingIterator iterator;
-        // We are actually using HyperLogLog's runLens array but interpreting it as a hash set for linear counting.
-        private final HyperLogLog hll;
+        // the hash table of each bucket, null until the bucket collects a value
+        private ObjectArray<IntArray> hashTables;
         // Number of elements stored.
         private IntArray sizes;
 
-        LinearCounting(BigArrays bigArrays, long initialBucketCount, int p, HyperLogLog hll) {
+        LinearCounting(BigArrays bigArrays, long initialBucketCount, int p) {
             super(p);
             this.bigArrays = bigArrays;
-            this.hll = hll;
+            // the hash table of a bucket takes at most as much memory as its HyperLogLog registers would take unpacked
             final int capacity = (1 << p) / 4; // because ints take 4 bytes
             threshold = (int) (capacity * MAX_LOAD_FACTOR);
-            mask = capacity - 1;
-            sizes = bigArrays.newIntArray(initialBucketCount);
-            readSpare = new BytesRef();
-            writeSpare = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
-            iterator = new LinearCountingIterator(this, capacity);
+            initialCapacity = Math.min(INITIAL_CAPACITY, capacity);
+            ObjectArray<IntArray> hashTables = null;
+            IntArray sizes = null;
+            boolean success = false;
+            try {
+                hashTables = bigArrays.newObjectArray(initialBucketCount);
+                sizes = bigArrays.newIntArray(initialBucketCount);
+                success = true;
+            } finally {
+                if (success == false) {
+                    Releasables.close(hashTables, sizes);
+                }
+            }
+            this.hashTables = hashTables;
+            this.sizes = sizes;
+            iterator = new LinearCountingIterator();
         }
 
         @Override
         protected int addEncoded(long bucketOrd, int encoded) {
-            sizes = bigArrays.grow(sizes, bucketOrd + 1);
             assert encoded != 0;
-            for (int i = (encoded & mask);; i = (i + 1) & mask) {
-                final int v = get(bucketOrd, i);
+            sizes = bigArrays.grow(sizes, bucketOrd + 1);
+            hashTables = bigArrays.grow(hashTables, bucketOrd + 1);
+            IntArray hashTable = hashTables.get(bucketOrd);
+            if (hashTable == null) {
+                hashTable = bigArrays.newIntArray(initialCapacity);
+                hashTables.set(bucketOrd, hashTable);
+            }
+            if (add(hashTable, encoded) == false) {
+                // k is already in the set
+                return -1;
+            }
+            final int size = sizes.increment(bucketOrd, 1);
+            if (size <= threshold && size > hashTable.size() * MAX_LOAD_FACTOR) {
+                grow(bucketOrd, hashTable);
+            }
+            return size;
+        }
+
+        private static boolean add(IntArray hashTable, int encoded) {
+            final int mask = (int) hashTable.size() - 1;
+            for (int i = BitMixer.mix32(encoded) & mask;; i = (i + 1) & mask) {
+                final int v = hashTable.get(i);
                 if (v == 0) {
                     // means unused, take it!
-                    set(bucketOrd, i, encoded);
-                    return sizes.increment(bucketOrd, 1);
+                    hashTable.set(i, encoded);
+                    return true;
                 } else if (v == encoded) {
-                    // k is already in the set
-                    return -1;
+                    return false;
                 }
             }
         }
 
+        private void grow(long bucketOrd, IntArray hashTable) {
+            final IntArray newHashTable = bigArrays.newIntArray(hashTable.size() * 2);
+            boolean success = false;
+            try {
+                for (long i = 0; i < hashTable.size(); ++i) {
+                    final int v = hashTable.get(i);
+                    if (v != 0) {
+                        add(newHashTable, v);
+                    }
+                }
+                hashTables.set(bucketOrd, newHashTable);
+                success = true;
+            } finally {
+                Releasables.close(success ? hashTable : newHashTable);
+            }
+        }
+
+        /**
+         * Releases the hash table of the given bucket.
+         */
+        protected void reset(long bucketOrd) {
+            if (bucketOrd < hashTables.size()) {
+                Releasables.close(hashTables.set(bucketOrd, null));
+                sizes.set(bucketOrd, 0);
+            }
+        }
+
         @Override
         protected int size(long bucketOrd) {
             if (bucketOrd >= sizes.size()) {
@@ -357,32 +448,18 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
 
         @Override
         protected HashesIterator values(long bucketOrd) {
-            iterator.reset(bucketOrd, size(bucketOrd));
+            iterator.reset(bucketOrd < hashTables.size() ? hashTables.get(bucketOrd) : null, size(bucketOrd));
             return iterator;
         }
 
-        private long index(long bucketOrd, int index) {
-            return (bucketOrd << p) + (index << 2);
-        }
-
-        private int get(long bucketOrd, int index) {
-            hll.runLens.get(index(bucketOrd, index), 4, readSpare);
-            return ByteUtils.readIntLE(readSpare.bytes, readSpare.offset);
-        }
-
-        private void set(long bucketOrd, int index, int value) {
-            writeSpare.putInt(0, value);
-            hll.runLens.set(index(bucketOrd, index), writeSpare.array(), 0, 4);
-        }
-
         private int recomputedSize(long bucketOrd) {
-            if (bucketOrd >= hll.maxOrd()) {
+            final IntArray hashTable = bucketOrd < hashTables.size() ? hashTables.get(bucketOrd) : null;
+            if (hashTable == null) {
                 return 0;
             }
             int size = 0;
-            for (int i = 0; i <= mask; ++i) {
-                final int v = get(bucketOrd, i);
-                if (v != 0) {
+            for (long i = 0; i < hashTable.size(); ++i) {
+                if (hashTable.get(i) != 0) {
                     ++size;
                 }
             }
@@ -391,27 +468,25 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
 
         @Override
         public void close() {
-            Releasables.close(sizes);
+            for (long i = 0; i < hashTables.size(); i++) {
+                Releasables.close(hashTables.get(i));
+            }
+            Releasables.close(hashTables, sizes);
         }
     }
 
     private static class LinearCountingIterator implements AbstractLinearCounting.HashesIterator {
 
-        private final LinearCounting lc;
-        private final int capacity;
-        private int pos, size;
-        private long bucketOrd;
+        // the hash table of the current bucket, or null if the bucket has no values
+        private IntArray hashTable;
+        private long pos;
+        private int size;
         private int value;
 
-        LinearCountingIterator(LinearCounting lc, int capacity) {
-            this.lc = lc;
-            this.capacity = capacity;
-        }
-
-        void reset(long bucketOrd, int size) {
-            this.bucketOrd = bucketOrd;
+        void reset(IntArray hashTable, int size) {
+            this.hashTable = hashTable;
             this.size = size;
-            this.pos = size == 0 ? capacity : 0;
+            this.pos = 0;
         }
 
         @Override
@@ -421,11 +496,10 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
 
         @Override
         public boolean next() {
-            if (pos < capacity) {
-                for (; pos < capacity; ++pos) {
-                    final int k = lc.get(bucketOrd, pos);
+            if (hashTable != null) {
+                while (pos < hashTable.size()) {
+                    final int k = hashTable.get(pos++);
                     if (k != 0) {
-                        ++pos;
                         value = k;
                         return true;
                     }
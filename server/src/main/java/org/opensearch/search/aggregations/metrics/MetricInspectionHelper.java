@@ -57,6 +57,14 @@ public class MetricInspectionHelper {
         return agg.getState().getTotalCount() > 0;
     }
 
+    public static boolean hasValue(InternalDDSketchPercentileRanks agg) {
+        return agg.getState().count() > 0;
+    }
+
+    public static boolean hasValue(InternalDDSketchPercentiles agg) {
+        return agg.getState().count() > 0;
+    }
+
     public static boolean hasValue(InternalMedianAbsoluteDeviation agg) {
         return agg.getValuesSketch().size() > 0;
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -72,6 +73,8 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
             return new TDigest(compression);
         } else if (method.equals(PercentilesMethod.HDR)) {
             return new Hdr(numberOfSignificantDigits);
+        } else if (method.equals(PercentilesMethod.DDSKETCH)) {
+            return new DDSketch();
         }
         throw new IllegalArgumentException("Unsupported percentiles algorithm [" + method + "]");
     }
@@ -254,4 +257,97 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
             return Objects.hash(super.hashCode(), numberOfSignificantValueDigits);
         }
     }
+
+    public static class DDSketch extends PercentilesConfig {
+        private double relativeAccuracy;
+        private int maxBins;
+
+        public DDSketch() {
+            this(DDSketchState.DEFAULT_RELATIVE_ACCURACY, DDSketchState.DEFAULT_MAX_BINS);
+        }
+
+        public DDSketch(double relativeAccuracy, int maxBins) {
+            super(PercentilesMethod.DDSKETCH);
+            setRelativeAccuracy(relativeAccuracy);
+            setMaxBins(maxBins);
+        }
+
+        DDSketch(StreamInput in) throws IOException {
+            this(in.readDouble(), in.readVInt());
+        }
+
+        public void setRelativeAccuracy(double relativeAccuracy) {
+            if (relativeAccuracy <= 0.0 || relativeAccuracy >= 1.0) {
+                throw new IllegalArgumentException(
+                    "[relative_accuracy] must be greater than 0 and less than 1. Found [" + relativeAccuracy + "]");
+            }
+            this.relativeAccuracy = relativeAccuracy;
+        }
+
+        public double getRelativeAccuracy() {
+            return relativeAccuracy;
+        }
+
+        public void setMaxBins(int maxBins) {
+            if (maxBins <= 0) {
+                throw new IllegalArgumentException("[max_bins] must be greater than 0. Found [" + maxBins + "]");
+            }
+            this.maxBins = maxBins;
+        }
+
+        public int getMaxBins() {
+            return maxBins;
+        }
+
+        @Override
+        public Aggregator createPercentilesAggregator(String name, ValuesSource valuesSource, SearchContext context, Aggregator parent,
+                                                      double[] values, boolean keyed, DocValueFormat formatter,
+                                                      Map<String, Object> metadata) throws IOException {
+            return new DDSketchPercentilesAggregator(name, valuesSource, context, parent, values, relativeAccuracy, maxBins, keyed,
+                formatter, metadata);
+        }
+
+        @Override
+        Aggregator createPercentileRanksAggregator(String name, ValuesSource valuesSource, SearchContext context, Aggregator parent,
+                                                   double[] values, boolean keyed, DocValueFormat formatter,
+                                                   Map<String, Object> metadata) throws IOException {
+            return new DDSketchPercentileRanksAggregator(name, valuesSource, context, parent, values, relativeAccuracy, maxBins, keyed,
+                formatter, metadata);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            if (out.getVersion().before(Version.V_1_1_0)) {
+                throw new IllegalArgumentException("percentiles method [" + getMethod() + "] is not supported on nodes before version ["
+                    + Version.V_1_1_0 + "]");
+            }
+            super.writeTo(out);
+            out.writeDouble(relativeAccuracy);
+            out.writeVInt(maxBins);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(getMethod().toString());
+            builder.field(PercentilesMethod.RELATIVE_ACCURACY_FIELD.getPreferredName(), relativeAccuracy);
+            builder.field(PercentilesMethod.MAX_BINS_FIELD.getPreferredName(), maxBins);
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            if (super.equals(obj) == false) return false;
+
+            DDSketch other = (DDSketch) obj;
+            return relativeAccuracy == other.getRelativeAccuracy() && maxBins == other.getMaxBins();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), relativeAccuracy, maxBins);
+        }
+    }
 }
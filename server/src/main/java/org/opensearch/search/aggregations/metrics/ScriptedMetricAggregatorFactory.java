@@ -168,5 +168,10 @@ class ScriptedMetricAggregatorFactory extends AggregatorFactory {
 
         return combined;
     }
-}
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        // the combine script must run once per shard
+        return false;
+    }
+}
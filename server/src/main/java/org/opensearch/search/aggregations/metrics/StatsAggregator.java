@@ -60,6 +60,8 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
     DoubleArray compensations;
     DoubleArray mins;
     DoubleArray maxes;
+    // accumulates the values of top level aggregations in blocks, null if the aggregation collects into several buckets
+    final DoubleValuesBatch batch;
 
     StatsAggregator(
         String name,
@@ -82,6 +84,7 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
             maxes.fill(0, maxes.size(), Double.NEGATIVE_INFINITY);
         }
         this.format = valuesSourceConfig.format();
+        this.batch = valuesSource != null && parent == null ? new DoubleValuesBatch(this::accumulate) : null;
     }
 
     @Override
@@ -97,6 +100,17 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        if (batch != null) {
+            return new LeafBucketCollectorBase(sub, values) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    assert bucket == 0;
+                    if (values.advanceExact(doc)) {
+                        batch.collect(values);
+                    }
+                }
+            };
+        }
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
 
         return new LeafBucketCollectorBase(sub, values) {
@@ -140,6 +154,23 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         };
     }
 
+    private void accumulate(double[] values, int length) {
+        counts.increment(0, length);
+        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(0), compensations.get(0));
+        DoubleValuesBatch.sum(values, length, kahanSummation);
+        sums.set(0, kahanSummation.value());
+        compensations.set(0, kahanSummation.delta());
+        mins.set(0, DoubleValuesBatch.min(values, length, mins.get(0)));
+        maxes.set(0, DoubleValuesBatch.max(values, length, maxes.get(0)));
+    }
+
+    @Override
+    protected void doPostCollection() throws IOException {
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
     @Override
     public boolean hasMetric(String name) {
         try {
@@ -36,12 +36,14 @@ import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeAggregator;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -49,13 +51,17 @@ import org.opensearch.search.internal.SearchContext;
 import java.io.IOException;
 import java.util.Map;
 
-public class SumAggregator extends NumericMetricsAggregator.SingleValue {
+public class SumAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeAggregator {
 
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat format;
 
     private DoubleArray sums;
     private DoubleArray compensations;
+    // accumulates the values of top level aggregations in blocks, null if the aggregation collects into several buckets
+    private final DoubleValuesBatch batch;
+    // the field whose pre-aggregated sums can be collected from star trees, null if the values come from a script
+    private final String field;
 
     SumAggregator(
         String name,
@@ -72,6 +78,9 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
             sums = context.bigArrays().newDoubleArray(1, true);
             compensations = context.bigArrays().newDoubleArray(1, true);
         }
+        this.batch = valuesSource != null && parent == null ? new DoubleValuesBatch(this::accumulate) : null;
+        this.field = valuesSourceConfig.fieldContext() != null && valuesSourceConfig.script() == null
+            && valuesSourceConfig.missing() == null ? valuesSourceConfig.fieldContext().field() : null;
     }
 
     @Override
@@ -87,6 +96,17 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
         }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        if (batch != null) {
+            return new LeafBucketCollectorBase(sub, values) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    assert bucket == 0;
+                    if (values.advanceExact(doc)) {
+                        batch.collect(values);
+                    }
+                }
+            };
+        }
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -114,6 +134,41 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    public StarTreeAggregator.RowCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) {
+        if (valuesSource == null) {
+            return StarTreeAggregator.RowCollector.NO_OP;
+        }
+        final int metric = field == null ? -1 : starTree.metricIndex(field);
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        return (row, bucket) -> {
+            sums = bigArrays.grow(sums, bucket + 1);
+            compensations = bigArrays.grow(compensations, bucket + 1);
+            kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+            kahanSummation.add(starTree.metricSum(metric, row));
+            compensations.set(bucket, kahanSummation.delta());
+            sums.set(bucket, kahanSummation.value());
+        };
+    }
+
+    private void accumulate(double[] values, int length) {
+        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(0), compensations.get(0));
+        DoubleValuesBatch.sum(values, length, kahanSummation);
+        compensations.set(0, kahanSummation.delta());
+        sums.set(0, kahanSummation.value());
+    }
+
+    @Override
+    protected void doPostCollection() throws IOException {
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= sums.size()) {
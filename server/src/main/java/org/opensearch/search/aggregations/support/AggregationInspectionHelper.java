@@ -53,6 +53,8 @@ import org.opensearch.search.aggregations.bucket.terms.UnmappedSignificantTerms;
 import org.opensearch.search.aggregations.bucket.terms.UnmappedTerms;
 import org.opensearch.search.aggregations.metrics.InternalAvg;
 import org.opensearch.search.aggregations.metrics.InternalCardinality;
+import org.opensearch.search.aggregations.metrics.InternalDDSketchPercentileRanks;
+import org.opensearch.search.aggregations.metrics.InternalDDSketchPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalExtendedStats;
 import org.opensearch.search.aggregations.metrics.InternalGeoBounds;
 import org.opensearch.search.aggregations.metrics.InternalGeoCentroid;
@@ -204,6 +206,14 @@ public class AggregationInspectionHelper {
         return MetricInspectionHelper.hasValue(agg);
     }
 
+    public static boolean hasValue(InternalDDSketchPercentileRanks agg) {
+        return MetricInspectionHelper.hasValue(agg);
+    }
+
+    public static boolean hasValue(InternalDDSketchPercentiles agg) {
+        return MetricInspectionHelper.hasValue(agg);
+    }
+
     public static boolean hasValue(InternalMax agg) {
         return agg.getValue() != Double.NEGATIVE_INFINITY;
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.fetch;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.search.SearchHit;
@@ -48,6 +49,9 @@ public final class FetchSearchResult extends SearchPhaseResult {
     private SearchHits hits;
     // client side counter
     private transient int counter;
+    // piggybacked so that the coordinating node can use the fetch phase for adaptive replica selection too
+    private long serviceTimeEWMA = -1;
+    private int nodeQueueSize = -1;
 
     public FetchSearchResult() {
     }
@@ -56,6 +60,10 @@ public final class FetchSearchResult extends SearchPhaseResult {
         super(in);
         contextId = new ShardSearchContextId(in);
         hits = new SearchHits(in);
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            serviceTimeEWMA = in.readZLong();
+            nodeQueueSize = in.readInt();
+        }
     }
 
     public FetchSearchResult(ShardSearchContextId id, SearchShardTarget shardTarget) {
@@ -89,6 +97,24 @@ public final class FetchSearchResult extends SearchPhaseResult {
         return hits;
     }
 
+    public long serviceTimeEWMA() {
+        return this.serviceTimeEWMA;
+    }
+
+    public FetchSearchResult serviceTimeEWMA(long serviceTimeEWMA) {
+        this.serviceTimeEWMA = serviceTimeEWMA;
+        return this;
+    }
+
+    public int nodeQueueSize() {
+        return this.nodeQueueSize;
+    }
+
+    public FetchSearchResult nodeQueueSize(int nodeQueueSize) {
+        this.nodeQueueSize = nodeQueueSize;
+        return this;
+    }
+
     public FetchSearchResult initCounter() {
         counter = 0;
         return this;
@@ -102,5 +128,9 @@ public final class FetchSearchResult extends SearchPhaseResult {
     public void writeTo(StreamOutput out) throws IOException {
         contextId.writeTo(out);
         hits.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeZLong(serviceTimeEWMA);
+            out.writeInt(nodeQueueSize);
+        }
     }
 }
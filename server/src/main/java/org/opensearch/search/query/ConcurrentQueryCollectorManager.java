@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.search.aggregations.AggregationPhase;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link CollectorManager} that creates one top docs collector and one set of aggregators per slice of a concurrent
+ * segment search. The first slice reuses the aggregators that were created by {@link AggregationPhase#preProcess(SearchContext)},
+ * the others get fresh aggregators that are reduced with the first ones by {@link AggregationPhase#execute(SearchContext)}.
+ * The top docs of all slices are merged by the provided <code>topDocsManager</code>.
+ */
+final class ConcurrentQueryCollectorManager<C extends Collector, T extends TopDocs> implements CollectorManager<Collector, T> {
+    private final SearchContext searchContext;
+    private final CollectorManager<C, T> topDocsManager;
+    private final List<C> topDocsCollectors = new ArrayList<>();
+
+    ConcurrentQueryCollectorManager(SearchContext searchContext, CollectorManager<C, T> topDocsManager) {
+        this.searchContext = searchContext;
+        this.topDocsManager = topDocsManager;
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        // slices are created by the searching thread before they are submitted to the executor
+        final C topDocsCollector = topDocsManager.newCollector();
+        final Collector aggsCollector;
+        if (searchContext.queryCollectors().containsKey(AggregationPhase.class) == false) {
+            aggsCollector = null;
+        } else if (topDocsCollectors.isEmpty()) {
+            aggsCollector = searchContext.queryCollectors().get(AggregationPhase.class);
+        } else {
+            aggsCollector = AggregationPhase.createSliceCollector(searchContext);
+        }
+        topDocsCollectors.add(topDocsCollector);
+        return MultiCollector.wrap(topDocsCollector, aggsCollector);
+    }
+
+    @Override
+    public T reduce(Collection<Collector> collectors) throws IOException {
+        assert collectors.size() == topDocsCollectors.size() : "expected one top docs collector per slice";
+        return topDocsManager.reduce(topDocsCollectors);
+    }
+}
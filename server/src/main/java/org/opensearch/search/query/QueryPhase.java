@@ -56,6 +56,7 @@ import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.FutureArrays;
@@ -91,6 +92,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 
 import static org.opensearch.search.query.QueryCollectorContext.createEarlyTerminationCollectorContext;
@@ -98,6 +100,7 @@ import static org.opensearch.search.query.QueryCollectorContext.createFilteredCo
 import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorContext;
 import static org.opensearch.search.query.TopDocsCollectorContext.createTopDocsCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.hasInfMaxScore;
 import static org.opensearch.search.query.TopDocsCollectorContext.shortcutTotalHitCount;
 
 
@@ -305,6 +308,8 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (sortAndFormatsForRewrittenNumericSort == null && canSearchConcurrently(searchContext, searcher)) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -419,6 +424,126 @@ public class QueryPhase {
         return false; // no rescoring when sorting by field
     }
 
+    /**
+     * Returns true if the leaves of the shard can be split in slices that are collected concurrently. This is only possible if the
+     * index enables concurrent segment search and the collector chain is limited to top docs and aggregations that can be reduced
+     * per slice.
+     */
+    private static boolean canSearchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher) {
+        if (searcher.isConcurrentSegmentSearchEnabled() == false
+                || searchContext.scrollContext() != null
+                || searchContext.collapse() != null
+                || searchContext.getProfilers() != null
+                || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+                || searchContext.parsedPostFilter() != null
+                || searchContext.minimumScore() != null
+                || searchContext.rescore().isEmpty() == false
+                || (searchContext.sort() != null && searchContext.trackScores())) {
+            return false;
+        }
+        for (Class<?> key : searchContext.queryCollectors().keySet()) {
+            if (key != AggregationPhase.class) {
+                return false;
+            }
+        }
+        // segments whose aggregations can be cached create their own aggregators while being collected, which is only supported
+        // by sequential searches
+        return searchContext.aggregations() == null
+            || (searchContext.aggregations().factories().allFactoriesSupportConcurrentSegmentSearch()
+                && searchContext.aggregations().cachedSegments() == null);
+    }
+
+    /*
+     * Collects the slices of the shard concurrently, each slice has its own top docs collector and aggregators.
+     * The top docs are merged here while the per-slice aggregations are reduced by the aggregation phase.
+     */
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+                                              boolean timeoutSet) throws IOException {
+        final IndexReader reader = searcher.getIndexReader();
+        final SortAndFormats sortAndFormats = searchContext.sort();
+        // top collectors don't like a size of 0
+        final int numHits = Math.max(1, Math.min(searchContext.from() + searchContext.size(), reader.numDocs()));
+
+        int totalHitsThreshold;
+        TotalHits totalHits;
+        if (searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            totalHitsThreshold = 1;
+            totalHits = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        } else {
+            int hitCount = shortcutTotalHitCount(reader, query);
+            if (hitCount == -1) {
+                totalHitsThreshold = searchContext.trackTotalHitsUpTo();
+                totalHits = null; // will be computed via the collectors
+            } else {
+                totalHitsThreshold = 1;
+                totalHits = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO); // don't compute hit counts via the collectors
+            }
+        }
+        if ((sortAndFormats == null || SortField.FIELD_SCORE.equals(sortAndFormats.sort.getSort()[0])) && hasInfMaxScore(query)) {
+            // disable max score optimization since we have a mandatory clause
+            // that doesn't track the maximum score
+            totalHitsThreshold = Integer.MAX_VALUE;
+        }
+
+        TopDocs topDocs;
+        try {
+            if (sortAndFormats == null) {
+                topDocs = searchSlices(searcher, query, new ConcurrentQueryCollectorManager<>(searchContext,
+                    TopScoreDocCollector.createSharedManager(numHits, searchContext.searchAfter(), totalHitsThreshold)));
+            } else {
+                topDocs = searchSlices(searcher, query, new ConcurrentQueryCollectorManager<>(searchContext,
+                    TopFieldCollector.createSharedManager(sortAndFormats.sort, numHits, searchContext.searchAfter(),
+                        totalHitsThreshold)));
+            }
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            searchContext.queryResult().searchTimedOut(true);
+            topDocs = new TopDocs(new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO), Lucene.EMPTY_SCORE_DOCS);
+        }
+
+        // Lucene sets shards indexes during merging of topDocs from different slices
+        // We need to reset shard index; OpenSearch will set shard index later during reduce stage
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            scoreDoc.shardIndex = -1;
+        }
+        if (totalHits == null) {
+            totalHits = topDocs.totalHits;
+        }
+        final ScoreDoc[] scoreDocs = searchContext.size() == 0 ? Lucene.EMPTY_SCORE_DOCS : topDocs.scoreDocs;
+        final float maxScore = sortAndFormats != null || scoreDocs.length == 0 ? Float.NaN : scoreDocs[0].score;
+        final TopDocs newTopDocs;
+        if (sortAndFormats != null) {
+            newTopDocs = new TopFieldDocs(totalHits, scoreDocs, sortAndFormats.sort.getSort());
+        } else {
+            newTopDocs = new TopDocs(totalHits, scoreDocs);
+        }
+        searchContext.queryResult().topDocs(new TopDocsAndMaxScore(newTopDocs, maxScore),
+            sortAndFormats == null ? null : sortAndFormats.formats);
+        return false; // rescoring is not supported with concurrent segment search
+    }
+
+    private static <T extends TopDocs> T searchSlices(ContextIndexSearcher searcher, Query query,
+                                                      ConcurrentQueryCollectorManager<?, T> manager) throws IOException {
+        try {
+            return searcher.search(query, manager);
+        } catch (RuntimeException e) {
+            // failures of the slices that ran on the executor are wrapped by the searcher
+            if (e.getCause() instanceof ExecutionException) {
+                final Throwable cause = e.getCause().getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
     private static Query tryRewriteLongSort(SearchContext searchContext, IndexReader reader,
                                             Query query, boolean hasFilterCollector) throws IOException {
         if ((searchContext.from() + searchContext.size()) <= 0) return null;
@@ -164,6 +164,11 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime);
     }
 
+    @Override
+    ThreadPool.ThreadPoolType threadPoolType() {
+        return ThreadPool.ThreadPoolType.FIXED_AUTO_QUEUE_SIZE;
+    }
+
     @Override
     ThreadPool.ExecutorHolder build(final AutoExecutorSettings settings,
                                     final ThreadContext threadContext) {
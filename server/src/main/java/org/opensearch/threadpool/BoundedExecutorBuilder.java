@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.SizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.node.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A builder for bounded executors. Like fixed executors they run at most {@code size} tasks concurrently and reject
+ * tasks once their queue is full, but threads are only started when tasks need them and stop once they have been
+ * idle for {@code keep_alive}. The concurrency limit can therefore be raised well above the number of processors
+ * for tasks that spend most of their time waiting on I/O, without keeping that many threads around when idle.
+ */
+public final class BoundedExecutorBuilder extends ExecutorBuilder<BoundedExecutorBuilder.BoundedExecutorSettings> {
+
+    private final Setting<Integer> sizeSetting;
+    private final Setting<Integer> queueSizeSetting;
+    private final Setting<TimeValue> keepAliveSetting;
+    private final List<Setting<?>> autoQueueSettings;
+
+    /**
+     * Construct a bounded executor builder; the settings will have the key prefix "thread_pool." followed by the executor name.
+     *
+     * @param settings  the node-level settings
+     * @param name      the name of the executor
+     * @param size      the maximum number of tasks that run concurrently
+     * @param queueSize the size of the backing queue, which must be positive
+     * @param keepAlive the time that idle threads will be kept alive
+     */
+    public BoundedExecutorBuilder(final Settings settings, final String name, final int size, final int queueSize,
+                                  final TimeValue keepAlive) {
+        this(settings, name, size, queueSize, keepAlive, "thread_pool." + name);
+    }
+
+    /**
+     * Construct a bounded executor builder for a pool that is an auto queue adjusting pool by default, like the search pool. The
+     * deprecated settings of the auto queue adjusting pool are still registered so that nodes that set them keep starting, but
+     * they are ignored.
+     *
+     * @param settings  the node-level settings
+     * @param name      the name of the executor
+     * @param size      the maximum number of tasks that run concurrently
+     * @param queueSize the size of the backing queue, which must be positive
+     * @param keepAlive the time that idle threads will be kept alive
+     * @param frameSize the default frame size of the auto queue adjusting pool
+     */
+    static BoundedExecutorBuilder replacingAutoQueueAdjusting(final Settings settings, final String name, final int size,
+                                                              final int queueSize, final TimeValue keepAlive, final int frameSize) {
+        final String prefix = "thread_pool." + name;
+        return new BoundedExecutorBuilder(settings, name, size, queueSize, keepAlive, prefix, Arrays.asList(
+            Setting.intSetting(settingsKey(prefix, "min_queue_size"), queueSize, 0, Setting.Property.NodeScope,
+                Setting.Property.Deprecated),
+            Setting.intSetting(settingsKey(prefix, "max_queue_size"), queueSize, 0, Setting.Property.NodeScope,
+                Setting.Property.Deprecated),
+            Setting.intSetting(settingsKey(prefix, "auto_queue_frame_size"), frameSize, 100, Setting.Property.NodeScope,
+                Setting.Property.Deprecated),
+            Setting.timeSetting(settingsKey(prefix, "target_response_time"), TimeValue.timeValueSeconds(1),
+                TimeValue.timeValueMillis(10), Setting.Property.NodeScope, Setting.Property.Deprecated)));
+    }
+
+    /**
+     * Construct a bounded executor builder.
+     *
+     * @param settings  the node-level settings
+     * @param name      the name of the executor
+     * @param size      the maximum number of tasks that run concurrently
+     * @param queueSize the size of the backing queue, which must be positive
+     * @param keepAlive the time that idle threads will be kept alive
+     * @param prefix    the prefix for the settings keys
+     */
+    public BoundedExecutorBuilder(final Settings settings, final String name, final int size, final int queueSize,
+                                  final TimeValue keepAlive, final String prefix) {
+        this(settings, name, size, queueSize, keepAlive, prefix, Collections.emptyList());
+    }
+
+    private BoundedExecutorBuilder(final Settings settings, final String name, final int size, final int queueSize,
+                                   final TimeValue keepAlive, final String prefix, final List<Setting<?>> autoQueueSettings) {
+        super(name);
+        final String sizeKey = settingsKey(prefix, "size");
+        this.sizeSetting =
+            new Setting<>(
+                sizeKey,
+                s -> Integer.toString(size),
+                s -> Setting.parseInt(s, 1, applyHardSizeLimit(settings, name), sizeKey),
+                Setting.Property.NodeScope);
+        this.queueSizeSetting = Setting.intSetting(settingsKey(prefix, "queue_size"), queueSize, 1, Setting.Property.NodeScope);
+        // idle threads are always reclaimed so keep alive must be positive
+        this.keepAliveSetting = Setting.timeSetting(settingsKey(prefix, "keep_alive"), keepAlive, TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope);
+        this.autoQueueSettings = autoQueueSettings;
+    }
+
+    @Override
+    public List<Setting<?>> getRegisteredSettings() {
+        final List<Setting<?>> registeredSettings = new ArrayList<>(Arrays.asList(sizeSetting, queueSizeSetting, keepAliveSetting));
+        registeredSettings.addAll(autoQueueSettings);
+        return registeredSettings;
+    }
+
+    @Override
+    BoundedExecutorSettings getSettings(Settings settings) {
+        final String nodeName = Node.NODE_NAME_SETTING.get(settings);
+        final int size = sizeSetting.get(settings);
+        final int queueSize = queueSizeSetting.get(settings);
+        final TimeValue keepAlive = keepAliveSetting.get(settings);
+        for (Setting<?> autoQueueSetting : autoQueueSettings) {
+            // validates the value and warns about the deprecation
+            autoQueueSetting.get(settings);
+        }
+        return new BoundedExecutorSettings(nodeName, size, queueSize, keepAlive);
+    }
+
+    @Override
+    ThreadPool.ThreadPoolType threadPoolType() {
+        return ThreadPool.ThreadPoolType.BOUNDED;
+    }
+
+    @Override
+    ThreadPool.ExecutorHolder build(final BoundedExecutorSettings settings, final ThreadContext threadContext) {
+        int size = settings.size;
+        int queueSize = settings.queueSize;
+        TimeValue keepAlive = settings.keepAlive;
+        final ThreadFactory threadFactory =
+            OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
+        final ExecutorService executor =
+            OpenSearchExecutors.newBounded(settings.nodeName + "/" + name(), size, queueSize, keepAlive, threadFactory, threadContext);
+        final ThreadPool.Info info =
+            new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.BOUNDED, size, size, keepAlive, new SizeValue(queueSize));
+        return new ThreadPool.ExecutorHolder(executor, info);
+    }
+
+    @Override
+    String formatInfo(ThreadPool.Info info) {
+        return String.format(
+            Locale.ROOT,
+            "name [%s], size [%d], queue size [%s], keep alive [%s]",
+            info.getName(),
+            info.getMax(),
+            info.getQueueSize(),
+            info.getKeepAlive());
+    }
+
+    static class BoundedExecutorSettings extends ExecutorBuilder.ExecutorSettings {
+
+        private final int size;
+        private final int queueSize;
+        private final TimeValue keepAlive;
+
+        BoundedExecutorSettings(final String nodeName, final int size, final int queueSize, final TimeValue keepAlive) {
+            super(nodeName);
+            this.size = size;
+            this.queueSize = queueSize;
+            this.keepAlive = keepAlive;
+        }
+
+    }
+
+}
@@ -83,6 +83,13 @@ public abstract class ExecutorBuilder<U extends ExecutorBuilder.ExecutorSettings
      */
     abstract U getSettings(Settings settings);
 
+    /**
+     * The type of the thread pools that this builder builds.
+     *
+     * @return the thread pool type
+     */
+    abstract ThreadPool.ThreadPoolType threadPoolType();
+
     /**
      * Builds the executor with the specified executor settings.
      *
@@ -146,6 +146,11 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
         return new FixedExecutorSettings(nodeName, size, queueSize);
     }
 
+    @Override
+    ThreadPool.ThreadPoolType threadPoolType() {
+        return ThreadPool.ThreadPoolType.FIXED;
+    }
+
     @Override
     ThreadPool.ExecutorHolder build(final FixedExecutorSettings settings, final ThreadContext threadContext) {
         int size = settings.size;
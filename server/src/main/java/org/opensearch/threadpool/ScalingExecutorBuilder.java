@@ -103,6 +103,11 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
         return new ScalingExecutorSettings(nodeName, coreThreads, maxThreads, keepAlive);
     }
 
+    @Override
+    ThreadPool.ThreadPoolType threadPoolType() {
+        return ThreadPool.ThreadPoolType.SCALING;
+    }
+
     ThreadPool.ExecutorHolder build(final ScalingExecutorSettings settings, final ThreadContext threadContext) {
         TimeValue keepAlive = settings.keepAlive;
         int core = settings.core;
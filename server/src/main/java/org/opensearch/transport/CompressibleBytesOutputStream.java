@@ -34,11 +34,12 @@ package org.opensearch.transport;
 
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.common.bytes.BytesReference;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStream;
 import org.opensearch.common.io.stream.StreamOutput;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.zip.DeflaterOutputStream;
@@ -55,23 +56,55 @@ import java.util.zip.DeflaterOutputStream;
  *
  * {@link CompressibleBytesOutputStream#close()} will NOT close the underlying stream. The byte stream passed
  * in the constructor must be closed individually.
+ *
+ * When compressing, the number of bytes written to this stream and the time spent in the compressor are tracked so that they can be
+ * reported in the {@link TransportStats}. Writes are buffered in front of the compressor so that the time is measured per buffer
+ * rather than per byte.
  */
 final class CompressibleBytesOutputStream extends StreamOutput {
 
+    // the size of the buffer in front of the compressor
+    private static final int BUFFER_SIZE = 4096;
+
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    private final TimedOutputStream compressingStream;
+    private long uncompressedBytes;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress, Compression.Scheme.DEFLATE);
+    }
+
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress, Compression.Scheme compressionScheme)
+        throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
         this.shouldCompress = shouldCompress;
         if (shouldCompress) {
-            this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            final OutputStream compressorStream = compressionScheme.compressor()
+                .threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.compressingStream = new TimedOutputStream(compressorStream);
+            this.stream = new BufferedOutputStream(compressingStream, BUFFER_SIZE);
         } else {
+            this.compressingStream = null;
             this.stream = bytesStreamOutput;
         }
     }
 
+    /**
+     * Returns the number of bytes that were written to this stream before compression.
+     */
+    long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Returns the time in nanoseconds that was spent in the compressor, or {@code 0} if compression is disabled.
+     */
+    long getCompressionNanos() {
+        return compressingStream == null ? 0 : compressingStream.nanos;
+    }
+
     /**
      * This method ensures that compression is complete and returns the underlying bytes.
      *
@@ -92,11 +125,13 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     @Override
     public void writeByte(byte b) throws IOException {
         stream.write(b);
+        uncompressedBytes++;
     }
 
     @Override
     public void writeBytes(byte[] b, int offset, int length) throws IOException {
         stream.write(b, offset, length);
+        uncompressedBytes += length;
     }
 
     @Override
@@ -116,4 +151,50 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     public void reset() throws IOException {
         throw new UnsupportedOperationException();
     }
+
+    private static final class TimedOutputStream extends FilterOutputStream {
+
+        private long nanos;
+        // the buffering stream might flush and close this stream again after it was closed, see DeflateCompressor
+        private boolean closed = false;
+
+        private TimedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            final long start = System.nanoTime();
+            out.write(b);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            final long start = System.nanoTime();
+            out.write(b, off, len);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (closed) {
+                return;
+            }
+            final long start = System.nanoTime();
+            out.flush();
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final long start = System.nanoTime();
+            out.close();
+            nanos += System.nanoTime() - start;
+        }
+    }
 }
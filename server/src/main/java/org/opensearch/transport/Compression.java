@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
+
+import java.util.Locale;
+
+/**
+ * Holds the compression schemes that are supported for transport messages.
+ */
+public final class Compression {
+
+    /**
+     * The schemes that can be used to compress transport messages. The scheme of a compressed message is detected from the header of
+     * its content, so a node can read messages in any scheme it knows, but it only sends a scheme to nodes whose version supports it.
+     */
+    public enum Scheme {
+        DEFLATE(CompressorFactory.COMPRESSOR),
+        LZ4(new Lz4Compressor());
+
+        // the version from which on nodes can read LZ4 compressed messages, negotiated through the transport handshake
+        static final Version LZ4_VERSION = Version.V_1_1_0;
+
+        private final Compressor compressor;
+
+        Scheme(Compressor compressor) {
+            this.compressor = compressor;
+        }
+
+        public Compressor compressor() {
+            return compressor;
+        }
+
+        /**
+         * Returns this scheme if a node with the given version can read it, or {@link #DEFLATE} otherwise.
+         */
+        public Scheme resolve(Version version) {
+            if (this == LZ4 && version.before(LZ4_VERSION)) {
+                return DEFLATE;
+            }
+            return this;
+        }
+
+        /**
+         * Returns the scheme that the given compressed content was compressed with, or {@code null} if the header of the content
+         * does not match any scheme.
+         */
+        public static Scheme detect(BytesReference content) {
+            for (Scheme scheme : values()) {
+                if (scheme.compressor.isCompressed(content)) {
+                    return scheme;
+                }
+            }
+            return null;
+        }
+
+        public static Scheme fromString(String value) {
+            return Scheme.valueOf(value.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // the number of bytes that are needed to detect the scheme of compressed content
+    static final int HEADER_LENGTH = 4;
+
+    private Compression() {
+    }
+}
@@ -57,6 +57,7 @@ public class Header {
     String actionName;
     Tuple<Map<String, String>, Map<String, Set<String>>> headers;
     Set<String> features;
+    private Compression.Scheme compressionScheme = null;
 
     Header(int networkMessageSize, long requestId, byte status, Version version) {
         this.networkMessageSize = networkMessageSize;
@@ -101,6 +102,19 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    /**
+     * Returns the scheme the content of this message was compressed with, or {@code null} if the content is not compressed or was not
+     * received yet.
+     */
+    Compression.Scheme getCompressionScheme() {
+        return compressionScheme;
+    }
+
+    void setCompressionScheme(Compression.Scheme compressionScheme) {
+        assert isCompressed();
+        this.compressionScheme = compressionScheme;
+    }
+
     public String getActionName() {
         return actionName;
     }
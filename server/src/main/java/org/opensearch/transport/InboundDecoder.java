@@ -50,14 +50,21 @@ public class InboundDecoder implements Releasable {
 
     private final Version version;
     private final PageCacheRecycler recycler;
+    private final StatsTracker statsTracker;
     private TransportDecompressor decompressor;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
+    private boolean isCompressed = false;
     private boolean isClosed = false;
 
     public InboundDecoder(Version version, PageCacheRecycler recycler) {
+        this(version, recycler, new StatsTracker());
+    }
+
+    public InboundDecoder(Version version, PageCacheRecycler recycler, StatsTracker statsTracker) {
         this.version = version;
         this.recycler = recycler;
+        this.statsTracker = statsTracker;
     }
 
     public int decode(ReleasableBytesReference reference, Consumer<Object> fragmentConsumer) throws IOException {
@@ -88,7 +95,7 @@ public class InboundDecoder implements Releasable {
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
-                        decompressor = new TransportDecompressor(recycler);
+                        isCompressed = true;
                     }
                     fragmentConsumer.accept(header);
 
@@ -99,9 +106,13 @@ public class InboundDecoder implements Releasable {
                 }
             }
         } else {
-            // There are a minimum number of bytes required to start decompression
-            if (decompressor != null && decompressor.canDecompress(reference.length()) == false) {
-                return 0;
+            if (isCompressed && decompressor == null) {
+                // There are a minimum number of bytes required to detect the compression scheme
+                if (reference.length() < Compression.HEADER_LENGTH) {
+                    return 0;
+                }
+                decompressor = TransportDecompressor.getDecompressor(recycler, reference);
+                fragmentConsumer.accept(decompressor.getScheme());
             }
             int bytesToConsume = Math.min(reference.length(), totalNetworkSize - bytesConsumed);
             bytesConsumed += bytesToConsume;
@@ -112,11 +123,15 @@ public class InboundDecoder implements Releasable {
                 retainedContent = reference.retain();
             }
             if (decompressor != null) {
+                final long startNanos = System.nanoTime();
                 decompress(retainedContent);
+                long decompressedBytes = 0;
                 ReleasableBytesReference decompressed;
                 while ((decompressed = decompressor.pollDecompressedPage()) != null) {
+                    decompressedBytes += decompressed.length();
                     fragmentConsumer.accept(decompressed);
                 }
+                statsTracker.markDecompressed(bytesToConsume, decompressedBytes, System.nanoTime() - startNanos);
             } else {
                 fragmentConsumer.accept(retainedContent);
             }
@@ -142,6 +157,7 @@ public class InboundDecoder implements Releasable {
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        isCompressed = false;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
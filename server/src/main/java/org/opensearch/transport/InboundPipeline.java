@@ -66,7 +66,7 @@ public class InboundPipeline implements Releasable {
                            Supplier<CircuitBreaker> circuitBreaker,
                            Function<String, RequestHandlerRegistry<TransportRequest>> registryFunction,
                            BiConsumer<TcpChannel, InboundMessage> messageHandler) {
-        this(statsTracker, relativeTimeInMillis, new InboundDecoder(version, recycler),
+        this(statsTracker, relativeTimeInMillis, new InboundDecoder(version, recycler, statsTracker),
             new InboundAggregator(circuitBreaker, registryFunction), messageHandler);
     }
 
@@ -145,6 +145,9 @@ public class InboundPipeline implements Releasable {
             if (fragment instanceof Header) {
                 assert aggregator.isAggregating() == false;
                 aggregator.headerReceived((Header) fragment);
+            } else if (fragment instanceof Compression.Scheme) {
+                assert aggregator.isAggregating();
+                aggregator.updateCompressionScheme((Compression.Scheme) fragment);
             } else if (fragment == InboundDecoder.PING) {
                 assert aggregator.isAggregating() == false;
                 messageHandler.accept(channel, PING_MESSAGE);
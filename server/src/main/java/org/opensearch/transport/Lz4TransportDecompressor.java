@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Lz4Compressor;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.io.IOException;
+
+/**
+ * A {@link TransportDecompressor} for content that was compressed with {@link Compression.Scheme#LZ4}. Blocks that are contained in a
+ * single network buffer are decompressed in place, other blocks are buffered until they were fully received. The buffers are sized
+ * to the blocks of the message so that small messages do not allocate buffers for full blocks.
+ */
+public class Lz4TransportDecompressor extends TransportDecompressor {
+
+    private final byte[] blockHeader = new byte[Lz4Compressor.BLOCK_HEADER_LENGTH];
+    private int blockHeaderLength;
+    private byte[] compressed = BytesRef.EMPTY_BYTES;
+    private int compressedLength;
+    private int expectedCompressedLength;
+    private int expectedDecompressedLength;
+    private byte[] decompressed = BytesRef.EMPTY_BYTES;
+    private boolean hasReadHeader = false;
+    private boolean eos = false;
+
+    public Lz4TransportDecompressor(PageCacheRecycler recycler) {
+        super(recycler);
+    }
+
+    @Override
+    public int decompress(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
+        if (hasReadHeader == false) {
+            if (Compression.Scheme.LZ4.compressor().isCompressed(bytesReference) == false) {
+                throw new IllegalStateException("stream marked as compressed, but is missing lz4 header");
+            }
+            hasReadHeader = true;
+            int headerLength = Compression.Scheme.LZ4.compressor().headerLength();
+            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
+            bytesConsumed += headerLength;
+        }
+
+        BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while (eos == false && (ref = refIterator.next()) != null) {
+            int offset = ref.offset;
+            final int end = ref.offset + ref.length;
+            while (eos == false && offset < end) {
+                if (blockHeaderLength < blockHeader.length) {
+                    final int toCopy = Math.min(blockHeader.length - blockHeaderLength, end - offset);
+                    System.arraycopy(ref.bytes, offset, blockHeader, blockHeaderLength, toCopy);
+                    blockHeaderLength += toCopy;
+                    offset += toCopy;
+                    if (blockHeaderLength == blockHeader.length) {
+                        readBlockHeader();
+                    }
+                } else if (compressedLength == 0 && end - offset >= expectedCompressedLength) {
+                    decompressBlock(ref.bytes, offset);
+                    offset += expectedCompressedLength;
+                } else {
+                    final int toCopy = Math.min(expectedCompressedLength - compressedLength, end - offset);
+                    System.arraycopy(ref.bytes, offset, compressed, compressedLength, toCopy);
+                    compressedLength += toCopy;
+                    offset += toCopy;
+                    if (compressedLength == expectedCompressedLength) {
+                        decompressBlock(compressed, 0);
+                    }
+                }
+            }
+            bytesConsumed += offset - ref.offset;
+        }
+
+        return bytesConsumed;
+    }
+
+    private void readBlockHeader() throws IOException {
+        expectedDecompressedLength = readInt(0);
+        expectedCompressedLength = readInt(4);
+        if (Lz4Compressor.validateBlockHeader(expectedDecompressedLength, expectedCompressedLength)) {
+            eos = true;
+        } else {
+            if (compressed.length < expectedCompressedLength) {
+                compressed = new byte[expectedCompressedLength];
+            }
+            if (decompressed.length < expectedDecompressedLength) {
+                decompressed = new byte[expectedDecompressedLength];
+            }
+        }
+    }
+
+    private int readInt(int offset) {
+        return ((blockHeader[offset] & 0xFF) << 24) | ((blockHeader[offset + 1] & 0xFF) << 16)
+            | ((blockHeader[offset + 2] & 0xFF) << 8) | (blockHeader[offset + 3] & 0xFF);
+    }
+
+    private void decompressBlock(byte[] bytes, int offset) throws IOException {
+        Lz4Compressor.decompressBlock(bytes, offset, expectedCompressedLength, decompressed, expectedDecompressedLength);
+        writeToPages(decompressed, 0, expectedDecompressedLength);
+        blockHeaderLength = 0;
+        compressedLength = 0;
+    }
+
+    @Override
+    public boolean isEOS() {
+        return eos;
+    }
+
+    @Override
+    public Compression.Scheme getScheme() {
+        return Compression.Scheme.LZ4;
+    }
+}
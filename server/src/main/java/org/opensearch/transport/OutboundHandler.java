@@ -94,9 +94,21 @@ final class OutboundHandler {
     void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
                      final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
                      final boolean compressRequest, final boolean isHandshake) throws IOException, TransportException {
+        sendRequest(node, channel, requestId, action, request, options, channelVersion, compressRequest, Compression.Scheme.DEFLATE,
+            isHandshake);
+    }
+
+    /**
+     * Sends the request to the given channel, compressed with the given scheme if the node on the other side of the channel can read
+     * it and with {@link Compression.Scheme#DEFLATE} otherwise.
+     */
+    void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
+                     final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
+                     final boolean compressRequest, final Compression.Scheme compressionScheme, final boolean isHandshake)
+        throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
         OutboundMessage.Request message = new OutboundMessage.Request(threadPool.getThreadContext(), features, request, version, action,
-            requestId, isHandshake, compressRequest);
+            requestId, isHandshake, compressRequest, compressionScheme);
         ActionListener<Void> listener = ActionListener.wrap(() ->
             messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(channel, message, listener);
@@ -111,9 +123,18 @@ final class OutboundHandler {
     void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
                       final long requestId, final String action, final TransportResponse response,
                       final boolean compress, final boolean isHandshake) throws IOException {
+        sendResponse(nodeVersion, features, channel, requestId, action, response, compress, Compression.Scheme.DEFLATE, isHandshake);
+    }
+
+    /**
+     * Sends the response to the given channel, compressed with the given scheme which is usually the scheme of the request.
+     */
+    void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
+                      final long requestId, final String action, final TransportResponse response,
+                      final boolean compress, final Compression.Scheme compressionScheme, final boolean isHandshake) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, response, version,
-            requestId, isHandshake, compress);
+            requestId, isHandshake, compress, compressionScheme);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
         sendMessage(channel, message, listener);
     }
@@ -133,7 +154,7 @@ final class OutboundHandler {
     }
 
     private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, ActionListener<Void> listener) throws IOException {
-        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
+        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays, statsTracker);
         SendContext sendContext = new SendContext(channel, serializer, listener, serializer);
         internalSend(channel, sendContext);
     }
@@ -163,17 +184,19 @@ final class OutboundHandler {
 
         private final OutboundMessage message;
         private final BigArrays bigArrays;
+        private final StatsTracker statsTracker;
         private volatile ReleasableBytesStreamOutput bytesStreamOutput;
 
-        private MessageSerializer(OutboundMessage message, BigArrays bigArrays) {
+        private MessageSerializer(OutboundMessage message, BigArrays bigArrays, StatsTracker statsTracker) {
             this.message = message;
             this.bigArrays = bigArrays;
+            this.statsTracker = statsTracker;
         }
 
         @Override
         public BytesReference get() throws IOException {
             bytesStreamOutput = new ReleasableBytesStreamOutput(bigArrays);
-            return message.serialize(bytesStreamOutput);
+            return message.serialize(bytesStreamOutput, statsTracker);
         }
 
         @Override
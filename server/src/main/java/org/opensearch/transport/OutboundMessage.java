@@ -33,6 +33,7 @@ package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
@@ -47,13 +48,27 @@ import java.util.Set;
 abstract class OutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final Compression.Scheme compressionScheme;
 
-    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message,
+                    Compression.Scheme compressionScheme) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressionScheme = compressionScheme.resolve(version);
+    }
+
+    Compression.Scheme getCompressionScheme() {
+        return compressionScheme;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
+        return serialize(bytesStream, null);
+    }
+
+    /**
+     * Serializes this message to the given stream and records the compression of its content in the given stats tracker, if any.
+     */
+    BytesReference serialize(BytesStreamOutput bytesStream, @Nullable StatsTracker statsTracker) throws IOException {
         bytesStream.setVersion(version);
         bytesStream.skip(TcpHeader.headerSize(version));
 
@@ -67,8 +82,9 @@ abstract class OutboundMessage extends NetworkMessage {
             variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
         }
 
+        final long preContentPosition = bytesStream.position();
         try (CompressibleBytesOutputStream stream =
-                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status), compressionScheme)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -76,6 +92,10 @@ abstract class OutboundMessage extends NetworkMessage {
                 writeVariableHeader(stream);
             }
             reference = writeMessage(stream);
+            if (statsTracker != null && TransportStatus.isCompress(status)) {
+                statsTracker.markCompressed(stream.getUncompressedBytes(), bytesStream.position() - preContentPosition,
+                    stream.getCompressionNanos());
+            }
         }
 
         bytesStream.seek(0);
@@ -121,7 +141,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
                 boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, compress, Compression.Scheme.DEFLATE);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, boolean compress, Compression.Scheme compressionScheme) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
             this.action = action;
         }
@@ -155,7 +180,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
                  boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress, Compression.Scheme.DEFLATE);
+        }
+
+        Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
+                 boolean isHandshake, boolean compress, Compression.Scheme compressionScheme) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
         }
 
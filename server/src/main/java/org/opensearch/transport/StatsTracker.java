@@ -41,6 +41,12 @@ public class StatsTracker {
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final LongAdder uncompressedBytesWritten = new LongAdder();
+    private final LongAdder compressedBytesWritten = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder compressedBytesRead = new LongAdder();
+    private final LongAdder decompressedBytesRead = new LongAdder();
+    private final LongAdder decompressionNanos = new LongAdder();
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -54,6 +60,18 @@ public class StatsTracker {
         writeBytesMetric.inc(bytesWritten);
     }
 
+    public void markCompressed(long uncompressedBytes, long compressedBytes, long nanos) {
+        uncompressedBytesWritten.add(uncompressedBytes);
+        compressedBytesWritten.add(compressedBytes);
+        compressionNanos.add(nanos);
+    }
+
+    public void markDecompressed(long compressedBytes, long decompressedBytes, long nanos) {
+        compressedBytesRead.add(compressedBytes);
+        decompressedBytesRead.add(decompressedBytes);
+        decompressionNanos.add(nanos);
+    }
+
     public long getBytesRead() {
         return bytesRead.sum();
     }
@@ -74,4 +92,28 @@ public class StatsTracker {
     public long getMessagesSent() {
         return writeBytesMetric.count();
     }
+
+    public long getUncompressedBytesWritten() {
+        return uncompressedBytesWritten.sum();
+    }
+
+    public long getCompressedBytesWritten() {
+        return compressedBytesWritten.sum();
+    }
+
+    public long getCompressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    public long getCompressedBytesRead() {
+        return compressedBytesRead.sum();
+    }
+
+    public long getDecompressedBytesRead() {
+        return decompressedBytesRead.sum();
+    }
+
+    public long getDecompressionNanos() {
+        return decompressionNanos.sum();
+    }
 }
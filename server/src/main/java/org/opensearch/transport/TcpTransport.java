@@ -222,6 +222,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         private final DiscoveryNode node;
         private final Version version;
         private final boolean compress;
+        private final Compression.Scheme compressionScheme;
         private final AtomicBoolean isClosing = new AtomicBoolean(false);
 
         NodeChannels(DiscoveryNode node, List<TcpChannel> channels, ConnectionProfile connectionProfile, Version handshakeVersion) {
@@ -236,6 +237,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             }
             version = handshakeVersion;
             compress = connectionProfile.getCompressionEnabled();
+            compressionScheme = connectionProfile.getCompressionScheme() == null
+                ? Compression.Scheme.DEFLATE : connectionProfile.getCompressionScheme();
         }
 
         @Override
@@ -280,7 +283,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                 throw new NodeNotConnectedException(node, "connection already closed");
             }
             TcpChannel channel = channel(options.type());
-            outboundHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, false);
+            outboundHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, compressionScheme,
+                false);
         }
     }
 
@@ -866,8 +870,11 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         final long messagesSent = statsTracker.getMessagesSent();
         final long messagesReceived = statsTracker.getMessagesReceived();
         final long bytesRead = statsTracker.getBytesRead();
+        final TransportStats.CompressionStats compressionStats = new TransportStats.CompressionStats(
+            statsTracker.getUncompressedBytesWritten(), statsTracker.getCompressedBytesWritten(), statsTracker.getCompressionNanos(),
+            statsTracker.getCompressedBytesRead(), statsTracker.getDecompressedBytesRead(), statsTracker.getDecompressionNanos());
         return new TransportStats(acceptedChannels.size(), outboundConnectionCount.get(),
-                messagesReceived, bytesRead, messagesSent, bytesWritten);
+                messagesReceived, bytesRead, messagesSent, bytesWritten, compressionStats);
     }
 
     /**
@@ -32,105 +32,117 @@
 
 package org.opensearch.transport;
 
-import org.apache.lucene.util.BytesRef;
-import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayDeque;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
-public class TransportDecompressor implements Closeable {
+/**
+ * Incrementally decompresses the content of a compressed transport message into recycled pages. The content is passed to
+ * {@link #decompress(BytesReference)} as it arrives from the network, and full pages can be polled while the message is still
+ * being received.
+ */
+public abstract class TransportDecompressor implements Closeable {
 
-    private final Inflater inflater;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-    private boolean hasReadHeader = false;
 
-    public TransportDecompressor(PageCacheRecycler recycler) {
+    protected TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
-        inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
     }
 
-    public int decompress(BytesReference bytesReference) throws IOException {
-        int bytesConsumed = 0;
-        if (hasReadHeader == false) {
-            if (CompressorFactory.COMPRESSOR.isCompressed(bytesReference) == false) {
-                int maxToRead = Math.min(bytesReference.length(), 10);
-                StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
-                    .append(maxToRead).append("] content bytes out of [").append(bytesReference.length())
-                    .append("] readable bytes with message size [").append(bytesReference.length()).append("] ").append("] are [");
-                for (int i = 0; i < maxToRead; i++) {
-                    sb.append(bytesReference.get(i)).append(",");
-                }
-                sb.append("]");
-                throw new IllegalStateException(sb.toString());
+    /**
+     * Returns a decompressor for the scheme that the given content was compressed with. The content must at least contain
+     * {@link Compression#HEADER_LENGTH} bytes.
+     */
+    public static TransportDecompressor getDecompressor(PageCacheRecycler recycler, BytesReference bytes) {
+        final Compression.Scheme scheme = Compression.Scheme.detect(bytes);
+        if (scheme == null) {
+            int maxToRead = Math.min(bytes.length(), 10);
+            StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
+                .append(maxToRead).append("] content bytes out of [").append(bytes.length())
+                .append("] readable bytes with message size [").append(bytes.length()).append("] ").append("] are [");
+            for (int i = 0; i < maxToRead; i++) {
+                sb.append(bytes.get(i)).append(",");
             }
-            hasReadHeader = true;
-            int headerLength = CompressorFactory.COMPRESSOR.headerLength();
-            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
-            bytesConsumed += headerLength;
+            sb.append("]");
+            throw new IllegalStateException(sb.toString());
+        }
+        switch (scheme) {
+            case DEFLATE:
+                return new DeflateTransportDecompressor(recycler);
+            case LZ4:
+                return new Lz4TransportDecompressor(recycler);
+            default:
+                throw new IllegalArgumentException("unknown compression scheme [" + scheme + "]");
         }
+    }
 
-        BytesRefIterator refIterator = bytesReference.iterator();
-        BytesRef ref;
-        while ((ref = refIterator.next()) != null) {
-            inflater.setInput(ref.bytes, ref.offset, ref.length);
-            bytesConsumed += ref.length;
-            boolean continueInflating = true;
-            while (continueInflating) {
-                final Recycler.V<byte[]> page;
-                final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
-                if (isNewPage) {
-                    pageOffset = 0;
-                    page = recycler.bytePage(false);
-                } else {
-                    page = pages.getLast();
-                }
-                byte[] output = page.v();
-                try {
-                    int bytesInflated = inflater.inflate(output, pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
-                    pageOffset += bytesInflated;
-                    if (isNewPage) {
-                        if (bytesInflated == 0) {
-                            page.close();
-                            pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-                        } else {
-                            pages.add(page);
-                        }
-                    }
-                } catch (DataFormatException e) {
-                    throw new IOException("Exception while inflating bytes", e);
-                }
-                if (inflater.needsInput()) {
-                    continueInflating = false;
-                }
-                if (inflater.finished()) {
-                    bytesConsumed -= inflater.getRemaining();
-                    continueInflating = false;
-                }
-                assert inflater.needsDictionary() == false;
-            }
+    /**
+     * Decompresses the given content, which starts with the compression header on the first invocation.
+     *
+     * @return the number of bytes that were consumed, which is less than the length of the content if the end of the compressed
+     *         stream was reached
+     */
+    public abstract int decompress(BytesReference bytesReference) throws IOException;
+
+    /**
+     * Returns whether the end of the compressed stream was reached.
+     */
+    public abstract boolean isEOS();
+
+    public abstract Compression.Scheme getScheme();
+
+    /**
+     * Returns the number of bytes that can be written to the current page, allocating a new page if the current one is full.
+     */
+    protected int ensurePage() {
+        if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+            pages.add(recycler.bytePage(false));
+            pageOffset = 0;
         }
+        return PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset;
+    }
+
+    protected byte[] currentPage() {
+        return pages.getLast().v();
+    }
 
-        return bytesConsumed;
+    protected int currentPageOffset() {
+        return pageOffset;
     }
 
-    public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorFactory.COMPRESSOR.headerLength();
+    /**
+     * Marks the given number of bytes as written to the current page. If a new page was allocated by {@link #ensurePage()} but
+     * nothing was written to it, it is released.
+     */
+    protected void advancePage(int bytesWritten) {
+        if (pageOffset == 0 && bytesWritten == 0) {
+            pages.pollLast().close();
+            pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+        } else {
+            pageOffset += bytesWritten;
+        }
     }
 
-    public boolean isEOS() {
-        return inflater.finished();
+    /**
+     * Copies decompressed bytes to the pages.
+     */
+    protected void writeToPages(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            final int toCopy = Math.min(length, ensurePage());
+            System.arraycopy(bytes, offset, currentPage(), pageOffset, toCopy);
+            advancePage(toCopy);
+            offset += toCopy;
+            length -= toCopy;
+        }
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -140,7 +152,7 @@ public class TransportDecompressor implements Closeable {
             if (isEOS()) {
                 Recycler.V<byte[]> page = pages.pollFirst();
                 ReleasableBytesReference reference = new ReleasableBytesReference(new BytesArray(page.v(), 0, pageOffset), page);
-                pageOffset = 0;
+                pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
                 return reference;
             } else {
                 return null;
@@ -153,7 +165,6 @@ public class TransportDecompressor implements Closeable {
 
     @Override
     public void close() {
-        inflater.end();
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
@@ -33,14 +33,17 @@
 package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class TransportStats implements Writeable, ToXContentFragment {
 
@@ -50,14 +53,21 @@ public class TransportStats implements Writeable, ToXContentFragment {
     private final long rxSize;
     private final long txCount;
     private final long txSize;
+    private final CompressionStats compressionStats;
 
     public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize) {
+        this(serverOpen, totalOutboundConnections, rxCount, rxSize, txCount, txSize, CompressionStats.EMPTY);
+    }
+
+    public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize,
+                          CompressionStats compressionStats) {
         this.serverOpen = serverOpen;
         this.totalOutboundConnections = totalOutboundConnections;
         this.rxCount = rxCount;
         this.rxSize = rxSize;
         this.txCount = txCount;
         this.txSize = txSize;
+        this.compressionStats = compressionStats;
     }
 
     public TransportStats(StreamInput in) throws IOException {
@@ -71,6 +81,11 @@ public class TransportStats implements Writeable, ToXContentFragment {
         rxSize = in.readVLong();
         txCount = in.readVLong();
         txSize = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            compressionStats = new CompressionStats(in);
+        } else {
+            compressionStats = CompressionStats.EMPTY;
+        }
     }
 
     @Override
@@ -83,6 +98,9 @@ public class TransportStats implements Writeable, ToXContentFragment {
         out.writeVLong(rxSize);
         out.writeVLong(txCount);
         out.writeVLong(txSize);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            compressionStats.writeTo(out);
+        }
     }
 
     public long serverOpen() {
@@ -125,6 +143,10 @@ public class TransportStats implements Writeable, ToXContentFragment {
         return txSize();
     }
 
+    public CompressionStats getCompressionStats() {
+        return compressionStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.TRANSPORT);
@@ -134,6 +156,7 @@ public class TransportStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.RX_SIZE_IN_BYTES, Fields.RX_SIZE, new ByteSizeValue(rxSize));
         builder.field(Fields.TX_COUNT, txCount);
         builder.humanReadableField(Fields.TX_SIZE_IN_BYTES, Fields.TX_SIZE, new ByteSizeValue(txSize));
+        compressionStats.toXContent(builder, params);
         builder.endObject();
         return builder;
     }
@@ -148,5 +171,104 @@ public class TransportStats implements Writeable, ToXContentFragment {
         static final String TX_COUNT = "tx_count";
         static final String TX_SIZE = "tx_size";
         static final String TX_SIZE_IN_BYTES = "tx_size_in_bytes";
+        static final String COMPRESSION = "compression";
+        static final String TX_UNCOMPRESSED_SIZE = "tx_uncompressed_size";
+        static final String TX_UNCOMPRESSED_SIZE_IN_BYTES = "tx_uncompressed_size_in_bytes";
+        static final String TX_COMPRESSED_SIZE = "tx_compressed_size";
+        static final String TX_COMPRESSED_SIZE_IN_BYTES = "tx_compressed_size_in_bytes";
+        static final String TX_COMPRESSION_TIME = "tx_compression_time";
+        static final String TX_COMPRESSION_TIME_IN_MILLIS = "tx_compression_time_in_millis";
+        static final String RX_COMPRESSED_SIZE = "rx_compressed_size";
+        static final String RX_COMPRESSED_SIZE_IN_BYTES = "rx_compressed_size_in_bytes";
+        static final String RX_DECOMPRESSED_SIZE = "rx_decompressed_size";
+        static final String RX_DECOMPRESSED_SIZE_IN_BYTES = "rx_decompressed_size_in_bytes";
+        static final String RX_DECOMPRESSION_TIME = "rx_decompression_time";
+        static final String RX_DECOMPRESSION_TIME_IN_MILLIS = "rx_decompression_time_in_millis";
+    }
+
+    /**
+     * Statistics about the compression of transport messages: the size of the content of compressed messages before and after
+     * compression and the time spent compressing and decompressing it.
+     */
+    public static class CompressionStats implements Writeable, ToXContentFragment {
+
+        static final CompressionStats EMPTY = new CompressionStats(0, 0, 0, 0, 0, 0);
+
+        private final long txUncompressedSize;
+        private final long txCompressedSize;
+        private final long txCompressionTimeNanos;
+        private final long rxCompressedSize;
+        private final long rxDecompressedSize;
+        private final long rxDecompressionTimeNanos;
+
+        public CompressionStats(long txUncompressedSize, long txCompressedSize, long txCompressionTimeNanos,
+                                long rxCompressedSize, long rxDecompressedSize, long rxDecompressionTimeNanos) {
+            this.txUncompressedSize = txUncompressedSize;
+            this.txCompressedSize = txCompressedSize;
+            this.txCompressionTimeNanos = txCompressionTimeNanos;
+            this.rxCompressedSize = rxCompressedSize;
+            this.rxDecompressedSize = rxDecompressedSize;
+            this.rxDecompressionTimeNanos = rxDecompressionTimeNanos;
+        }
+
+        public CompressionStats(StreamInput in) throws IOException {
+            txUncompressedSize = in.readVLong();
+            txCompressedSize = in.readVLong();
+            txCompressionTimeNanos = in.readVLong();
+            rxCompressedSize = in.readVLong();
+            rxDecompressedSize = in.readVLong();
+            rxDecompressionTimeNanos = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(txUncompressedSize);
+            out.writeVLong(txCompressedSize);
+            out.writeVLong(txCompressionTimeNanos);
+            out.writeVLong(rxCompressedSize);
+            out.writeVLong(rxDecompressedSize);
+            out.writeVLong(rxDecompressionTimeNanos);
+        }
+
+        public long getTxUncompressedSize() {
+            return txUncompressedSize;
+        }
+
+        public long getTxCompressedSize() {
+            return txCompressedSize;
+        }
+
+        public long getTxCompressionTimeNanos() {
+            return txCompressionTimeNanos;
+        }
+
+        public long getRxCompressedSize() {
+            return rxCompressedSize;
+        }
+
+        public long getRxDecompressedSize() {
+            return rxDecompressedSize;
+        }
+
+        public long getRxDecompressionTimeNanos() {
+            return rxDecompressionTimeNanos;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(Fields.COMPRESSION);
+            builder.humanReadableField(Fields.TX_UNCOMPRESSED_SIZE_IN_BYTES, Fields.TX_UNCOMPRESSED_SIZE,
+                new ByteSizeValue(txUncompressedSize));
+            builder.humanReadableField(Fields.TX_COMPRESSED_SIZE_IN_BYTES, Fields.TX_COMPRESSED_SIZE, new ByteSizeValue(txCompressedSize));
+            builder.humanReadableField(Fields.TX_COMPRESSION_TIME_IN_MILLIS, Fields.TX_COMPRESSION_TIME,
+                new TimeValue(TimeUnit.NANOSECONDS.toMillis(txCompressionTimeNanos)));
+            builder.humanReadableField(Fields.RX_COMPRESSED_SIZE_IN_BYTES, Fields.RX_COMPRESSED_SIZE, new ByteSizeValue(rxCompressedSize));
+            builder.humanReadableField(Fields.RX_DECOMPRESSED_SIZE_IN_BYTES, Fields.RX_DECOMPRESSED_SIZE,
+                new ByteSizeValue(rxDecompressedSize));
+            builder.humanReadableField(Fields.RX_DECOMPRESSION_TIME_IN_MILLIS, Fields.RX_DECOMPRESSION_TIME,
+                new TimeValue(TimeUnit.NANOSECONDS.toMillis(rxDecompressionTimeNanos)));
+            builder.endObject();
+            return builder;
+        }
     }
 }
@@ -39,6 +39,7 @@ import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
 import org.opensearch.http.HttpStats;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
 import org.opensearch.indices.breaker.AllCircuitBreakerStats;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
 import org.opensearch.ingest.IngestStats;
@@ -233,6 +234,33 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(nodeStats.getTransport().getServerOpen(), deserializedNodeStats.getTransport().getServerOpen());
                     assertEquals(nodeStats.getTransport().getTxCount(), deserializedNodeStats.getTransport().getTxCount());
                     assertEquals(nodeStats.getTransport().getTxSize(), deserializedNodeStats.getTransport().getTxSize());
+                    TransportStats.CompressionStats compressionStats = nodeStats.getTransport().getCompressionStats();
+                    TransportStats.CompressionStats deserializedCompressionStats =
+                        deserializedNodeStats.getTransport().getCompressionStats();
+                    assertEquals(compressionStats.getTxUncompressedSize(), deserializedCompressionStats.getTxUncompressedSize());
+                    assertEquals(compressionStats.getTxCompressedSize(), deserializedCompressionStats.getTxCompressedSize());
+                    assertEquals(compressionStats.getTxCompressionTimeNanos(), deserializedCompressionStats.getTxCompressionTimeNanos());
+                    assertEquals(compressionStats.getRxCompressedSize(), deserializedCompressionStats.getRxCompressedSize());
+                    assertEquals(compressionStats.getRxDecompressedSize(), deserializedCompressionStats.getRxDecompressedSize());
+                    assertEquals(compressionStats.getRxDecompressionTimeNanos(),
+                        deserializedCompressionStats.getRxDecompressionTimeNanos());
+                }
+                TranslogGroupCommitStats translogGroupCommitStats = nodeStats.getTranslogGroupCommitStats();
+                TranslogGroupCommitStats deserializedTranslogGroupCommitStats = deserializedNodeStats.getTranslogGroupCommitStats();
+                if (translogGroupCommitStats == null) {
+                    assertNull(deserializedTranslogGroupCommitStats);
+                } else {
+                    assertEquals(translogGroupCommitStats.getBatches(), deserializedTranslogGroupCommitStats.getBatches());
+                    assertEquals(translogGroupCommitStats.getSyncRequests(), deserializedTranslogGroupCommitStats.getSyncRequests());
+                    assertEquals(translogGroupCommitStats.getShardSyncs(), deserializedTranslogGroupCommitStats.getShardSyncs());
+                    assertEquals(translogGroupCommitStats.getFailedShardSyncs(),
+                        deserializedTranslogGroupCommitStats.getFailedShardSyncs());
+                    assertEquals(translogGroupCommitStats.getTotalTimeInMicros(),
+                        deserializedTranslogGroupCommitStats.getTotalTimeInMicros());
+                    assertArrayEquals(translogGroupCommitStats.getBatchSizeHistogram(),
+                        deserializedTranslogGroupCommitStats.getBatchSizeHistogram());
+                    assertArrayEquals(translogGroupCommitStats.getLatencyHistogram(),
+                        deserializedTranslogGroupCommitStats.getLatencyHistogram());
                 }
                 if (nodeStats.getHttp() == null) {
                     assertNull(deserializedNodeStats.getHttp());
@@ -325,6 +353,16 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(aStats.serviceTime, bStats.serviceTime, 0.01);
                         assertEquals(aStats.responseTime, bStats.responseTime, 0.01);
                     });
+                    assertEquals(adaptiveStats.getOutgoingGets(), deserializedAdaptiveStats.getOutgoingGets());
+                    assertEquals(adaptiveStats.getGetRanks(), deserializedAdaptiveStats.getGetRanks());
+                    adaptiveStats.getComputedGetStats().forEach((k, v) -> {
+                        ResponseCollectorService.ComputedNodeStats aStats = adaptiveStats.getComputedGetStats().get(k);
+                        ResponseCollectorService.ComputedNodeStats bStats = deserializedAdaptiveStats.getComputedGetStats().get(k);
+                        assertEquals(aStats.nodeId, bStats.nodeId);
+                        assertEquals(aStats.queueSize, bStats.queueSize, 0.01);
+                        assertEquals(aStats.serviceTime, bStats.serviceTime, 0.01);
+                        assertEquals(aStats.responseTime, bStats.responseTime, 0.01);
+                    });
                 }
                 ScriptCacheStats scriptCacheStats = nodeStats.getScriptCacheStats();
                 ScriptCacheStats deserializedScriptCacheStats = deserializedNodeStats.getScriptCacheStats();
@@ -456,7 +494,9 @@ public class NodeStatsTests extends OpenSearchTestCase {
             fsInfo = new FsInfo(randomNonNegativeLong(), ioStats, paths);
         }
         TransportStats transportStats = frequently() ? new TransportStats(randomNonNegativeLong(), randomNonNegativeLong(),
-                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()) : null;
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                new TransportStats.CompressionStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())) : null;
         HttpStats httpStats = frequently() ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong()) : null;
         AllCircuitBreakerStats allCircuitBreakerStats = null;
         if (frequently()) {
@@ -511,6 +551,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
             int numNodes = randomIntBetween(0,10);
             Map<String, Long> nodeConnections = new HashMap<>();
             Map<String, ResponseCollectorService.ComputedNodeStats> nodeStats = new HashMap<>();
+            Map<String, Long> nodeGets = new HashMap<>();
+            Map<String, ResponseCollectorService.ComputedNodeStats> nodeGetStats = new HashMap<>();
             for (int i = 0; i < numNodes; i++) {
                 String nodeId = randomAlphaOfLengthBetween(3, 10);
                 // add outgoing connection info
@@ -525,14 +567,36 @@ public class NodeStatsTests extends OpenSearchTestCase {
                             randomDoubleBetween(1.0, 10000000.0, true));
                     nodeStats.put(nodeId, stats);
                 }
+                // add outgoing gets and their calculations
+                if (randomBoolean()) {
+                    nodeGets.put(nodeId, randomLongBetween(0, 100));
+                }
+                if (randomBoolean()) {
+                    ResponseCollectorService.ComputedNodeStats stats = new ResponseCollectorService.ComputedNodeStats(nodeId,
+                            randomIntBetween(1,10), 0,
+                            randomDoubleBetween(1.0, 10000000.0, true),
+                            randomDoubleBetween(1.0, 10000000.0, true));
+                    nodeGetStats.put(nodeId, stats);
+                }
             }
-            adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
+            adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats, nodeGets, nodeGetStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        TranslogGroupCommitStats translogGroupCommitStats = frequently() ? new TranslogGroupCommitStats(randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomHistogram(12), randomHistogram(24)) : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, translogGroupCommitStats);
+    }
+
+    private static long[] randomHistogram(int numBuckets) {
+        long[] histogram = new long[numBuckets];
+        for (int i = 0; i < numBuckets; i++) {
+            histogram[i] = randomNonNegativeLong();
+        }
+        return histogram;
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
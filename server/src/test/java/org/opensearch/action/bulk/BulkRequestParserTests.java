@@ -190,4 +190,40 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertSame(first.getPipeline(), second.getPipeline());
         assertSame(first.routing(), second.routing());
     }
+
+    public void testParseIncrementally() throws IOException {
+        String first = "{ \"index\":{ \"_id\": \"1\" } }\n{}\n";
+        String second = "{ \"delete\":{ \"_id\": \"2\" } }\n";
+        String third = "{ \"index\":{ \"_id\": \"3\" } }\n{}\n";
+        BytesArray request = new BytesArray(first + second + third);
+        BulkRequestParser parser = new BulkRequestParser(randomBoolean());
+        final List<String> ids = new ArrayList<>();
+
+        // the source of the last item is missing, so its action line is left for the next call
+        int end = first.length() + second.length() + third.indexOf('\n') + 1;
+        int consumed = parser.parseIncrementally(request.slice(0, end), 0, false, "foo", null, null, null, null, null, false,
+            XContentType.JSON, indexRequest -> ids.add(indexRequest.id()), req -> fail(), deleteRequest -> ids.add(deleteRequest.id()));
+        assertEquals(first.length() + second.length(), consumed);
+        assertEquals(org.opensearch.common.collect.List.of("1", "2"), ids);
+
+        // a line that isn't terminated is left for the next call unless it is the last data
+        consumed = parser.parseIncrementally(request.slice(consumed, request.length() - consumed - 1), 3, false, "foo", null, null,
+            null, null, null, false, XContentType.JSON, indexRequest -> ids.add(indexRequest.id()), req -> fail(), req -> fail());
+        assertEquals(0, consumed);
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> parser.parseIncrementally(request.slice(0, request.length() - 1), 0, true, "foo", null, null, null, null, null, false,
+                XContentType.JSON, req -> {}, req -> {}, req -> {}));
+        assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
+
+        consumed = parser.parseIncrementally(request.slice(end - third.indexOf('\n') - 1, third.length()), 3, true, "foo", null, null,
+            null, null, null, false, XContentType.JSON, indexRequest -> ids.add(indexRequest.id()), req -> fail(), req -> fail());
+        assertEquals(third.length(), consumed);
+        assertEquals(org.opensearch.common.collect.List.of("1", "2", "3"), ids);
+
+        // the lines are numbered from the start of the body
+        e = expectThrows(IllegalArgumentException.class,
+            () -> parser.parseIncrementally(new BytesArray("[]\n"), 3, true, "foo", null, null, null, null, null, false,
+                XContentType.JSON, req -> {}, req -> {}, req -> {}));
+        assertThat(e.getMessage(), Matchers.startsWith("Malformed action/metadata line [4]"));
+    }
 }
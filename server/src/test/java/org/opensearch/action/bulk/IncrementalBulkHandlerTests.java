@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class IncrementalBulkHandlerTests extends OpenSearchTestCase {
+
+    public void testBatchesAreMergedInOrder() {
+        final int numDocs = randomIntBetween(1, 100);
+        final BytesReference body = body(numDocs);
+        final List<BulkRequest> batches = new ArrayList<>();
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> {
+            batches.add(batch);
+            listener.onResponse(respond(batch));
+        }, randomIntBetween(1, 512), future);
+
+        addInChunks(handler, body);
+
+        final BulkResponse response = future.actionGet();
+        assertThat(response.getItems().length, equalTo(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            assertThat(response.getItems()[i].getItemId(), equalTo(i));
+            assertThat(response.getItems()[i].getId(), equalTo(Integer.toString(i)));
+            assertFalse(response.getItems()[i].isFailed());
+        }
+        int numberOfActions = 0;
+        for (BulkRequest batch : batches) {
+            assertThat(batch.numberOfActions(), greaterThan(0));
+            numberOfActions += batch.numberOfActions();
+        }
+        assertThat(numberOfActions, equalTo(numDocs));
+    }
+
+    public void testLargeBodyIsExecutedInSeveralBatches() {
+        final List<BulkRequest> batches = new ArrayList<>();
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> {
+            batches.add(batch);
+            listener.onResponse(respond(batch));
+        }, 256, future);
+
+        handler.addData(ReleasableBytesReference.wrap(body(100)), true, () -> {});
+
+        assertThat(future.actionGet().getItems().length, equalTo(100));
+        assertThat(batches.size(), greaterThan(1));
+    }
+
+    public void testBatchFailureFailsItsItems() {
+        final int numDocs = randomIntBetween(10, 100);
+        final Exception failure = new IllegalStateException("batch failed");
+        final AtomicInteger batchCount = new AtomicInteger();
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> {
+            if (batchCount.getAndIncrement() % 2 == 1) {
+                listener.onFailure(failure);
+            } else {
+                listener.onResponse(respond(batch));
+            }
+        }, randomIntBetween(64, 256), future);
+
+        addInChunks(handler, body(numDocs));
+
+        final BulkResponse response = future.actionGet();
+        assertThat(response.getItems().length, equalTo(numDocs));
+        assertTrue(response.hasFailures());
+        for (int i = 0; i < numDocs; i++) {
+            final BulkItemResponse item = response.getItems()[i];
+            assertThat(item.getItemId(), equalTo(i));
+            assertThat(item.getId(), equalTo(Integer.toString(i)));
+            if (item.isFailed()) {
+                assertThat(item.getFailure().getCause(), sameInstance(failure));
+                assertThat(item.getIndex(), equalTo("index"));
+            }
+        }
+    }
+
+    public void testParseFailure() {
+        final String valid = "{\"index\":{\"_id\":\"1\"}}\n{}\n";
+        final BytesReference body = new BytesArray(valid + valid + valid + "[]\n" + valid);
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> listener.onResponse(respond(batch)),
+            randomIntBetween(1, valid.length() * 2), future);
+
+        addInChunks(handler, body);
+
+        final Exception e = expectThrows(Exception.class, future::actionGet);
+        final Throwable cause;
+        if (e instanceof IncrementalBulkHandler.PartialExecutionException) {
+            // the batches that were executed before the malformed line are reported with the failure
+            final BulkResponse executed = ((IncrementalBulkHandler.PartialExecutionException) e).getExecutedItems();
+            assertThat(executed.getItems().length, lessThanOrEqualTo(3));
+            for (int i = 0; i < executed.getItems().length; i++) {
+                assertThat(executed.getItems()[i].getItemId(), equalTo(i));
+                assertFalse(executed.getItems()[i].isFailed());
+            }
+            cause = e.getCause();
+        } else {
+            cause = e;
+        }
+        assertThat(cause, instanceOf(IllegalArgumentException.class));
+        assertThat(cause.getMessage(), containsString("Malformed action/metadata line [7]"));
+    }
+
+    public void testParseFailureReportsExecutedBatches() {
+        final String valid = "{\"index\":{\"_id\":\"1\"}}\n{}\n";
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> listener.onResponse(respond(batch)),
+            valid.length(), future);
+
+        handler.addData(ReleasableBytesReference.wrap(new BytesArray(valid + valid)), false, () -> {});
+        handler.addData(ReleasableBytesReference.wrap(new BytesArray("[]\n" + valid)), true, () -> {});
+
+        final IncrementalBulkHandler.PartialExecutionException e =
+            expectThrows(IncrementalBulkHandler.PartialExecutionException.class, future::actionGet);
+        assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+        assertThat(e.getCause().getMessage(), containsString("Malformed action/metadata line [5]"));
+        assertThat(e.getExecutedItems().getItems().length, equalTo(2));
+        assertFalse(e.getExecutedItems().hasFailures());
+    }
+
+    public void testEmptyBody() {
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> fail(), randomIntBetween(1, 512), future);
+
+        handler.addData(ReleasableBytesReference.wrap(new BytesArray("\n\n")), true, () -> {});
+
+        final Exception e = expectThrows(Exception.class, future::actionGet);
+        assertThat(e, instanceOf(ActionRequestValidationException.class));
+        assertThat(e.getMessage(), containsString("no requests added"));
+    }
+
+    public void testExecutesOneBatchAtATime() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final List<ActionListener<BulkResponse>> pendingListeners = new ArrayList<>();
+        final List<BulkRequest> batches = new ArrayList<>();
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> {
+            assertThat(inFlight.incrementAndGet(), equalTo(1));
+            batches.add(batch);
+            pendingListeners.add(ActionListener.wrap(() -> {
+                inFlight.decrementAndGet();
+                listener.onResponse(respond(batch));
+            }));
+        }, 128, future);
+
+        final BytesReference body = body(50);
+        final int firstChunk = body.length() / 2;
+        final AtomicInteger ready = new AtomicInteger();
+        final AtomicInteger released = new AtomicInteger();
+        handler.addData(new ReleasableBytesReference(body.slice(0, firstChunk), released::incrementAndGet), false,
+            ready::incrementAndGet);
+        // the next batch is parsed but waits for the first one, and no more data is requested until it is executed
+        assertThat(batches.size(), equalTo(1));
+        assertThat(ready.get(), equalTo(0));
+        int completed = 0;
+        while (ready.get() == 0) {
+            assertThat(batches.size(), equalTo(completed + 1));
+            pendingListeners.get(completed++).onResponse(null);
+        }
+        assertThat(inFlight.get(), equalTo(1));
+        // the batch in flight slices the data
+        assertThat(released.get(), equalTo(0));
+
+        handler.addData(new ReleasableBytesReference(body.slice(firstChunk, body.length() - firstChunk), released::incrementAndGet),
+            true, ready::incrementAndGet);
+        while (future.isDone() == false) {
+            assertThat(batches.size(), equalTo(completed + 1));
+            assertThat(released.get(), lessThan(2));
+            pendingListeners.get(completed++).onResponse(null);
+        }
+        assertThat(future.actionGet().getItems().length, equalTo(50));
+        assertThat(ready.get(), equalTo(1));
+        assertThat(released.get(), equalTo(2));
+        // the batches were executed in the order of the body
+        int id = 0;
+        for (BulkRequest batch : batches) {
+            for (DocWriteRequest<?> request : batch.requests()) {
+                assertThat(request.id(), equalTo(Integer.toString(id++)));
+            }
+        }
+        assertThat(id, equalTo(50));
+    }
+
+    public void testDataFailure() {
+        final List<ActionListener<BulkResponse>> pendingListeners = new ArrayList<>();
+        final PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+        final IncrementalBulkHandler handler = newHandler((batch, listener) -> pendingListeners.add(
+            ActionListener.wrap(() -> listener.onResponse(respond(batch)))), 128, future);
+
+        final BytesReference body = body(50);
+        final AtomicInteger released = new AtomicInteger();
+        handler.addData(new ReleasableBytesReference(body.slice(0, body.length() / 2), released::incrementAndGet), false, () -> {});
+        assertThat(pendingListeners.size(), equalTo(1));
+
+        final Exception failure = new IllegalStateException("connection closed");
+        handler.onDataFailure(failure);
+        // the batch in flight completes first
+        assertFalse(future.isDone());
+        assertThat(released.get(), equalTo(0));
+        pendingListeners.get(0).onResponse(null);
+        final IncrementalBulkHandler.PartialExecutionException e =
+            expectThrows(IncrementalBulkHandler.PartialExecutionException.class, future::actionGet);
+        assertThat(e.getCause(), sameInstance(failure));
+        assertThat(e.getExecutedItems().getItems().length, greaterThan(0));
+        assertThat(pendingListeners.size(), equalTo(1));
+        assertThat(released.get(), equalTo(1));
+    }
+
+    private static IncrementalBulkHandler newHandler(BiConsumer<BulkRequest, ActionListener<BulkResponse>> executor,
+                                                     int batchSizeInBytes, ActionListener<BulkResponse> listener) {
+        final BulkRequestParser parser = new BulkRequestParser(false);
+        return new IncrementalBulkHandler(
+            (data, startLine, lastData, batch) -> parser.parseIncrementally(data, startLine, lastData, "index", "_doc", null, null,
+                null, null, true, XContentType.JSON, batch::add, batch::add, batch::add),
+            BulkRequest::new, executor, batchSizeInBytes, XContentType.JSON.xContent().streamSeparator(), listener);
+    }
+
+    /**
+     * Adds the given body in chunks of random sizes, the same way a transport that streams the body would.
+     */
+    private static void addInChunks(IncrementalBulkHandler handler, BytesReference body) {
+        int from = 0;
+        while (true) {
+            final int length = randomIntBetween(0, body.length() - from);
+            final boolean lastData = from + length == body.length();
+            final AtomicInteger ready = new AtomicInteger();
+            handler.addData(ReleasableBytesReference.wrap(body.slice(from, length)), lastData, ready::incrementAndGet);
+            if (lastData) {
+                return;
+            }
+            // batches are executed synchronously, so more data is requested before the data is added
+            assertThat(ready.get(), equalTo(1));
+            from += length;
+        }
+    }
+
+    private static BytesReference body(int numDocs) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numDocs; i++) {
+            body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n");
+            body.append("{\"field\":\"").append(randomAlphaOfLengthBetween(0, 50)).append("\"}\n");
+        }
+        return new BytesArray(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BulkResponse respond(BulkRequest batch) {
+        final BulkItemResponse[] items = new BulkItemResponse[batch.numberOfActions()];
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> request = batch.requests().get(i);
+            items[i] = new BulkItemResponse(i, request.opType(),
+                new IndexResponse(new ShardId(request.index(), "_na_", 0), request.type(), request.id(), 1, 1, 1, true));
+        }
+        return new BulkResponse(items, 1);
+    }
+}
@@ -54,16 +54,21 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.MetadataFieldMapper;
 import org.opensearch.index.mapper.RootObjectMapper;
+import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.shard.PreParsedDocument;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.rest.RestStatus;
@@ -84,11 +89,14 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.notNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -938,6 +946,104 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         }
     }
 
+    public void testPreParseDocuments() throws Exception {
+        TestThreadPool writeThreadPool = new TestThreadPool(
+            "TransportShardBulkActionTests#testPreParseDocuments",
+            Settings.builder().put("thread_pool." + ThreadPool.Names.WRITE + ".size", 4).build());
+        try {
+            IndexShard shard = spy(newStartedShard(true));
+
+            int numItems = randomIntBetween(4, 10) * TransportShardBulkAction.MIN_DOCUMENTS_PER_PARSING_TASK;
+            BulkItemRequest[] items = new BulkItemRequest[numItems];
+            boolean[] malformed = new boolean[items.length];
+            int numMalformed = 0;
+            for (int i = 0; i < items.length; i++) {
+                IndexRequest writeRequest = new IndexRequest("index", "_doc", "id_" + i);
+                malformed[i] = rarely();
+                if (malformed[i]) {
+                    writeRequest.source("{\"foo\"", XContentType.JSON);
+                    numMalformed++;
+                } else {
+                    writeRequest.source(Requests.INDEX_CONTENT_TYPE);
+                }
+                items[i] = new BulkItemRequest(i, writeRequest);
+            }
+            BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            TransportShardBulkAction.performOnPrimary(
+                bulkShardRequest, shard, null, writeThreadPool::absoluteTimeInMillis, new NoopMappingUpdatePerformer(),
+                listener -> {}, new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {}), latch),
+                writeThreadPool, Names.WRITE);
+            latch.await();
+
+            for (int i = 0; i < items.length; i++) {
+                BulkItemResponse response = bulkShardRequest.items()[i].getPrimaryResponse();
+                assertThat(response.getId(), equalTo("id_" + i));
+                if (malformed[i]) {
+                    assertTrue(response.isFailed());
+                    assertThat(response.getFailure().getCause(), instanceOf(MapperParsingException.class));
+                } else {
+                    assertFalse(response.isFailed());
+                    // documents are indexed in order
+                    assertThat(response.getResponse().getSeqNo(), equalTo((long) i - countMalformed(malformed, i)));
+                }
+            }
+            verify(shard, times(items.length)).preParseDocument(any());
+            // parsing failures are reported from the pre-parsed documents without parsing again
+            verify(shard, times(items.length)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(),
+                anyLong(), anyBoolean(), (PreParsedDocument) notNull());
+            assertDocCount(shard, items.length - numMalformed);
+            closeShards(shard);
+        } finally {
+            writeThreadPool.shutdownNow();
+        }
+    }
+
+    public void testPreParseDocumentsInWindows() throws Exception {
+        TestThreadPool writeThreadPool = new TestThreadPool(
+            "TransportShardBulkActionTests#testPreParseDocumentsInWindows",
+            Settings.builder().put("thread_pool." + ThreadPool.Names.WRITE + ".size", 4).build());
+        try {
+            IndexShard shard = spy(newStartedShard(true));
+            ThreadContext threadContext = writeThreadPool.getThreadContext();
+            doAnswer(invocation -> {
+                threadContext.addResponseHeader("parsed", ((SourceToParse) invocation.getArguments()[0]).id());
+                return invocation.callRealMethod();
+            }).when(shard).preParseDocument(any());
+
+            int windowSize = TransportShardBulkAction.MAX_DOCUMENTS_PER_PARSING_WINDOW;
+            BulkItemRequest[] items = new BulkItemRequest[windowSize + randomIntBetween(1, windowSize)];
+            for (int i = 0; i < items.length; i++) {
+                IndexRequest writeRequest = new IndexRequest("index", "_doc", "id_" + i).source(Requests.INDEX_CONTENT_TYPE);
+                items[i] = new BulkItemRequest(i, writeRequest);
+            }
+            BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+            BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                // only the first window is parsed
+                assertThat(TransportShardBulkAction.preParseDocuments(context, writeThreadPool, Names.WRITE), equalTo(windowSize));
+                verify(shard, times(windowSize)).preParseDocument(any());
+                // the response headers added while parsing on other threads are carried back to the current thread
+                assertThat(threadContext.getResponseHeaders().get("parsed"), hasSize(windowSize));
+            }
+            closeShards(shard);
+        } finally {
+            writeThreadPool.shutdownNow();
+        }
+    }
+
+    private static int countMalformed(boolean[] malformed, int upTo) {
+        int count = 0;
+        for (int i = 0; i < upTo; i++) {
+            if (malformed[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     private void randomlySetIgnoredPrimaryResponse(BulkItemRequest primaryRequest) {
         if (randomBoolean()) {
             // add a response to the request and thereby check that it is ignored for the primary.
@@ -37,17 +37,29 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.InternalMin;
+import org.opensearch.search.aggregations.metrics.InternalSum;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -56,12 +68,21 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
 
@@ -69,6 +90,11 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
     private ThreadPool threadPool;
     private OpenSearchThreadPoolExecutor executor;
 
+    @Override
+    protected NamedWriteableRegistry writableRegistry() {
+        return new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, false, emptyList()).getNamedWriteables());
+    }
+
     @Before
     public void setup() {
         searchPhaseController = new SearchPhaseController(writableRegistry(),
@@ -137,6 +163,179 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertEquals(1, searchProgressListener.onFinalReduce.get());
     }
 
+    public void testStreamingReduceMatchesBatchedReduce() throws Exception {
+        final int numShards = randomIntBetween(2, 50);
+        final int batchedReduceSize = randomIntBetween(2, numShards + 1);
+        final long[][] shardTerms = randomShardTerms(numShards);
+        final long[] shardValues = randomShardValues(numShards);
+        final QueryPhaseResultConsumer batchedConsumer = newConsumer(false, new RecordingCircuitBreaker(), batchedReduceSize, numShards);
+        final QueryPhaseResultConsumer streamingConsumer = newConsumer(true, new RecordingCircuitBreaker(), batchedReduceSize, numShards);
+        consumeShardResults(batchedConsumer, shardTerms, shardValues);
+        consumeShardResults(streamingConsumer, shardTerms, shardValues);
+        final SearchPhaseController.ReducedQueryPhase batched = batchedConsumer.reduce();
+        final SearchPhaseController.ReducedQueryPhase streaming = streamingConsumer.reduce();
+
+        assertThat(streaming.numReducePhases, equalTo(batched.numReducePhases));
+        assertEquals(((InternalMax) batched.aggregations.get("max")).getValue(),
+            ((InternalMax) streaming.aggregations.get("max")).getValue(), 0d);
+        assertEquals(((InternalMin) batched.aggregations.get("min")).getValue(),
+            ((InternalMin) streaming.aggregations.get("min")).getValue(), 0d);
+        assertEquals(((InternalSum) batched.aggregations.get("sum")).getValue(),
+            ((InternalSum) streaming.aggregations.get("sum")).getValue(), 0d);
+        final List<LongTerms.Bucket> batchedBuckets = ((LongTerms) batched.aggregations.get("terms")).getBuckets();
+        final List<LongTerms.Bucket> streamingBuckets = ((LongTerms) streaming.aggregations.get("terms")).getBuckets();
+        assertThat(streamingBuckets.size(), equalTo(batchedBuckets.size()));
+        for (int i = 0; i < batchedBuckets.size(); i++) {
+            assertThat(streamingBuckets.get(i).getKey(), equalTo(batchedBuckets.get(i).getKey()));
+            assertThat(streamingBuckets.get(i).getDocCount(), equalTo(batchedBuckets.get(i).getDocCount()));
+        }
+        batchedConsumer.close();
+        streamingConsumer.close();
+    }
+
+    public void testStreamingReduceAccountsForTheBreaker() throws Exception {
+        final int numShards = randomIntBetween(3, 50);
+        // at least one partial reduce of two shard results or more
+        final int batchedReduceSize = randomIntBetween(2, numShards - 1);
+        final long[][] shardTerms = randomShardTerms(numShards);
+        final long[] shardValues = randomShardValues(numShards);
+        final RecordingCircuitBreaker batchedBreaker = new RecordingCircuitBreaker();
+        final RecordingCircuitBreaker streamingBreaker = new RecordingCircuitBreaker();
+        final QueryPhaseResultConsumer batchedConsumer = newConsumer(false, batchedBreaker, batchedReduceSize, numShards);
+        final QueryPhaseResultConsumer streamingConsumer = newConsumer(true, streamingBreaker, batchedReduceSize, numShards);
+        consumeShardResults(batchedConsumer, shardTerms, shardValues);
+        consumeShardResults(streamingConsumer, shardTerms, shardValues);
+        final SearchPhaseController.ReducedQueryPhase batched = batchedConsumer.reduce();
+        final SearchPhaseController.ReducedQueryPhase streaming = streamingConsumer.reduce();
+
+        // both reduce the same batches but a streaming reduce only expands one shard result of a batch at a time
+        assertThat(streamingBreaker.estimates.size(), equalTo(batchedBreaker.estimates.size()));
+        for (int i = 0; i < batchedBreaker.estimates.size(); i++) {
+            assertThat(streamingBreaker.estimates.get(i), lessThanOrEqualTo(batchedBreaker.estimates.get(i)));
+        }
+        assertThat(streamingBreaker.estimates.get(0), lessThan(batchedBreaker.estimates.get(0)));
+
+        // once reduced, only the reduced aggregations are accounted and they are released when the consumer is closed
+        assertThat(streamingBreaker.used.get(), equalTo(streaming.aggregations.getSerializedSize()));
+        assertThat(batchedBreaker.used.get(), equalTo(batched.aggregations.getSerializedSize()));
+        streamingConsumer.close();
+        batchedConsumer.close();
+        assertThat(streamingBreaker.used.get(), equalTo(0L));
+        assertThat(batchedBreaker.used.get(), equalTo(0L));
+    }
+
+    public void testStreamingReduceReleasesTheBreakerOnFailure() throws Exception {
+        final int numShards = randomIntBetween(3, 50);
+        final int batchedReduceSize = randomIntBetween(2, numShards - 1);
+        final RecordingCircuitBreaker breaker = new RecordingCircuitBreaker();
+        final boolean failPartialReduce = randomBoolean();
+        breaker.shouldBreak = failPartialReduce;
+        final AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        final QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(newRequest(batchedReduceSize),
+            OpenSearchExecutors.newDirectExecutorService(), breaker, searchPhaseController, SearchProgressListener.NOOP,
+            writableRegistry(), numShards, true, onPartialMergeFailure::set);
+        consumeShardResults(consumer, randomShardTerms(numShards), randomShardValues(numShards));
+        breaker.shouldBreak = true;
+
+        final CircuitBreakingException e = expectThrows(CircuitBreakingException.class, consumer::reduce);
+        assertThat(e.getMessage(), equalTo("<reduce_aggs>"));
+        assertEquals(failPartialReduce, onPartialMergeFailure.get() != null);
+        consumer.close();
+        assertThat(breaker.used.get(), equalTo(0L));
+    }
+
+    private static long[][] randomShardTerms(int numShards) {
+        final long[][] shardTerms = new long[numShards][];
+        for (int i = 0; i < numShards; i++) {
+            shardTerms[i] = LongStream.range(0, 20).filter(term -> randomBoolean()).toArray();
+        }
+        return shardTerms;
+    }
+
+    private static long[] randomShardValues(int numShards) {
+        final long[] shardValues = new long[numShards];
+        for (int i = 0; i < numShards; i++) {
+            shardValues[i] = randomIntBetween(-1000, 1000);
+        }
+        return shardValues;
+    }
+
+    private static SearchRequest newRequest(int batchedReduceSize) {
+        final SearchRequest request = new SearchRequest("index");
+        request.source(new SearchSourceBuilder().size(0)
+            .aggregation(AggregationBuilders.terms("terms"))
+            .aggregation(AggregationBuilders.max("max"))
+            .aggregation(AggregationBuilders.min("min"))
+            .aggregation(AggregationBuilders.sum("sum")));
+        request.setBatchedReduceSize(batchedReduceSize);
+        return request;
+    }
+
+    /**
+     * Creates a consumer that reduces on the calling thread so that the partial reduces of two consumers
+     * that consume the same shard results are the same.
+     */
+    private QueryPhaseResultConsumer newConsumer(boolean streamingReduce, CircuitBreaker breaker, int batchedReduceSize, int numShards) {
+        return new QueryPhaseResultConsumer(newRequest(batchedReduceSize), OpenSearchExecutors.newDirectExecutorService(), breaker,
+            searchPhaseController, SearchProgressListener.NOOP, writableRegistry(), numShards, streamingReduce,
+            e -> { throw new AssertionError(e); });
+    }
+
+    private static void consumeShardResults(QueryPhaseResultConsumer consumer, long[][] shardTerms, long[] shardValues) {
+        for (int i = 0; i < shardValues.length; i++) {
+            final QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", i),
+                new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE), null);
+            result.topDocs(new TopDocsAndMaxScore(new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), Float.NaN),
+                new DocValueFormat[0]);
+            final List<LongTerms.Bucket> buckets = new ArrayList<>();
+            for (long term : shardTerms[i]) {
+                buckets.add(new LongTerms.Bucket(term, 1 + term % 3, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            }
+            // terms are ordered by key so that the reduced buckets don't depend on how the shard results are batched
+            result.aggregations(InternalAggregations.from(Arrays.asList(
+                new LongTerms("terms", BucketOrder.key(true), BucketOrder.key(true), 100, 1, null, DocValueFormat.RAW, 100, false, 0,
+                    buckets, 0),
+                new InternalMax("max", shardValues[i], DocValueFormat.RAW, null),
+                new InternalMin("min", shardValues[i], DocValueFormat.RAW, null),
+                new InternalSum("sum", shardValues[i], DocValueFormat.RAW, null))));
+            result.setShardIndex(i);
+            result.size(0);
+            consumer.consumeResult(result, () -> {});
+        }
+    }
+
+    /**
+     * Records the estimates that are checked against the breaker and the bytes that are currently accounted in it.
+     */
+    private static class RecordingCircuitBreaker extends NoopCircuitBreaker {
+        private final List<Long> estimates = new CopyOnWriteArrayList<>();
+        private final AtomicLong used = new AtomicLong();
+        private volatile boolean shouldBreak;
+
+        RecordingCircuitBreaker() {
+            super(CircuitBreaker.REQUEST);
+        }
+
+        @Override
+        public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+            if (shouldBreak) {
+                throw new CircuitBreakingException(label, getDurability());
+            }
+            estimates.add(bytes);
+            return used.addAndGet(bytes);
+        }
+
+        @Override
+        public long addWithoutBreaking(long bytes) {
+            return used.addAndGet(bytes);
+        }
+
+        @Override
+        public long getUsed() {
+            return used.get();
+        }
+    }
+
     private static class ThrowingSearchProgressListener extends SearchProgressListener {
         private final AtomicInteger onQueryResult = new AtomicInteger(0);
         private final AtomicInteger onPartialReduce = new AtomicInteger(0);
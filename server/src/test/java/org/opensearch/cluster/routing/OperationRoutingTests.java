@@ -69,6 +69,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.object.HasToString.hasToString;
 
 public class OperationRoutingTests extends OpenSearchTestCase {
@@ -626,6 +627,42 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         terminate(threadPool);
     }
 
+    public void testAdaptiveReplicaSelectionForGets() throws Exception {
+        final int numReplicas = 2;
+        ClusterState state = ClusterStateCreationUtils.stateWithAssignedPrimariesAndReplicas(new String[] {"test"}, 1, numReplicas);
+        OperationRouting opRouting = new OperationRouting(Settings.EMPTY,
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        opRouting.setUseAdaptiveReplicaSelection(true);
+        TestThreadPool threadPool = new TestThreadPool("testAdaptiveReplicaSelectionForGets");
+        ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+
+        collector.addResponseTime("node_0", TimeValue.timeValueMillis(200).nanos());
+        collector.addResponseTime("node_1", TimeValue.timeValueMillis(10).nanos());
+        collector.addResponseTime("node_2", TimeValue.timeValueMillis(200).nanos());
+
+        ShardIterator byId = opRouting.getShards(state, "test", randomAlphaOfLength(5), null, null, collector, new HashMap<>());
+        assertThat(byId.size(), equalTo(numReplicas + 1));
+        assertThat(byId.nextOrNull().currentNodeId(), equalTo("node_1"));
+
+        ShardIterator byShardId = opRouting.getShards(state, "test", 0, null, collector, new HashMap<>());
+        assertThat(byShardId.nextOrNull().currentNodeId(), equalTo("node_1"));
+
+        // node 1 slows down
+        for (int i = 0; i < 10; i++) {
+            collector.addResponseTime("node_1", TimeValue.timeValueSeconds(1).nanos());
+        }
+        byShardId = opRouting.getShards(state, "test", 0, null, collector, new HashMap<>());
+        assertThat(byShardId.nextOrNull().currentNodeId(), not(equalTo("node_1")));
+
+        // a preference disables the ranking
+        ShardIterator withPreference = opRouting.getShards(state, "test", 0, "_only_nodes:node_1", collector, new HashMap<>());
+        assertThat(withPreference.nextOrNull().currentNodeId(), equalTo("node_1"));
+
+        IOUtils.close(clusterService);
+        terminate(threadPool);
+    }
+
     public void testAllocationAwarenessDeprecation() {
         OperationRouting routing = new OperationRouting(
             Settings.builder()
@@ -60,4 +60,10 @@ public class CacheBuilderTests extends OpenSearchTestCase {
         Cache<Object, Object> cache = CacheBuilder.builder().setExpireAfterWrite(timeValue).build();
         assertEquals(timeValue.getNanos(), cache.getExpireAfterWriteNanos());
     }
+
+    public void testSettingBufferedPromotions() {
+        assertFalse(CacheBuilder.builder().build().hasBufferedPromotions());
+        assertFalse(CacheBuilder.builder().setBufferedPromotions(false).build().hasBufferedPromotions());
+        assertTrue(CacheBuilder.builder().setBufferedPromotions(true).build().hasBufferedPromotions());
+    }
 }
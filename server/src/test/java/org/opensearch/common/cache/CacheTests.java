@@ -423,6 +423,112 @@ public class CacheTests extends OpenSearchTestCase {
         }
     }
 
+    // without concurrent access, buffered promotions are never dropped and are applied before evicting so that the LRU order is exact
+    public void testBufferedPromotion() {
+        AtomicLong now = new AtomicLong();
+        Cache<Integer, String> cache = new Cache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setExpireAfterAccessNanos(1);
+        cache.setBufferedPromotions(true);
+        now.set(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(1);
+        Set<Integer> promotedKeys = new HashSet<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (rarely()) {
+                cache.get(i);
+                promotedKeys.add(i);
+            }
+        }
+        now.set(2);
+        cache.refresh();
+        assertEquals(promotedKeys.size(), cache.count());
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (promotedKeys.contains(i)) {
+                assertNotNull(cache.get(i));
+            } else {
+                assertNull(cache.get(i));
+            }
+        }
+        Cache.CacheStats stats = cache.stats();
+        assertEquals(0, stats.getLruLockContention());
+        assertEquals(0, stats.getDroppedPromotions());
+        assertEquals((double) stats.getHits() / (stats.getHits() + stats.getMisses()), stats.getHitRatio(), 0.0d);
+    }
+
+    // a few buffered promotions are left in the buffers until the next write, which applies them before evicting
+    public void testBufferedPromotionsAreAppliedBeforeEvicting() {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(3)
+            .setBufferedPromotions(true)
+            .build();
+        cache.put(0, "0");
+        cache.put(1, "1");
+        cache.put(2, "2");
+        // promotes the least recently used entry
+        assertEquals("0", cache.get(0));
+        cache.put(3, "3");
+        assertEquals("0", cache.get(0));
+        assertNull(cache.get(1));
+        assertEquals(0, cache.stats().getDroppedPromotions());
+    }
+
+    // concurrently read and write a cache with buffered promotions, then check that the count and the weight are consistent
+    public void testBufferedPromotionTorture() throws BrokenBarrierException, InterruptedException {
+        int numberOfThreads = randomIntBetween(2, 32);
+        AtomicLong removals = new AtomicLong();
+        final Cache<Integer, String> cache =
+                CacheBuilder.<Integer, String>builder()
+                        .setMaximumWeight(1000)
+                        .weigher((k, v) -> 2)
+                        .removalListener(notification -> removals.incrementAndGet())
+                        .setBufferedPromotions(true)
+                        .build();
+
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        AtomicLong puts = new AtomicLong();
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < numberOfEntries; j++) {
+                        Integer key = random.nextInt(1000);
+                        if (cache.get(key) == null) {
+                            cache.put(key, Integer.toString(j));
+                            puts.incrementAndGet();
+                        }
+                    }
+                    barrier.await();
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+        }
+
+        // wait for all threads to be ready
+        barrier.await();
+        // wait for all threads to finish
+        barrier.await();
+
+        cache.refresh();
+        assertEquals(500, cache.count());
+        assertEquals(1000, cache.weight());
+        assertEquals(puts.get() - removals.get(), cache.count());
+    }
+
+    public void testCacheStatsHitRatio() {
+        assertEquals(0.0d, new Cache.CacheStats(0, 0, 0).getHitRatio(), 0.0d);
+        assertEquals(0.75d, new Cache.CacheStats(3, 1, 0).getHitRatio(), 0.0d);
+        assertEquals(1.0d, new Cache.CacheStats(5, 0, 0, 2, 1).getHitRatio(), 0.0d);
+    }
 
     // randomly invalidate some cached entries, then check that a lookup for each of those and only those keys is null
     public void testInvalidate() {
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.util.LineFileDocs;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test streaming compression with {@link Lz4Compressor}, which is used for transport messages
+ */
+public class Lz4CompressTests extends OpenSearchTestCase {
+
+    private final Compressor compressor = new Lz4Compressor();
+
+    public void testRandom() throws IOException {
+        Random r = random();
+        for (int i = 0; i < 10; i++) {
+            byte[] bytes = new byte[TestUtil.nextInt(r, 1, 3 * Lz4Compressor.BLOCK_SIZE)];
+            r.nextBytes(bytes);
+            doTest(bytes);
+        }
+    }
+
+    public void testLineDocs() throws IOException {
+        Random r = random();
+        LineFileDocs lineFileDocs = new LineFileDocs(r);
+        for (int i = 0; i < 10; i++) {
+            int numDocs = TestUtil.nextInt(r, 1, 200);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            for (int j = 0; j < numDocs; j++) {
+                String s = lineFileDocs.nextDoc().get("body");
+                bos.write(s.getBytes(StandardCharsets.UTF_8));
+            }
+            doTest(bos.toByteArray());
+        }
+        lineFileDocs.close();
+    }
+
+    public void testRepetitions() throws IOException {
+        byte[] bytes = new byte[TestUtil.nextInt(random(), 1, 2 * Lz4Compressor.BLOCK_SIZE)];
+        Arrays.fill(bytes, randomByte());
+        BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        assertTrue(compressed.length() < bytes.length || bytes.length < 64);
+        assertArrayEquals(bytes, BytesReference.toBytes(compressor.uncompress(compressed)));
+    }
+
+    public void testIsCompressed() throws IOException {
+        BytesReference compressed = compressor.compress(new BytesArray(randomByteArrayOfLength(between(0, 100))));
+        assertTrue(compressor.isCompressed(compressed));
+        assertFalse(CompressorFactory.COMPRESSOR.isCompressed(compressed));
+        assertFalse(compressor.isCompressed(CompressorFactory.COMPRESSOR.compress(new BytesArray(randomByteArrayOfLength(10)))));
+    }
+
+    public void testTruncated() throws IOException {
+        byte[] bytes = randomByteArrayOfLength(between(1, 1000));
+        BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        BytesReference truncated = compressed.slice(0, between(compressor.headerLength(), compressed.length() - 1));
+        expectThrows(IOException.class, () -> compressor.uncompress(truncated));
+    }
+
+    private void doTest(byte[] bytes) throws IOException {
+        InputStream rawIn = new ByteArrayInputStream(bytes);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Random r = random();
+        int bufferSize = r.nextBoolean() ? 65535 : TestUtil.nextInt(random(), 1, 70000);
+        int prepadding = r.nextInt(70000);
+        int postpadding = r.nextInt(70000);
+        byte[] buffer = new byte[prepadding + bufferSize + postpadding];
+        try (OutputStream os = compressor.threadLocalOutputStream(bos)) {
+            int len;
+            while ((len = rawIn.read(buffer, prepadding, bufferSize)) != -1) {
+                os.write(buffer, prepadding, len);
+            }
+        }
+        rawIn.close();
+
+        // now we have compressed byte array
+        InputStream in = compressor.threadLocalInputStream(new ByteArrayInputStream(bos.toByteArray()));
+
+        ByteArrayOutputStream uncompressedOut = new ByteArrayOutputStream();
+        int len;
+        while ((len = in.read(buffer, prepadding, bufferSize)) != -1) {
+            uncompressedOut.write(buffer, prepadding, len);
+        }
+        uncompressedOut.close();
+        in.close();
+
+        assertArrayEquals(bytes, uncompressedOut.toByteArray());
+    }
+}
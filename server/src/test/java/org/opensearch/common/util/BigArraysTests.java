@@ -55,12 +55,18 @@ import java.util.function.Function;
 import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
 
 public class BigArraysTests extends OpenSearchTestCase {
 
     private BigArrays randombigArrays() {
-        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        final BigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(randomRecyclerSettings()), new NoneCircuitBreakerService());
+        return randomBoolean() ? bigArrays : bigArrays.withDirectPages();
+    }
+
+    private static Settings randomRecyclerSettings() {
+        return Settings.builder().put(PageCacheRecycler.DIRECT_SETTING.getKey(), randomBoolean()).build();
     }
 
     private BigArrays bigArrays;
@@ -406,6 +412,83 @@ public class BigArraysTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDirectPages() {
+        final PageCacheRecycler recycler = new MockPageCacheRecycler(
+            Settings.builder().put(PageCacheRecycler.DIRECT_SETTING.getKey(), true).build());
+        final BigArrays heapBigArrays = new BigArrays(recycler, null, CircuitBreaker.REQUEST);
+        final BigArrays directBigArrays = heapBigArrays.withDirectPages();
+        assertSame(directBigArrays, directBigArrays.withDirectPages());
+        assertSame(directBigArrays.withCircuitBreaking(), directBigArrays.withCircuitBreaking().withDirectPages());
+
+        final long size = PageCacheRecycler.LONG_PAGE_SIZE + randomIntBetween(1, PageCacheRecycler.LONG_PAGE_SIZE * 3);
+        try (LongArray heapArray = heapBigArrays.newLongArray(size)) {
+            assertThat(heapArray, instanceOf(BigLongArray.class));
+        }
+        LongArray array = directBigArrays.newLongArray(size, randomBoolean());
+        assertThat(array, instanceOf(BigDirectLongArray.class));
+        final long[] ref = new long[(int) size * 2];
+        for (int i = 0; i < size; ++i) {
+            ref[i] = randomLong();
+            array.set(i, ref[i]);
+        }
+        array = directBigArrays.resize(array, ref.length);
+        assertThat(array, instanceOf(BigDirectLongArray.class));
+        for (int i = (int) size; i < ref.length; ++i) {
+            ref[i] = randomLong();
+            array.set(i, ref[i]);
+        }
+        for (int i = 0; i < ref.length; ++i) {
+            assertEquals(ref[i], array.get(i));
+        }
+        assertEquals(BigLongArray.estimateRamBytes(ref.length), array.ramBytesUsed());
+        array.close();
+
+        // pages that are released to the recycler are cleared when they are obtained again
+        try (IntArray ints = directBigArrays.newIntArray(PageCacheRecycler.INT_PAGE_SIZE * 2, true)) {
+            assertThat(ints, instanceOf(BigDirectIntArray.class));
+            for (long i = 0; i < ints.size(); ++i) {
+                assertEquals(0, ints.get(i));
+            }
+        }
+    }
+
+    public void testDirectByteArraySlices() {
+        // pages that don't fit in the recycler are left to the garbage collector when they are released
+        final Settings settings = Settings.builder()
+            .put(PageCacheRecycler.DIRECT_SETTING.getKey(), true)
+            .put(PageCacheRecycler.LIMIT_DIRECT_SETTING.getKey(), randomFrom("0b", "32kb", "1mb"))
+            .build();
+        final BigArrays bigArrays = new BigArrays(new MockPageCacheRecycler(settings), null, CircuitBreaker.REQUEST).withDirectPages();
+        final byte[] bytes = randomByteArrayOfLength(PageCacheRecycler.BYTE_PAGE_SIZE * randomIntBetween(2, 4));
+        try (ByteArray array = bigArrays.newByteArray(bytes.length, randomBoolean())) {
+            assertThat(array, instanceOf(BigDirectByteArray.class));
+            array.set(0, bytes, 0, bytes.length);
+            final BytesRef ref = new BytesRef();
+            for (int i = 0; i < 100; ++i) {
+                final int offset = randomIntBetween(0, bytes.length - 1);
+                final int len = randomIntBetween(0, Math.min(bytes.length - offset, PageCacheRecycler.BYTE_PAGE_SIZE * 2));
+                final byte[] previousBytes = ref.bytes;
+                final byte[] previousCopy = previousBytes.clone();
+                assertTrue(array.get(offset, len, ref));
+                // the slice is always copied to a new array, the array of the ref is left untouched
+                assertNotSame(previousBytes, ref.bytes);
+                assertArrayEquals(previousCopy, previousBytes);
+                assertEquals(new BytesRef(bytes, offset, len), ref);
+            }
+            final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> array.fill(2, 1, (byte) 0));
+            assertEquals("fromIndex [2] must be less than or equal to toIndex [1]", e.getMessage());
+        }
+    }
+
+    public void testDirectPagesDisabled() {
+        final BigArrays bigArrays = new BigArrays(new MockPageCacheRecycler(Settings.EMPTY), null, CircuitBreaker.REQUEST);
+        assertSame(bigArrays, bigArrays.withDirectPages());
+        try (ByteArray array = bigArrays.withDirectPages().newByteArray(PageCacheRecycler.BYTE_PAGE_SIZE * 2)) {
+            assertThat(array, instanceOf(BigByteArray.class));
+        }
+        expectThrows(IllegalStateException.class, () -> new PageCacheRecycler(Settings.EMPTY).directPage(true));
+    }
+
     public void testOverSizeUsesMinPageCount() {
         final int pageSize = 1 << (randomIntBetween(2, 16));
         final int minSize = randomIntBetween(1, pageSize) * randomIntBetween(1, 100);
@@ -453,7 +536,11 @@ public class BigArraysTests extends OpenSearchTestCase {
                 .build(),
             Collections.emptyList(),
             new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
-        BigArrays bigArrays = new BigArrays(null, hcbs, CircuitBreaker.REQUEST);
+        BigArrays bigArrays = new BigArrays(randomBoolean() ? null : new PageCacheRecycler(randomRecyclerSettings()),
+            hcbs, CircuitBreaker.REQUEST);
+        if (randomBoolean()) {
+            bigArrays = bigArrays.withDirectPages();
+        }
         return (withBreaking ? bigArrays.withCircuitBreaking() : bigArrays);
     }
 
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.skipindex;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class SkipIndexRangeQueryTests extends OpenSearchTestCase {
+
+    public void testRangeQuery() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec()))) {
+                final int numSegments = randomIntBetween(1, 3);
+                for (int segment = 0; segment < numSegments; segment++) {
+                    final int numDocs = randomIntBetween(1, 3 << DocValuesSkipIndex.BLOCK_SHIFT);
+                    // values mostly increase with the doc ids, like timestamps, so that some blocks match entirely
+                    long base = randomLongBetween(-1000, 1000);
+                    for (int i = 0; i < numDocs; i++) {
+                        final Document document = new Document();
+                        if (rarely() == false) {
+                            final int numValues = randomBoolean() ? 1 : randomIntBetween(1, 3);
+                            for (int v = 0; v < numValues; v++) {
+                                document.add(new SortedNumericDocValuesField("field", base + randomIntBetween(-10, 10)));
+                            }
+                        }
+                        writer.addDocument(document);
+                        base += randomIntBetween(0, 2);
+                    }
+                    writer.commit();
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                for (LeafReaderContext context : reader.leaves()) {
+                    final DocValuesSkipIndex skipIndex = DocValuesSkipIndex.get(context.reader(), "field");
+                    assertNotNull(skipIndex);
+                    assertEquals(DocValuesSkipIndex.BLOCK_SHIFT, skipIndex.blockShift());
+                }
+                final IndexSearcher searcher = newSearcher(reader);
+                for (int i = 0; i < 20; i++) {
+                    final long lower = randomLongBetween(-2000, 20000);
+                    final long upper = lower + randomLongBetween(0, 10000);
+                    assertEquals(
+                        searcher.count(SortedNumericDocValuesField.newSlowRangeQuery("field", lower, upper)),
+                        searcher.count(new SkipIndexRangeQuery("field", lower, upper))
+                    );
+                }
+            }
+        }
+    }
+
+    public void testRewrite() throws IOException {
+        assertEquals(
+            new DocValuesFieldExistsQuery("field"),
+            new SkipIndexRangeQuery("field", Long.MIN_VALUE, Long.MAX_VALUE).rewrite(null)
+        );
+        assertEquals(new MatchNoDocsQuery(), new SkipIndexRangeQuery("field", 2, 1).rewrite(null));
+        final SkipIndexRangeQuery query = new SkipIndexRangeQuery("field", 1, 2);
+        assertSame(query, query.rewrite(null));
+    }
+
+    private static Codec codec() {
+        final DocValuesFormat format = new SkipIndexDocValuesFormat();
+        return new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return format;
+            }
+        };
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.FilterNumericDocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+public class StarTreeDocValuesFormatTests extends OpenSearchTestCase {
+
+    private static final long INTERVAL = 60_000;
+    private static final StarTreeConfig CONFIG = new StarTreeConfig(
+        "@timestamp",
+        INTERVAL,
+        new String[] { "host" },
+        new String[] { "bytes", "load" },
+        new IndexNumericFieldData.NumericType[] { IndexNumericFieldData.NumericType.LONG, IndexNumericFieldData.NumericType.DOUBLE }
+    );
+
+    public void testBuildStarTree() throws IOException {
+        final Map<List<Object>, double[]> expected = new HashMap<>();
+        final List<Long> dates = new ArrayList<>();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec()))) {
+                final int numSegments = randomIntBetween(1, 3);
+                for (int segment = 0; segment < numSegments; segment++) {
+                    final int numDocs = randomIntBetween(500, 1000);
+                    for (int i = 0; i < numDocs; i++) {
+                        final long date = randomLongBetween(0, 60 * INTERVAL);
+                        final String host = randomBoolean() ? null : randomFrom("a", "b", "c");
+                        final long bytes = randomLongBetween(0, 1000);
+                        final double load = randomIntBetween(0, 100);
+                        final Document document = new Document();
+                        document.add(new SortedNumericDocValuesField("@timestamp", date));
+                        if (host != null) {
+                            document.add(new SortedSetDocValuesField("host", new BytesRef(host)));
+                        }
+                        document.add(new SortedNumericDocValuesField("bytes", bytes));
+                        document.add(new SortedNumericDocValuesField("load", NumericUtils.doubleToSortableLong(load)));
+                        writer.addDocument(document);
+                        dates.add(date);
+                        final double[] row = expected.computeIfAbsent(Arrays.asList(date - date % INTERVAL, host), k -> new double[3]);
+                        row[0]++;
+                        row[1] += bytes;
+                        row[2] += load;
+                    }
+                    writer.commit();
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final Map<List<Object>, double[]> actual = new HashMap<>();
+                final List<Long> actualDates = new ArrayList<>();
+                for (int leaf = 0; leaf < reader.leaves().size(); leaf++) {
+                    final LeafReader leafReader = reader.leaves().get(leaf).reader();
+                    final StarTreeValues starTree = StarTreeValues.get(leafReader, "@timestamp");
+                    assertNotNull(starTree);
+                    assertEquals(INTERVAL, starTree.dateInterval());
+                    assertEquals(-1, starTree.dimensionIndex("bytes"));
+                    assertEquals(-1, starTree.metricIndex("host"));
+                    final int host = starTree.dimensionIndex("host");
+                    final SortedSetDocValues hosts = leafReader.getSortedSetDocValues("host");
+                    for (int row = 0; row < starTree.rowCount(); row++) {
+                        assertTrue(starTree.date(row) >= starTree.minDate() - INTERVAL && starTree.date(row) <= starTree.maxDate());
+                        final int ord = starTree.ord(host, row);
+                        final String key = ord < 0 ? null : hosts.lookupOrd(ord).utf8ToString();
+                        final double[] values = actual.computeIfAbsent(Arrays.asList(starTree.date(row), key), k -> new double[3]);
+                        values[0] += starTree.docCount(row);
+                        values[1] += starTree.metricSum(starTree.metricIndex("bytes"), row);
+                        values[2] += starTree.metricSum(starTree.metricIndex("load"), row);
+                    }
+                    // the doc values of the date field are still readable
+                    final SortedNumericDocValues values = leafReader.getSortedNumericDocValues("@timestamp");
+                    for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                        assertEquals(1, values.docValueCount());
+                        actualDates.add(values.nextValue());
+                    }
+                }
+                assertEquals(expected.keySet(), actual.keySet());
+                for (Map.Entry<List<Object>, double[]> entry : expected.entrySet()) {
+                    assertArrayEquals(entry.getValue(), actual.get(entry.getKey()), 0d);
+                }
+                // merges may reorder documents
+                Collections.sort(dates);
+                Collections.sort(actualDates);
+                assertEquals(dates, actualDates);
+            }
+        }
+    }
+
+    public void testNoStarTree() throws IOException {
+        final boolean multiValued = randomBoolean();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec()))) {
+                final int numDocs = randomIntBetween(10, 100);
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    if (multiValued) {
+                        document.add(new SortedNumericDocValuesField("@timestamp", 0));
+                        document.add(new SortedNumericDocValuesField("@timestamp", 1));
+                    } else {
+                        // every document gets its own row
+                        document.add(new SortedNumericDocValuesField("@timestamp", i * INTERVAL));
+                    }
+                    writer.addDocument(document);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.leaves().size());
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                assertNull(StarTreeValues.get(leafReader, "@timestamp"));
+                assertNotNull(leafReader.getSortedNumericDocValues("@timestamp"));
+            }
+        }
+    }
+
+    public void testMaxRows() throws IOException {
+        final int numRows = randomIntBetween(2, 10);
+        final StarTreeConfig config = new StarTreeConfig(
+            CONFIG.dateField,
+            CONFIG.dateInterval,
+            CONFIG.dimensions,
+            CONFIG.metrics,
+            CONFIG.metricTypes,
+            randomIntBetween(1, numRows * 2)
+        );
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec(config)))) {
+                for (int i = 0; i < numRows * 10; i++) {
+                    final Document document = new Document();
+                    document.add(new SortedNumericDocValuesField("@timestamp", (i % numRows) * INTERVAL));
+                    writer.addDocument(document);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.leaves().size());
+                final StarTreeValues starTree = StarTreeValues.get(reader.leaves().get(0).reader(), "@timestamp");
+                if (numRows > config.maxRows) {
+                    assertNull(starTree);
+                } else {
+                    assertNotNull(starTree);
+                    assertEquals(numRows, starTree.rowCount());
+                }
+            }
+        }
+    }
+
+    public void testStarTreeBehindFilterReader() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec()))) {
+                for (int i = 0; i < 100; i++) {
+                    final Document document = new Document();
+                    document.add(new SortedNumericDocValuesField("@timestamp", (i % 10) * INTERVAL));
+                    document.add(new SortedSetDocValuesField("host", new BytesRef(randomFrom("a", "b"))));
+                    writer.addDocument(document);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                // a reader that wraps the doc values of the date field
+                final LeafReader wrapped = new FilterLeafReader(leafReader) {
+                    @Override
+                    public SortedNumericDocValues getSortedNumericDocValues(String field) throws IOException {
+                        final SortedNumericDocValues values = super.getSortedNumericDocValues(field);
+                        return DocValues.singleton(new FilterNumericDocValues(DocValues.unwrapSingleton(values)) {});
+                    }
+
+                    @Override
+                    public CacheHelper getCoreCacheHelper() {
+                        return in.getCoreCacheHelper();
+                    }
+
+                    @Override
+                    public CacheHelper getReaderCacheHelper() {
+                        return in.getReaderCacheHelper();
+                    }
+                };
+                assertSame(StarTreeValues.get(leafReader, "@timestamp"), StarTreeValues.get(wrapped, "@timestamp"));
+                assertNotNull(StarTreeValues.get(wrapped, "@timestamp"));
+
+                // a reader that hides a dimension
+                final LeafReader hiding = new FilterLeafReader(leafReader) {
+                    @Override
+                    public FieldInfos getFieldInfos() {
+                        return new FieldInfos(
+                            StreamSupport.stream(super.getFieldInfos().spliterator(), false)
+                                .filter(fieldInfo -> fieldInfo.name.equals("host") == false)
+                                .toArray(FieldInfo[]::new)
+                        );
+                    }
+
+                    @Override
+                    public SortedSetDocValues getSortedSetDocValues(String field) throws IOException {
+                        return field.equals("host") ? null : super.getSortedSetDocValues(field);
+                    }
+
+                    @Override
+                    public CacheHelper getCoreCacheHelper() {
+                        return in.getCoreCacheHelper();
+                    }
+
+                    @Override
+                    public CacheHelper getReaderCacheHelper() {
+                        return in.getReaderCacheHelper();
+                    }
+                };
+                assertNull(StarTreeValues.get(hiding, "@timestamp"));
+            }
+        }
+    }
+
+    private static Codec codec() {
+        return codec(CONFIG);
+    }
+
+    private static Codec codec(StarTreeConfig config) {
+        final DocValuesFormat format = new StarTreeDocValuesFormat(() -> config);
+        return new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return format;
+            }
+        };
+    }
+}
@@ -74,6 +74,7 @@ public class NumberFieldMapperTests extends AbstractNumericFieldMapperTestCase {
         checker.registerConflictCheck("index", b -> b.field("index", false));
         checker.registerConflictCheck("store", b -> b.field("store", true));
         checker.registerConflictCheck("null_value", b -> b.field("null_value", 1));
+        checker.registerConflictCheck("skip_index", b -> b.field("skip_index", true));
         checker.registerUpdateCheck(b -> b.field("coerce", false),
             m -> assertFalse(((NumberFieldMapper) m).coerce()));
         checker.registerUpdateCheck(b -> b.field("ignore_malformed", true),
@@ -93,6 +94,14 @@ public class NumberFieldMapperTests extends AbstractNumericFieldMapperTestCase {
         assertParseMinimalWarnings();
     }
 
+    public void testSkipIndexRequiresDocValues() {
+        Exception e = expectThrows(
+            MapperParsingException.class,
+            () -> createDocumentMapper(fieldMapping(b -> b.field("type", "long").field("doc_values", false).field("skip_index", true)))
+        );
+        assertThat(e.getMessage(), containsString("Field [field] requires [doc_values] to have a [skip_index]"));
+    }
+
     @Override
     public void doTestDefaults(String type) throws Exception {
         XContentBuilder mapping = fieldMapping(b -> b.field("type", type));
@@ -52,6 +52,7 @@ import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.TestUtil;
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
@@ -61,6 +62,7 @@ import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.codec.skipindex.SkipIndexRangeQuery;
 import org.opensearch.index.fielddata.IndexNumericFieldData;
 import org.opensearch.index.mapper.FieldTypeTestCase;
 import org.opensearch.index.mapper.MappedFieldType.Relation;
@@ -276,6 +278,24 @@ public class NumberFieldTypeTests extends FieldTypeTestCase {
         assertEquals("Cannot search on field [field] since it is not indexed.", e.getMessage());
     }
 
+    public void testSkipIndexRangeQuery() {
+        MappedFieldType ft = new NumberFieldType("field", NumberType.LONG, true, false, true, true, true, null, Collections.emptyMap());
+        Query expected = new IndexOrDocValuesQuery(
+                LongPoint.newRangeQuery("field", 1, 3),
+                new SkipIndexRangeQuery("field", 1, 3));
+        assertEquals(expected, ft.rangeQuery("1", "3", true, true, null, null, null, MOCK_QSC));
+
+        MappedFieldType unsearchable = new NumberFieldType("field", NumberType.INTEGER, false, false, true, true, true, null,
+            Collections.emptyMap());
+        assertEquals(new SkipIndexRangeQuery("field", 2, 3), unsearchable.rangeQuery("1", "3", false, true, null, null, null, MOCK_QSC));
+
+        MappedFieldType doubles = new NumberFieldType("field", NumberType.DOUBLE, false, false, true, true, true, null,
+            Collections.emptyMap());
+        assertEquals(
+            new SkipIndexRangeQuery("field", NumericUtils.doubleToSortableLong(-1.5), NumericUtils.doubleToSortableLong(2.5)),
+            doubles.rangeQuery(-1.5, 2.5, true, true, null, null, null, MOCK_QSC));
+    }
+
     public void testConversions() {
         assertEquals((byte) 3, NumberType.BYTE.parse(3d, true));
         assertEquals((short) 3, NumberType.SHORT.parse(3d, true));
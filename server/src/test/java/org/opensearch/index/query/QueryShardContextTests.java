@@ -165,6 +165,26 @@ public class QueryShardContextTests extends OpenSearchTestCase {
         assertEquals(expected, ((AbstractLeafOrdinalsFieldData)forField.load(null)).getOrdinalsValues().lookupOrd(0).utf8ToString());
     }
 
+    public void testNowInMillisIsDeterministic() {
+        QueryShardContext context = createQueryShardContext(IndexMetadata.INDEX_UUID_NA_VALUE, null);
+        assertTrue(context.isCacheable());
+        assertTrue(context.isDeterministic());
+        assertEquals(0, context.nowInMillisUsages());
+
+        context.nowInMillis();
+        context.nowInMillis();
+        assertFalse(context.isCacheable());
+        assertTrue(context.isDeterministic());
+        assertEquals(2, context.nowInMillisUsages());
+
+        context.getClient();
+        assertFalse(context.isCacheable());
+        assertFalse(context.isDeterministic());
+
+        context.freezeContext();
+        expectThrows(IllegalArgumentException.class, context::nowInMillis);
+    }
+
     public void testGetFullyQualifiedIndex() {
         String clusterAlias = randomAlphaOfLengthBetween(5, 10);
         String indexUuid = randomAlphaOfLengthBetween(3, 10);
@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TranslogGroupCommitterTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Before
+    public void createThreadPool() {
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @After
+    public void terminateThreadPool() {
+        terminate(threadPool);
+    }
+
+    private TranslogGroupCommitter newCommitter() {
+        return new TranslogGroupCommitter(threadPool.getThreadContext(), threadPool.executor(ThreadPool.Names.GENERIC));
+    }
+
+    public void testSyncsAllShards() throws Exception {
+        final TranslogGroupCommitter committer = newCommitter();
+        final Path[] dataPaths = new Path[randomIntBetween(1, 3)];
+        for (int i = 0; i < dataPaths.length; i++) {
+            dataPaths[i] = createTempDir();
+        }
+        final FakeShard[] shards = new FakeShard[randomIntBetween(1, 10)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new FakeShard(new ShardId(new Index("index", "_na_"), i), randomFrom(dataPaths)).register(committer);
+        }
+        final int numThreads = randomIntBetween(1, 8);
+        final int numRequestsPerThread = randomIntBetween(1, 200);
+        final CountDownLatch latch = new CountDownLatch(numThreads * numRequestsPerThread);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < numRequestsPerThread; i++) {
+                    final FakeShard shard = randomFrom(shards);
+                    final Translog.Location location = shard.nextLocation();
+                    shard.groupCommit.sync(location, e -> {
+                        try {
+                            assertNull(e);
+                            assertThat(shard.synced.get().compareTo(location), greaterThanOrEqualTo(0));
+                        } catch (Throwable t1) {
+                            failure.set(t1);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        latch.await();
+        assertNull(failure.get());
+
+        final TranslogGroupCommitStats stats = committer.stats();
+        assertThat(stats.getSyncRequests(), equalTo((long) numThreads * numRequestsPerThread));
+        assertThat(stats.getBatches(), lessThanOrEqualTo(stats.getShardSyncs()));
+        assertThat(stats.getShardSyncs(), lessThanOrEqualTo(stats.getSyncRequests()));
+        assertThat(stats.getShardSyncs(), equalTo((long) Arrays.stream(shards).mapToInt(s -> s.syncs.get()).sum()));
+        assertThat(stats.getFailedShardSyncs(), equalTo(0L));
+        assertThat(Arrays.stream(stats.getBatchSizeHistogram()).sum(), equalTo(stats.getBatches()));
+        assertThat(Arrays.stream(stats.getLatencyHistogram()).sum(), equalTo(stats.getBatches()));
+    }
+
+    public void testFailureOnlyFailsRequestsOfShard() throws Exception {
+        final TranslogGroupCommitter committer = newCommitter();
+        final Path dataPath = createTempDir();
+        final FakeShard healthy = new FakeShard(new ShardId(new Index("index", "_na_"), 0), dataPath).register(committer);
+        final FakeShard failing = new FakeShard(new ShardId(new Index("index", "_na_"), 1), dataPath).register(committer);
+        failing.failure = new IOException("simulated");
+
+        final AtomicInteger healthyNotified = new AtomicInteger();
+        final AtomicReference<Exception> failingNotified = new AtomicReference<>();
+        failing.groupCommit.sync(failing.nextLocation(), failingNotified::set);
+        healthy.groupCommit.sync(healthy.nextLocation(), e -> {
+            assertNull(e);
+            healthyNotified.incrementAndGet();
+        });
+
+        assertThat(failingNotified.get(), instanceOf(IOException.class));
+        assertThat(healthyNotified.get(), equalTo(1));
+        final TranslogGroupCommitStats stats = committer.stats();
+        assertThat(stats.getFailedShardSyncs(), equalTo(1L));
+        assertThat(stats.getShardSyncs(), equalTo(2L));
+    }
+
+    public void testShardsAreSyncedConcurrently() throws Exception {
+        final TranslogGroupCommitter committer = newCommitter();
+        final Path dataPath = createTempDir();
+        final int numShards = randomIntBetween(2, 5);
+        // each sync waits for the syncs of all other shards, which only completes if they run concurrently
+        final CyclicBarrier syncing = new CyclicBarrier(numShards);
+        final FakeShard[] shards = new FakeShard[numShards];
+        for (int i = 0; i < numShards; i++) {
+            shards[i] = new FakeShard(new ShardId(new Index("index", "_na_"), i), dataPath) {
+                @Override
+                public void ensureSynced(Stream<Translog.Location> locations) throws IOException {
+                    try {
+                        syncing.await(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                    super.ensureSynced(locations);
+                }
+            }.register(committer);
+        }
+        // blocks the batch thread so that the requests of all shards are processed in the same batch
+        final Blocker blocker = new Blocker(new ShardId(new Index("index", "_na_"), numShards), dataPath, committer);
+
+        final CountDownLatch notified = new CountDownLatch(numShards);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        for (FakeShard shard : shards) {
+            shard.groupCommit.sync(shard.nextLocation(), e -> {
+                if (e != null) {
+                    failure.set(e);
+                }
+                notified.countDown();
+            });
+        }
+        blocker.release().join();
+        notified.await();
+        assertNull(failure.get());
+        for (FakeShard shard : shards) {
+            assertThat(shard.syncs.get(), equalTo(1));
+        }
+    }
+
+    public void testShardIsNotifiedOnceItIsSynced() throws Exception {
+        final TranslogGroupCommitter committer = newCommitter();
+        final Path dataPath = createTempDir();
+        final CountDownLatch releaseSlow = new CountDownLatch(1);
+        final FakeShard slow = new FakeShard(new ShardId(new Index("index", "_na_"), 0), dataPath) {
+            @Override
+            public void ensureSynced(Stream<Translog.Location> locations) throws IOException {
+                try {
+                    releaseSlow.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                super.ensureSynced(locations);
+            }
+        }.register(committer);
+        final FakeShard fast = new FakeShard(new ShardId(new Index("index", "_na_"), 1), dataPath).register(committer);
+        final Blocker blocker = new Blocker(new ShardId(new Index("index", "_na_"), 2), dataPath, committer);
+
+        final CountDownLatch slowNotified = new CountDownLatch(1);
+        final CountDownLatch fastNotified = new CountDownLatch(1);
+        slow.groupCommit.sync(slow.nextLocation(), e -> slowNotified.countDown());
+        fast.groupCommit.sync(fast.nextLocation(), e -> fastNotified.countDown());
+        // both shards are synced in the same batch, but the fast one doesn't wait for the slow one
+        final Thread batchThread = blocker.release();
+        assertTrue(fastNotified.await(10, TimeUnit.SECONDS));
+        assertThat(slowNotified.getCount(), equalTo(1L));
+        releaseSlow.countDown();
+        batchThread.join();
+        assertTrue(slowNotified.await(10, TimeUnit.SECONDS));
+    }
+
+    public void testPendingRequestsAreBoundedPerShard() throws Exception {
+        final TranslogGroupCommitter committer = newCommitter();
+        final Path dataPath = createTempDir();
+        final FakeShard[] shards = new FakeShard[randomIntBetween(2, 4)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new FakeShard(new ShardId(new Index("index", "_na_"), i), dataPath).register(committer);
+        }
+        final Blocker blocker = new Blocker(new ShardId(new Index("index", "_na_"), shards.length), dataPath, committer);
+
+        // each shard has its own pending requests, so the data path holds more than a single shard could
+        final CountDownLatch notified = new CountDownLatch(shards.length * TranslogGroupCommitter.QUEUE_SIZE + 1);
+        for (FakeShard shard : shards) {
+            for (int i = 0; i < TranslogGroupCommitter.QUEUE_SIZE; i++) {
+                shard.groupCommit.sync(shard.nextLocation(), e -> notified.countDown());
+            }
+        }
+        final CountDownLatch added = new CountDownLatch(1);
+        final Thread overflow = new Thread(() -> {
+            shards[0].groupCommit.sync(shards[0].nextLocation(), e -> notified.countDown());
+            added.countDown();
+        });
+        overflow.start();
+        assertFalse(added.await(100, TimeUnit.MILLISECONDS));
+
+        blocker.release().join();
+        overflow.join();
+        assertTrue(notified.await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Blocks the thread that processes the batches of a data path, so that the requests that are added in the meantime are queued.
+     */
+    private static class Blocker {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Thread thread;
+
+        Blocker(ShardId shardId, Path dataPath, TranslogGroupCommitter committer) throws InterruptedException {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            final FakeShard shard = new FakeShard(shardId, dataPath) {
+                @Override
+                public void ensureSynced(Stream<Translog.Location> locations) throws IOException {
+                    blocked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                    super.ensureSynced(locations);
+                }
+            }.register(committer);
+            thread = new Thread(() -> shard.groupCommit.sync(shard.nextLocation(), Assert::assertNull));
+            thread.start();
+            blocked.await();
+        }
+
+        /**
+         * Releases the blocked thread, which processes the queued requests before it returns.
+         */
+        Thread release() {
+            release.countDown();
+            return thread;
+        }
+    }
+
+    private static class FakeShard implements TranslogGroupCommitter.ShardSyncer {
+        private final ShardId shardId;
+        private final Path dataPath;
+        private final AtomicInteger nextOffset = new AtomicInteger();
+        private final AtomicReference<Translog.Location> synced = new AtomicReference<>(new Translog.Location(0, 0, 0));
+        private final AtomicInteger syncs = new AtomicInteger();
+        private volatile IOException failure;
+        private TranslogGroupCommitter.Shard groupCommit;
+
+        private FakeShard(ShardId shardId, Path dataPath) {
+            this.shardId = shardId;
+            this.dataPath = dataPath;
+        }
+
+        FakeShard register(TranslogGroupCommitter committer) {
+            groupCommit = committer.newShard(dataPath, shardId, this);
+            return this;
+        }
+
+        Translog.Location nextLocation() {
+            return new Translog.Location(0, nextOffset.incrementAndGet(), 1);
+        }
+
+        @Override
+        public void ensureSynced(Stream<Translog.Location> locations) throws IOException {
+            syncs.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            final Translog.Location max = locations.max(Translog.Location::compareTo).get();
+            synced.accumulateAndGet(max, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+    }
+}
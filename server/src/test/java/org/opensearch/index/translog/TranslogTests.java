@@ -876,6 +876,85 @@ public class TranslogTests extends OpenSearchTestCase {
         expectIntactTranslog = false;
     }
 
+    public void testMappedSnapshotOfReader() throws Exception {
+        int translogOperations = randomIntBetween(1, 500);
+        for (int op = 0; op < translogOperations; op++) {
+            String ascii = randomAlphaOfLengthBetween(1, 2000);
+            translog.add(new Translog.Index("test", "" + op, op, primaryTerm.get(), ascii.getBytes("UTF-8")));
+            if (rarely()) {
+                translog.rollGeneration();
+            }
+        }
+        translog.rollGeneration();
+
+        int readOperations = 0;
+        for (TranslogReader reader : translog.getReaders()) {
+            try (TranslogSnapshot mapped = new TranslogSnapshot(reader, reader.sizeInBytes(), true);
+                 TranslogSnapshot unmapped = new TranslogSnapshot(reader, reader.sizeInBytes(), false)) {
+                Translog.Operation operation;
+                while ((operation = unmapped.next()) != null) {
+                    assertThat(mapped.next(), equalTo(operation));
+                    readOperations++;
+                }
+                assertNull(mapped.next());
+                mapped.close();
+                expectThrows(AlreadyClosedException.class, mapped::next);
+            }
+        }
+        assertThat(readOperations, equalTo(translogOperations));
+    }
+
+    public void testMappedSnapshotOfTruncatedReader() throws Exception {
+        int translogOperations = randomIntBetween(1, 100);
+        for (int op = 0; op < translogOperations; op++) {
+            translog.add(new Translog.Index("test", "" + op, op, primaryTerm.get(), randomAlphaOfLength(10).getBytes("UTF-8")));
+        }
+        translog.rollGeneration();
+        final TranslogReader reader = translog.getReaders().get(0);
+
+        // the file is shorter than the snapshot expects
+        try (TranslogSnapshot snapshot = new TranslogSnapshot(reader, reader.sizeInBytes() + randomIntBetween(1, 100), true)) {
+            TranslogCorruptedException e = expectThrows(TranslogCorruptedException.class, snapshot::next);
+            assertThat(e.getMessage(), containsString("translog truncated"));
+        }
+        // the snapshot ends in the middle of an operation
+        final long truncatedLength = randomLongBetween(reader.getFirstOperationOffset() + 1, reader.sizeInBytes() - 1);
+        try (TranslogSnapshot snapshot = new TranslogSnapshot(reader, truncatedLength, true)) {
+            expectThrows(TranslogCorruptedException.class, () -> {
+                while (snapshot.next() != null) {
+                    // the last operation can't be complete
+                }
+            });
+        }
+    }
+
+    public void testMappedSnapshotOfCorruptedReader() throws Exception {
+        int translogOperations = randomIntBetween(1, 100);
+        for (int op = 0; op < translogOperations; op++) {
+            translog.add(new Translog.Index("test", "" + op, op, primaryTerm.get(), randomAlphaOfLength(10).getBytes("UTF-8")));
+        }
+        translog.rollGeneration();
+        final TranslogReader reader = translog.getReaders().get(0);
+
+        final long corruptedPosition = randomLongBetween(reader.getFirstOperationOffset(), reader.sizeInBytes() - 1);
+        try (FileChannel channel = FileChannel.open(reader.path(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(1);
+            assertThat(channel.read(buffer, corruptedPosition), equalTo(1));
+            buffer.put(0, (byte) ~buffer.get(0));
+            buffer.rewind();
+            assertThat(channel.write(buffer, corruptedPosition), equalTo(1));
+        }
+        try (TranslogSnapshot snapshot = new TranslogSnapshot(reader, reader.sizeInBytes(), true)) {
+            expectThrows(TranslogCorruptedException.class, () -> {
+                while (snapshot.next() != null) {
+                    // one of the operations is corrupted
+                }
+            });
+        }
+
+        expectIntactTranslog = false;
+    }
+
     public void testTruncatedTranslogs() throws Exception {
         List<Translog.Location> locations = new ArrayList<>();
 
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.warmer;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+
+public class WarmerStatsTests extends OpenSearchTestCase {
+
+    public void testSerialize() throws IOException {
+        WarmerStats stats = randomWarmerStats();
+        BytesStreamOutput out = new BytesStreamOutput();
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        WarmerStats read = new WarmerStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.current(), read.current());
+        assertEquals(stats.total(), read.total());
+        assertEquals(stats.totalTimeInMillis(), read.totalTimeInMillis());
+        assertEquals(stats.globalOrdinalsCurrent(), read.globalOrdinalsCurrent());
+        assertEquals(stats.globalOrdinalsTotal(), read.globalOrdinalsTotal());
+        assertEquals(stats.globalOrdinalsTotalTimeInMillis(), read.globalOrdinalsTotalTimeInMillis());
+    }
+
+    public void testSerializeToOldVersion() throws IOException {
+        WarmerStats stats = randomWarmerStats();
+        Version version = VersionUtils.randomVersionBetween(random(), Version.V_1_0_0, VersionUtils.getPreviousVersion(Version.V_1_1_0));
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(version);
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        input.setVersion(version);
+        WarmerStats read = new WarmerStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.total(), read.total());
+        assertEquals(0, read.globalOrdinalsTotal());
+        assertEquals(0, read.globalOrdinalsTotalTimeInMillis());
+    }
+
+    private static WarmerStats randomWarmerStats() {
+        return new WarmerStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Accountable;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.lessThan;
+
+public class IndicesSegmentAggregationsCacheTests extends OpenSearchTestCase {
+
+    public void testGetAndPut() throws IOException {
+        IndicesSegmentAggregationsCache cache = new IndicesSegmentAggregationsCache(Settings.EMPTY);
+        try (Directory dir = newDirectory(); IndexWriter writer = newWriter(dir)) {
+            addSegment(writer);
+            addSegment(writer);
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertEquals(2, reader.leaves().size());
+                IndexReader.CacheHelper first = reader.leaves().get(0).reader().getCoreCacheHelper();
+                IndexReader.CacheHelper second = reader.leaves().get(1).reader().getCoreCacheHelper();
+
+                assertNull(cache.get(first, new TestKey("aggs")));
+                assertEquals(1, cache.missCount());
+
+                BytesReference value = new BytesArray("results");
+                cache.put(first, new TestKey("aggs"), value);
+                assertEquals(value, cache.get(first, new TestKey("aggs")));
+                assertEquals(1, cache.hitCount());
+                assertNull(cache.get(first, new TestKey("other_aggs")));
+                assertNull(cache.get(second, new TestKey("aggs")));
+                assertEquals(3, cache.missCount());
+                assertEquals(1, cache.count());
+            }
+        }
+        cache.close();
+    }
+
+    public void testInvalidateOnSegmentClose() throws IOException {
+        IndicesSegmentAggregationsCache cache = new IndicesSegmentAggregationsCache(Settings.EMPTY);
+        try (Directory dir = newDirectory(); IndexWriter writer = newWriter(dir)) {
+            addSegment(writer);
+            DirectoryReader reader = DirectoryReader.open(dir);
+            IndexReader.CacheHelper first = reader.leaves().get(0).reader().getCoreCacheHelper();
+            cache.put(first, new TestKey("aggs"), new BytesArray("results"));
+            cache.put(first, new TestKey("other_aggs"), new BytesArray("other_results"));
+
+            // a new segment doesn't invalidate the entries of the segments that remain
+            addSegment(writer);
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            reader.close();
+            assertEquals(2, newReader.leaves().size());
+            assertSame(first.getKey(), newReader.leaves().get(0).reader().getCoreCacheHelper().getKey());
+            assertNotNull(cache.get(newReader.leaves().get(0).reader().getCoreCacheHelper(), new TestKey("aggs")));
+            assertEquals(2, cache.count());
+
+            newReader.close();
+            assertEquals(0, cache.count());
+        }
+        cache.close();
+    }
+
+    public void testEviction() throws IOException {
+        IndicesSegmentAggregationsCache cache = new IndicesSegmentAggregationsCache(Settings.builder()
+            .put(IndicesSegmentAggregationsCache.INDICES_CACHE_SEGMENT_AGGREGATIONS_SIZE.getKey(), "1kb")
+            .build());
+        try (Directory dir = newDirectory(); IndexWriter writer = newWriter(dir)) {
+            addSegment(writer);
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                IndexReader.CacheHelper segment = reader.leaves().get(0).reader().getCoreCacheHelper();
+                for (int i = 0; i < 10; i++) {
+                    cache.put(segment, new TestKey("aggs_" + i), new BytesArray(new byte[200]));
+                }
+                assertThat(cache.count(), lessThan(10));
+                assertNotNull(cache.get(segment, new TestKey("aggs_9")));
+                assertNull(cache.get(segment, new TestKey("aggs_0")));
+            }
+        }
+        cache.close();
+    }
+
+    private static IndexWriter newWriter(Directory dir) throws IOException {
+        return new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+    }
+
+    private static void addSegment(IndexWriter writer) throws IOException {
+        Document doc = new Document();
+        doc.add(new StringField("field", "value", Field.Store.NO));
+        writer.addDocument(doc);
+        writer.commit();
+    }
+
+    private static class TestKey implements Accountable {
+
+        private final String value;
+
+        TestKey(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return value.length();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestKey && Objects.equals(value, ((TestKey) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+}
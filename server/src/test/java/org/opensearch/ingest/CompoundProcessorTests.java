@@ -377,6 +377,132 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testSynchronousProcessors() throws Exception {
+        TestProcessor processor1 = synchronousProcessor(ingestDocument -> ingestDocument.setFieldValue("field1", "value1"));
+        TestProcessor processor2 = synchronousProcessor(ingestDocument -> {
+            throw new RuntimeException("error");
+        });
+        TestProcessor processor3 = synchronousProcessor(ingestDocument -> ingestDocument.setFieldValue("field3", "value3"));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor ignoreFailure =
+            new CompoundProcessor(true, singletonList(processor2), Collections.emptyList(), relativeTimeProvider);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor1, ignoreFailure, processor3);
+        assertThat(ignoreFailure.isSynchronous(), is(true));
+        assertThat(compoundProcessor.isSynchronous(), is(true));
+
+        IngestDocument result = compoundProcessor.execute(ingestDocument);
+        assertThat(result, sameInstance(ingestDocument));
+        assertThat(ingestDocument.getFieldValue("field1", String.class), equalTo("value1"));
+        assertThat(ingestDocument.getFieldValue("field3", String.class), equalTo("value3"));
+        assertThat(processor1.getInvokedCounter(), equalTo(1));
+        assertThat(processor2.getInvokedCounter(), equalTo(1));
+        assertThat(processor3.getInvokedCounter(), equalTo(1));
+        assertStats(0, compoundProcessor, 0, 1, 0, 0);
+        assertStats(1, compoundProcessor, 0, 1, 0, 0);
+        assertStats(2, compoundProcessor, 0, 1, 0, 0);
+        assertStats(0, ignoreFailure, 0, 1, 1, 0);
+    }
+
+    public void testSynchronousProcessorWithOnFailureProcessor() throws Exception {
+        TestProcessor processor1 = synchronousProcessor(ingestDocument -> {
+            throw new RuntimeException("error");
+        });
+        TestProcessor processor2 = synchronousProcessor(ingestDocument -> {
+            Map<String, Object> ingestMetadata = ingestDocument.getIngestMetadata();
+            assertThat(ingestMetadata.get(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), equalTo("error"));
+            ingestDocument.setFieldValue("handled", true);
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(1));
+        CompoundProcessor compoundProcessor =
+            new CompoundProcessor(false, singletonList(processor1), singletonList(processor2), relativeTimeProvider);
+        assertThat(compoundProcessor.isSynchronous(), is(true));
+
+        IngestDocument[] holder = new IngestDocument[1];
+        compoundProcessor.execute(ingestDocument, (result, e) -> holder[0] = result);
+        assertThat(holder[0], sameInstance(ingestDocument));
+        assertThat(ingestDocument.getFieldValue("handled", Boolean.class), is(true));
+        assertThat(processor1.getInvokedCounter(), equalTo(1));
+        assertThat(processor2.getInvokedCounter(), equalTo(1));
+        assertStats(compoundProcessor, 1, 1, 1);
+    }
+
+    public void testSynchronousProcessorWithException() throws Exception {
+        TestProcessor processor1 = synchronousProcessor(ingestDocument -> {
+            throw new RuntimeException("error");
+        });
+        TestProcessor processor2 = synchronousProcessor(ingestDocument -> {});
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor1, processor2);
+
+        Exception e = expectThrows(IngestProcessorException.class, () -> compoundProcessor.execute(ingestDocument));
+        assertThat(((OpenSearchException) e).getRootCause().getMessage(), equalTo("error"));
+        assertThat(processor1.getInvokedCounter(), equalTo(1));
+        assertThat(processor2.getInvokedCounter(), equalTo(0));
+        assertStats(compoundProcessor, 1, 1, 0);
+    }
+
+    public void testSynchronousProcessorsAfterAsynchronousProcessor() throws Exception {
+        TestProcessor processor1 = synchronousProcessor(ingestDocument -> ingestDocument.setFieldValue("field1", "value1"));
+        @SuppressWarnings("unchecked")
+        BiConsumer<IngestDocument, Exception>[] pending = new BiConsumer[1];
+        Processor asyncProcessor = new Processor() {
+            @Override
+            public void execute(IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> handler) {
+                pending[0] = handler;
+            }
+
+            @Override
+            public IngestDocument execute(IngestDocument ingestDocument) {
+                throw new AssertionError("should not get executed");
+            }
+
+            @Override
+            public String getType() {
+                return "async";
+            }
+
+            @Override
+            public String getTag() {
+                return null;
+            }
+
+            @Override
+            public String getDescription() {
+                return null;
+            }
+        };
+        TestProcessor processor3 = synchronousProcessor(ingestDocument -> ingestDocument.setFieldValue("field3", "value3"));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor1, asyncProcessor, processor3);
+        assertThat(compoundProcessor.isSynchronous(), is(false));
+        expectThrows(UnsupportedOperationException.class, () -> compoundProcessor.execute(ingestDocument));
+
+        IngestDocument[] holder = new IngestDocument[1];
+        compoundProcessor.execute(ingestDocument, (result, e) -> holder[0] = result);
+        assertThat(processor1.getInvokedCounter(), equalTo(1));
+        assertThat(pending[0], notNullValue());
+        assertThat(processor3.getInvokedCounter(), equalTo(0));
+        assertThat(holder[0], nullValue());
+
+        pending[0].accept(ingestDocument, null);
+        assertThat(processor3.getInvokedCounter(), equalTo(1));
+        assertThat(holder[0], sameInstance(ingestDocument));
+        assertThat(ingestDocument.getFieldValue("field3", String.class), equalTo("value3"));
+    }
+
+    private static TestProcessor synchronousProcessor(Consumer<IngestDocument> ingestDocumentConsumer) {
+        return new TestProcessor(ingestDocumentConsumer) {
+            @Override
+            public boolean isSynchronous() {
+                return true;
+            }
+        };
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count,  long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
@@ -41,17 +41,22 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 import org.junit.Before;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class ResponseCollectorServiceTests extends OpenSearchTestCase {
 
@@ -84,6 +89,130 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertThat(nodeStats.get("node1").serviceTime, equalTo(10.0));
     }
 
+    public void testAddResponseTime() {
+        collector.addResponseTime("node1", 100);
+        ResponseCollectorService.ComputedNodeStats stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(0));
+        assertThat(stats.responseTime, equalTo(100.0));
+        assertThat(stats.serviceTime, equalTo(100.0));
+
+        // response times of gets do not override the queue size and service time reported by searches
+        collector.addNodeStatistics("node2", 10, 100, 10);
+        collector.addResponseTime("node2", 200);
+        stats = collector.getNodeStatistics("node2").get();
+        assertThat(stats.queueSize, equalTo(10));
+        assertThat(stats.responseTime, equalTo(130.0));
+        assertThat(stats.serviceTime, equalTo(10.0));
+    }
+
+    public void testGetsAreCollectedApartFromSearches() {
+        final ResponseCollectorService gets = collector.gets();
+        assertThat(gets.gets(), sameInstance(gets));
+        collector.addNodeStatistics("node1", 10, 100, 10);
+        gets.addResponseTime("node1", 1);
+        gets.addResponseTime("node2", 1);
+
+        ResponseCollectorService.ComputedNodeStats stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(10));
+        assertThat(stats.responseTime, equalTo(100.0));
+        assertFalse(collector.getNodeStatistics("node2").isPresent());
+        stats = gets.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(0));
+        assertThat(stats.responseTime, equalTo(1.0));
+
+        collector.removeNode("node1");
+        assertFalse(collector.getNodeStatistics("node1").isPresent());
+        assertFalse(gets.getNodeStatistics("node1").isPresent());
+        assertTrue(gets.getNodeStatistics("node2").isPresent());
+    }
+
+    public void testOutstandingRequests() {
+        final ResponseCollectorService gets = collector.gets();
+        gets.onRequestSent("node1");
+        gets.onRequestSent("node1");
+        gets.onRequestSent("node2");
+        assertThat(gets.outstandingRequests().get("node1"), equalTo(2L));
+        assertThat(gets.outstandingRequests().get("node2"), equalTo(1L));
+        assertTrue(collector.outstandingRequests().isEmpty());
+
+        // the returned counts are a copy that routing may update
+        gets.outstandingRequests().put("node1", 10L);
+        assertThat(gets.outstandingRequests().get("node1"), equalTo(2L));
+
+        gets.onRequestCompleted("node1");
+        gets.onRequestCompleted("node2");
+        assertThat(gets.outstandingRequests().get("node1"), equalTo(1L));
+        assertFalse(gets.outstandingRequests().containsKey("node2"));
+        gets.onRequestCompleted("node1");
+        assertTrue(gets.outstandingRequests().isEmpty());
+
+        // the counts of a node that left are cleared, requests that complete afterwards don't count anymore
+        gets.onRequestSent("node1");
+        gets.onRequestSent("node2");
+        collector.removeNode("node1");
+        assertFalse(gets.outstandingRequests().containsKey("node1"));
+        assertThat(gets.outstandingRequests().get("node2"), equalTo(1L));
+        gets.onRequestCompleted("node1");
+        assertFalse(gets.outstandingRequests().containsKey("node1"));
+    }
+
+    public void testAdaptiveStatsIncludeGets() {
+        final ResponseCollectorService gets = collector.gets();
+        collector.addNodeStatistics("node1", 10, 100, 10);
+        gets.addResponseTime("node2", 50);
+        gets.onRequestSent("node2");
+
+        final AdaptiveSelectionStats stats = collector.getAdaptiveStats(Collections.singletonMap("node1", 3L));
+        assertThat(stats.getOutgoingConnections(), equalTo(Collections.singletonMap("node1", 3L)));
+        assertThat(stats.getComputedStats().keySet(), equalTo(Collections.singleton("node1")));
+        assertThat(stats.getOutgoingGets(), equalTo(Collections.singletonMap("node2", 1L)));
+        assertThat(stats.getComputedGetStats().keySet(), equalTo(Collections.singleton("node2")));
+        assertThat(stats.getComputedGetStats().get("node2").responseTime, equalTo(50.0));
+        assertThat(stats.getGetRanks().get("node2"), equalTo(stats.getComputedGetStats().get("node2").rank(1)));
+    }
+
+    public void testPenaltyDecay() {
+        final AtomicLong relativeTimeNanos = new AtomicLong(randomLongBetween(0, Long.MAX_VALUE / 2));
+        final ResponseCollectorService collector = new ResponseCollectorService(clusterService, relativeTimeNanos::get);
+        final long halfLife = ResponseCollectorService.PENALTY_DECAY_HALF_LIFE_SETTING.get(Settings.EMPTY).nanos();
+        collector.addNodeStatistics("node1", 100, 1000, 10);
+        final double rank = collector.getNodeStatistics("node1").get().rank(1);
+
+        relativeTimeNanos.addAndGet(halfLife - 1);
+        ResponseCollectorService.ComputedNodeStats stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(100));
+        assertThat(stats.responseTime, equalTo(1000.0));
+
+        relativeTimeNanos.addAndGet(1);
+        stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(50));
+        assertThat(stats.responseTime, equalTo(500.0));
+        assertThat(stats.serviceTime, equalTo(10.0));
+        assertThat(stats.rank(1), lessThan(rank));
+
+        relativeTimeNanos.addAndGet(halfLife);
+        stats = collector.getAllNodeStatistics().get("node1");
+        assertThat(stats.queueSize, equalTo(25));
+        assertThat(stats.responseTime, equalTo(250.0));
+
+        // new statistics reset the decay
+        collector.addNodeStatistics("node1", 100, 1000, 10);
+        stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(100));
+    }
+
+    public void testPenaltyDecayDisabled() {
+        final AtomicLong relativeTimeNanos = new AtomicLong();
+        clusterService.getClusterSettings().applySettings(Settings.builder()
+            .put(ResponseCollectorService.PENALTY_DECAY_HALF_LIFE_SETTING.getKey(), TimeValue.ZERO).build());
+        final ResponseCollectorService collector = new ResponseCollectorService(clusterService, relativeTimeNanos::get);
+        collector.addNodeStatistics("node1", 100, 1000, 10);
+        relativeTimeNanos.addAndGet(randomLongBetween(1, Long.MAX_VALUE / 2));
+        ResponseCollectorService.ComputedNodeStats stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.queueSize, equalTo(100));
+        assertThat(stats.responseTime, equalTo(1000.0));
+    }
+
     /*
      * Test that concurrently adding values and removing nodes does not cause exceptions
      */
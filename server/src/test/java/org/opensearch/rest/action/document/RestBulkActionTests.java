@@ -35,23 +35,42 @@ package org.opensearch.rest.action.document;
 import org.apache.lucene.util.SetOnce;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.http.HttpContentStream;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestChannel;
 import org.opensearch.test.rest.FakeRestRequest;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -90,4 +109,128 @@ public class RestBulkActionTests extends OpenSearchTestCase {
             assertThat(bulkCalled.get(), equalTo(true));
         }
     }
+
+    public void testIncrementalBatches() throws Exception {
+        final List<BulkRequest> batches = new ArrayList<>();
+        try (NodeClient verifyingClient = respondingClient(batches)) {
+            final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withParams(indexParams()).withContent(bulkBody(20), XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+            new RestBulkAction(incrementalSettings()).handleRequest(request, channel, verifyingClient);
+            assertThat(batches.size(), greaterThan(1));
+            assertBatchesInOrder(batches, 20);
+            assertThat(channel.responses().get(), equalTo(1));
+            assertThat(channel.capturedResponse().status(), equalTo(RestStatus.OK));
+        }
+    }
+
+    public void testRefreshIsExecutedInSingleBatch() throws Exception {
+        final List<BulkRequest> batches = new ArrayList<>();
+        try (NodeClient verifyingClient = respondingClient(batches)) {
+            final Map<String, String> params = indexParams();
+            params.put("refresh", randomFrom("wait_for", "true"));
+            final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk").withParams(params)
+                .withContent(bulkBody(20), XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            new RestBulkAction(incrementalSettings()).handleRequest(request, new FakeRestChannel(request, false, 1), verifyingClient);
+            assertThat(batches, hasSize(1));
+            assertThat(batches.get(0).getRefreshPolicy(), not(equalTo(WriteRequest.RefreshPolicy.NONE)));
+            assertBatchesInOrder(batches, 20);
+        }
+    }
+
+    public void testStreamedContent() throws Exception {
+        final List<BulkRequest> batches = new ArrayList<>();
+        try (NodeClient verifyingClient = respondingClient(batches)) {
+            final SetOnce<HttpContentStream.ContentConsumer> consumer = new SetOnce<>();
+            final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withParams(indexParams()).withContentStream(consumer::set, XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+            new RestBulkAction(incrementalSettings()).handleRequest(request, channel, verifyingClient);
+            assertNotNull(consumer.get());
+
+            final BytesReference body = bulkBody(20);
+            final int firstChunk = body.length() / 2;
+            final AtomicInteger requestedMore = new AtomicInteger();
+            consumer.get().onContent(ReleasableBytesReference.wrap(body.slice(0, firstChunk)), false, requestedMore::incrementAndGet);
+            // the first batches are executed before the rest of the content is received
+            assertThat(batches.size(), greaterThan(0));
+            assertThat(requestedMore.get(), equalTo(1));
+            assertThat(channel.responses().get(), equalTo(0));
+
+            consumer.get().onContent(ReleasableBytesReference.wrap(body.slice(firstChunk, body.length() - firstChunk)), true,
+                () -> {});
+            assertBatchesInOrder(batches, 20);
+            assertThat(channel.responses().get(), equalTo(1));
+            assertThat(channel.capturedResponse().status(), equalTo(RestStatus.OK));
+        }
+    }
+
+    public void testMalformedLineReportsExecutedBatches() throws Exception {
+        final List<BulkRequest> batches = new ArrayList<>();
+        try (NodeClient verifyingClient = respondingClient(batches)) {
+            final BytesReference body = CompositeBytesReference.of(bulkBody(10), new BytesArray("[]\n"), bulkBody(2));
+            final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withParams(indexParams()).withContent(body, XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+            new RestBulkAction(incrementalSettings()).handleRequest(request, channel, verifyingClient);
+            assertThat(batches.size(), greaterThan(0));
+            assertThat(channel.responses().get(), equalTo(1));
+            assertThat(channel.capturedResponse().status(), equalTo(RestStatus.BAD_REQUEST));
+
+            // the batches that were executed before the malformed line are reported along with the failure
+            final Map<String, Object> response = XContentHelper.convertToMap(channel.capturedResponse().content(), false,
+                XContentType.JSON).v2();
+            assertThat(response.get("status"), equalTo(400));
+            assertThat(response.get("errors"), equalTo(true));
+            assertThat(response.get("error").toString(), containsString("Malformed action/metadata line [21]"));
+            final int executed = batches.stream().mapToInt(BulkRequest::numberOfActions).sum();
+            assertThat((List<?>) response.get("items"), hasSize(executed));
+        }
+    }
+
+    private static Settings incrementalSettings() {
+        return Settings.builder().put(settings(Version.CURRENT).build())
+            .put(RestBulkAction.INCREMENTAL_BATCH_SIZE.getKey(), "128b").build();
+    }
+
+    private static Map<String, String> indexParams() {
+        final Map<String, String> params = new HashMap<>();
+        params.put("index", "my_index");
+        return params;
+    }
+
+    private static BytesReference bulkBody(int numDocs) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numDocs; i++) {
+            body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n{\"field1\":\"val1\"}\n");
+        }
+        return new BytesArray(body.toString());
+    }
+
+    private NodeClient respondingClient(List<BulkRequest> batches) {
+        return new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                batches.add(request);
+                final BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+                for (int i = 0; i < items.length; i++) {
+                    final DocWriteRequest<?> item = request.requests().get(i);
+                    items[i] = new BulkItemResponse(i, item.opType(),
+                        new IndexResponse(new ShardId(item.index(), "_na_", 0), item.type(), item.id(), 1, 1, 1, true));
+                }
+                listener.onResponse(new BulkResponse(items, 1));
+            }
+        };
+    }
+
+    private static void assertBatchesInOrder(List<BulkRequest> batches, int numDocs) {
+        int id = 0;
+        for (BulkRequest batch : batches) {
+            for (DocWriteRequest<?> request : batch.requests()) {
+                assertThat(request.index(), equalTo("my_index"));
+                assertThat(request.id(), equalTo(Integer.toString(id++)));
+            }
+        }
+        assertThat(id, equalTo(numDocs));
+    }
 }
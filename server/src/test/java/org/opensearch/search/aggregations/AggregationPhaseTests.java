@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AggregationPhaseTests extends AggregatorTestCase {
+
+    private static final String FIELD = "term";
+
+    public void testReduceSlices() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                // the first slice
+                addDocuments(writer, "a", 3);
+                addDocuments(writer, "b", 2);
+                writer.commit();
+                // the second slice
+                addDocuments(writer, "b", 2);
+                addDocuments(writer, "c", 1);
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(2));
+                final IndexSearcher searcher = newSearcher(reader, false, false);
+
+                // each slice only returns its top term, but all terms are returned when the shard isn't split in slices
+                final StringTerms sequential = searchSlices(searcher, 1, 10);
+                final StringTerms concurrent = searchSlices(searcher, 2, 10);
+                assertThat(sequential.getBuckets().size(), equalTo(3));
+                assertThat(concurrent.getBuckets().size(), equalTo(3));
+                for (StringTerms.Bucket bucket : sequential.getBuckets()) {
+                    assertThat(concurrent.getBucketByKey(bucket.getKeyAsString()).getDocCount(), equalTo(bucket.getDocCount()));
+                }
+                assertThat(sequential.getDocCountError(), equalTo(0L));
+                assertThat(concurrent.getDocCountError(), equalTo(0L));
+
+                final StringTerms truncated = searchSlices(searcher, 2, 1);
+                // the merged terms of the slices with the sum of the doc counts of their last terms as their error
+                assertThat(truncated.getBuckets().size(), equalTo(2));
+                assertThat(truncated.getBucketByKey("a").getDocCount(), equalTo(3L));
+                assertThat(truncated.getBucketByKey("b").getDocCount(), equalTo(2L));
+                assertThat(truncated.getDocCountError(), equalTo(5L));
+                assertThat(truncated.getBucketByKey("a").getDocCountError(), equalTo(2L));
+                assertThat(truncated.getBucketByKey("b").getDocCountError(), equalTo(3L));
+
+                // the coordinating node keeps the error of the slices even if the shard is the only one
+                final StringTerms reduced = (StringTerms) InternalAggregations.topLevelReduce(
+                    Collections.singletonList(InternalAggregations.from(Collections.singletonList(truncated))),
+                    InternalAggregation.ReduceContext.forFinalReduction(BigArrays.NON_RECYCLING_INSTANCE, getMockScriptService(),
+                        new MultiBucketConsumer(DEFAULT_MAX_BUCKETS, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)),
+                        PipelineTree.EMPTY)).get("terms");
+                assertThat(reduced.getBuckets().size(), equalTo(1));
+                assertThat(reduced.getBuckets().get(0).getKeyAsString(), equalTo("a"));
+                assertThat(reduced.getDocCountError(), equalTo(5L));
+                assertThat(reduced.getBuckets().get(0).getDocCountError(), equalTo(2L));
+            }
+        }
+    }
+
+    /**
+     * Executes the aggregation phase with the segments of the given searcher split in {@code numSlices} slices, like a concurrent
+     * segment search does, and returns the terms of the shard.
+     */
+    private StringTerms searchSlices(IndexSearcher searcher, int numSlices, int shardSize) throws IOException {
+        final TermsAggregationBuilder builder = new TermsAggregationBuilder("terms").field(FIELD)
+            .size(1)
+            .shardSize(shardSize)
+            .showTermDocCountError(true);
+        final Query query = new MatchAllDocsQuery();
+        final IndexSettings indexSettings = createIndexSettings();
+        final MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST));
+        final SearchContext context = createSearchContext(searcher, indexSettings, query, bucketConsumer, keywordField(FIELD));
+        final ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(new SearchSourceBuilder().aggregation(builder));
+        when(context.request()).thenReturn(request);
+        when(context.queryResult()).thenReturn(new QuerySearchResult());
+        when(context.queryCollectors()).thenReturn(new HashMap<>());
+        final SearchContextAggregations aggregations = new SearchContextAggregations(
+            AggregatorFactories.builder().addAggregator(builder).build(context.getQueryShardContext(), null), bucketConsumer);
+        when(context.aggregations()).thenReturn(aggregations);
+
+        final AggregationPhase phase = new AggregationPhase();
+        phase.preProcess(context);
+        final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        for (int slice = 0; slice < numSlices; slice++) {
+            final Collector collector = slice == 0
+                ? context.queryCollectors().get(AggregationPhase.class)
+                : AggregationPhase.createSliceCollector(context);
+            context.searcher().search(query, sliceCollector(collector, leaves, slice, numSlices));
+        }
+        phase.execute(context);
+        return (StringTerms) context.queryResult().aggregations().expand().get("terms");
+    }
+
+    /**
+     * Wraps the given collector so that it only collects the leaves of the given slice.
+     */
+    private static Collector sliceCollector(Collector collector, List<LeafReaderContext> leaves, int slice, int numSlices) {
+        return new FilterCollector(collector) {
+            @Override
+            public LeafCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+                if (ctx.ord * numSlices / leaves.size() != slice) {
+                    throw new CollectionTerminatedException();
+                }
+                return super.getLeafCollector(ctx);
+            }
+        };
+    }
+
+    private static void addDocuments(IndexWriter writer, String term, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            final Document doc = new Document();
+            doc.add(new SortedSetDocValuesField(FIELD, new BytesRef(term)));
+            writer.addDocument(doc);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.indices.IndicesSegmentAggregationsCache;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.bucket.histogram.Histogram;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CachedSegmentAggregationsTests extends AggregatorTestCase {
+
+    private static final String TIMESTAMP = "timestamp";
+    private static final String VALUE = "value";
+
+    private IndicesSegmentAggregationsCache cache;
+
+    @Before
+    public void createCache() {
+        cache = new IndicesSegmentAggregationsCache(Settings.EMPTY);
+    }
+
+    @After
+    public void closeCache() {
+        cache.close();
+    }
+
+    public void testLoneRangeIsLeftOutOfTheKey() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = newWriter(dir)) {
+                addSegment(writer, 0, 10);
+                addSegment(writer, 10, 20);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final IndexSearcher searcher = newSearcher(reader, false, false);
+                final Query range = LongPoint.newRangeQuery(TIMESTAMP, 0, 100);
+                search(searcher, range, cache);
+                assertThat(cache.count(), equalTo(2));
+                assertThat(cache.hitCount(), equalTo(0L));
+
+                // the range moved, like a range on "now" does, and the lone range was rewritten like a bool query with a single filter
+                final Query movedRange = new ConstantScoreQuery(LongPoint.newRangeQuery(TIMESTAMP, -10, 90));
+                search(searcher, movedRange, cache);
+                assertThat(cache.hitCount(), equalTo(2L));
+
+                // a bool query that only filters on the range shares the same entries
+                final Query boolRange = new BooleanQuery.Builder()
+                    .add(LongPoint.newRangeQuery(TIMESTAMP, -20, 80), BooleanClause.Occur.FILTER)
+                    .build();
+                search(searcher, boolRange, cache);
+                assertThat(cache.hitCount(), equalTo(4L));
+                assertThat(cache.count(), equalTo(2));
+            }
+        }
+    }
+
+    public void testSegmentsOutsideOfTheRangeAreNotCached() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = newWriter(dir)) {
+                // fully within the range
+                addSegment(writer, 10, 20);
+                // starts before the range
+                addSegment(writer, -5, 20);
+                // ends after the range
+                addSegment(writer, 50, 150);
+                // on the bounds of the range
+                addSegment(writer, 0, 100);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final IndexSearcher searcher = newSearcher(reader, false, false);
+                final Query query = new BooleanQuery.Builder()
+                    .add(LongPoint.newRangeQuery(TIMESTAMP, 0, 100), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term("tag", "a")), BooleanClause.Occur.FILTER)
+                    .build();
+                search(searcher, query, cache);
+                assertThat(cache.count(), equalTo(2));
+            }
+        }
+    }
+
+    public void testSegmentsWithDeletionsAreNotCached() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = newWriter(dir)) {
+                addSegment(writer, 0, 10);
+                addSegment(writer, 10, 20);
+                writer.deleteDocuments(LongPoint.newExactQuery(TIMESTAMP, 15));
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final IndexSearcher searcher = newSearcher(reader, false, false);
+                search(searcher, LongPoint.newRangeQuery(TIMESTAMP, 0, 100), cache);
+                assertThat(cache.count(), equalTo(1));
+            }
+        }
+    }
+
+    public void testMergedResultsAreTheSameAsWithoutCache() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = newWriter(dir)) {
+                final int numSegments = randomIntBetween(1, 10);
+                for (int i = 0; i < numSegments; i++) {
+                    final long min = randomLongBetween(0, 1000);
+                    addSegment(writer, min, min + randomLongBetween(0, 100));
+                }
+                if (randomBoolean()) {
+                    writer.deleteDocuments(LongPoint.newRangeQuery(TIMESTAMP, 0, randomLongBetween(0, 1000)));
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                final IndexSearcher searcher = newSearcher(reader, false, false);
+                for (int i = 0; i < 5; i++) {
+                    final long from = randomLongBetween(0, 500);
+                    final Query range = LongPoint.newRangeQuery(TIMESTAMP, from, from + randomLongBetween(0, 600));
+                    final Query query = randomBoolean() ? range : new BooleanQuery.Builder()
+                        .add(range, BooleanClause.Occur.FILTER)
+                        .add(new TermQuery(new Term("tag", randomFrom("a", "b"))), BooleanClause.Occur.MUST_NOT)
+                        .build();
+                    final InternalAggregations expected = search(searcher, query, null);
+                    final InternalAggregations cached = search(searcher, query, cache);
+                    assertThat(((Sum) cached.get("sum")).getValue(), equalTo(((Sum) expected.get("sum")).getValue()));
+                    final List<? extends Histogram.Bucket> expectedBuckets = ((Histogram) expected.get("histo")).getBuckets();
+                    final List<? extends Histogram.Bucket> cachedBuckets = ((Histogram) cached.get("histo")).getBuckets();
+                    assertThat(cachedBuckets.size(), equalTo(expectedBuckets.size()));
+                    for (int b = 0; b < expectedBuckets.size(); b++) {
+                        assertThat(cachedBuckets.get(b).getKey(), equalTo(expectedBuckets.get(b).getKey()));
+                        assertThat(cachedBuckets.get(b).getDocCount(), equalTo(expectedBuckets.get(b).getDocCount()));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects and builds the aggregations of the given query like the {@link AggregationPhase} does, with or without the cache.
+     */
+    private InternalAggregations search(IndexSearcher searcher, Query query, IndicesSegmentAggregationsCache cache) throws IOException {
+        final AggregatorFactories.Builder builder = new AggregatorFactories.Builder()
+            .addAggregator(new SumAggregationBuilder("sum").field(VALUE))
+            .addAggregator(new HistogramAggregationBuilder("histo").field(TIMESTAMP).interval(10));
+        final MappedFieldType[] fieldTypes = new MappedFieldType[] { longField(TIMESTAMP), longField(VALUE) };
+        final IndexSettings indexSettings = createIndexSettings();
+        final MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST));
+        final SearchContext context = createSearchContext(searcher, indexSettings, query, bucketConsumer, fieldTypes);
+        final ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(new SearchSourceBuilder().aggregation(builder));
+        when(context.request()).thenReturn(request);
+        when(context.indexShard().indexSettings()).thenReturn(indexSettings);
+        when(context.queryResult()).thenReturn(new QuerySearchResult());
+        final SearchContextAggregations aggregations = new SearchContextAggregations(
+            builder.build(context.getQueryShardContext(), null), bucketConsumer);
+        when(context.aggregations()).thenReturn(aggregations);
+
+        final Aggregator[] aggregators = aggregations.factories().createTopLevelAggregators(context);
+        final BucketCollector collector = MultiBucketCollector.wrap(aggregators);
+        collector.preCollection();
+        final CachedSegmentAggregations cachedSegments = cache == null ? null : CachedSegmentAggregations.create(context, cache);
+        context.searcher().search(query, cachedSegments == null ? collector : cachedSegments.wrap(collector));
+        collector.postCollection();
+
+        final List<InternalAggregation> built = new ArrayList<>();
+        aggregations.resetBucketMultiConsumer();
+        for (Aggregator aggregator : aggregators) {
+            built.add(aggregator.buildTopLevel());
+        }
+        final List<InternalAggregations> slices = new ArrayList<>();
+        slices.add(InternalAggregations.from(built));
+        if (cachedSegments != null) {
+            slices.addAll(cachedSegments.buildSegmentResults());
+        }
+        return InternalAggregations.reduce(slices,
+            InternalAggregation.ReduceContext.forPartialReduction(context.bigArrays(), null, () -> PipelineTree.EMPTY));
+    }
+
+    private static IndexWriter newWriter(Directory dir) throws IOException {
+        return new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+    }
+
+    /**
+     * Adds a segment with the given minimum and maximum timestamps and random timestamps in between.
+     */
+    private static void addSegment(IndexWriter writer, long min, long max) throws IOException {
+        addDocument(writer, min);
+        addDocument(writer, max);
+        final int numDocs = randomIntBetween(0, 20);
+        for (int i = 0; i < numDocs; i++) {
+            addDocument(writer, randomLongBetween(min, max));
+        }
+        writer.commit();
+    }
+
+    private static void addDocument(IndexWriter writer, long timestamp) throws IOException {
+        final Document doc = new Document();
+        doc.add(new LongPoint(TIMESTAMP, timestamp));
+        doc.add(new SortedNumericDocValuesField(TIMESTAMP, timestamp));
+        doc.add(new SortedNumericDocValuesField(VALUE, randomLongBetween(0, 100)));
+        doc.add(new StringField("tag", randomFrom("a", "b"), Field.Store.NO));
+        writer.addDocument(doc);
+    }
+}
@@ -2251,6 +2251,41 @@ public class CompositeAggregatorTests  extends AggregatorTestCase {
         }
     }
 
+    public void testIndexSortPagination() throws Exception {
+        final List<Map<String, List<Object>>> dataset = new ArrayList<>();
+        final int numValues = randomIntBetween(20, 50);
+        for (int i = 0; i < numValues; i++) {
+            dataset.add(createDocument("long", (long) i));
+        }
+        final int size = randomIntBetween(1, 10);
+        final AtomicLong next = new AtomicLong();
+        final AtomicBoolean done = new AtomicBoolean();
+        while (done.get() == false) {
+            final long after = next.get();
+            executeTestCase(false, true, new MatchAllDocsQuery(),
+                dataset,
+                () -> {
+                    CompositeAggregationBuilder builder = new CompositeAggregationBuilder("name",
+                        Collections.singletonList(new TermsValuesSourceBuilder("long").field("long"))).size(size);
+                    return after == 0 ? builder : builder.aggregateAfter(createAfterKey("long", after - 1));
+                },
+                (result) -> {
+                    if (result.getBuckets().isEmpty()) {
+                        assertEquals(numValues, after);
+                        done.set(true);
+                        return;
+                    }
+                    assertEquals(Math.min(size, numValues - after), result.getBuckets().size());
+                    for (int i = 0; i < result.getBuckets().size(); i++) {
+                        assertEquals(after + i, result.getBuckets().get(i).getKey().get("long"));
+                        assertEquals(1L, result.getBuckets().get(i).getDocCount());
+                    }
+                    next.addAndGet(result.getBuckets().size());
+                }
+            );
+        }
+    }
+
     private void testSearchCase(List<Query> queries,
                                 List<Map<String, List<Object>>> dataset,
                                 Supplier<CompositeAggregationBuilder> create,
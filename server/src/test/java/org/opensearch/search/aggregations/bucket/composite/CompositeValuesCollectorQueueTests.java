@@ -69,6 +69,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.DOUBLE;
@@ -87,6 +88,54 @@ public class CompositeValuesCollectorQueueTests extends AggregatorTestCase {
         }
     }
 
+    public void testTermsProducerCountsSkippedDocs() throws IOException {
+        final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("keyword");
+        final int size = randomIntBetween(1, 10);
+        final int numTerms = randomIntBetween(1, 30);
+        final int[] docsPerTerm = new int[numTerms];
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory, new KeywordAnalyzer())) {
+                for (int i = 0; i < numTerms; i++) {
+                    final String term = String.format(Locale.ROOT, "%03d", i);
+                    docsPerTerm[i] = randomIntBetween(1, 3);
+                    for (int j = 0; j < docsPerTerm[i]; j++) {
+                        final Document document = new Document();
+                        document.add(new SortedSetDocValuesField(fieldType.name(), new BytesRef(term)));
+                        document.add(new TextField(fieldType.name(), term, Field.Store.NO));
+                        indexWriter.addDocument(document);
+                    }
+                }
+                indexWriter.forceMerge(1);
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final SingleDimensionValuesSource<?>[] sources = new SingleDimensionValuesSource<?>[] {
+                    new GlobalOrdinalValuesSource(
+                        BigArrays.NON_RECYCLING_INSTANCE,
+                        fieldType,
+                        context -> DocValues.getSortedSet(context.reader(), fieldType.name()),
+                        DocValueFormat.RAW,
+                        false,
+                        size,
+                        1
+                    ) };
+                final CompositeValuesCollectorQueue queue = new CompositeValuesCollectorQueue(BigArrays.NON_RECYCLING_INSTANCE,
+                    sources, size, null);
+                final SortedDocsProducer docsProducer = sources[0].createSortedDocsProducerOrNull(reader, new MatchAllDocsQuery());
+                final boolean countSkippedDocs = randomBoolean();
+                docsProducer.setCountSkippedDocs(countSkippedDocs);
+                docsProducer.processLeaf(new MatchAllDocsQuery(), queue, reader.leaves().get(0), false);
+
+                // the leaf terminates once the term after the top buckets is not competitive
+                long expectedDocsSkipped = 0;
+                for (int i = size + 1; i < numTerms; i++) {
+                    expectedDocsSkipped += docsPerTerm[i];
+                }
+                assertThat(docsProducer.leavesEarlyTerminated(), equalTo(numTerms > size ? 1 : 0));
+                assertThat(docsProducer.docsSkipped(), equalTo(countSkippedDocs ? expectedDocsSkipped : 0L));
+            }
+        }
+    }
+
     public void testRandomLong() throws IOException {
         testRandomCase(new ClassAndName(createNumber("long", LONG) , Long.class));
     }
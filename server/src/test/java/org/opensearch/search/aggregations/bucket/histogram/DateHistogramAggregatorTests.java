@@ -32,34 +32,65 @@
 
 package org.opensearch.search.aggregations.bucket.histogram;
 
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Rounding;
 import org.opensearch.common.time.DateFormatters;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.codec.startree.StarTreeConfig;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
 import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberType;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCase {
     /**
@@ -1167,6 +1198,204 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         assertWarnings("[interval] on [date_histogram] is deprecated, use [fixed_interval] or [calendar_interval] in the future.");
     }
 
+    /**
+     * Compares the histogram with counts computed by hand, for match all and range queries that are eligible to count the documents
+     * from the points of the field, and for segments that have to fall back to collecting documents.
+     */
+    public void testCountFromPoints() throws IOException {
+        final DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        final Rounding.Prepared rounding = Rounding.builder(Rounding.DateTimeUnit.DAY_OF_MONTH).build().prepareForUnknown();
+        final long start = asLong("2020-01-01T00:00:00");
+        final long end = asLong("2020-03-01T00:00:00");
+        final long from = randomLongBetween(start, end);
+        final long to = randomLongBetween(from, end);
+        final boolean multiValued = randomBoolean();
+        final boolean deletes = randomBoolean();
+
+        final Map<Long, Integer> expectedAll = new TreeMap<>();
+        final Map<Long, Integer> expectedRange = new TreeMap<>();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numDocs = randomIntBetween(1, 1000);
+                for (int i = 0; i < numDocs; i++) {
+                    final boolean deleted = deletes && randomBoolean();
+                    final int numValues = multiValued ? randomIntBetween(1, 3) : 1;
+                    final Set<Long> buckets = new HashSet<>();
+                    boolean matchesRange = false;
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    for (int j = 0; j < numValues; j++) {
+                        final long value = randomLongBetween(start, end);
+                        document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, value));
+                        document.add(new LongPoint(AGGREGABLE_DATE, value));
+                        buckets.add(rounding.round(value));
+                        matchesRange |= value >= from && value <= to;
+                    }
+                    indexWriter.addDocument(document);
+                    if (deleted) {
+                        indexWriter.deleteDocuments(new Term("id", Integer.toString(i)));
+                    } else {
+                        buckets.forEach(bucket -> expectedAll.merge(bucket, 1, Integer::sum));
+                        if (matchesRange) {
+                            // all values of a matching document are aggregated
+                            buckets.forEach(bucket -> expectedRange.merge(bucket, 1, Integer::sum));
+                        }
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                final Query rangeQuery = new IndexOrDocValuesQuery(LongPoint.newRangeQuery(AGGREGABLE_DATE, from, to),
+                    SortedNumericDocValuesField.newSlowRangeQuery(AGGREGABLE_DATE, from, to));
+                for (Query query : Arrays.asList(new MatchAllDocsQuery(), new ConstantScoreQuery(rangeQuery))) {
+                    final DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name")
+                        .calendarInterval(DateHistogramInterval.DAY)
+                        .field(AGGREGABLE_DATE);
+                    final InternalDateHistogram histogram = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                    final Map<Long, Integer> actual = new TreeMap<>();
+                    for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+                        actual.put(((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli(), (int) bucket.getDocCount());
+                    }
+                    assertThat(actual, equalTo(query instanceof MatchAllDocsQuery ? expectedAll : expectedRange));
+
+                    // segments with deletes, or whose documents have several values, fall back to collecting documents
+                    final DateHistogramAggregator aggregator = createAggregator(query, aggregationBuilder, indexSearcher,
+                        createIndexSettings(), fieldType);
+                    aggregator.preCollection();
+                    indexSearcher.search(query, aggregator);
+                    aggregator.postCollection();
+                    final Map<String, Object> debug = new HashMap<>();
+                    aggregator.collectDebugInfo(debug::put);
+                    final List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+                    final int countedFromPoints = (int) debug.get("segments_counted_from_points");
+                    final int collected = (int) debug.get("segments_collected");
+                    assertThat(debug.get("segments_collected_from_star_tree"), equalTo(0));
+                    assertThat(countedFromPoints + collected, equalTo(leaves.size()));
+                    final int segmentsWithoutDeletes = (int) leaves.stream().filter(leaf -> leaf.reader().getLiveDocs() == null).count();
+                    if (multiValued) {
+                        assertThat(countedFromPoints, lessThanOrEqualTo(segmentsWithoutDeletes));
+                    } else {
+                        assertThat(countedFromPoints, equalTo(segmentsWithoutDeletes));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the histogram and its sub-aggregations with values computed by hand on an index whose segments pre-aggregate their
+     * documents in a star tree, which is collected instead of the documents unless the segment has deletes.
+     */
+    public void testCollectFromStarTree() throws IOException {
+        testCollectFromStarTree(Aggregator.SubAggCollectionMode.DEPTH_FIRST);
+    }
+
+    /**
+     * Deferred sub-aggregations replay the documents of the best buckets, so segments are collected document by document.
+     */
+    public void testCollectFromStarTreeBreadthFirst() throws IOException {
+        testCollectFromStarTree(Aggregator.SubAggCollectionMode.BREADTH_FIRST);
+    }
+
+    private void testCollectFromStarTree(Aggregator.SubAggCollectionMode collectMode) throws IOException {
+        final DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        final KeywordFieldMapper.KeywordFieldType hostFieldType = new KeywordFieldMapper.KeywordFieldType("host");
+        final NumberFieldMapper.NumberFieldType bytesFieldType = new NumberFieldMapper.NumberFieldType("bytes", NumberType.LONG);
+        final DocValuesFormat format = new StarTreeDocValuesFormat(() -> new StarTreeConfig(
+            AGGREGABLE_DATE,
+            60_000,
+            new String[] { "host" },
+            new String[] { "bytes" },
+            new IndexNumericFieldData.NumericType[] { IndexNumericFieldData.NumericType.LONG }
+        ));
+        final Codec codec = new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return format;
+            }
+        };
+        final String interval = randomFrom("1m", "5m", "1h");
+        final Rounding.Prepared rounding = Rounding.builder(TimeValue.parseTimeValue(interval, "interval")).build().prepareForUnknown();
+        final long start = asLong("2020-01-01T00:00:00");
+        final long end = asLong("2020-01-01T02:00:00");
+        final boolean deletes = randomBoolean();
+
+        final Map<Long, Integer> expectedCounts = new TreeMap<>();
+        final Map<Long, Map<String, Long>> expectedBytes = new TreeMap<>();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec))) {
+                final int numDocs = randomIntBetween(1000, 2000);
+                for (int i = 0; i < numDocs; i++) {
+                    final long date = randomLongBetween(start, end);
+                    final String host = randomFrom("a", "b", "c");
+                    final long bytes = randomLongBetween(0, 1000);
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, date));
+                    document.add(new LongPoint(AGGREGABLE_DATE, date));
+                    document.add(new SortedSetDocValuesField("host", new BytesRef(host)));
+                    document.add(new SortedNumericDocValuesField("bytes", bytes));
+                    indexWriter.addDocument(document);
+                    if (deletes && randomBoolean()) {
+                        indexWriter.deleteDocuments(new Term("id", Integer.toString(i)));
+                    } else {
+                        final long bucket = rounding.round(date);
+                        expectedCounts.merge(bucket, 1, Integer::sum);
+                        expectedBytes.computeIfAbsent(bucket, k -> new TreeMap<>()).merge(host, bytes, Long::sum);
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, false, false);
+                final Query query = randomBoolean() ? new MatchAllDocsQuery() : LongPoint.newRangeQuery(AGGREGABLE_DATE, start, end);
+                final DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name")
+                    .fixedInterval(new DateHistogramInterval(interval))
+                    .field(AGGREGABLE_DATE)
+                    .subAggregation(
+                        new TermsAggregationBuilder("hosts").field("host")
+                            .collectMode(collectMode)
+                            .subAggregation(new SumAggregationBuilder("bytes").field("bytes"))
+                    );
+                final DateHistogramAggregator aggregator = createAggregator(
+                    query,
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType,
+                    hostFieldType,
+                    bytesFieldType
+                );
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                final Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                if (collectMode == Aggregator.SubAggCollectionMode.BREADTH_FIRST) {
+                    assertThat(debug.get("segments_collected_from_star_tree"), equalTo(0));
+                } else if (deletes == false) {
+                    assertThat(debug.get("segments_collected_from_star_tree"), equalTo(indexReader.leaves().size()));
+                }
+
+                final InternalDateHistogram histogram = (InternalDateHistogram) aggregator.buildTopLevel();
+                final Map<Long, Integer> actualCounts = new TreeMap<>();
+                final Map<Long, Map<String, Long>> actualBytes = new TreeMap<>();
+                for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+                    final long key = ((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli();
+                    actualCounts.put(key, (int) bucket.getDocCount());
+                    final StringTerms hosts = bucket.getAggregations().get("hosts");
+                    for (StringTerms.Bucket host : hosts.getBuckets()) {
+                        final Sum bytes = host.getAggregations().get("bytes");
+                        actualBytes.computeIfAbsent(key, k -> new TreeMap<>()).put(host.getKeyAsString(), (long) bytes.getValue());
+                    }
+                }
+                assertThat(actualCounts, equalTo(expectedCounts));
+                assertThat(actualBytes, equalTo(expectedBytes));
+            }
+        }
+    }
+
     private void testSearchCase(Query query, List<String> dataset,
                                 Consumer<DateHistogramAggregationBuilder> configure,
                                 Consumer<InternalDateHistogram> verify, boolean useNanosecondResolution) throws IOException {
@@ -32,34 +32,49 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.tasks.TaskCancelledException;
 
 import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singleton;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.hamcrest.Matchers.equalTo;
 
 public class RangeAggregatorTests extends AggregatorTestCase {
@@ -308,6 +323,116 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testCountWithFilters() throws IOException {
+        final boolean floatingPoint = randomBoolean();
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME,
+            floatingPoint ? NumberFieldMapper.NumberType.DOUBLE : NumberFieldMapper.NumberType.LONG);
+        // sorted like the aggregation sorts its ranges
+        final double[][] ranges = new double[][] {
+            { Double.NEGATIVE_INFINITY, -10.5 },
+            { -10.5, 0 },
+            { -3, 30 },
+            { 0, 12.25 },
+            { 30, Double.POSITIVE_INFINITY } };
+        final boolean multiValued = randomBoolean();
+        final boolean deletes = randomBoolean();
+
+        final int[] expectedAll = new int[ranges.length];
+        final int[] expectedTagged = new int[ranges.length];
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numDocs = randomIntBetween(1, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    final boolean tagged = randomBoolean();
+                    if (tagged) {
+                        document.add(new StringField("tag", "yes", Field.Store.NO));
+                    }
+                    final boolean[] matches = new boolean[ranges.length];
+                    final int numValues = multiValued ? randomIntBetween(1, 3) : 1;
+                    for (int j = 0; j < numValues; j++) {
+                        final double value;
+                        if (floatingPoint) {
+                            value = rarely() ? -0d : randomIntBetween(-100, 100) / 2d;
+                            document.add(new DoublePoint(NUMBER_FIELD_NAME, value));
+                            document.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, NumericUtils.doubleToSortableLong(value)));
+                        } else {
+                            value = randomIntBetween(-50, 50);
+                            document.add(new LongPoint(NUMBER_FIELD_NAME, (long) value));
+                            document.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, (long) value));
+                        }
+                        for (int r = 0; r < ranges.length; r++) {
+                            matches[r] |= value >= ranges[r][0] && value < ranges[r][1];
+                        }
+                    }
+                    indexWriter.addDocument(document);
+                    if (deletes && randomBoolean()) {
+                        indexWriter.deleteDocuments(new Term("id", Integer.toString(i)));
+                    } else {
+                        for (int r = 0; r < ranges.length; r++) {
+                            if (matches[r]) {
+                                expectedAll[r]++;
+                                if (tagged) {
+                                    expectedTagged[r]++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                for (Query query : Arrays.asList(new MatchAllDocsQuery(), new TermQuery(new Term("tag", "yes")))) {
+                    final RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("_name").field(NUMBER_FIELD_NAME);
+                    for (double[] range : ranges) {
+                        aggregationBuilder.addRange(range[0], range[1]);
+                    }
+                    final InternalRange<? extends InternalRange.Bucket, ? extends InternalRange> result = searchAndReduce(indexSearcher,
+                        query, aggregationBuilder, fieldType);
+                    final int[] actual = new int[ranges.length];
+                    for (int r = 0; r < ranges.length; r++) {
+                        actual[r] = (int) result.getBuckets().get(r).getDocCount();
+                    }
+                    assertArrayEquals(query instanceof MatchAllDocsQuery ? expectedAll : expectedTagged, actual);
+                }
+            }
+        }
+    }
+
+    public void testCountWithFiltersChecksCancellation() throws IOException {
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 100; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("tag", "yes", Field.Store.NO));
+                    document.add(new LongPoint(NUMBER_FIELD_NAME, i));
+                    document.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, i));
+                    indexWriter.addDocument(document);
+                }
+                indexWriter.forceMerge(1);
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, false, false);
+                final Query query = randomBoolean() ? new MatchAllDocsQuery() : new TermQuery(new Term("tag", "yes"));
+                final SearchContext context = createSearchContext(indexSearcher, createIndexSettings(), query,
+                    new MultiBucketConsumer(DEFAULT_MAX_BUCKETS, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)),
+                    fieldType);
+                final RangeAggregator aggregator = createAggregator(
+                    new RangeAggregationBuilder("_name").field(NUMBER_FIELD_NAME).addRange(10, 20), context);
+                aggregator.preCollection();
+                context.searcher().addQueryCancellation(() -> {
+                    throw new TaskCancelledException("cancelled");
+                });
+                // the documents of the segment are counted without being collected through the searcher
+                expectThrows(TaskCancelledException.class, () -> aggregator.getLeafCollector(indexReader.leaves().get(0)));
+            }
+        }
+    }
+
     private void testCase(Query query,
                           CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalRange<? extends InternalRange.Bucket, ? extends InternalRange>> verify) throws IOException {
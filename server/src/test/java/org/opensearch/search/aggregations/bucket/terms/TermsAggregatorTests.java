@@ -45,9 +45,12 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
@@ -117,9 +120,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -132,6 +138,7 @@ import static org.opensearch.search.aggregations.PipelineAggregatorBuilders.buck
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -252,6 +259,59 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testSegmentOrdinals() throws Exception {
+        final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+        try (Directory directory = newDirectory()) {
+            final Map<String, Integer> expected = new TreeMap<>();
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numSegments = randomIntBetween(1, 5);
+                for (int segment = 0; segment < numSegments; segment++) {
+                    final int numDocs = randomIntBetween(1, 100);
+                    for (int i = 0; i < numDocs; i++) {
+                        final Document document = new Document();
+                        final Set<String> values = new HashSet<>();
+                        final int numValues = randomIntBetween(0, 3);
+                        for (int j = 0; j < numValues; j++) {
+                            values.add("val" + randomIntBetween(0, 20));
+                        }
+                        for (String value : values) {
+                            document.add(new SortedSetDocValuesField("string", new BytesRef(value)));
+                            if (value.startsWith("val1")) {
+                                expected.merge(value, 1, Integer::sum);
+                            }
+                        }
+                        indexWriter.addDocument(document);
+                    }
+                    indexWriter.commit();
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                    .executionHint("segment_ordinals")
+                    .includeExclude(new IncludeExclude("val1.*", null))
+                    .field("string")
+                    .size(20);
+                TermsAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                assertThat(aggregator, instanceOf(MapStringTermsAggregator.SegmentOrds.class));
+
+                final StringTerms result = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), aggregationBuilder, fieldType);
+                final Map<String, Integer> actual = new TreeMap<>();
+                for (StringTerms.Bucket bucket : result.getBuckets()) {
+                    actual.put(bucket.getKeyAsString(), (int) bucket.getDocCount());
+                }
+                assertThat(actual, equalTo(expected));
+
+                // sub-aggregations need the documents of each bucket, so these fall back to hashing the terms of each document
+                aggregationBuilder.subAggregation(AggregationBuilders.cardinality("card").field("string"));
+                aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                assertThat(aggregator, instanceOf(MapStringTermsAggregator.class));
+                assertThat(aggregator, not(instanceOf(MapStringTermsAggregator.SegmentOrds.class)));
+            }
+        }
+    }
+
     public void testSimple() throws Exception {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
@@ -1410,6 +1470,61 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testCountWithFilters() throws IOException {
+        final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("keyword");
+        final boolean multiValued = randomBoolean();
+        final boolean deletes = randomBoolean();
+
+        final Map<String, Integer> expectedAll = new TreeMap<>();
+        final Map<String, Integer> expectedTagged = new TreeMap<>();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numDocs = randomIntBetween(1, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    final boolean tagged = randomBoolean();
+                    if (tagged) {
+                        document.add(new StringField("tag", "yes", Field.Store.NO));
+                    }
+                    final Set<String> values = new HashSet<>();
+                    final int numValues = multiValued ? randomIntBetween(1, 3) : 1;
+                    for (int j = 0; j < numValues; j++) {
+                        values.add("value" + randomIntBetween(0, 9));
+                    }
+                    for (String value : values) {
+                        document.add(new StringField("keyword", value, Field.Store.NO));
+                        document.add(new SortedSetDocValuesField("keyword", new BytesRef(value)));
+                    }
+                    indexWriter.addDocument(document);
+                    if (deletes && randomBoolean()) {
+                        indexWriter.deleteDocuments(new Term("id", Integer.toString(i)));
+                    } else {
+                        for (String value : values) {
+                            expectedAll.merge(value, 1, Integer::sum);
+                            if (tagged) {
+                                expectedTagged.merge(value, 1, Integer::sum);
+                            }
+                        }
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                for (Query query : asList(new MatchAllDocsQuery(), new TermQuery(new Term("tag", "yes")))) {
+                    final TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field("keyword").size(10);
+                    final StringTerms result = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                    final Map<String, Integer> actual = new TreeMap<>();
+                    for (StringTerms.Bucket bucket : result.getBuckets()) {
+                        actual.put(bucket.getKeyAsString(), (int) bucket.getDocCount());
+                    }
+                    assertThat(actual, equalTo(query instanceof MatchAllDocsQuery ? expectedAll : expectedTagged));
+                }
+            }
+        }
+    }
+
     private final SeqNoFieldMapper.SequenceIDFields sequenceIDFields = SeqNoFieldMapper.SequenceIDFields.emptySeqID();
     private List<Document> generateDocsWithNested(String id, int value, int[] nestedValues) {
         List<Document> documents = new ArrayList<>();
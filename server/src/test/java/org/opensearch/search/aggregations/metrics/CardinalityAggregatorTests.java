@@ -36,12 +36,15 @@ import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.geo.GeoPoint;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.mapper.RangeFieldMapper;
@@ -186,6 +189,22 @@ public class CardinalityAggregatorTests extends AggregatorTestCase {
         }, null);
     }
 
+    public void testStringWithRepeatedTerms() throws IOException {
+        // enough terms for the bit sets of the ordinals collector to be considered too expensive
+        final int numTerms = randomIntBetween(2000, 3000);
+        final CardinalityAggregationBuilder aggregationBuilder = new CardinalityAggregationBuilder("name")
+            .field("str").precisionThreshold(100);
+        final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("str");
+        testAggregation(aggregationBuilder, new MatchAllDocsQuery(), iw -> {
+            for (int i = 0; i < numTerms * 2; i++) {
+                iw.addDocument(singleton(new SortedSetDocValuesField("str", new BytesRef("term" + (i % numTerms)))));
+            }
+        }, card -> {
+            assertEquals(numTerms, card.getValue(), numTerms * 0.1);
+            assertTrue(AggregationInspectionHelper.hasValue(card));
+        }, fieldType);
+    }
+
     private void testAggregation(Query query, CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalCardinality> verify) throws IOException {
         MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
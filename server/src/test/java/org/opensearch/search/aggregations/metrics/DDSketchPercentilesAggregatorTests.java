@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.ValuesSourceType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+
+public class DDSketchPercentilesAggregatorTests extends AggregatorTestCase {
+
+    @Override
+    protected AggregationBuilder createAggBuilderForTypeTest(MappedFieldType fieldType, String fieldName) {
+        return new PercentilesAggregationBuilder("ddsketch_percentiles")
+            .field(fieldName)
+            .percentilesConfig(new PercentilesConfig.DDSketch());
+    }
+
+    @Override
+    protected List<ValuesSourceType> getSupportedValuesSourceTypes() {
+        return Arrays.asList(CoreValuesSourceType.NUMERIC,
+            CoreValuesSourceType.DATE,
+            CoreValuesSourceType.BOOLEAN);
+    }
+
+    public void testNoDocs() throws IOException {
+        testCase(new MatchAllDocsQuery(), iw -> {
+            // Intentionally not writing any docs
+        }, ddSketch -> {
+            assertEquals(0L, ddSketch.state.count());
+            assertTrue(Double.isNaN(ddSketch.percentile(50)));
+            assertFalse(AggregationInspectionHelper.hasValue(ddSketch));
+        });
+    }
+
+    public void testSomeMatchesSortedNumericDocValues() throws IOException {
+        testCase(new DocValuesFieldExistsQuery("number"), iw -> {
+            iw.addDocument(singleton(new SortedNumericDocValuesField("number", 60)));
+            iw.addDocument(singleton(new SortedNumericDocValuesField("number", 40)));
+            iw.addDocument(singleton(new SortedNumericDocValuesField("number", 20)));
+            iw.addDocument(singleton(new SortedNumericDocValuesField("number", 10)));
+        }, ddSketch -> {
+            assertEquals(4L, ddSketch.state.count());
+            assertEquals(10.0d, ddSketch.percentile(25), 10.0d * DDSketchState.DEFAULT_RELATIVE_ACCURACY);
+            assertEquals(20.0d, ddSketch.percentile(50), 20.0d * DDSketchState.DEFAULT_RELATIVE_ACCURACY);
+            assertEquals(40.0d, ddSketch.percentile(75), 40.0d * DDSketchState.DEFAULT_RELATIVE_ACCURACY);
+            assertEquals(60.0d, ddSketch.percentile(99), 60.0d * DDSketchState.DEFAULT_RELATIVE_ACCURACY);
+            assertTrue(AggregationInspectionHelper.hasValue(ddSketch));
+        });
+    }
+
+    public void testQueryFiltering() throws IOException {
+        final CheckedConsumer<RandomIndexWriter, IOException> docs = iw -> {
+            iw.addDocument(asList(new LongPoint("row", 4), new SortedNumericDocValuesField("number", 60)));
+            iw.addDocument(asList(new LongPoint("row", 3), new SortedNumericDocValuesField("number", 40)));
+            iw.addDocument(asList(new LongPoint("row", 2), new SortedNumericDocValuesField("number", 20)));
+            iw.addDocument(asList(new LongPoint("row", 1), new SortedNumericDocValuesField("number", 10)));
+        };
+
+        testCase(LongPoint.newRangeQuery("row", 0, 2), docs, ddSketch -> {
+            assertEquals(2L, ddSketch.state.count());
+            assertEquals(10.0d, ddSketch.percentile(randomDoubleBetween(1, 50, true)), 0.1d);
+            assertTrue(AggregationInspectionHelper.hasValue(ddSketch));
+        });
+
+        testCase(LongPoint.newRangeQuery("row", 5, 10), docs, ddSketch -> {
+            assertEquals(0L, ddSketch.state.count());
+            assertFalse(AggregationInspectionHelper.hasValue(ddSketch));
+        });
+    }
+
+    public void testParseConfig() throws IOException {
+        final String agg = "{\n" +
+            "       \"percentiles\": {\n" +
+            "           \"field\": \"load_time\",\n" +
+            "           \"percents\": [99],\n" +
+            "           \"ddsketch\": {\n" +
+            "               \"relative_accuracy\": 0.02,\n" +
+            "               \"max_bins\": 512\n" +
+            "           }\n" +
+            "   }\n" +
+            "}";
+        XContentParser parser = createParser(JsonXContent.jsonXContent, agg);
+        assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+        assertEquals(XContentParser.Token.FIELD_NAME, parser.nextToken());
+        PercentilesAggregationBuilder builder = PercentilesAggregationBuilder.parse("myPercentiles", parser);
+        assertEquals(new PercentilesConfig.DDSketch(0.02, 512), builder.percentilesConfig());
+    }
+
+    private void testCase(Query query, CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
+                          Consumer<InternalDDSketchPercentiles> verify) throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                buildIndex.accept(indexWriter);
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+
+                PercentilesAggregationBuilder builder = new PercentilesAggregationBuilder("test").field("number")
+                    .percentilesConfig(new PercentilesConfig.DDSketch());
+                DDSketchPercentilesAggregator aggregator = createAggregator(builder, indexSearcher, fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                verify.accept((InternalDDSketchPercentiles) aggregator.buildAggregation(0L));
+            }
+        }
+    }
+}
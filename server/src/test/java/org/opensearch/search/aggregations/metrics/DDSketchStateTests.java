@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class DDSketchStateTests extends OpenSearchTestCase {
+
+    public void testEmpty() {
+        DDSketchState state = new DDSketchState(DDSketchState.DEFAULT_RELATIVE_ACCURACY, DDSketchState.DEFAULT_MAX_BINS);
+        assertEquals(0, state.count());
+        assertTrue(Double.isNaN(state.quantile(0.5)));
+        assertTrue(Double.isNaN(state.cdf(0)));
+    }
+
+    public void testRelativeAccuracy() {
+        final double relativeAccuracy = randomFrom(0.005, 0.01, 0.05);
+        DDSketchState state = new DDSketchState(relativeAccuracy, DDSketchState.DEFAULT_MAX_BINS);
+        final double[] values = new double[randomIntBetween(1, 10000)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomBoolean() ? randomDoubleBetween(-1e6, 1e6, true) : randomIntBetween(-5, 5);
+            state.add(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(values.length, state.count());
+        assertEquals(values[0], state.getMin(), 0d);
+        assertEquals(values[values.length - 1], state.getMax(), 0d);
+        for (double q : new double[] { 0, 0.01, 0.25, 0.5, 0.75, 0.9, 0.99, 1 }) {
+            final double expected = values[(int) Math.floor(q * (values.length - 1))];
+            assertEquals("quantile " + q, expected, state.quantile(q), Math.abs(expected) * relativeAccuracy * 1.0001);
+        }
+    }
+
+    public void testCdf() {
+        DDSketchState state = new DDSketchState(0.01, DDSketchState.DEFAULT_MAX_BINS);
+        for (int i = 1; i <= 100; i++) {
+            state.add(i);
+        }
+        assertEquals(0, state.cdf(0.5), 0d);
+        assertEquals(0.5, state.cdf(50), 0.02);
+        assertEquals(1, state.cdf(100), 0d);
+    }
+
+    public void testMaxBinsCollapsesLowestValues() {
+        DDSketchState state = new DDSketchState(0.01, 32);
+        for (int i = 1; i <= 1000; i++) {
+            state.add(i);
+        }
+        assertEquals(1000, state.count());
+        assertEquals(1, state.quantile(0), 0d);
+        // the highest quantiles keep their accuracy, the lowest ones are collapsed
+        assertEquals(990, state.quantile(0.99), 990 * 0.01);
+        assertEquals(1000, state.quantile(1), 0d);
+        assertTrue(state.byteSize() <= 2 * 32 * Long.BYTES);
+    }
+
+    public void testMerge() {
+        final double relativeAccuracy = 0.01;
+        DDSketchState expected = new DDSketchState(relativeAccuracy, DDSketchState.DEFAULT_MAX_BINS);
+        DDSketchState first = new DDSketchState(relativeAccuracy, DDSketchState.DEFAULT_MAX_BINS);
+        DDSketchState second = new DDSketchState(relativeAccuracy, DDSketchState.DEFAULT_MAX_BINS);
+        final int numValues = randomIntBetween(0, 1000);
+        for (int i = 0; i < numValues; i++) {
+            final double value = randomDoubleBetween(-1000, 1000, true);
+            expected.add(value);
+            (randomBoolean() ? first : second).add(value);
+        }
+        first.add(second);
+        assertEquals(expected, first);
+        assertEquals(expected.hashCode(), first.hashCode());
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> first.add(new DDSketchState(0.02, DDSketchState.DEFAULT_MAX_BINS)));
+        assertEquals("Cannot merge sketches with different relative accuracies [0.01] and [0.02]", e.getMessage());
+    }
+
+    public void testSerialization() throws IOException {
+        DDSketchState state = new DDSketchState(randomDoubleBetween(0.001, 0.1, true), randomIntBetween(1, 4096));
+        final int numValues = randomIntBetween(0, 1000);
+        for (int i = 0; i < numValues; i++) {
+            state.add(randomDoubleBetween(-1e6, 1e6, true));
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            DDSketchState.write(state, out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(state, DDSketchState.read(in));
+            }
+        }
+    }
+
+    public void testInvalidSettings() {
+        expectThrows(IllegalArgumentException.class, () -> new DDSketchState(0, 10));
+        expectThrows(IllegalArgumentException.class, () -> new DDSketchState(1, 10));
+        expectThrows(IllegalArgumentException.class, () -> new DDSketchState(0.01, 0));
+        DDSketchState state = new DDSketchState(0.01, 10);
+        expectThrows(IllegalArgumentException.class, () -> state.add(Double.NaN));
+    }
+}
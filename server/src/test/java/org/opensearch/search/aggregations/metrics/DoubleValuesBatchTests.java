@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DoubleValuesBatchTests extends OpenSearchTestCase {
+
+    public void testSum() {
+        final double[] values = randomValues(randomIntBetween(0, DoubleValuesBatch.BLOCK_SIZE));
+        final CompensatedSum expected = new CompensatedSum(0, 0);
+        final CompensatedSum expectedOfSquares = new CompensatedSum(0, 0);
+        for (double value : values) {
+            expected.add(value);
+            expectedOfSquares.add(value * value);
+        }
+        final CompensatedSum sum = new CompensatedSum(0, 0);
+        DoubleValuesBatch.sum(values, values.length, sum);
+        assertEquals(expected.value(), sum.value(), Math.abs(expected.value()) * 1e-10);
+        final CompensatedSum sumOfSquares = new CompensatedSum(0, 0);
+        DoubleValuesBatch.sumOfSquares(values, values.length, sumOfSquares);
+        assertEquals(expectedOfSquares.value(), sumOfSquares.value(), Math.abs(expectedOfSquares.value()) * 1e-10);
+    }
+
+    public void testSumNonFinite() {
+        final double[] values = randomValues(randomIntBetween(1, DoubleValuesBatch.BLOCK_SIZE));
+        values[randomIntBetween(0, values.length - 1)] = randomFrom(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN);
+        final CompensatedSum expected = new CompensatedSum(0, 0);
+        for (double value : values) {
+            expected.add(value);
+        }
+        final CompensatedSum sum = new CompensatedSum(0, 0);
+        DoubleValuesBatch.sum(values, values.length, sum);
+        assertEquals(expected.value(), sum.value(), 0d);
+    }
+
+    public void testMinMax() {
+        final double[] values = randomValues(randomIntBetween(1, DoubleValuesBatch.BLOCK_SIZE));
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        assertEquals(min, DoubleValuesBatch.min(values, values.length, Double.POSITIVE_INFINITY), 0d);
+        assertEquals(max, DoubleValuesBatch.max(values, values.length, Double.NEGATIVE_INFINITY), 0d);
+    }
+
+    public void testCollect() throws IOException {
+        final List<Double> accumulated = new ArrayList<>();
+        final DoubleValuesBatch batch = new DoubleValuesBatch((values, length) -> {
+            assertTrue(length > 0 && length <= DoubleValuesBatch.BLOCK_SIZE);
+            for (int i = 0; i < length; i++) {
+                accumulated.add(values[i]);
+            }
+        });
+        final List<Double> expected = new ArrayList<>();
+        final int numDocs = randomIntBetween(0, DoubleValuesBatch.BLOCK_SIZE * 4);
+        for (int doc = 0; doc < numDocs; doc++) {
+            final double[] docValues = randomValues(randomIntBetween(1, 5));
+            for (double value : docValues) {
+                expected.add(value);
+            }
+            batch.collect(new SortedNumericDoubleValues() {
+                int i = 0;
+
+                @Override
+                public boolean advanceExact(int target) {
+                    return true;
+                }
+
+                @Override
+                public double nextValue() {
+                    return docValues[i++];
+                }
+
+                @Override
+                public int docValueCount() {
+                    return docValues.length;
+                }
+            });
+        }
+        batch.flush();
+        assertEquals(expected, accumulated);
+    }
+
+    private static double[] randomValues(int length) {
+        final double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = randomDoubleBetween(-1000, 1000, true);
+        }
+        return values;
+    }
+}
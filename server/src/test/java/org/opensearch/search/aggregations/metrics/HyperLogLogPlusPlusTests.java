@@ -47,6 +47,7 @@ import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX
 import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MIN_PRECISION;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -185,6 +186,64 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         assertThat(total.get(), equalTo(0L));
     }
 
+    public void testSparseBucketsMemoryUsage() {
+        AtomicLong total = new AtomicLong();
+        CircuitBreakerService breakerService = mock(CircuitBreakerService.class);
+        when(breakerService.getBreaker(CircuitBreaker.REQUEST)).thenReturn(new NoopCircuitBreaker(CircuitBreaker.REQUEST) {
+            @Override
+            public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+                return total.addAndGet(bytes);
+            }
+
+            @Override
+            public long addWithoutBreaking(long bytes) {
+                return total.addAndGet(bytes);
+            }
+        });
+        BigArrays bigArrays = new BigArrays(null, breakerService, CircuitBreaker.REQUEST).withCircuitBreaking();
+        final int p = randomIntBetween(14, MAX_PRECISION);
+        final int numBuckets = randomIntBetween(100, 1000);
+        final int valuesPerBucket = randomIntBetween(1, 10);
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, bigArrays, 0)) {
+            for (int bucket = 0; bucket < numBuckets; ++bucket) {
+                for (int i = 0; i < valuesPerBucket; ++i) {
+                    counts.collect(bucket, BitMixer.mix64(randomLong()));
+                }
+            }
+            for (int bucket = 0; bucket < numBuckets; ++bucket) {
+                // hashes are truncated so that two values might rarely collide
+                assertThat((double) counts.cardinality(bucket), closeTo(valuesPerBucket, 1));
+            }
+            // buckets with a few values only allocate a small hash table rather than their registers
+            assertThat(total.get(), lessThan(numBuckets * HyperLogLogPlusPlus.memoryUsage(p) / 10));
+        }
+        assertThat(total.get(), equalTo(0L));
+    }
+
+    public void testUpgradeToHllKeepsRegisters() {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final HyperLogLogPlusPlus other = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final long bucket = randomInt(10);
+        final int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; ++i) {
+            final long hash = BitMixer.mix64(randomInt(100000));
+            counts.collect(bucket, hash);
+            other.collect(bucket, hash);
+        }
+        if (counts.getAlgorithm(bucket) == HyperLogLogPlusPlus.LINEAR_COUNTING) {
+            counts.upgradeToHll(bucket);
+        }
+        final HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        merged.merge(0, other, bucket);
+        if (merged.getAlgorithm(0) == HyperLogLogPlusPlus.LINEAR_COUNTING) {
+            merged.upgradeToHll(0);
+        }
+        assertEquals(counts.cardinality(bucket), merged.cardinality(0));
+        assertEquals(HyperLogLogPlusPlus.HYPERLOGLOG, counts.getAlgorithm(bucket));
+        assertTrue(counts.equals(bucket, merged, 0));
+    }
+
     public void testRetrieveCardinality() {
         final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
         final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
@@ -113,6 +113,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.opensearch.search.query.QueryPhase.pointsHaveDuplicateData;
 import static org.opensearch.search.query.TopDocsCollectorContext.hasInfMaxScore;
@@ -952,6 +954,62 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testConcurrentSegmentSearch() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+        RandomIndexWriter w = new RandomIndexWriter(random(), dir, iwc);
+        final int numSegments = randomIntBetween(6, 20);
+        int numDocs = 0;
+        for (int i = 0; i < numSegments; i++) {
+            final int segmentDocs = randomIntBetween(1, 20);
+            for (int j = 0; j < segmentDocs; j++) {
+                Document doc = new Document();
+                doc.add(new StringField("foo", randomBoolean() ? "bar" : "baz", Store.NO));
+                doc.add(new NumericDocValuesField("rank", numDocs++));
+                w.addDocument(doc);
+            }
+            w.flush();
+        }
+        w.close();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (IndexReader reader = DirectoryReader.open(dir)) {
+            final Query query = new TermQuery(new Term("foo", "bar"));
+            final Sort sort = new Sort(new SortField("rank", SortField.Type.INT, true));
+            for (boolean sorted : new boolean[] { false, true }) {
+                TestSearchContext sequential = new TestSearchContext(null, indexShard, newContextSearcher(reader));
+                TestSearchContext concurrent = new TestSearchContext(null, indexShard, new ContextIndexSearcher(reader,
+                    IndexSearcher.getDefaultSimilarity(), IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(), true, executor));
+                assertTrue(concurrent.searcher().isConcurrentSegmentSearchEnabled());
+                for (TestSearchContext context : new TestSearchContext[] { sequential, concurrent }) {
+                    context.parsedQuery(new ParsedQuery(query));
+                    context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+                    context.setSize(10);
+                    if (sorted) {
+                        context.sort(new SortAndFormats(sort, new DocValueFormat[] { DocValueFormat.RAW }));
+                    }
+                    QueryPhase.executeInternal(context);
+                }
+                TopDocs expected = sequential.queryResult().topDocs().topDocs;
+                TopDocs actual = concurrent.queryResult().topDocs().topDocs;
+                assertEquals(expected.totalHits, actual.totalHits);
+                assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    if (sorted) {
+                        assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    } else {
+                        assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0f);
+                    }
+                    assertEquals(-1, actual.scoreDocs[i].shardIndex);
+                }
+            }
+        } finally {
+            terminate(executor);
+            dir.close();
+        }
+    }
+
     public void testCancellationDuringPreprocess() throws IOException {
         try (Directory dir = newDirectory();
              RandomIndexWriter w = new RandomIndexWriter(random(), dir, newIndexWriterConfig())) {
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.threadpool.ThreadPool.Names;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class BoundedThreadPoolTests extends OpenSearchThreadPoolTestCase {
+
+    private static Settings.Builder boundedSettings(String nodeName) {
+        return Settings.builder()
+            .put("node.name", nodeName)
+            .put(ThreadPool.BOUNDED_SEARCH_EXECUTORS_SETTING.getKey(), true);
+    }
+
+    public void testSearchAndGetAreBounded() throws InterruptedException {
+        final int size = randomIntBetween(1, 64);
+        final int queueSize = randomIntBetween(1, 1000);
+        final String threadPoolName = randomFrom(Names.SEARCH, Names.GET);
+        final ThreadPool threadPool = new ThreadPool(boundedSettings("testSearchAndGetAreBounded")
+            .put("thread_pool." + threadPoolName + ".size", size)
+            .put("thread_pool." + threadPoolName + ".queue_size", queueSize)
+            .put("thread_pool." + threadPoolName + ".keep_alive", "1m")
+            .build());
+        try {
+            final ThreadPool.Info info = info(threadPool, threadPoolName);
+            assertThat(info.getThreadPoolType(), equalTo(ThreadPool.ThreadPoolType.BOUNDED));
+            assertThat(info.getMin(), equalTo(size));
+            assertThat(info.getMax(), equalTo(size));
+            assertThat(info.getQueueSize().singles(), equalTo((long) queueSize));
+            assertThat(info.getKeepAlive(), equalTo(TimeValue.timeValueMinutes(1)));
+            // the search pool keeps reporting the queue size and service time that adaptive replica selection relies on
+            assertThat(threadPool.executor(threadPoolName), instanceOf(QueueResizingOpenSearchThreadPoolExecutor.class));
+            // threads are only started on demand
+            assertThat(stats(threadPool, threadPoolName).getThreads(), equalTo(0));
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+    public void testRejectedExecutionCounter() throws InterruptedException {
+        final String threadPoolName = randomFrom(Names.SEARCH, Names.GET);
+        final int size = randomIntBetween(1, 8);
+        final int queueSize = randomIntBetween(1, 16);
+        final long rejections = randomIntBetween(1, 16);
+
+        final ThreadPool threadPool = new ThreadPool(boundedSettings("testRejectedExecutionCounter")
+            .put("thread_pool." + threadPoolName + ".size", size)
+            .put("thread_pool." + threadPoolName + ".queue_size", queueSize)
+            .build());
+        try {
+            // these tasks will consume the thread pool causing further submissions to queue
+            final CountDownLatch latch = new CountDownLatch(size);
+            final CountDownLatch block = new CountDownLatch(1);
+            for (int i = 0; i < size; i++) {
+                threadPool.executor(threadPoolName).execute(() -> {
+                    try {
+                        latch.countDown();
+                        block.await();
+                    } catch (InterruptedException e) {
+                        fail(e.toString());
+                    }
+                });
+            }
+            latch.await();
+
+            // these tasks will fill the thread pool queue
+            for (int i = 0; i < queueSize; i++) {
+                threadPool.executor(threadPoolName).execute(() -> {});
+            }
+
+            // these tasks will be rejected
+            long counter = 0;
+            for (int i = 0; i < rejections; i++) {
+                try {
+                    threadPool.executor(threadPoolName).execute(() -> {});
+                } catch (OpenSearchRejectedExecutionException e) {
+                    counter++;
+                }
+            }
+
+            block.countDown();
+
+            assertThat(counter, equalTo(rejections));
+            assertThat(stats(threadPool, threadPoolName).getRejected(), equalTo(rejections));
+            assertThat(stats(threadPool, threadPoolName).getLargest(), equalTo(size));
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+    public void testThreadPoolTypesFollowTheBuilders() throws InterruptedException {
+        final Settings settings = boundedSettings("testThreadPoolTypesFollowTheBuilders").build();
+        final Map<String, ThreadPool.ThreadPoolType> types = ThreadPool.threadPoolTypes(settings);
+        assertThat(types.get(Names.SEARCH), equalTo(ThreadPool.ThreadPoolType.BOUNDED));
+        assertThat(types.get(Names.GET), equalTo(ThreadPool.ThreadPoolType.BOUNDED));
+        assertThat(ThreadPool.THREAD_POOL_TYPES.get(Names.SEARCH), equalTo(ThreadPool.ThreadPoolType.FIXED_AUTO_QUEUE_SIZE));
+        assertThat(ThreadPool.THREAD_POOL_TYPES.get(Names.GET), equalTo(ThreadPool.ThreadPoolType.FIXED));
+        final ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            for (ThreadPool.Info info : threadPool.info()) {
+                assertThat(info.getName(), info.getThreadPoolType(), equalTo(types.get(info.getName())));
+            }
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+    public void testDeprecatedAutoQueueSettingsAreAccepted() throws InterruptedException {
+        final ThreadPool threadPool = new ThreadPool(boundedSettings("testDeprecatedAutoQueueSettingsAreAccepted")
+            .put("thread_pool.search.min_queue_size", 100)
+            .put("thread_pool.search.max_queue_size", 2000)
+            .put("thread_pool.search.auto_queue_frame_size", 500)
+            .put("thread_pool.search.target_response_time", "500ms")
+            .build());
+        try {
+            final Set<String> registeredKeys = threadPool.builders().stream()
+                .flatMap(builder -> builder.getRegisteredSettings().stream())
+                .map(Setting::getKey)
+                .collect(Collectors.toSet());
+            assertThat(registeredKeys, hasItems("thread_pool.search.min_queue_size", "thread_pool.search.max_queue_size",
+                "thread_pool.search.auto_queue_frame_size", "thread_pool.search.target_response_time"));
+            // the settings are ignored
+            assertThat(info(threadPool, Names.SEARCH).getThreadPoolType(), equalTo(ThreadPool.ThreadPoolType.BOUNDED));
+            assertThat(info(threadPool, Names.SEARCH).getQueueSize().singles(), equalTo(1000L));
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+        assertSettingDeprecationsAndWarnings(new String[] { "thread_pool.search.min_queue_size", "thread_pool.search.max_queue_size",
+            "thread_pool.search.auto_queue_frame_size", "thread_pool.search.target_response_time" });
+    }
+
+    public void testIdleThreadsAreReclaimed() throws Exception {
+        final String threadPoolName = randomFrom(Names.SEARCH, Names.GET);
+        final int size = randomIntBetween(1, 8);
+        final ThreadPool threadPool = new ThreadPool(boundedSettings("testIdleThreadsAreReclaimed")
+            .put("thread_pool." + threadPoolName + ".size", size)
+            .put("thread_pool." + threadPoolName + ".keep_alive", "1ms")
+            .build());
+        try {
+            final CountDownLatch latch = new CountDownLatch(size);
+            final CountDownLatch block = new CountDownLatch(1);
+            for (int i = 0; i < size; i++) {
+                threadPool.executor(threadPoolName).execute(() -> {
+                    try {
+                        latch.countDown();
+                        block.await();
+                    } catch (InterruptedException e) {
+                        fail(e.toString());
+                    }
+                });
+            }
+            latch.await();
+            assertThat(stats(threadPool, threadPoolName).getThreads(), equalTo(size));
+            block.countDown();
+            assertBusy(() -> assertThat(stats(threadPool, threadPoolName).getThreads(), equalTo(0)));
+            assertThat(stats(threadPool, threadPoolName).getCompleted(), equalTo((long) size));
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+    public void testThreadContextIsPreserved() throws Exception {
+        final String threadPoolName = randomFrom(Names.SEARCH, Names.GET);
+        final ThreadPool threadPool = new ThreadPool(boundedSettings("testThreadContextIsPreserved").build());
+        try {
+            final ThreadContext threadContext = threadPool.getThreadContext();
+            final AtomicReference<String> header = new AtomicReference<>();
+            final CountDownLatch latch = new CountDownLatch(1);
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putHeader("test", "value");
+                threadPool.executor(threadPoolName).execute(() -> {
+                    header.set(threadContext.getHeader("test"));
+                    latch.countDown();
+                });
+            }
+            latch.await();
+            assertThat(header.get(), equalTo("value"));
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+}
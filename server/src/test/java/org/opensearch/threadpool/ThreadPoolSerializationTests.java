@@ -42,6 +42,7 @@ import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 import org.junit.Before;
 
 import java.io.IOException;
@@ -74,6 +75,20 @@ public class ThreadPoolSerializationTests extends OpenSearchTestCase {
         assertThat(newInfo.getQueueSize().singles(), is(10000L));
     }
 
+    public void testThatBoundedTypeIsSerializedAsFixedToOlderNodes() throws Exception {
+        ThreadPool.Info info = new ThreadPool.Info("foo", ThreadPool.ThreadPoolType.BOUNDED, 10, 10,
+                TimeValue.timeValueMinutes(5), SizeValue.parseSizeValue("1k"));
+        output.setVersion(VersionUtils.randomVersionBetween(random(), Version.V_1_0_0, VersionUtils.getPreviousVersion(Version.V_1_1_0)));
+        info.writeTo(output);
+
+        StreamInput input = output.bytes().streamInput();
+        ThreadPool.Info newInfo = new ThreadPool.Info(input);
+
+        assertThat(newInfo.getThreadPoolType(), is(ThreadPool.ThreadPoolType.FIXED));
+        assertThat(newInfo.getMax(), is(10));
+        assertThat(newInfo.getQueueSize().singles(), is(1000L));
+    }
+
     public void testThatNegativeQueueSizesCanBeSerialized() throws Exception {
         ThreadPool.Info info = new ThreadPool.Info("foo", threadPoolType, 1, 10, TimeValue.timeValueMillis(3000), null);
         output.setVersion(Version.CURRENT);
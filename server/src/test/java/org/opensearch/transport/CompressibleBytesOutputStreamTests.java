@@ -43,6 +43,8 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.io.EOFException;
 import java.io.IOException;
 
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
 public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
 
     public void testStreamWithoutCompression() throws IOException {
@@ -100,6 +102,31 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
         }
     }
 
+    public void testStreamWithCompressionScheme() throws IOException {
+        BytesStream bStream = new ZeroOutOnCloseStream();
+        Compression.Scheme scheme = randomFrom(Compression.Scheme.values());
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true, scheme);
+
+        byte[] expectedBytes = randomBytes(randomIntBetween(0, 100000));
+        stream.write(expectedBytes);
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+
+        assertEquals(scheme, Compression.Scheme.detect(bytesRef));
+        assertEquals(expectedBytes.length, stream.getUncompressedBytes());
+        assertThat(stream.getCompressionNanos(), greaterThanOrEqualTo(0L));
+
+        StreamInput streamInput = new InputStreamStreamInput(scheme.compressor().threadLocalInputStream(bytesRef.streamInput()));
+        byte[] actualBytes = new byte[expectedBytes.length];
+        streamInput.readBytes(actualBytes, 0, expectedBytes.length);
+
+        assertEquals(-1, streamInput.read());
+        assertArrayEquals(expectedBytes, actualBytes);
+
+        bStream.close();
+    }
+
     public void testCompressionWithCallingMaterializeFails() throws IOException {
         BytesStream bStream = new ZeroOutOnCloseStream();
         CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
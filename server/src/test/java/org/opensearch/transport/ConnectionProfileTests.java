@@ -73,6 +73,11 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         if (setPingInterval) {
             builder.setPingInterval(pingInterval);
         }
+        Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.values());
+        final boolean setCompressionScheme = randomBoolean();
+        if (setCompressionScheme) {
+            builder.setCompressionScheme(compressionScheme);
+        }
         builder.addConnections(1, TransportRequestOptions.Type.BULK);
         builder.addConnections(2, TransportRequestOptions.Type.STATE, TransportRequestOptions.Type.RECOVERY);
         builder.addConnections(3, TransportRequestOptions.Type.PING);
@@ -106,6 +111,12 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
             assertNull(build.getCompressionEnabled());
         }
 
+        if (setCompressionScheme) {
+            assertEquals(compressionScheme, build.getCompressionScheme());
+        } else {
+            assertNull(build.getCompressionScheme());
+        }
+
         if (setPingInterval) {
             assertEquals(pingInterval, build.getPingInterval());
         } else {
@@ -198,6 +209,10 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         if (connectionCompressSet) {
             builder.setCompressionEnabled(randomBoolean());
         }
+        final boolean connectionCompressionSchemeSet = randomBoolean();
+        if (connectionCompressionSchemeSet) {
+            builder.setCompressionScheme(randomFrom(Compression.Scheme.values()));
+        }
 
         final ConnectionProfile profile = builder.build();
         final ConnectionProfile resolved = ConnectionProfile.resolveConnectionProfile(profile, defaultProfile);
@@ -213,6 +228,8 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
             equalTo(pingIntervalSet ? profile.getPingInterval() : defaultProfile.getPingInterval()));
         assertThat(resolved.getCompressionEnabled(),
             equalTo(connectionCompressSet ? profile.getCompressionEnabled() : defaultProfile.getCompressionEnabled()));
+        assertThat(resolved.getCompressionScheme(),
+            equalTo(connectionCompressionSchemeSet ? profile.getCompressionScheme() : defaultProfile.getCompressionScheme()));
     }
 
     public void testDefaultConnectionProfile() {
@@ -226,6 +243,7 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         assertEquals(TransportSettings.CONNECT_TIMEOUT.get(Settings.EMPTY), profile.getConnectTimeout());
         assertEquals(TransportSettings.CONNECT_TIMEOUT.get(Settings.EMPTY), profile.getHandshakeTimeout());
         assertEquals(TransportSettings.TRANSPORT_COMPRESS.get(Settings.EMPTY), profile.getCompressionEnabled());
+        assertEquals(Compression.Scheme.DEFLATE, profile.getCompressionScheme());
         assertEquals(TransportSettings.PING_SCHEDULE.get(Settings.EMPTY), profile.getPingInterval());
 
         profile = ConnectionProfile.buildDefaultConnectionProfile(nonMasterNode());
@@ -152,7 +152,10 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         final BytesReference bytes2 = totalBytes.slice(bytesConsumed, totalBytes.length() - bytesConsumed);
         final ReleasableBytesReference releasable2 = ReleasableBytesReference.wrap(bytes2);
         int bytesConsumed2 = decoder.decode(releasable2, fragments::add);
-        assertEquals(2, fragments.size());
+        assertEquals(isCompressed ? 3 : 2, fragments.size());
+        if (isCompressed) {
+            assertEquals(Compression.Scheme.DEFLATE, fragments.get(0));
+        }
         assertEquals(InboundDecoder.END_CONTENT, fragments.get(fragments.size() - 1));
         assertEquals(totalBytes.length() - bytesConsumed, bytesConsumed2);
     }
@@ -199,16 +202,17 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         } else {
             threadContext.addResponseHeader(headerKey, headerValue);
         }
+        final Compression.Scheme scheme = randomFrom(Compression.Scheme.values());
         OutboundMessage message;
         TransportMessage transportMessage;
         if (isRequest) {
             transportMessage = new TestRequest(randomAlphaOfLength(100));
             message = new OutboundMessage.Request(threadContext, new String[0], transportMessage, Version.CURRENT, action, requestId,
-                false, true);
+                false, true, scheme);
         } else {
             transportMessage = new TestResponse(randomAlphaOfLength(100));
             message = new OutboundMessage.Response(threadContext, Collections.emptySet(), transportMessage, Version.CURRENT, requestId,
-                false, true);
+                false, true, scheme);
         }
 
         final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
@@ -245,9 +249,11 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         int bytesConsumed2 = decoder.decode(releasable2, fragments::add);
         assertEquals(totalBytes.length() - totalHeaderSize, bytesConsumed2);
 
-        final Object content = fragments.get(0);
-        final Object endMarker = fragments.get(1);
+        final Object compressionScheme = fragments.get(0);
+        final Object content = fragments.get(1);
+        final Object endMarker = fragments.get(2);
 
+        assertEquals(scheme, compressionScheme);
         assertEquals(uncompressedBytes, content);
         // Ref count is not incremented since the bytes are immediately consumed on decompression
         assertEquals(1, releasable2.refCount());
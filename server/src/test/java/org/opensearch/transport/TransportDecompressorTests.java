@@ -32,10 +32,10 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.OutputStreamStreamOutput;
@@ -53,13 +53,14 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
     public void testSimpleCompression() throws IOException {
         try (BytesStreamOutput output = new BytesStreamOutput()) {
             byte randomByte = randomByte();
-            try (OutputStream deflateStream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output))) {
+            try (OutputStream deflateStream = randomScheme().compressor().threadLocalOutputStream(Streams.flushOnCloseStream(output))) {
                 deflateStream.write(randomByte);
             }
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                bytes);
             int bytesConsumed = decompressor.decompress(bytes);
             assertEquals(bytes.length(), bytesConsumed);
             assertTrue(decompressor.isEOS());
@@ -72,7 +73,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
     public void testMultiPageCompression() throws IOException {
         try (BytesStreamOutput output = new BytesStreamOutput()) {
-            try (StreamOutput deflateStream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(
+            try (StreamOutput deflateStream = new OutputStreamStreamOutput(randomScheme().compressor().threadLocalOutputStream(
                     Streams.flushOnCloseStream(output)))) {
                 for (int i = 0; i < 10000; ++i) {
                     deflateStream.writeInt(i);
@@ -81,7 +82,8 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                bytes);
             int bytesConsumed = decompressor.decompress(bytes);
             assertEquals(bytes.length(), bytesConsumed);
             assertTrue(decompressor.isEOS());
@@ -102,7 +104,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
     public void testIncrementalMultiPageCompression() throws IOException {
         try (BytesStreamOutput output = new BytesStreamOutput()) {
             try (StreamOutput deflateStream = new OutputStreamStreamOutput(
-                    CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
+                    randomScheme().compressor().threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
                 for (int i = 0; i < 10000; ++i) {
                     deflateStream.writeInt(i);
                 }
@@ -110,7 +112,8 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                bytes);
 
             int split1 = (int) (bytes.length() * 0.3);
             int split2 = (int) (bytes.length() * 0.65);
@@ -142,4 +145,27 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDetectsScheme() throws IOException {
+        final Compression.Scheme scheme = randomScheme();
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (OutputStream stream = scheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(output))) {
+                stream.write(randomByte());
+            }
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                output.bytes());
+            assertEquals(scheme, decompressor.getScheme());
+            decompressor.close();
+        }
+    }
+
+    public void testUnknownScheme() {
+        BytesReference bytes = new BytesArray(new byte[] {1, 2, 3, 4, 5});
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, bytes));
+        assertTrue(e.getMessage(), e.getMessage().startsWith("stream marked as compressed, but no compressor found"));
+    }
+
+    private static Compression.Scheme randomScheme() {
+        return randomFrom(Compression.Scheme.values());
+    }
 }
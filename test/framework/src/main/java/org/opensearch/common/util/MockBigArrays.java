@@ -96,15 +96,20 @@ public class MockBigArrays extends BigArrays {
     private final Random random;
     private final PageCacheRecycler recycler;
     private final CircuitBreakerService breakerService;
+    private final boolean checkBreaker;
+    private final boolean directPages;
 
     public MockBigArrays(PageCacheRecycler recycler, CircuitBreakerService breakerService) {
-        this(recycler, breakerService, false);
+        this(recycler, breakerService, false, false);
     }
 
-    private MockBigArrays(PageCacheRecycler recycler, CircuitBreakerService breakerService, boolean checkBreaker) {
-        super(recycler, breakerService, CircuitBreaker.REQUEST, checkBreaker);
+    private MockBigArrays(PageCacheRecycler recycler, CircuitBreakerService breakerService, boolean checkBreaker,
+                          boolean directPages) {
+        super(recycler, breakerService, CircuitBreaker.REQUEST, checkBreaker, directPages);
         this.recycler = recycler;
         this.breakerService = breakerService;
+        this.checkBreaker = checkBreaker;
+        this.directPages = directPages;
         long seed;
         try {
             seed = SeedUtils.parseSeed(RandomizedContext.current().getRunnerSeedAsString());
@@ -117,7 +122,12 @@ public class MockBigArrays extends BigArrays {
 
     @Override
     public BigArrays withCircuitBreaking() {
-        return new MockBigArrays(this.recycler, this.breakerService, true);
+        return new MockBigArrays(this.recycler, this.breakerService, true, this.directPages);
+    }
+
+    @Override
+    public BigArrays withDirectPages() {
+        return new MockBigArrays(this.recycler, this.breakerService, this.checkBreaker, true);
     }
 
     @Override
@@ -38,6 +38,7 @@ import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpContentStream;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.http.HttpResponse;
 import org.opensearch.rest.RestRequest;
@@ -52,7 +53,7 @@ import java.util.Map;
 public class FakeRestRequest extends RestRequest {
 
     public FakeRestRequest() {
-        this(NamedXContentRegistry.EMPTY, new FakeHttpRequest(Method.GET, "", BytesArray.EMPTY, new HashMap<>()), new HashMap<>(),
+        this(NamedXContentRegistry.EMPTY, new FakeHttpRequest(Method.GET, "", BytesArray.EMPTY, null, new HashMap<>()), new HashMap<>(),
             new FakeHttpChannel(null));
     }
 
@@ -66,18 +67,21 @@ public class FakeRestRequest extends RestRequest {
         private final Method method;
         private final String uri;
         private final BytesReference content;
+        private final HttpContentStream contentStream;
         private final Map<String, List<String>> headers;
         private final Exception inboundException;
 
-        private FakeHttpRequest(Method method, String uri, BytesReference content, Map<String, List<String>> headers) {
-            this(method, uri, content, headers, null);
+        private FakeHttpRequest(Method method, String uri, BytesReference content, HttpContentStream contentStream,
+                                Map<String, List<String>> headers) {
+            this(method, uri, content, contentStream, headers, null);
         }
 
-        private FakeHttpRequest(Method method, String uri, BytesReference content, Map<String, List<String>> headers,
-                                Exception inboundException) {
+        private FakeHttpRequest(Method method, String uri, BytesReference content, HttpContentStream contentStream,
+                                Map<String, List<String>> headers, Exception inboundException) {
             this.method = method;
             this.uri = uri;
             this.content = content;
+            this.contentStream = contentStream;
             this.headers = headers;
             this.inboundException = inboundException;
         }
@@ -97,6 +101,11 @@ public class FakeRestRequest extends RestRequest {
             return content;
         }
 
+        @Override
+        public HttpContentStream contentStream() {
+            return contentStream;
+        }
+
         @Override
         public Map<String, List<String>> getHeaders() {
             return headers;
@@ -197,6 +206,8 @@ public class FakeRestRequest extends RestRequest {
 
         private BytesReference content = BytesArray.EMPTY;
 
+        private HttpContentStream contentStream;
+
         private String path = "/";
 
         private Method method = Method.GET;
@@ -227,6 +238,14 @@ public class FakeRestRequest extends RestRequest {
             return this;
         }
 
+        public Builder withContentStream(HttpContentStream contentStream, XContentType xContentType) {
+            this.contentStream = contentStream;
+            if (xContentType != null) {
+                headers.put("Content-Type", Collections.singletonList(xContentType.mediaType()));
+            }
+            return this;
+        }
+
         public Builder withPath(String path) {
             this.path = path;
             return this;
@@ -248,7 +267,7 @@ public class FakeRestRequest extends RestRequest {
         }
 
         public FakeRestRequest build() {
-            FakeHttpRequest fakeHttpRequest = new FakeHttpRequest(method, path, content, headers, inboundException);
+            FakeHttpRequest fakeHttpRequest = new FakeHttpRequest(method, path, content, contentStream, headers, inboundException);
             return new FakeRestRequest(xContentRegistry, fakeHttpRequest, params, new FakeHttpChannel(address));
         }
     }